@@ -3,9 +3,11 @@ package de.telekom.bot;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EnableConfigurationProperties
+@EnableScheduling
 public class BotApplication {
 
     public static void main(String[] args) {
@@ -18,9 +20,9 @@ public class BotApplication {
         System.setProperty("com.sun.management.jmxremote.ssl", "false");
         System.setProperty("java.rmi.server.hostname", "localhost");
         
-        // Create SpringApplication and disable JMX
+        // Create SpringApplication and disable JMX; the shutdown hook closes the context on SIGTERM,
+        // which stops polling and drains in-flight updates before the beans are destroyed
         SpringApplication app = new SpringApplication(BotApplication.class);
-        app.setRegisterShutdownHook(false);
         
         // Run the application
         app.run(args);
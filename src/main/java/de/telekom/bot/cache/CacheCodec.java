@@ -0,0 +1,37 @@
+package de.telekom.bot.cache;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Binary encoding of cached values for the shared tier
+ */
+public interface CacheCodec<V> {
+
+    void write(V value, DataOutputStream out) throws IOException;
+
+    V read(DataInputStream in) throws IOException;
+
+    default byte[] encode(V value) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            write(value, out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * @throws IOException if the bytes are truncated or were written by an incompatible codec
+     */
+    default V decode(byte[] bytes) throws IOException {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+            return read(in);
+        }
+    }
+}
@@ -0,0 +1,217 @@
+package de.telekom.bot.cache;
+
+import de.telekom.bot.model.BeachLocation;
+import de.telekom.bot.model.JellyfishInfo;
+import de.telekom.bot.model.WeatherInfo;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Codecs for the models cached in the shared tier.
+ * <p>
+ * Every value starts with a format version; replicas running an older or newer format treat the
+ * entry as a miss instead of misreading it. Bump the version whenever a layout changes.
+ */
+public final class CacheCodecs {
+
+    private static final int BEACH_LOCATION_VERSION = 1;
+    private static final int WEATHER_INFO_VERSION = 1;
+    private static final int JELLYFISH_INFO_VERSION = 1;
+
+    private CacheCodecs() {
+    }
+
+    public static final CacheCodec<BeachLocation> BEACH_LOCATION = new CacheCodec<>() {
+        @Override
+        public void write(BeachLocation location, DataOutputStream out) throws IOException {
+            out.writeByte(BEACH_LOCATION_VERSION);
+            writeString(out, location.getName());
+            writeString(out, location.getDisplayName());
+            out.writeDouble(location.getLatitude());
+            out.writeDouble(location.getLongitude());
+            writeString(out, location.getType());
+            writeString(out, location.getClassification());
+            out.writeDouble(location.getImportance());
+            out.writeBoolean(location.isFound());
+            writeString(out, location.getBeachSurface());
+            writeString(out, location.getBeachType());
+            writeString(out, location.getBeachCharacteristics());
+            writeString(out, location.getAccessType());
+        }
+
+        @Override
+        public BeachLocation read(DataInputStream in) throws IOException {
+            checkVersion(in, BEACH_LOCATION_VERSION);
+            return BeachLocation.builder()
+                    .name(readString(in))
+                    .displayName(readString(in))
+                    .latitude(in.readDouble())
+                    .longitude(in.readDouble())
+                    .type(readString(in))
+                    .classification(readString(in))
+                    .importance(in.readDouble())
+                    .found(in.readBoolean())
+                    .beachSurface(readString(in))
+                    .beachType(readString(in))
+                    .beachCharacteristics(readString(in))
+                    .accessType(readString(in))
+                    .build();
+        }
+    };
+
+    public static final CacheCodec<JellyfishInfo> JELLYFISH_INFO = new CacheCodec<>() {
+        @Override
+        public void write(JellyfishInfo info, DataOutputStream out) throws IOException {
+            out.writeByte(JELLYFISH_INFO_VERSION);
+            writeJellyfish(info, out);
+        }
+
+        @Override
+        public JellyfishInfo read(DataInputStream in) throws IOException {
+            checkVersion(in, JELLYFISH_INFO_VERSION);
+            return readJellyfish(in);
+        }
+    };
+
+    public static final CacheCodec<WeatherInfo> WEATHER_INFO = new CacheCodec<>() {
+        @Override
+        public void write(WeatherInfo info, DataOutputStream out) throws IOException {
+            out.writeByte(WEATHER_INFO_VERSION);
+            writeDouble(out, info.getAirTemperature());
+            writeDouble(out, info.getWaterTemperature());
+            out.writeBoolean(info.getHumidity() != null);
+            if (info.getHumidity() != null) {
+                out.writeInt(info.getHumidity());
+            }
+            writeDouble(out, info.getWindSpeed());
+            writeString(out, info.getDescription());
+            writeString(out, info.getLocation());
+            writeString(out, info.getSource());
+            out.writeBoolean(info.getJellyfishInfo() != null);
+            if (info.getJellyfishInfo() != null) {
+                writeJellyfish(info.getJellyfishInfo(), out);
+            }
+        }
+
+        @Override
+        public WeatherInfo read(DataInputStream in) throws IOException {
+            checkVersion(in, WEATHER_INFO_VERSION);
+            WeatherInfo.Builder builder = WeatherInfo.builder()
+                    .airTemperature(readDouble(in))
+                    .waterTemperature(readDouble(in))
+                    .humidity(in.readBoolean() ? in.readInt() : null)
+                    .windSpeed(readDouble(in))
+                    .description(readString(in))
+                    .location(readString(in))
+                    .source(readString(in));
+            if (in.readBoolean()) {
+                builder.jellyfishInfo(readJellyfish(in));
+            }
+            return builder.build();
+        }
+    };
+
+    private static void writeJellyfish(JellyfishInfo info, DataOutputStream out) throws IOException {
+        writeString(out, info.getLocation());
+        out.writeDouble(info.getLatitude());
+        out.writeDouble(info.getLongitude());
+        writeEnum(out, info.getRiskLevel());
+        writeString(out, info.getPrediction());
+        writeString(out, info.getSafetyAdvice());
+        writeString(out, info.getSource());
+        out.writeLong(info.getLastUpdatedMillis());
+        out.writeBoolean(info.isHasPrediction());
+
+        out.writeInt(info.getRecentSightings().size());
+        for (JellyfishInfo.JellyfishSighting sighting : info.getRecentSightings()) {
+            writeString(out, sighting.getSpecies());
+            writeString(out, sighting.getCommonName());
+            writeString(out, sighting.getDescription());
+            out.writeLong(sighting.getObservedAtMillis());
+            out.writeDouble(sighting.getLatitude());
+            out.writeDouble(sighting.getLongitude());
+            writeString(out, sighting.getReportedBy());
+            out.writeBoolean(sighting.isVerified());
+            writeEnum(out, sighting.getSeverity());
+            out.writeDouble(sighting.getDistanceKm());
+            out.writeInt(sighting.getDaysAgo());
+        }
+    }
+
+    private static JellyfishInfo readJellyfish(DataInputStream in) throws IOException {
+        JellyfishInfo.Builder builder = JellyfishInfo.builder()
+                .location(readString(in))
+                .latitude(in.readDouble())
+                .longitude(in.readDouble())
+                .riskLevel(readEnum(in, JellyfishInfo.RiskLevel.values()))
+                .prediction(readString(in))
+                .safetyAdvice(readString(in))
+                .source(readString(in))
+                .lastUpdatedMillis(in.readLong())
+                .hasPrediction(in.readBoolean());
+
+        int count = in.readInt();
+        List<JellyfishInfo.JellyfishSighting> sightings = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            sightings.add(JellyfishInfo.JellyfishSighting.builder()
+                    .species(readString(in))
+                    .commonName(readString(in))
+                    .description(readString(in))
+                    .observedAtMillis(in.readLong())
+                    .latitude(in.readDouble())
+                    .longitude(in.readDouble())
+                    .reportedBy(readString(in))
+                    .verified(in.readBoolean())
+                    .severity(readEnum(in, JellyfishInfo.JellyfishSighting.SeverityLevel.values()))
+                    .distanceKm(in.readDouble())
+                    .daysAgo(in.readInt())
+                    .build());
+        }
+        return builder.recentSightings(sightings).build();
+    }
+
+    private static void checkVersion(DataInputStream in, int expected) throws IOException {
+        int version = in.readUnsignedByte();
+        if (version != expected) {
+            throw new IOException("Unsupported cache format version " + version + ", expected " + expected);
+        }
+    }
+
+    static void writeString(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    static String readString(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    private static void writeDouble(DataOutputStream out, Double value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeDouble(value);
+        }
+    }
+
+    private static Double readDouble(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readDouble() : null;
+    }
+
+    private static void writeEnum(DataOutputStream out, Enum<?> value) throws IOException {
+        out.writeByte(value != null ? value.ordinal() : -1);
+    }
+
+    private static <E extends Enum<E>> E readEnum(DataInputStream in, E[] values) throws IOException {
+        int ordinal = in.readByte();
+        if (ordinal >= values.length) {
+            throw new IOException("Unknown enum ordinal " + ordinal);
+        }
+        return ordinal < 0 ? null : values[ordinal];
+    }
+}
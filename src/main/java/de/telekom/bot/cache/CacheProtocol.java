@@ -0,0 +1,34 @@
+package de.telekom.bot.cache;
+
+/**
+ * Wire format between {@link TcpSharedCache} and {@link CacheServer}.
+ * <p>
+ * Every connection starts with HELLO and the client id. Requests are an opcode followed by
+ * their fields in {@link java.io.DataOutputStream} encoding:
+ * <ul>
+ *     <li>GET key → HIT length bytes | MISS</li>
+ *     <li>PUT key ttlMillis length bytes → OK</li>
+ *     <li>INVALIDATE key → OK</li>
+ *     <li>LEASE budget globalPerSecond demandPerSecond leaseMillis → grantedPerSecond</li>
+ *     <li>SUBSCRIBE → the server pushes the keys other clients change until the connection closes</li>
+ * </ul>
+ */
+final class CacheProtocol {
+
+    static final int HELLO = 1;
+    static final int GET = 2;
+    static final int PUT = 3;
+    static final int INVALIDATE = 4;
+    static final int SUBSCRIBE = 5;
+    static final int LEASE = 6;
+
+    static final int OK = 0;
+    static final int HIT = 1;
+    static final int MISS = 2;
+
+    // Cached values are small models; anything larger is a broken or hostile client
+    static final int MAX_VALUE_BYTES = 1 << 20;
+
+    private CacheProtocol() {
+    }
+}
@@ -0,0 +1,282 @@
+package de.telekom.bot.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * Embedded TCP server holding the shared cache tier; the reference {@link SharedCache} backend.
+ * <p>
+ * One replica (or a standalone instance) runs it and every replica connects with a
+ * {@link TcpSharedCache}. Entries live in memory until their time to live runs out; when the
+ * store is full the entries closest to expiry are evicted. Writes and invalidations are pushed
+ * to the subscribed clients other than the writer through a send queue per subscriber, so a
+ * slow subscriber never stalls writers; one that falls too far behind is disconnected and drops
+ * all its near copies when it reconnects. Rate budget leases are handed out by a
+ * {@link RateLeaseAllocator}, with the client id as the replica.
+ */
+public final class CacheServer implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(CacheServer.class);
+
+    private static final int MAX_PENDING_INVALIDATIONS = 10_000;
+
+    private final int port;
+    private final int maxEntries;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final RateLeaseAllocator leases = new RateLeaseAllocator();
+    private final ExecutorService connections = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "shared-cache-server");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile ServerSocket serverSocket;
+
+    private record Entry(byte[] value, long expiresAtMillis) {
+    }
+
+    /**
+     * Subscribed client; its own sender task drains the queued keys onto the connection
+     */
+    private final class Subscriber {
+        private final String clientId;
+        private final Socket socket;
+        private final DataOutputStream out;
+        private final BlockingQueue<String> pending = new LinkedBlockingQueue<>(MAX_PENDING_INVALIDATIONS);
+
+        Subscriber(String clientId, Socket socket, DataOutputStream out) {
+            this.clientId = clientId;
+            this.socket = socket;
+            this.out = out;
+        }
+
+        void offer(String key) {
+            if (!pending.offer(key)) {
+                logger.warn("Disconnecting shared cache subscriber {}: {} invalidations behind",
+                        clientId, MAX_PENDING_INVALIDATIONS);
+                disconnect();
+            }
+        }
+
+        void send() {
+            try {
+                while (true) {
+                    out.writeUTF(pending.take());
+                    // Flush once per burst rather than per key
+                    if (pending.isEmpty()) {
+                        out.flush();
+                    }
+                }
+            } catch (InterruptedException e) {
+                // Subscriber gone
+            } catch (IOException e) {
+                disconnect();
+            }
+        }
+
+        void disconnect() {
+            subscribers.remove(this);
+            try {
+                socket.close();
+            } catch (IOException ignored) {
+            }
+        }
+    }
+
+    /**
+     * @param port TCP port to listen on, 0 for any free port
+     */
+    public CacheServer(int port, int maxEntries) {
+        this.port = port;
+        this.maxEntries = maxEntries;
+    }
+
+    public void start() throws IOException {
+        serverSocket = new ServerSocket(port);
+        connections.execute(this::accept);
+        logger.info("Shared cache server listening on port {}", getPort());
+    }
+
+    public int getPort() {
+        ServerSocket socket = serverSocket;
+        return socket != null ? socket.getLocalPort() : port;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    int subscriberCount() {
+        return subscribers.size();
+    }
+
+    @Override
+    public void close() {
+        ServerSocket socket = serverSocket;
+        serverSocket = null;
+        if (socket != null) {
+            try {
+                socket.close();
+            } catch (IOException e) {
+                logger.debug("Error closing shared cache server socket", e);
+            }
+        }
+        connections.shutdownNow();
+    }
+
+    private void accept() {
+        ServerSocket socket = serverSocket;
+        while (socket != null && !socket.isClosed()) {
+            try {
+                Socket client = socket.accept();
+                client.setTcpNoDelay(true);
+                connections.execute(() -> serve(client));
+            } catch (IOException e) {
+                if (!socket.isClosed()) {
+                    logger.warn("Shared cache server failed to accept a connection: {}", e.getMessage());
+                }
+            }
+        }
+    }
+
+    private void serve(Socket socket) {
+        Subscriber subscriber = null;
+        Future<?> sender = null;
+        try (socket) {
+            DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+            if (in.readUnsignedByte() != CacheProtocol.HELLO) {
+                throw new IOException("Expected HELLO");
+            }
+            String clientId = in.readUTF();
+
+            while (true) {
+                int op = in.readUnsignedByte();
+                switch (op) {
+                    case CacheProtocol.GET -> {
+                        byte[] value = get(in.readUTF());
+                        if (value == null) {
+                            out.writeByte(CacheProtocol.MISS);
+                        } else {
+                            out.writeByte(CacheProtocol.HIT);
+                            out.writeInt(value.length);
+                            out.write(value);
+                        }
+                    }
+                    case CacheProtocol.PUT -> {
+                        String key = in.readUTF();
+                        long ttlMillis = in.readLong();
+                        int length = in.readInt();
+                        if (length < 0 || length > CacheProtocol.MAX_VALUE_BYTES) {
+                            throw new IOException("Value of " + length + " bytes rejected");
+                        }
+                        byte[] value = new byte[length];
+                        in.readFully(value);
+                        put(key, value, ttlMillis);
+                        out.writeByte(CacheProtocol.OK);
+                        publish(key, clientId);
+                    }
+                    case CacheProtocol.INVALIDATE -> {
+                        String key = in.readUTF();
+                        entries.remove(key);
+                        out.writeByte(CacheProtocol.OK);
+                        publish(key, clientId);
+                    }
+                    case CacheProtocol.LEASE -> {
+                        String budget = in.readUTF();
+                        double globalPerSecond = in.readDouble();
+                        double demandPerSecond = in.readDouble();
+                        long leaseMillis = in.readLong();
+                        out.writeDouble(leases.grant(budget, clientId, globalPerSecond, demandPerSecond,
+                                leaseMillis, System.currentTimeMillis()));
+                    }
+                    case CacheProtocol.SUBSCRIBE -> {
+                        subscriber = new Subscriber(clientId, socket, out);
+                        subscribers.add(subscriber);
+                        sender = connections.submit(subscriber::send);
+                        // Nothing more is read; block until the client goes away
+                        while (in.read() >= 0) {
+                            // ignore
+                        }
+                        return;
+                    }
+                    default -> throw new IOException("Unknown opcode " + op);
+                }
+                out.flush();
+            }
+        } catch (EOFException | SocketException e) {
+            // Client disconnected
+        } catch (IOException e) {
+            logger.warn("Closing shared cache connection: {}", e.getMessage());
+        } finally {
+            if (subscriber != null) {
+                subscribers.remove(subscriber);
+            }
+            if (sender != null) {
+                sender.cancel(true);
+            }
+        }
+    }
+
+    private byte[] get(String key) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAtMillis() <= System.currentTimeMillis()) {
+            entries.remove(key, entry);
+            return null;
+        }
+        return entry.value();
+    }
+
+    private void put(String key, byte[] value, long ttlMillis) {
+        long now = System.currentTimeMillis();
+        entries.put(key, new Entry(value, now + ttlMillis));
+        if (entries.size() <= maxEntries) {
+            return;
+        }
+
+        // Full: drop expired entries, then the ones closest to expiry, down to 90% to batch the work
+        entries.values().removeIf(entry -> entry.expiresAtMillis() <= now);
+        int excess = entries.size() - maxEntries * 9 / 10;
+        if (excess > 0) {
+            entries.entrySet().stream()
+                    .sorted(Comparator.comparingLong(entry -> entry.getValue().expiresAtMillis()))
+                    .limit(excess)
+                    .toList()
+                    .forEach(entry -> entries.remove(entry.getKey(), entry.getValue()));
+        }
+    }
+
+    /**
+     * Tell the other clients to drop their near copies of the key; only queues the key
+     */
+    private void publish(String key, String writerId) {
+        for (Subscriber subscriber : subscribers) {
+            if (!subscriber.clientId.equals(writerId)) {
+                subscriber.offer(key);
+            }
+        }
+    }
+}
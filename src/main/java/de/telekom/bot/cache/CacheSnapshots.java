@@ -0,0 +1,189 @@
+package de.telekom.bot.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * Periodically writes the near tiers of the registered {@link TieredCache}s to one file and
+ * restores them at startup, so a restarted bot does not hit every upstream at once.
+ * <p>
+ * File layout: magic, format version, section count, then per cache its name and
+ * {@link TieredCache#snapshot()}; a CRC32 of everything before it closes the file. A file with
+ * another version or a bad checksum is ignored. Sections are restored when their cache
+ * registers, which may be late for lazy services; sections of caches not registered yet are
+ * written back unchanged. Thread-safe.
+ */
+public final class CacheSnapshots implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(CacheSnapshots.class);
+
+    private static final int MAGIC = 0x424D4353; // "BMCS"
+    private static final int FORMAT_VERSION = 1;
+
+    /**
+     * Snapshots switched off: registering and saving do nothing
+     */
+    public static final CacheSnapshots NONE = new CacheSnapshots(null);
+
+    private final Path file;
+    private final Map<String, TieredCache<?>> caches = new ConcurrentHashMap<>();
+    private final Map<String, byte[]> pending = new ConcurrentHashMap<>();
+
+    private volatile ScheduledExecutorService scheduler;
+
+    /**
+     * @param file Snapshot file, null to disable snapshots
+     */
+    public CacheSnapshots(Path file) {
+        this.file = file;
+    }
+
+    /**
+     * Read the snapshot file, if any; its sections wait for their caches to register
+     */
+    public void load() {
+        if (file == null || !Files.exists(file)) {
+            return;
+        }
+        try {
+            byte[] bytes = Files.readAllBytes(file);
+            if (bytes.length < Integer.BYTES) {
+                throw new IOException("File too short");
+            }
+            CRC32 crc = new CRC32();
+            crc.update(bytes, 0, bytes.length - Integer.BYTES);
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes));
+            in.skipNBytes(bytes.length - Integer.BYTES);
+            if ((int) crc.getValue() != in.readInt()) {
+                throw new IOException("Checksum mismatch");
+            }
+
+            in = new DataInputStream(new ByteArrayInputStream(bytes, 0, bytes.length - Integer.BYTES));
+            if (in.readInt() != MAGIC) {
+                throw new IOException("Not a cache snapshot");
+            }
+            int version = in.readUnsignedByte();
+            if (version != FORMAT_VERSION) {
+                logger.info("Ignoring cache snapshot {} in format {}, expected {}", file, version, FORMAT_VERSION);
+                return;
+            }
+            long writtenAtMillis = in.readLong();
+            int sections = in.readInt();
+            for (int i = 0; i < sections; i++) {
+                String name = in.readUTF();
+                byte[] section = new byte[in.readInt()];
+                in.readFully(section);
+                pending.put(name, section);
+            }
+            logger.info("Loaded cache snapshot {} with {} caches, written {}s ago",
+                    file, sections, (System.currentTimeMillis() - writtenAtMillis) / 1000);
+        } catch (IOException e) {
+            logger.warn("Ignoring unreadable cache snapshot {}: {}", file, e.getMessage());
+        }
+    }
+
+    /**
+     * Save a snapshot every interval from now on
+     */
+    public void start(Duration interval) {
+        if (file == null) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "cache-snapshots");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::save, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Include the cache in future snapshots and restore its section of the loaded one
+     */
+    public void register(String name, TieredCache<?> cache) {
+        if (file == null) {
+            return;
+        }
+        caches.put(name, cache);
+        byte[] section = pending.remove(name);
+        if (section == null) {
+            return;
+        }
+        try {
+            int restored = cache.restore(section);
+            logger.info("Restored {} {} cache entries from snapshot", restored, name);
+        } catch (IOException e) {
+            logger.warn("Ignoring truncated {} section of cache snapshot: {}", name, e.getMessage());
+        }
+    }
+
+    /**
+     * Write all registered caches to the snapshot file, replacing it atomically
+     */
+    public synchronized void save() {
+        if (file == null) {
+            return;
+        }
+        Map<String, byte[]> sections = new LinkedHashMap<>(pending);
+        caches.forEach((name, cache) -> sections.put(name, cache.snapshot()));
+
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            // Write to a temp file first so a crash never leaves a truncated snapshot behind
+            Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+            CRC32 crc = new CRC32();
+            try (OutputStream stream = Files.newOutputStream(tmp);
+                 DataOutputStream out = new DataOutputStream(new BufferedOutputStream(stream))) {
+                DataOutputStream checked = new DataOutputStream(new CheckedOutputStream(out, crc));
+                checked.writeInt(MAGIC);
+                checked.writeByte(FORMAT_VERSION);
+                checked.writeLong(System.currentTimeMillis());
+                checked.writeInt(sections.size());
+                for (Map.Entry<String, byte[]> section : sections.entrySet()) {
+                    checked.writeUTF(section.getKey());
+                    checked.writeInt(section.getValue().length);
+                    checked.write(section.getValue());
+                }
+                checked.flush();
+                out.writeInt((int) crc.getValue());
+            }
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            logger.debug("Saved cache snapshot {} with {} caches", file, sections.size());
+        } catch (IOException e) {
+            logger.warn("Failed to save cache snapshot {}: {}", file, e.getMessage());
+        }
+    }
+
+    /**
+     * Stop the periodic saves and write a last snapshot
+     */
+    @Override
+    public void close() {
+        ScheduledExecutorService current = scheduler;
+        if (current != null) {
+            current.shutdownNow();
+        }
+        save();
+    }
+}
@@ -0,0 +1,118 @@
+package de.telekom.bot.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+
+/**
+ * Spaces this replica's requests to an upstream so that all replicas together stay within one
+ * global rate (e.g. the Nominatim usage policy).
+ * <p>
+ * The replica's rate comes from a lease on the shared tier, renewed every half lease with the
+ * demand seen since the last renewal. Without a lease (single replica, or the tier is
+ * unreachable) it falls back to the global rate divided by the expected number of replicas.
+ * A replica granted nothing sends nothing: its requests wait until a renewal grants a share,
+ * or until the lease expires without one. Thread-safe.
+ */
+public final class ClusterRateBudget {
+
+    private static final Logger logger = LoggerFactory.getLogger(ClusterRateBudget.class);
+
+    private final String name;
+    private final double globalPerSecond;
+    private final double fallbackPerSecond;
+    private final SharedCache coordinator;
+    private final Duration leaseDuration;
+
+    private RateLease lease;
+    private long renewAtMillis;
+    private boolean renewing;
+    private long nextSlotMillis;
+    private int reservedSinceRenewal;
+    private long windowStartMillis = System.currentTimeMillis();
+
+    /**
+     * @param fallbackReplicas Replicas assumed to share the budget while no lease is held
+     */
+    public ClusterRateBudget(String name, double globalPerSecond, SharedCache coordinator,
+                             Duration leaseDuration, int fallbackReplicas) {
+        this.name = name;
+        this.globalPerSecond = globalPerSecond;
+        this.fallbackPerSecond = globalPerSecond / Math.max(1, fallbackReplicas);
+        this.coordinator = coordinator;
+        this.leaseDuration = leaseDuration;
+    }
+
+    /**
+     * Reserve the next free slot for one request, blocking while this replica is granted nothing
+     *
+     * @return Milliseconds to wait before sending it
+     */
+    public long reserve() throws InterruptedException {
+        synchronized (this) {
+            reservedSinceRenewal++;
+        }
+        while (true) {
+            renewIfDue();
+            synchronized (this) {
+                long now = System.currentTimeMillis();
+                double rate = currentRate(now);
+                if (rate > 0) {
+                    long slot = Math.max(now, nextSlotMillis);
+                    nextSlotMillis = slot + (long) Math.ceil(1000 / rate);
+                    return slot - now;
+                }
+                // Granted nothing: wait for the renewal in progress, the next one, or the lease to expire
+                long until = renewing || lease == null ? now + leaseDuration.toMillis()
+                        : Math.min(renewAtMillis, lease.expiresAtMillis());
+                wait(Math.max(1, until - now));
+            }
+        }
+    }
+
+    /**
+     * Requests per second this replica may send right now
+     */
+    public synchronized double currentRate() {
+        return currentRate(System.currentTimeMillis());
+    }
+
+    private double currentRate(long now) {
+        return lease != null && lease.expiresAtMillis() > now ? lease.perSecond() : fallbackPerSecond;
+    }
+
+    private void renewIfDue() {
+        double demand;
+        synchronized (this) {
+            long now = System.currentTimeMillis();
+            if (renewing || now < renewAtMillis) {
+                return;
+            }
+            renewing = true;
+            demand = reservedSinceRenewal * 1000.0 / Math.max(1000, now - windowStartMillis);
+            reservedSinceRenewal = 0;
+            windowStartMillis = now;
+        }
+
+        // The coordinator call happens outside the lock so reservations are not held up by it
+        RateLease renewed = null;
+        try {
+            renewed = coordinator.lease(name, globalPerSecond, demand, leaseDuration);
+        } finally {
+            synchronized (this) {
+                long now = System.currentTimeMillis();
+                boolean hadLease = lease != null && lease.expiresAtMillis() > now;
+                if (renewed != null) {
+                    lease = renewed;
+                } else if (hadLease) {
+                    logger.warn("Could not renew the {} rate lease, falling back to {}/s once it expires",
+                            name, fallbackPerSecond);
+                }
+                renewAtMillis = now + leaseDuration.toMillis() / 2;
+                renewing = false;
+                notifyAll();
+            }
+        }
+    }
+}
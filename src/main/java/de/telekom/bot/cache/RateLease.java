@@ -0,0 +1,7 @@
+package de.telekom.bot.cache;
+
+/**
+ * This replica's slice of a cluster-wide rate budget, valid until expiresAtMillis
+ */
+public record RateLease(double perSecond, long expiresAtMillis) {
+}
@@ -0,0 +1,84 @@
+package de.telekom.bot.cache;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Splits cluster-wide rate budgets between the replicas asking for them.
+ * <p>
+ * Every replica holding an unexpired lease gets an even part of a small idle share, so it can
+ * start sending right away; the rest is divided max-min fair by the demand the replicas report.
+ * A grant never exceeds what the other leases leave uncommitted, so the replicas together stay
+ * within the budget even while a shrinking replica has not renewed yet. Leases of replicas that
+ * stop renewing expire and their share returns to the pool.
+ */
+public final class RateLeaseAllocator {
+
+    // Part of the budget split evenly regardless of demand
+    private static final double IDLE_SHARE = 0.1;
+
+    private final Map<String, Map<String, Holder>> budgets = new HashMap<>();
+
+    private record Holder(double demand, double granted, long expiresAtMillis) {
+    }
+
+    /**
+     * Renew a replica's lease
+     *
+     * @param demandPerSecond Requests per second the replica wanted during its last lease
+     * @return Requests per second granted until now + leaseMillis
+     */
+    public synchronized double grant(String budget, String replicaId, double globalPerSecond,
+                                     double demandPerSecond, long leaseMillis, long nowMillis) {
+        Map<String, Holder> holders = budgets.computeIfAbsent(budget, name -> new HashMap<>());
+        holders.values().removeIf(holder -> holder.expiresAtMillis() <= nowMillis);
+
+        Holder previous = holders.get(replicaId);
+        holders.put(replicaId, new Holder(Math.max(0, demandPerSecond), previous != null ? previous.granted() : 0,
+                nowMillis + leaseMillis));
+
+        double committedByOthers = 0;
+        for (Map.Entry<String, Holder> entry : holders.entrySet()) {
+            if (!entry.getKey().equals(replicaId)) {
+                committedByOthers += entry.getValue().granted();
+            }
+        }
+        double granted = Math.max(0, Math.min(fairShare(holders, replicaId, globalPerSecond),
+                globalPerSecond - committedByOthers));
+
+        holders.put(replicaId, new Holder(Math.max(0, demandPerSecond), granted, nowMillis + leaseMillis));
+        return granted;
+    }
+
+    /**
+     * Replicas currently holding a lease on the budget
+     */
+    public synchronized int holders(String budget, long nowMillis) {
+        Map<String, Holder> holders = budgets.getOrDefault(budget, Map.of());
+        return (int) holders.values().stream().filter(holder -> holder.expiresAtMillis() > nowMillis).count();
+    }
+
+    private static double fairShare(Map<String, Holder> holders, String replicaId, double globalPerSecond) {
+        int count = holders.size();
+        double floor = globalPerSecond * IDLE_SHARE / count;
+
+        // Water-filling: serve the smallest demands fully, split what is left evenly among the rest
+        List<Map.Entry<String, Holder>> byDemand = new ArrayList<>(holders.entrySet());
+        byDemand.sort(Map.Entry.comparingByValue((a, b) -> Double.compare(a.demand(), b.demand())));
+        double remaining = globalPerSecond * (1 - IDLE_SHARE);
+        int left = count;
+        double share = 0;
+        for (Map.Entry<String, Holder> entry : byDemand) {
+            double allocation = Math.min(entry.getValue().demand(), remaining / left);
+            remaining -= allocation;
+            left--;
+            if (entry.getKey().equals(replicaId)) {
+                share = allocation;
+            }
+        }
+        // Nobody wants more: hand out the leftover evenly as headroom
+        return floor + share + remaining / count;
+    }
+}
@@ -0,0 +1,74 @@
+package de.telekom.bot.cache;
+
+import java.time.Duration;
+
+/**
+ * Remote cache tier shared by all bot replicas, which also coordinates rate budgets between them.
+ * <p>
+ * Values are opaque bytes under namespaced keys (e.g. <code>geocode:playa de levante</code>).
+ * Implementations must never fail a lookup: an unreachable tier behaves like an empty one.
+ * When another replica overwrites or removes a key, registered listeners are told so they can
+ * drop their near copies.
+ */
+public interface SharedCache extends AutoCloseable {
+
+    /**
+     * Remote tier for a single replica: stores nothing and never invalidates
+     */
+    SharedCache NONE = new SharedCache() {
+        @Override
+        public byte[] get(String key) {
+            return null;
+        }
+
+        @Override
+        public void put(String key, byte[] value, Duration ttl) {
+        }
+
+        @Override
+        public void invalidate(String key) {
+        }
+
+        @Override
+        public void addInvalidationListener(InvalidationListener listener) {
+        }
+    };
+
+    /**
+     * Receives keys other replicas changed
+     */
+    interface InvalidationListener {
+
+        void invalidated(String key);
+
+        /**
+         * Invalidations may have been missed (e.g. after a reconnect); drop every near copy
+         */
+        void invalidateAll();
+    }
+
+    /**
+     * @return The stored value, or null on a miss or when the tier is unavailable
+     */
+    byte[] get(String key);
+
+    void put(String key, byte[] value, Duration ttl);
+
+    void invalidate(String key);
+
+    void addInvalidationListener(InvalidationListener listener);
+
+    /**
+     * Ask for this replica's slice of a cluster-wide rate budget
+     *
+     * @param demandPerSecond Requests per second this replica wanted recently
+     * @return The lease, or null if the tier cannot coordinate budgets or is unavailable
+     */
+    default RateLease lease(String budget, double globalPerSecond, double demandPerSecond, Duration duration) {
+        return null;
+    }
+
+    @Override
+    default void close() {
+    }
+}
@@ -0,0 +1,255 @@
+package de.telekom.bot.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link SharedCache} client for a {@link CacheServer}.
+ * <p>
+ * Requests run on a small pool of connections with a short timeout, so one slow answer only
+ * holds up its own connection; a call that finds every connection busy for the timeout is a
+ * miss. A call that times out or breaks its connection is a miss and drops only that
+ * connection. When the server cannot be reached every call is a miss and reconnects are only
+ * tried after the reconnect delay, so lookups never wait on a dead cache. A second connection
+ * receives invalidations on a background thread; after it reconnects the listeners drop all
+ * near copies, since invalidations may have been missed.
+ */
+public final class TcpSharedCache implements SharedCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(TcpSharedCache.class);
+
+    private final String host;
+    private final int port;
+    private final int timeoutMillis;
+    private final long reconnectDelayMillis;
+    private final String clientId = UUID.randomUUID().toString();
+    private final List<InvalidationListener> listeners = new CopyOnWriteArrayList<>();
+    // One permit per connection that may be in use; idle ones wait in the deque
+    private final Semaphore connectionSlots;
+    private final BlockingDeque<Connection> idleConnections = new LinkedBlockingDeque<>();
+
+    private volatile long retryAtMillis;
+    private volatile boolean closed;
+    private volatile Socket subscription;
+
+    private record Connection(Socket socket, DataInputStream in, DataOutputStream out) {
+    }
+
+    @FunctionalInterface
+    private interface Exchange<T> {
+        T run(DataInputStream in, DataOutputStream out) throws IOException;
+    }
+
+    /**
+     * @param poolSize Maximum number of request connections
+     */
+    public TcpSharedCache(String host, int port, Duration timeout, Duration reconnectDelay, int poolSize) {
+        this.host = host;
+        this.port = port;
+        this.timeoutMillis = (int) timeout.toMillis();
+        this.reconnectDelayMillis = reconnectDelay.toMillis();
+        this.connectionSlots = new Semaphore(Math.max(1, poolSize));
+    }
+
+    /**
+     * Start receiving invalidations
+     */
+    public void start() {
+        Thread thread = new Thread(this::receiveInvalidations, "shared-cache-invalidations");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @Override
+    public byte[] get(String key) {
+        return request((in, out) -> {
+            out.writeByte(CacheProtocol.GET);
+            out.writeUTF(key);
+            out.flush();
+            if (in.readUnsignedByte() != CacheProtocol.HIT) {
+                return null;
+            }
+            byte[] value = new byte[in.readInt()];
+            in.readFully(value);
+            return value;
+        });
+    }
+
+    @Override
+    public void put(String key, byte[] value, Duration ttl) {
+        request((in, out) -> {
+            out.writeByte(CacheProtocol.PUT);
+            out.writeUTF(key);
+            out.writeLong(ttl.toMillis());
+            out.writeInt(value.length);
+            out.write(value);
+            out.flush();
+            return in.readUnsignedByte();
+        });
+    }
+
+    @Override
+    public void invalidate(String key) {
+        request((in, out) -> {
+            out.writeByte(CacheProtocol.INVALIDATE);
+            out.writeUTF(key);
+            out.flush();
+            return in.readUnsignedByte();
+        });
+    }
+
+    @Override
+    public RateLease lease(String budget, double globalPerSecond, double demandPerSecond, Duration duration) {
+        // Counted from before the request, so the lease ends here no later than on the server
+        long requestedAtMillis = System.currentTimeMillis();
+        Double granted = request((in, out) -> {
+            out.writeByte(CacheProtocol.LEASE);
+            out.writeUTF(budget);
+            out.writeDouble(globalPerSecond);
+            out.writeDouble(demandPerSecond);
+            out.writeLong(duration.toMillis());
+            out.flush();
+            return in.readDouble();
+        });
+        return granted != null ? new RateLease(granted, requestedAtMillis + duration.toMillis()) : null;
+    }
+
+    @Override
+    public void addInvalidationListener(InvalidationListener listener) {
+        listeners.add(listener);
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        closeQuietly(subscription);
+        closeIdleConnections();
+    }
+
+    private <T> T request(Exchange<T> exchange) {
+        if (closed || System.currentTimeMillis() < retryAtMillis) {
+            return null;
+        }
+        try {
+            if (!connectionSlots.tryAcquire(timeoutMillis, TimeUnit.MILLISECONDS)) {
+                logger.debug("All shared cache connections busy, treating the call as a miss");
+                return null;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+
+        Connection connection = idleConnections.pollFirst();
+        try {
+            if (connection == null) {
+                try {
+                    connection = connect();
+                } catch (IOException e) {
+                    logger.warn("Shared cache at {}:{} unavailable for {}ms: {}", host, port, reconnectDelayMillis, e.getMessage());
+                    retryAtMillis = System.currentTimeMillis() + reconnectDelayMillis;
+                    // The idle connections most likely lost the server as well
+                    closeIdleConnections();
+                    return null;
+                }
+                logger.debug("Opened shared cache connection to {}:{}", host, port);
+            }
+            T result = exchange.run(connection.in(), connection.out());
+            if (!closed) {
+                idleConnections.offerFirst(connection);
+                connection = null;
+            }
+            return result;
+        } catch (IOException e) {
+            // A slow answer or a broken connection: only this connection is dropped
+            logger.debug("Shared cache call failed, treating it as a miss: {}", e.getMessage());
+            return null;
+        } finally {
+            if (connection != null) {
+                closeQuietly(connection.socket());
+            }
+            connectionSlots.release();
+        }
+    }
+
+    private Connection connect() throws IOException {
+        Socket socket = new Socket();
+        try {
+            socket.connect(new InetSocketAddress(host, port), timeoutMillis);
+            socket.setSoTimeout(timeoutMillis);
+            socket.setTcpNoDelay(true);
+            Connection connection = new Connection(socket,
+                    new DataInputStream(new BufferedInputStream(socket.getInputStream())),
+                    new DataOutputStream(new BufferedOutputStream(socket.getOutputStream())));
+            connection.out().writeByte(CacheProtocol.HELLO);
+            connection.out().writeUTF(clientId);
+            return connection;
+        } catch (IOException e) {
+            closeQuietly(socket);
+            throw e;
+        }
+    }
+
+    private void closeIdleConnections() {
+        Connection connection;
+        while ((connection = idleConnections.pollFirst()) != null) {
+            closeQuietly(connection.socket());
+        }
+    }
+
+    private void receiveInvalidations() {
+        while (!closed) {
+            try {
+                Connection connection = connect();
+                subscription = connection.socket();
+                connection.socket().setSoTimeout(0);
+                connection.out().writeByte(CacheProtocol.SUBSCRIBE);
+                connection.out().flush();
+                listeners.forEach(InvalidationListener::invalidateAll);
+
+                while (!closed) {
+                    String key = connection.in().readUTF();
+                    listeners.forEach(listener -> listener.invalidated(key));
+                }
+            } catch (IOException e) {
+                if (closed) {
+                    return;
+                }
+                logger.debug("Shared cache invalidation feed lost: {}", e.getMessage());
+            } finally {
+                closeQuietly(subscription);
+            }
+
+            try {
+                Thread.sleep(reconnectDelayMillis);
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+
+    private static void closeQuietly(Socket socket) {
+        if (socket != null) {
+            try {
+                socket.close();
+            } catch (IOException ignored) {
+            }
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package de.telekom.bot.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache with a near tier in this replica and a {@link SharedCache} behind it.
+ * <p>
+ * Reads are served from the near tier when possible, otherwise from the shared tier, whose hits
+ * are copied into the near tier. Writes go to both tiers; the shared tier tells the other
+ * replicas to drop their near copies of the key. Entries expire after the time to live in both
+ * tiers. The near tier can be snapshotted and restored across restarts. Thread-safe.
+ */
+public final class TieredCache<V> {
+
+    private static final Logger logger = LoggerFactory.getLogger(TieredCache.class);
+
+    private final String namespace;
+    private final SharedCache sharedCache;
+    private final CacheCodec<V> codec;
+    private final Duration ttl;
+    private final int maxNearEntries;
+    private final Map<String, Entry<V>> near = new ConcurrentHashMap<>();
+
+    private record Entry<V>(V value, long expiresAtMillis) {
+    }
+
+    public TieredCache(String namespace, SharedCache sharedCache, CacheCodec<V> codec, Duration ttl, int maxNearEntries) {
+        this.namespace = namespace;
+        this.sharedCache = sharedCache;
+        this.codec = codec;
+        this.ttl = ttl;
+        this.maxNearEntries = maxNearEntries;
+
+        String prefix = namespace + ":";
+        sharedCache.addInvalidationListener(new SharedCache.InvalidationListener() {
+            @Override
+            public void invalidated(String key) {
+                if (key.startsWith(prefix)) {
+                    near.remove(key.substring(prefix.length()));
+                }
+            }
+
+            @Override
+            public void invalidateAll() {
+                near.clear();
+            }
+        });
+    }
+
+    /**
+     * @return The cached value from either tier, or null
+     */
+    public V get(String key) {
+        V value = getNear(key);
+        if (value != null) {
+            return value;
+        }
+
+        byte[] bytes = sharedCache.get(remoteKey(key));
+        if (bytes == null) {
+            return null;
+        }
+        try {
+            value = codec.decode(bytes);
+        } catch (IOException e) {
+            logger.debug("Ignoring unreadable shared cache entry {}: {}", remoteKey(key), e.getMessage());
+            return null;
+        }
+        // The shared tier does not hand out its expiry; a full ttl here is at most one ttl stale
+        putNear(key, value);
+        return value;
+    }
+
+    /**
+     * @return The value cached in this replica, or null; never asks the shared tier
+     */
+    public V getNear(String key) {
+        Entry<V> entry = near.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAtMillis() <= System.currentTimeMillis()) {
+            near.remove(key, entry);
+            return null;
+        }
+        return entry.value();
+    }
+
+    public void put(String key, V value) {
+        putNear(key, value);
+        sharedCache.put(remoteKey(key), codec.encode(value), ttl);
+    }
+
+    public void invalidate(String key) {
+        near.remove(key);
+        sharedCache.invalidate(remoteKey(key));
+    }
+
+    public int nearSize() {
+        return near.size();
+    }
+
+    /**
+     * Encode the unexpired near entries with their expiry, for {@link CacheSnapshots}
+     */
+    public byte[] snapshot() {
+        long now = System.currentTimeMillis();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(4096);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            List<Map.Entry<String, Entry<V>>> live = near.entrySet().stream()
+                    .filter(entry -> entry.getValue().expiresAtMillis() > now)
+                    .toList();
+            out.writeInt(live.size());
+            for (Map.Entry<String, Entry<V>> entry : live) {
+                byte[] value = codec.encode(entry.getValue().value());
+                out.writeUTF(entry.getKey());
+                out.writeLong(entry.getValue().expiresAtMillis());
+                out.writeInt(value.length);
+                out.write(value);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Put the entries of a {@link #snapshot()} into the near tier, keeping their original expiry.
+     * Expired entries and values in an outdated format are skipped.
+     *
+     * @return Number of entries restored
+     * @throws IOException if the snapshot is truncated
+     */
+    public int restore(byte[] snapshot) throws IOException {
+        long now = System.currentTimeMillis();
+        int restored = 0;
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(snapshot))) {
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                String key = in.readUTF();
+                long expiresAtMillis = in.readLong();
+                byte[] value = new byte[in.readInt()];
+                in.readFully(value);
+                if (expiresAtMillis <= now) {
+                    continue;
+                }
+                try {
+                    putNear(key, codec.decode(value), expiresAtMillis);
+                    restored++;
+                } catch (IOException e) {
+                    logger.debug("Skipping unreadable {} snapshot entry {}: {}", namespace, key, e.getMessage());
+                }
+            }
+        }
+        return restored;
+    }
+
+    private void putNear(String key, V value) {
+        putNear(key, value, System.currentTimeMillis() + ttl.toMillis());
+    }
+
+    private void putNear(String key, V value, long expiresAtMillis) {
+        near.put(key, new Entry<>(value, expiresAtMillis));
+
+        // Simple cleanup: remove the entry closest to expiry if the near tier gets too large
+        if (near.size() > maxNearEntries) {
+            near.entrySet().stream()
+                    .min(Comparator.comparingLong(entry -> entry.getValue().expiresAtMillis()))
+                    .ifPresent(oldest -> near.remove(oldest.getKey(), oldest.getValue()));
+        }
+    }
+
+    private String remoteKey(String key) {
+        return namespace + ":" + key;
+    }
+}
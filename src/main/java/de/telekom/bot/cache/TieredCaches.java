@@ -0,0 +1,27 @@
+package de.telekom.bot.cache;
+
+import java.time.Duration;
+
+/**
+ * Builds the services' {@link TieredCache}s on the configured shared tier and registers them for
+ * snapshots, so each service can create its cache once in its constructor
+ */
+public final class TieredCaches {
+
+    private final SharedCache sharedCache;
+    private final CacheSnapshots cacheSnapshots;
+
+    public TieredCaches(SharedCache sharedCache, CacheSnapshots cacheSnapshots) {
+        this.sharedCache = sharedCache;
+        this.cacheSnapshots = cacheSnapshots;
+    }
+
+    /**
+     * @param name Namespace on the shared tier and section in the snapshot
+     */
+    public <V> TieredCache<V> create(String name, CacheCodec<V> codec, Duration ttl, int maxNearEntries) {
+        TieredCache<V> cache = new TieredCache<>(name, sharedCache, codec, ttl, maxNearEntries);
+        cacheSnapshots.register(name, cache);
+        return cache;
+    }
+}
@@ -0,0 +1,108 @@
+package de.telekom.bot.cluster;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Maps chat ids to nodes by consistent hashing.
+ * <p>
+ * Every node is placed on the ring at a number of virtual positions; a chat belongs to the
+ * first node at or after its own position. When a node joins or leaves only the chats between
+ * its positions and their predecessors move, about 1/N of them. Lookups read an immutable
+ * snapshot, membership changes copy it.
+ */
+public final class ConsistentHashRing {
+
+    private final int virtualNodes;
+    private volatile NavigableMap<Long, String> ring = new TreeMap<>();
+    private volatile Set<String> nodes = Set.of();
+
+    public ConsistentHashRing(int virtualNodes) {
+        if (virtualNodes < 1) {
+            throw new IllegalArgumentException("At least one virtual node per node is needed");
+        }
+        this.virtualNodes = virtualNodes;
+    }
+
+    /**
+     * @return false if the node was already on the ring
+     */
+    public synchronized boolean add(String node) {
+        if (nodes.contains(node)) {
+            return false;
+        }
+        TreeMap<Long, String> updated = new TreeMap<>(ring);
+        for (int i = 0; i < virtualNodes; i++) {
+            updated.put(position(node + "#" + i), node);
+        }
+        Set<String> updatedNodes = new LinkedHashSet<>(nodes);
+        updatedNodes.add(node);
+        ring = updated;
+        nodes = Collections.unmodifiableSet(updatedNodes);
+        return true;
+    }
+
+    /**
+     * @return false if the node was not on the ring
+     */
+    public synchronized boolean remove(String node) {
+        if (!nodes.contains(node)) {
+            return false;
+        }
+        TreeMap<Long, String> updated = new TreeMap<>(ring);
+        updated.values().removeIf(node::equals);
+        Set<String> updatedNodes = new LinkedHashSet<>(nodes);
+        updatedNodes.remove(node);
+        ring = updated;
+        nodes = Collections.unmodifiableSet(updatedNodes);
+        return true;
+    }
+
+    /**
+     * @return The node owning the chat, or null if the ring is empty
+     */
+    public String nodeFor(long chatId) {
+        NavigableMap<Long, String> current = ring;
+        if (current.isEmpty()) {
+            return null;
+        }
+        Map.Entry<Long, String> owner = current.ceilingEntry(mix(chatId));
+        return owner != null ? owner.getValue() : current.firstEntry().getValue();
+    }
+
+    public Set<String> nodes() {
+        return nodes;
+    }
+
+    /**
+     * Ring position of a virtual node, from the first 8 bytes of its MD5
+     */
+    private static long position(String virtualNode) {
+        try {
+            byte[] digest = MessageDigest.getInstance("MD5").digest(virtualNode.getBytes(StandardCharsets.UTF_8));
+            long position = 0;
+            for (int i = 0; i < Long.BYTES; i++) {
+                position = (position << 8) | (digest[i] & 0xFF);
+            }
+            return position;
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("MD5 not available", e);
+        }
+    }
+
+    /**
+     * Spread sequential chat ids over the ring (SplitMix64 finalizer)
+     */
+    private static long mix(long value) {
+        value = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+        value = (value ^ (value >>> 27)) * 0x94D049BB133111EBL;
+        return value ^ (value >>> 31);
+    }
+}
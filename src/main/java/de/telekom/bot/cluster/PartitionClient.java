@@ -0,0 +1,119 @@
+package de.telekom.bot.cluster;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.time.Duration;
+
+/**
+ * Connection to one other node. Calls report failure instead of throwing, so the router can
+ * fall back to handling the update itself. Thread-safe; calls are sent one at a time.
+ */
+public final class PartitionClient implements AutoCloseable {
+
+    /**
+     * Outcome of sending a message to the node
+     */
+    public enum Delivery {
+        DELIVERED,
+        // Could not connect or write: the node never saw the message
+        NOT_SENT,
+        // Written, but no ACK in time: the node may have it
+        UNCONFIRMED
+    }
+
+    private final String host;
+    private final int port;
+    private final int timeoutMillis;
+
+    private Socket socket;
+    private DataInputStream in;
+    private DataOutputStream out;
+
+    @FunctionalInterface
+    private interface Request {
+        void write(DataOutputStream out) throws IOException;
+    }
+
+    /**
+     * @param address host:port of the node's partition server
+     */
+    public PartitionClient(String address, Duration timeout) {
+        int colon = address.lastIndexOf(':');
+        if (colon <= 0) {
+            throw new IllegalArgumentException("Expected host:port, got " + address);
+        }
+        this.host = address.substring(0, colon);
+        this.port = Integer.parseInt(address.substring(colon + 1));
+        this.timeoutMillis = (int) timeout.toMillis();
+    }
+
+    public Delivery forward(byte[] payload) {
+        return send(out -> {
+            out.writeByte(PartitionProtocol.UPDATE);
+            out.writeInt(payload.length);
+            out.write(payload);
+        });
+    }
+
+    public boolean join(String nodeId, String address) {
+        return send(out -> {
+            out.writeByte(PartitionProtocol.JOIN);
+            out.writeUTF(nodeId);
+            out.writeUTF(address);
+        }) == Delivery.DELIVERED;
+    }
+
+    public boolean ping() {
+        return send(out -> out.writeByte(PartitionProtocol.PING)) == Delivery.DELIVERED;
+    }
+
+    @Override
+    public synchronized void close() {
+        if (socket != null) {
+            try {
+                socket.close();
+            } catch (IOException ignored) {
+            }
+            socket = null;
+        }
+    }
+
+    private synchronized Delivery send(Request request) {
+        try {
+            if (socket == null) {
+                connect();
+            }
+            request.write(out);
+            out.flush();
+        } catch (IOException e) {
+            close();
+            return Delivery.NOT_SENT;
+        }
+        try {
+            return in.readUnsignedByte() == PartitionProtocol.ACK ? Delivery.DELIVERED : Delivery.UNCONFIRMED;
+        } catch (IOException e) {
+            close();
+            return Delivery.UNCONFIRMED;
+        }
+    }
+
+    private void connect() throws IOException {
+        Socket connection = new Socket();
+        try {
+            connection.connect(new InetSocketAddress(host, port), timeoutMillis);
+            connection.setSoTimeout(timeoutMillis);
+            connection.setTcpNoDelay(true);
+            in = new DataInputStream(new BufferedInputStream(connection.getInputStream()));
+            out = new DataOutputStream(new BufferedOutputStream(connection.getOutputStream()));
+            socket = connection;
+        } catch (IOException e) {
+            connection.close();
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package de.telekom.bot.cluster;
+
+/**
+ * Wire format between the nodes of a partitioned deployment.
+ * <p>
+ * Requests are an opcode followed by their fields in {@link java.io.DataOutputStream} encoding;
+ * every request is answered with ACK:
+ * <ul>
+ *     <li>UPDATE length bytes: a Telegram update (JSON) for a chat the receiver owns</li>
+ *     <li>JOIN nodeId address: a node announces itself</li>
+ *     <li>PING: liveness check</li>
+ * </ul>
+ * Updates on one connection are handled in order, which keeps every chat's updates in order.
+ */
+final class PartitionProtocol {
+
+    static final int UPDATE = 1;
+    static final int JOIN = 2;
+    static final int PING = 3;
+
+    static final int ACK = 0;
+
+    // Telegram updates are a few KB; anything larger is a broken or hostile client
+    static final int MAX_UPDATE_BYTES = 1 << 20;
+
+    private PartitionProtocol() {
+    }
+}
@@ -0,0 +1,151 @@
+package de.telekom.bot.cluster;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Receives updates forwarded by other nodes and join announcements.
+ * <p>
+ * An update is acknowledged as soon as it is read and queued for the connection's dispatch
+ * thread, so the next frame is read right away however long handling takes, and updates from
+ * one sender keep their order.
+ */
+public final class PartitionServer implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(PartitionServer.class);
+
+    private final int port;
+    private final Handler handler;
+    private final ExecutorService connections = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "partition-server");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile ServerSocket serverSocket;
+
+    /**
+     * Receives what other nodes send
+     */
+    public interface Handler {
+
+        void update(byte[] payload);
+
+        void join(String nodeId, String address);
+    }
+
+    /**
+     * @param port TCP port to listen on, 0 for any free port
+     */
+    public PartitionServer(int port, Handler handler) {
+        this.port = port;
+        this.handler = handler;
+    }
+
+    public void start() throws IOException {
+        serverSocket = new ServerSocket(port);
+        connections.execute(this::accept);
+        logger.info("Partition server listening on port {}", getPort());
+    }
+
+    public int getPort() {
+        ServerSocket socket = serverSocket;
+        return socket != null ? socket.getLocalPort() : port;
+    }
+
+    @Override
+    public void close() {
+        ServerSocket socket = serverSocket;
+        serverSocket = null;
+        if (socket != null) {
+            try {
+                socket.close();
+            } catch (IOException e) {
+                logger.debug("Error closing partition server socket", e);
+            }
+        }
+        connections.shutdownNow();
+    }
+
+    private void accept() {
+        ServerSocket socket = serverSocket;
+        while (socket != null && !socket.isClosed()) {
+            try {
+                Socket client = socket.accept();
+                client.setTcpNoDelay(true);
+                connections.execute(() -> serve(client));
+            } catch (IOException e) {
+                if (!socket.isClosed()) {
+                    logger.warn("Partition server failed to accept a connection: {}", e.getMessage());
+                }
+            }
+        }
+    }
+
+    private void serve(Socket socket) {
+        ExecutorService dispatcher = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "partition-dispatch");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try (socket) {
+            DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+            while (true) {
+                int op = in.readUnsignedByte();
+                switch (op) {
+                    case PartitionProtocol.UPDATE -> {
+                        int length = in.readInt();
+                        if (length < 0 || length > PartitionProtocol.MAX_UPDATE_BYTES) {
+                            throw new IOException("Update of " + length + " bytes rejected");
+                        }
+                        byte[] payload = new byte[length];
+                        in.readFully(payload);
+                        acknowledge(out);
+                        dispatcher.execute(() -> handle(() -> handler.update(payload)));
+                    }
+                    case PartitionProtocol.JOIN -> {
+                        String nodeId = in.readUTF();
+                        String address = in.readUTF();
+                        acknowledge(out);
+                        dispatcher.execute(() -> handle(() -> handler.join(nodeId, address)));
+                    }
+                    case PartitionProtocol.PING -> acknowledge(out);
+                    default -> throw new IOException("Unknown opcode " + op);
+                }
+            }
+        } catch (EOFException | SocketException e) {
+            // Sender disconnected
+        } catch (IOException e) {
+            logger.warn("Closing partition connection: {}", e.getMessage());
+        } finally {
+            // Updates already acknowledged are still handled
+            dispatcher.shutdown();
+        }
+    }
+
+    private static void acknowledge(DataOutputStream out) throws IOException {
+        out.writeByte(PartitionProtocol.ACK);
+        out.flush();
+    }
+
+    private static void handle(Runnable action) {
+        try {
+            action.run();
+        } catch (Exception e) {
+            logger.error("Failed to handle forwarded message", e);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package de.telekom.bot.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Admission control for incoming updates that need upstream lookups
+ */
+@Component
+@ConfigurationProperties(prefix = "admission")
+@Data
+public class AdmissionConfig {
+
+    private boolean enabled = true;
+    private int workers = 16;                  // Lookups handled in parallel
+    private long latencyTargetMs = 10_000;     // Lookups that would wait longer are shed
+    private int maxQueued = 500;
+    private long initialServiceTimeMs = 2_000; // Assumed lookup time until real ones are measured
+    private long shutdownGraceMs = 20_000;     // Admitted lookups may finish this long on shutdown
+}
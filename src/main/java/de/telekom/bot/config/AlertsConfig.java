@@ -0,0 +1,45 @@
+package de.telekom.bot.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration for beach subscriptions, scheduled alert evaluation and outbound message pacing
+ */
+@Component
+@ConfigurationProperties(prefix = "alerts")
+@Data
+public class AlertsConfig {
+
+    private boolean enabled = true;
+    private String storePath = "data/subscriptions.json"; // Subscriptions persisted between restarts
+    private long storeFlushMs = 5_000;                    // Changes are written to the store at most this often
+    private int maxSubscriptionsPerChat = 10;
+    private long checkIntervalMs = 3_600_000;             // One evaluation cycle per hour
+
+    private final Broadcast broadcast = new Broadcast();
+    private final Digest digest = new Digest();
+
+    /**
+     * Pacing for pushed messages, below the Telegram Bot API limits
+     */
+    @Data
+    public static class Broadcast {
+        private int messagesPerSecond = 25;   // Telegram allows ~30 messages per second overall
+        private long perChatIntervalMs = 1100; // and about one message per second per chat
+        private int maxAttempts = 3;
+        private long shutdownFlushMs = 10_000; // Queued messages due within this time are still sent on shutdown
+    }
+
+    /**
+     * Morning digest with the conditions of every subscribed beach
+     */
+    @Data
+    public static class Digest {
+        private boolean enabled = true;
+        private String cron = "0 0 8 * * *";                        // Europe/Madrid
+        private int chunkSize = 200;                                // Chats read and sent per checkpoint
+        private String checkpointPath = "data/digest-checkpoint.json";
+    }
+}
@@ -1,6 +1,7 @@
 package de.telekom.bot.config;
 
 import de.telekom.bot.model.NominatimConfig;
+import de.telekom.bot.model.OverpassConfig;
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
@@ -14,4 +15,5 @@ import org.springframework.stereotype.Component;
 public class ApiConfigurationProperties {
 
     private final NominatimConfig nominatim = new NominatimConfig();
+    private final OverpassConfig overpass = new OverpassConfig();
 }
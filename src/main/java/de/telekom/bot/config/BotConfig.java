@@ -1,6 +1,5 @@
 package de.telekom.bot.config;
 
-import de.telekom.bot.service.WeatherBot;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.telegram.telegrambots.meta.TelegramBotsApi;
@@ -10,10 +9,11 @@ import org.telegram.telegrambots.updatesreceivers.DefaultBotSession;
 @Configuration
 public class BotConfig {
 
+    /**
+     * The bot is registered by {@link BotRegistration} once the context is fully started
+     */
     @Bean
-    public TelegramBotsApi telegramBotsApi(WeatherBot helloWorldBot) throws TelegramApiException {
-        TelegramBotsApi botsApi = new TelegramBotsApi(DefaultBotSession.class);
-        botsApi.registerBot(helloWorldBot);
-        return botsApi;
+    public TelegramBotsApi telegramBotsApi() throws TelegramApiException {
+        return new TelegramBotsApi(DefaultBotSession.class);
     }
 }
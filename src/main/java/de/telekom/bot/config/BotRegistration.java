@@ -0,0 +1,65 @@
+package de.telekom.bot.config;
+
+import de.telekom.bot.service.WeatherBot;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.telegram.telegrambots.meta.TelegramBotsApi;
+import org.telegram.telegrambots.meta.exceptions.TelegramApiException;
+import org.telegram.telegrambots.meta.generics.BotSession;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Starts long polling as the last step of startup.
+ * <p>
+ * Registering in a lifecycle callback instead of during bean creation keeps context refresh free
+ * of Telegram calls, so AOT processing and the CDS training run (-Dspring.context.exit=onRefresh)
+ * can start the application without polling for updates.
+ */
+@Component
+@RequiredArgsConstructor
+public class BotRegistration implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(BotRegistration.class);
+
+    private final TelegramBotsApi telegramBotsApi;
+    private final WeatherBot weatherBot;
+
+    @Value("${telegram.bot.auto-register:true}")
+    private boolean autoRegister;
+
+    private volatile BotSession session;
+
+    @Override
+    public void start() {
+        if (!autoRegister) {
+            logger.info("Bot registration disabled (telegram.bot.auto-register=false)");
+            return;
+        }
+        try {
+            session = telegramBotsApi.registerBot(weatherBot);
+        } catch (TelegramApiException e) {
+            throw new IllegalStateException("Failed to register bot with Telegram", e);
+        }
+        logger.info("Bot registered, polling for updates {}ms after JVM start",
+                ManagementFactory.getRuntimeMXBean().getUptime());
+    }
+
+    @Override
+    public void stop() {
+        BotSession current = session;
+        if (current != null && current.isRunning()) {
+            current.stop();
+        }
+        session = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return session != null;
+    }
+}
@@ -0,0 +1,18 @@
+package de.telekom.bot.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Cache snapshots written periodically and reloaded at startup
+ */
+@Component
+@ConfigurationProperties(prefix = "cache-snapshot")
+@Data
+public class CacheSnapshotConfig {
+
+    private boolean enabled = true;
+    private String path = "cache/snapshot.bin";
+    private long intervalMs = 300_000;     // A last snapshot is also written on shutdown
+}
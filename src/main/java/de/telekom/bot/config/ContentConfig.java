@@ -0,0 +1,17 @@
+package de.telekom.bot.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Place content (area blurbs and surface defaults) and its hot reload
+ */
+@Component
+@ConfigurationProperties(prefix = "content")
+@Data
+public class ContentConfig {
+
+    private String directory = "";         // Files here replace the bundled ones of the same name
+    private long reloadCheckMs = 10_000;   // How often the directory is checked for changes
+}
@@ -0,0 +1,20 @@
+package de.telekom.bot.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration for hourly forecasts and their in-memory time-series store
+ */
+@Component
+@ConfigurationProperties(prefix = "forecast")
+@Data
+public class ForecastConfig {
+
+    private boolean enabled = true;
+    private int forecastDays = 2;        // Hours fetched per grid cell: forecastDays * 24
+    private double cellDegrees = 0.1;    // Beaches in the same cell share one series
+    private int runIntervalHours = 3;    // Series expire when the next model run is published
+    private int maxCells = 2000;
+}
@@ -0,0 +1,24 @@
+package de.telekom.bot.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration for offline marine data
+ */
+@Component
+@ConfigurationProperties(prefix = "marine")
+@Data
+public class MarineConfig {
+
+    private final Climatology climatology = new Climatology();
+
+    /**
+     * Gridded monthly SST climatology used when no live water temperature is available
+     */
+    @Data
+    public static class Climatology {
+        private String path = ""; // e.g. "data/iberia-sst.bin" (./gradlew buildSstClimatology)
+    }
+}
@@ -0,0 +1,26 @@
+package de.telekom.bot.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Chat-partitioned routing between several bot nodes
+ */
+@Component
+@ConfigurationProperties(prefix = "partitioning")
+@Data
+public class PartitionConfig {
+
+    private boolean enabled = false;
+    private String nodeId = "node-1";
+    private int port = 7490;                            // Receives updates forwarded by other nodes
+    private String advertisedAddress = "localhost:7490"; // host:port the other nodes reach this one at
+    private Map<String, String> nodes = new LinkedHashMap<>(); // Known nodes: id -> host:port
+    private int virtualNodes = 128;                     // Ring positions per node, evens out the partitions
+    private long forwardTimeoutMs = 2_000;
+    private long rejoinCheckMs = 5_000;                 // How often unreachable nodes are retried
+}
@@ -0,0 +1,17 @@
+package de.telekom.bot.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Leases on cluster-wide upstream rate budgets (Nominatim's 1 request per second)
+ */
+@Component
+@ConfigurationProperties(prefix = "rate-budget")
+@Data
+public class RateBudgetConfig {
+
+    private long leaseMs = 10_000;   // Renewed every half lease; a dead replica's share returns after one
+    private int fallbackReplicas = 1; // Without a lease each replica sends global rate / this
+}
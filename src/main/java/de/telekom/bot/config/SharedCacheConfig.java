@@ -0,0 +1,33 @@
+package de.telekom.bot.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Shared cache tier for running several bot replicas
+ */
+@Component
+@ConfigurationProperties(prefix = "shared-cache")
+@Data
+public class SharedCacheConfig {
+
+    private boolean enabled = false;       // Off: every replica only caches for itself
+    private String host = "localhost";
+    private int port = 7480;
+    private long timeoutMs = 200;          // Cache calls slower than this count as a miss
+    private int poolSize = 4;              // Parallel request connections per replica
+    private long reconnectDelayMs = 5_000; // Unreachable cache is skipped for this long
+
+    private final Server server = new Server();
+
+    /**
+     * Embedded cache server; enable it on exactly one replica or a dedicated instance
+     */
+    @Data
+    public static class Server {
+        private boolean enabled = false;
+        private int port = 7480;
+        private int maxEntries = 50_000;
+    }
+}
@@ -0,0 +1,72 @@
+package de.telekom.bot.config;
+
+import de.telekom.bot.cache.CacheServer;
+import de.telekom.bot.cache.CacheSnapshots;
+import de.telekom.bot.cache.ClusterRateBudget;
+import de.telekom.bot.cache.SharedCache;
+import de.telekom.bot.cache.TcpSharedCache;
+import de.telekom.bot.cache.TieredCaches;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Paths;
+import java.time.Duration;
+
+@Configuration
+public class SharedCacheConfiguration {
+
+    /**
+     * Remote tier behind the service caches; {@link SharedCache#NONE} unless shared-cache.enabled
+     */
+    @Bean(destroyMethod = "close")
+    public SharedCache sharedCache(SharedCacheConfig config) {
+        if (!config.isEnabled()) {
+            return SharedCache.NONE;
+        }
+        TcpSharedCache cache = new TcpSharedCache(config.getHost(), config.getPort(),
+                Duration.ofMillis(config.getTimeoutMs()), Duration.ofMillis(config.getReconnectDelayMs()),
+                config.getPoolSize());
+        cache.start();
+        return cache;
+    }
+
+    /**
+     * Nominatim usage policy: one request per nominatim.api.rate-limit-ms across all replicas
+     */
+    @Bean
+    public ClusterRateBudget nominatimRateBudget(ApiConfigurationProperties apiConfig, SharedCache sharedCache,
+                                                 RateBudgetConfig config) {
+        double globalPerSecond = 1000.0 / apiConfig.getNominatim().getApi().getRateLimitMs();
+        return new ClusterRateBudget("nominatim", globalPerSecond, sharedCache,
+                Duration.ofMillis(config.getLeaseMs()), config.getFallbackReplicas());
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "close")
+    @ConditionalOnProperty(prefix = "shared-cache.server", name = "enabled", havingValue = "true")
+    public CacheServer cacheServer(SharedCacheConfig config) {
+        return new CacheServer(config.getServer().getPort(), config.getServer().getMaxEntries());
+    }
+
+    /**
+     * Snapshots of the service caches for warm restarts; {@link CacheSnapshots#NONE} unless cache-snapshot.enabled
+     */
+    @Bean(destroyMethod = "close")
+    public CacheSnapshots cacheSnapshots(CacheSnapshotConfig config) {
+        if (!config.isEnabled()) {
+            return CacheSnapshots.NONE;
+        }
+        CacheSnapshots snapshots = new CacheSnapshots(Paths.get(config.getPath()));
+        snapshots.load();
+        snapshots.start(Duration.ofMillis(config.getIntervalMs()));
+        return snapshots;
+    }
+
+    /**
+     * Service caches on the shared tier, included in the snapshots
+     */
+    @Bean
+    public TieredCaches tieredCaches(SharedCache sharedCache, CacheSnapshots cacheSnapshots) {
+        return new TieredCaches(sharedCache, cacheSnapshots);
+    }
+}
@@ -0,0 +1,32 @@
+package de.telekom.bot.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Adaptive concurrency limits for the external APIs (see UpstreamLimiters)
+ */
+@Component
+@ConfigurationProperties(prefix = "upstream")
+@Data
+public class UpstreamConfig {
+
+    private Limit defaults = new Limit();
+    private Map<String, Limit> limits = new HashMap<>(); // Per upstream, e.g. "overpass"
+
+    public Limit limitFor(String upstream) {
+        return limits.getOrDefault(upstream, defaults);
+    }
+
+    @Data
+    public static class Limit {
+        private int initialLimit = 4;
+        private int minLimit = 1;
+        private int maxLimit = 20;
+        private long queueTimeoutMs = 500;  // Calls beyond the limit wait this long, then are shed
+    }
+}
@@ -0,0 +1,114 @@
+package de.telekom.bot.geo;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Read-only, memory-mapped catalogue of well-known beaches.
+ * <p>
+ * The file is produced by {@link BeachCatalogFileBuilder}: fixed-width beach records
+ * (coordinates in micro-degrees, name and region references) and a UTF-8 string pool. Records
+ * are read in place through index-based accessors, so the catalogue lives in the page cache
+ * instead of the heap and several processes mapping the same file share it.
+ */
+public final class BeachCatalogFile {
+
+    static final int MAGIC = 0x42434154; // "BCAT"
+    static final int VERSION = 2; // Version 1 also held attraction records
+
+    static final int HEADER_BYTES = 32;
+    static final int BEACH_BYTES = 16;
+    static final int NO_STRING = -1;
+    static final double COORDINATE_SCALE = 1_000_000.0;
+
+    private final ByteBuffer buffer;
+    private final int beachCount;
+    private final int beachesOffset;
+    private final int stringsOffset;
+
+    private BeachCatalogFile(ByteBuffer buffer) {
+        this.buffer = buffer;
+
+        if (buffer.capacity() < HEADER_BYTES || buffer.getInt(0) != MAGIC) {
+            throw new IllegalArgumentException("Not a beach catalogue file");
+        }
+        int version = buffer.getInt(4);
+        if (version != VERSION) {
+            throw new IllegalArgumentException("Unsupported beach catalogue version: " + version);
+        }
+
+        this.beachCount = buffer.getInt(8);
+        int stringPoolSize = buffer.getInt(12);
+
+        this.beachesOffset = HEADER_BYTES;
+        this.stringsOffset = beachesOffset + beachCount * BEACH_BYTES;
+
+        if (stringsOffset + stringPoolSize > buffer.capacity()) {
+            throw new IllegalArgumentException("Beach catalogue file is truncated");
+        }
+    }
+
+    /**
+     * Map a catalogue file read-only
+     */
+    public static BeachCatalogFile open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return new BeachCatalogFile(mapped.order(ByteOrder.LITTLE_ENDIAN));
+        }
+    }
+
+    /**
+     * Wrap a catalogue that is already in memory (used by tests and the bundled fallback)
+     */
+    public static BeachCatalogFile wrap(ByteBuffer buffer) {
+        return new BeachCatalogFile(buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN));
+    }
+
+    public int size() {
+        return beachCount;
+    }
+
+    public double latitude(int beach) {
+        return buffer.getInt(beachOffset(beach)) / COORDINATE_SCALE;
+    }
+
+    public double longitude(int beach) {
+        return buffer.getInt(beachOffset(beach) + 4) / COORDINATE_SCALE;
+    }
+
+    public String name(int beach) {
+        return readString(buffer.getInt(beachOffset(beach) + 8));
+    }
+
+    public String region(int beach) {
+        return readString(buffer.getInt(beachOffset(beach) + 12));
+    }
+
+    private int beachOffset(int beach) {
+        if (beach < 0 || beach >= beachCount) {
+            throw new IndexOutOfBoundsException("Beach " + beach + " of " + beachCount);
+        }
+        return beachesOffset + beach * BEACH_BYTES;
+    }
+
+    /**
+     * Strings are stored as unsigned 16-bit length followed by UTF-8 bytes
+     */
+    private String readString(int ref) {
+        if (ref == NO_STRING) {
+            return null;
+        }
+        int offset = stringsOffset + ref;
+        int length = buffer.getShort(offset) & 0xFFFF;
+        byte[] bytes = new byte[length];
+        buffer.get(offset + 2, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
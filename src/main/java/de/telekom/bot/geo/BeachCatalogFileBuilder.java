@@ -0,0 +1,155 @@
+package de.telekom.bot.geo;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Builds a {@link BeachCatalogFile} from a CSV of <code>name,region,latitude,longitude</code>.
+ * Blank lines and # comments are skipped.
+ */
+public class BeachCatalogFileBuilder {
+
+    private static final Logger logger = LoggerFactory.getLogger(BeachCatalogFileBuilder.class);
+
+    private final List<Beach> beaches = new ArrayList<>();
+
+    private record Beach(String name, String region, double latitude, double longitude) {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("Usage: BeachCatalogFileBuilder <beaches.csv> <output.bin>");
+            System.exit(1);
+        }
+
+        long start = System.currentTimeMillis();
+        BeachCatalogFileBuilder builder = new BeachCatalogFileBuilder();
+        try (InputStream in = Files.newInputStream(Paths.get(args[0]))) {
+            builder.readBeaches(in);
+        }
+        builder.writeTo(Paths.get(args[1]));
+
+        System.out.printf("Wrote beach catalogue with %d beaches to %s in %dms%n",
+                builder.size(), args[1], System.currentTimeMillis() - start);
+    }
+
+    public int size() {
+        return beaches.size();
+    }
+
+    /**
+     * Read beach lines: name,region,latitude,longitude. Malformed lines are skipped.
+     */
+    public void readBeaches(InputStream in) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+
+        String line;
+        int lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            line = line.trim();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+
+            String[] parts = line.split(",");
+            if (parts.length != 4) {
+                logger.warn("Skipping malformed beach catalogue line {}: {}", lineNumber, line);
+                continue;
+            }
+            try {
+                addBeach(parts[0].trim(), parts[1].trim(),
+                        Double.parseDouble(parts[2].trim()), Double.parseDouble(parts[3].trim()));
+            } catch (NumberFormatException e) {
+                logger.warn("Skipping beach catalogue line {} with invalid coordinates: {}", lineNumber, line);
+            }
+        }
+    }
+
+    public void addBeach(String name, String region, double latitude, double longitude) {
+        beaches.add(new Beach(name, region, latitude, longitude));
+    }
+
+    public void writeTo(Path output) throws IOException {
+        ByteBuffer buffer = build();
+        Path parent = output.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Path tmp = output.resolveSibling(output.getFileName() + ".tmp");
+        try (OutputStream out = Files.newOutputStream(tmp)) {
+            out.write(buffer.array(), 0, buffer.limit());
+        }
+        Files.move(tmp, output, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Serialise the catalogue into a heap buffer
+     */
+    public ByteBuffer build() {
+        Map<String, Integer> stringRefs = new HashMap<>();
+        ByteArrayOutputStream strings = new ByteArrayOutputStream();
+
+        int[] beachRefs = new int[beaches.size() * 2];
+        for (int i = 0; i < beaches.size(); i++) {
+            beachRefs[i * 2] = intern(beaches.get(i).name(), stringRefs, strings);
+            beachRefs[i * 2 + 1] = intern(beaches.get(i).region(), stringRefs, strings);
+        }
+
+        int size = BeachCatalogFile.HEADER_BYTES
+                + beaches.size() * BeachCatalogFile.BEACH_BYTES
+                + strings.size();
+
+        ByteBuffer buffer = ByteBuffer.allocate(size).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putInt(BeachCatalogFile.MAGIC);
+        buffer.putInt(BeachCatalogFile.VERSION);
+        buffer.putInt(beaches.size());
+        buffer.putInt(strings.size());
+        buffer.put(new byte[16]); // Reserved
+
+        for (int i = 0; i < beaches.size(); i++) {
+            Beach beach = beaches.get(i);
+            buffer.putInt((int) Math.round(beach.latitude() * BeachCatalogFile.COORDINATE_SCALE));
+            buffer.putInt((int) Math.round(beach.longitude() * BeachCatalogFile.COORDINATE_SCALE));
+            buffer.putInt(beachRefs[i * 2]);
+            buffer.putInt(beachRefs[i * 2 + 1]);
+        }
+
+        buffer.put(strings.toByteArray());
+        buffer.flip();
+        return buffer;
+    }
+
+    private static int intern(String value, Map<String, Integer> refs, ByteArrayOutputStream strings) {
+        if (value == null) {
+            return BeachCatalogFile.NO_STRING;
+        }
+        return refs.computeIfAbsent(value, v -> {
+            byte[] bytes = v.getBytes(StandardCharsets.UTF_8);
+            int length = Math.min(bytes.length, 0xFFFF);
+            int ref = strings.size();
+            strings.write(length & 0xFF);          // little-endian unsigned short
+            strings.write((length >>> 8) & 0xFF);
+            strings.write(bytes, 0, length);
+            return ref;
+        });
+    }
+}
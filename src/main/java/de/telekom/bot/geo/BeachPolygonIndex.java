@@ -0,0 +1,355 @@
+package de.telekom.bot.geo;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.PriorityQueue;
+
+/**
+ * Read-only, memory-mapped spatial index of OSM beach polygons.
+ * <p>
+ * The file is produced by {@link BeachPolygonIndexBuilder}: an STR-packed R-tree over polygon
+ * bounding boxes, followed by compact ring and coordinate arrays (micro-degrees) and a UTF-8
+ * string pool for names and surfaces. Opening the index only maps the file and validates the
+ * header, queries touch a handful of pages and allocate almost nothing.
+ */
+public final class BeachPolygonIndex {
+
+    static final int MAGIC = 0x42504958; // "BPIX"
+    static final int VERSION = 1;
+
+    static final int HEADER_BYTES = 32;
+    static final int FEATURE_BYTES = 40;
+    static final int RING_BYTES = 8;
+    static final int POINT_BYTES = 8;
+    static final int NODE_BYTES = 28;
+    static final int NO_STRING = -1;
+    static final double COORDINATE_SCALE = 1_000_000.0;
+
+    private static final double KM_PER_DEGREE_LAT = 110.574;
+    private static final double KM_PER_DEGREE_LON = 111.32;
+
+    private final ByteBuffer buffer;
+    private final int featureCount;
+    private final int nodeCount;
+    private final int rootNode;
+    private final int featuresOffset;
+    private final int ringsOffset;
+    private final int pointsOffset;
+    private final int nodesOffset;
+    private final int stringsOffset;
+
+    /**
+     * Beach matched by a query
+     *
+     * @param name       OSM name tag, may be null
+     * @param surface    OSM surface tag, may be null
+     * @param distanceKm Distance from the query point to the beach outline (0 if inside)
+     * @param latitude   Latitude of the beach centroid
+     * @param longitude  Longitude of the beach centroid
+     */
+    public record Match(String name, String surface, double distanceKm, double latitude, double longitude) {
+    }
+
+    private BeachPolygonIndex(ByteBuffer buffer) {
+        this.buffer = buffer;
+
+        if (buffer.capacity() < HEADER_BYTES || buffer.getInt(0) != MAGIC) {
+            throw new IllegalArgumentException("Not a beach polygon index file");
+        }
+        int version = buffer.getInt(4);
+        if (version != VERSION) {
+            throw new IllegalArgumentException("Unsupported beach polygon index version: " + version);
+        }
+
+        this.featureCount = buffer.getInt(8);
+        int ringCount = buffer.getInt(12);
+        int pointCount = buffer.getInt(16);
+        this.nodeCount = buffer.getInt(20);
+        this.rootNode = buffer.getInt(24);
+        int stringPoolSize = buffer.getInt(28);
+
+        this.featuresOffset = HEADER_BYTES;
+        this.ringsOffset = featuresOffset + featureCount * FEATURE_BYTES;
+        this.pointsOffset = ringsOffset + ringCount * RING_BYTES;
+        this.nodesOffset = pointsOffset + pointCount * POINT_BYTES;
+        this.stringsOffset = nodesOffset + nodeCount * NODE_BYTES;
+
+        if ((long) stringsOffset + stringPoolSize > buffer.capacity()) {
+            throw new IllegalArgumentException("Beach polygon index file is truncated");
+        }
+    }
+
+    /**
+     * Memory-map an index file
+     */
+    public static BeachPolygonIndex open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return new BeachPolygonIndex(mapped.order(ByteOrder.LITTLE_ENDIAN));
+        }
+    }
+
+    /**
+     * Wrap an index that is already in memory (used by tests and the builder)
+     */
+    public static BeachPolygonIndex wrap(ByteBuffer buffer) {
+        return new BeachPolygonIndex(buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN));
+    }
+
+    public int size() {
+        return featureCount;
+    }
+
+    /**
+     * Find the beach polygon containing the coordinate
+     */
+    public Optional<Match> findContaining(double latitude, double longitude) {
+        if (nodeCount == 0) {
+            return Optional.empty();
+        }
+
+        int[] stack = new int[64];
+        int top = 0;
+        stack[top++] = rootNode;
+
+        while (top > 0) {
+            int node = stack[--top];
+            if (!nodeContains(node, latitude, longitude)) {
+                continue;
+            }
+
+            int first = nodeFirst(node);
+            int count = nodeCount(node);
+
+            if (nodeIsLeaf(node)) {
+                for (int feature = first; feature < first + count; feature++) {
+                    if (featureBoxContains(feature, latitude, longitude) && featureContains(feature, latitude, longitude)) {
+                        return Optional.of(toMatch(feature, 0.0));
+                    }
+                }
+            } else {
+                if (top + count > stack.length) {
+                    stack = Arrays.copyOf(stack, Math.max(stack.length * 2, top + count));
+                }
+                for (int child = first; child < first + count; child++) {
+                    stack[top++] = child;
+                }
+            }
+        }
+
+        return Optional.empty();
+    }
+
+    /**
+     * Find the beach nearest to the coordinate (containing polygons have distance 0)
+     *
+     * @param maxDistanceKm Beaches further away than this are ignored
+     */
+    public Optional<Match> findNearest(double latitude, double longitude, double maxDistanceKm) {
+        if (nodeCount == 0) {
+            return Optional.empty();
+        }
+
+        double cosLat = Math.cos(Math.toRadians(latitude));
+
+        // Best-first search: entries are nodes (>= 0) or features (encoded as -1 - index)
+        PriorityQueue<double[]> queue = new PriorityQueue<>((a, b) -> Double.compare(a[0], b[0]));
+        queue.add(new double[]{boxDistanceKm(nodesOffset + rootNode * NODE_BYTES, latitude, longitude, cosLat), rootNode});
+
+        while (!queue.isEmpty()) {
+            double[] entry = queue.poll();
+            double distance = entry[0];
+            int ref = (int) entry[1];
+
+            if (distance > maxDistanceKm) {
+                break;
+            }
+
+            if (ref < 0) {
+                // Features are queued with their exact distance, so the first one polled is the nearest
+                return Optional.of(toMatch(-1 - ref, distance));
+            }
+
+            int first = nodeFirst(ref);
+            int count = nodeCount(ref);
+
+            if (nodeIsLeaf(ref)) {
+                for (int feature = first; feature < first + count; feature++) {
+                    double boxDistance = boxDistanceKm(featuresOffset + feature * FEATURE_BYTES, latitude, longitude, cosLat);
+                    if (boxDistance <= maxDistanceKm) {
+                        double exact = featureDistanceKm(feature, latitude, longitude, cosLat);
+                        queue.add(new double[]{exact, -1 - feature});
+                    }
+                }
+            } else {
+                for (int child = first; child < first + count; child++) {
+                    queue.add(new double[]{boxDistanceKm(nodesOffset + child * NODE_BYTES, latitude, longitude, cosLat), child});
+                }
+            }
+        }
+
+        return Optional.empty();
+    }
+
+    // --- Node accessors (bbox as 4 floats, then first child, child count, leaf flag) ---
+
+    private boolean nodeContains(int node, double latitude, double longitude) {
+        return boxContains(nodesOffset + node * NODE_BYTES, latitude, longitude);
+    }
+
+    private int nodeFirst(int node) {
+        return buffer.getInt(nodesOffset + node * NODE_BYTES + 16);
+    }
+
+    private int nodeCount(int node) {
+        return buffer.getInt(nodesOffset + node * NODE_BYTES + 20);
+    }
+
+    private boolean nodeIsLeaf(int node) {
+        return buffer.getInt(nodesOffset + node * NODE_BYTES + 24) != 0;
+    }
+
+    // --- Feature accessors (bbox, centroid, first ring, ring count, name ref, surface ref) ---
+
+    private boolean featureBoxContains(int feature, double latitude, double longitude) {
+        return boxContains(featuresOffset + feature * FEATURE_BYTES, latitude, longitude);
+    }
+
+    private boolean boxContains(int offset, double latitude, double longitude) {
+        return latitude >= buffer.getFloat(offset) && longitude >= buffer.getFloat(offset + 4)
+                && latitude <= buffer.getFloat(offset + 8) && longitude <= buffer.getFloat(offset + 12);
+    }
+
+    private double boxDistanceKm(int offset, double latitude, double longitude, double cosLat) {
+        double clampedLat = Math.max(buffer.getFloat(offset), Math.min(latitude, buffer.getFloat(offset + 8)));
+        double clampedLon = Math.max(buffer.getFloat(offset + 4), Math.min(longitude, buffer.getFloat(offset + 12)));
+        double dy = (clampedLat - latitude) * KM_PER_DEGREE_LAT;
+        double dx = (clampedLon - longitude) * KM_PER_DEGREE_LON * cosLat;
+        return Math.sqrt(dx * dx + dy * dy);
+    }
+
+    /**
+     * Even-odd point-in-polygon test over all rings of a feature (handles holes and multipolygons)
+     */
+    private boolean featureContains(int feature, double latitude, double longitude) {
+        int base = featuresOffset + feature * FEATURE_BYTES;
+        int firstRing = buffer.getInt(base + 24);
+        int ringCount = buffer.getInt(base + 28);
+
+        int lat = (int) Math.round(latitude * COORDINATE_SCALE);
+        int lon = (int) Math.round(longitude * COORDINATE_SCALE);
+        boolean inside = false;
+
+        for (int ring = firstRing; ring < firstRing + ringCount; ring++) {
+            int ringOffset = ringsOffset + ring * RING_BYTES;
+            int firstPoint = buffer.getInt(ringOffset);
+            int pointCount = buffer.getInt(ringOffset + 4);
+
+            for (int i = 0, j = pointCount - 1; i < pointCount; j = i++) {
+                int pi = pointsOffset + (firstPoint + i) * POINT_BYTES;
+                int pj = pointsOffset + (firstPoint + j) * POINT_BYTES;
+                long latI = buffer.getInt(pi);
+                long lonI = buffer.getInt(pi + 4);
+                long latJ = buffer.getInt(pj);
+                long lonJ = buffer.getInt(pj + 4);
+
+                if ((latI > lat) != (latJ > lat)) {
+                    double crossLon = (double) (lonJ - lonI) * (lat - latI) / (latJ - latI) + lonI;
+                    if (lon < crossLon) {
+                        inside = !inside;
+                    }
+                }
+            }
+        }
+
+        return inside;
+    }
+
+    /**
+     * Distance from a point to a feature outline in km (0 if inside), using a local equirectangular projection
+     */
+    private double featureDistanceKm(int feature, double latitude, double longitude, double cosLat) {
+        int base = featuresOffset + feature * FEATURE_BYTES;
+        int firstRing = buffer.getInt(base + 24);
+        int ringCount = buffer.getInt(base + 28);
+
+        if (ringCount == 0) {
+            // Point feature (beach mapped as a node)
+            double dy = (buffer.getFloat(base + 16) - latitude) * KM_PER_DEGREE_LAT;
+            double dx = (buffer.getFloat(base + 20) - longitude) * KM_PER_DEGREE_LON * cosLat;
+            return Math.sqrt(dx * dx + dy * dy);
+        }
+
+        if (featureContains(feature, latitude, longitude)) {
+            return 0.0;
+        }
+
+        double best = Double.MAX_VALUE;
+        for (int ring = firstRing; ring < firstRing + ringCount; ring++) {
+            int ringOffset = ringsOffset + ring * RING_BYTES;
+            int firstPoint = buffer.getInt(ringOffset);
+            int pointCount = buffer.getInt(ringOffset + 4);
+
+            for (int i = 0, j = pointCount - 1; i < pointCount; j = i++) {
+                int pi = pointsOffset + (firstPoint + i) * POINT_BYTES;
+                int pj = pointsOffset + (firstPoint + j) * POINT_BYTES;
+
+                double ax = (buffer.getInt(pi + 4) / COORDINATE_SCALE - longitude) * KM_PER_DEGREE_LON * cosLat;
+                double ay = (buffer.getInt(pi) / COORDINATE_SCALE - latitude) * KM_PER_DEGREE_LAT;
+                double bx = (buffer.getInt(pj + 4) / COORDINATE_SCALE - longitude) * KM_PER_DEGREE_LON * cosLat;
+                double by = (buffer.getInt(pj) / COORDINATE_SCALE - latitude) * KM_PER_DEGREE_LAT;
+
+                best = Math.min(best, distanceToSegment(ax, ay, bx, by));
+            }
+        }
+
+        return best;
+    }
+
+    /**
+     * Distance from the origin to segment AB
+     */
+    private static double distanceToSegment(double ax, double ay, double bx, double by) {
+        double dx = bx - ax;
+        double dy = by - ay;
+        double lengthSquared = dx * dx + dy * dy;
+
+        double t = lengthSquared == 0 ? 0 : Math.max(0, Math.min(1, -(ax * dx + ay * dy) / lengthSquared));
+        double px = ax + t * dx;
+        double py = ay + t * dy;
+        return Math.sqrt(px * px + py * py);
+    }
+
+    private Match toMatch(int feature, double distanceKm) {
+        int base = featuresOffset + feature * FEATURE_BYTES;
+        return new Match(
+                readString(buffer.getInt(base + 32)),
+                readString(buffer.getInt(base + 36)),
+                distanceKm,
+                buffer.getFloat(base + 16),
+                buffer.getFloat(base + 20)
+        );
+    }
+
+    /**
+     * Strings are stored as unsigned 16-bit length followed by UTF-8 bytes
+     */
+    private String readString(int ref) {
+        if (ref == NO_STRING) {
+            return null;
+        }
+        int offset = stringsOffset + ref;
+        int length = buffer.getShort(offset) & 0xFFFF;
+        byte[] bytes = new byte[length];
+        buffer.get(offset + 2, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,463 @@
+package de.telekom.bot.geo;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Builds a {@link BeachPolygonIndex} file from a GeoJSON export of OSM beaches.
+ * <p>
+ * The input is a GeoJSON FeatureCollection, e.g. created from a Geofabrik Spain extract with:
+ * <pre>
+ *   osmium tags-filter spain-latest.osm.pbf nwr/natural=beach -o beaches.osm.pbf
+ *   osmium export beaches.osm.pbf -o beaches.geojson
+ * </pre>
+ * Features are read one at a time, so the full GeoJSON document is never held in memory.
+ * Polygons and multipolygons keep all their rings (holes are handled by the even-odd rule),
+ * beaches mapped as single nodes are kept as points.
+ */
+public class BeachPolygonIndexBuilder {
+
+    // R-tree fan-out; 16 entries per node keeps nodes within one cache line pair
+    private static final int NODE_CAPACITY = 16;
+
+    private final List<Feature> features = new ArrayList<>();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private static final class Feature {
+        final String name;
+        final String surface;
+        final List<int[]> rings = new ArrayList<>(); // each ring: lat0, lon0, lat1, lon1, ... in micro-degrees
+        double minLat = Double.MAX_VALUE;
+        double minLon = Double.MAX_VALUE;
+        double maxLat = -Double.MAX_VALUE;
+        double maxLon = -Double.MAX_VALUE;
+        double centroidLat;
+        double centroidLon;
+
+        Feature(String name, String surface) {
+            this.name = name;
+            this.surface = surface;
+        }
+
+        double centerLat() {
+            return (minLat + maxLat) / 2;
+        }
+
+        double centerLon() {
+            return (minLon + maxLon) / 2;
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("Usage: BeachPolygonIndexBuilder <beaches.geojson> <output.idx>");
+            System.exit(1);
+        }
+
+        long start = System.currentTimeMillis();
+        BeachPolygonIndexBuilder builder = new BeachPolygonIndexBuilder();
+        try (InputStream in = Files.newInputStream(Paths.get(args[0]))) {
+            builder.readGeoJson(in);
+        }
+        builder.writeTo(Paths.get(args[1]));
+
+        System.out.printf("Indexed %d beaches into %s in %dms%n",
+                builder.size(), args[1], System.currentTimeMillis() - start);
+    }
+
+    public int size() {
+        return features.size();
+    }
+
+    /**
+     * Read every natural=beach feature of a GeoJSON FeatureCollection
+     */
+    public void readGeoJson(InputStream in) throws IOException {
+        try (JsonParser parser = objectMapper.getFactory().createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("GeoJSON must start with an object");
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+
+                if ("features".equals(field) && parser.currentToken() == JsonToken.START_ARRAY) {
+                    // Materialise one feature at a time, never the whole collection
+                    while (parser.nextToken() == JsonToken.START_OBJECT) {
+                        addFeature(objectMapper.readTree(parser));
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+    }
+
+    /**
+     * Add a single GeoJSON feature
+     */
+    public void addFeature(JsonNode featureNode) {
+        JsonNode properties = featureNode.path("properties");
+        String natural = properties.path("natural").asText("");
+        if (!natural.isEmpty() && !"beach".equals(natural)) {
+            return;
+        }
+
+        JsonNode geometry = featureNode.path("geometry");
+        String type = geometry.path("type").asText("");
+        JsonNode coordinates = geometry.path("coordinates");
+
+        Feature feature = new Feature(textOrNull(properties, "name"), textOrNull(properties, "surface"));
+
+        switch (type) {
+            case "Point" -> {
+                double lon = coordinates.path(0).asDouble();
+                double lat = coordinates.path(1).asDouble();
+                feature.minLat = feature.maxLat = feature.centroidLat = lat;
+                feature.minLon = feature.maxLon = feature.centroidLon = lon;
+            }
+            case "Polygon" -> addPolygon(feature, coordinates);
+            case "MultiPolygon" -> {
+                for (JsonNode polygon : coordinates) {
+                    addPolygon(feature, polygon);
+                }
+            }
+            default -> {
+                return; // Lines and other geometries carry no area to query
+            }
+        }
+
+        if (!"Point".equals(type)) {
+            if (feature.rings.isEmpty()) {
+                return;
+            }
+            computeCentroid(feature);
+        }
+
+        features.add(feature);
+    }
+
+    private void addPolygon(Feature feature, JsonNode polygon) {
+        for (JsonNode ring : polygon) {
+            if (ring.size() < 3) {
+                continue;
+            }
+            int[] points = new int[ring.size() * 2];
+            int i = 0;
+            for (JsonNode position : ring) {
+                double lon = position.path(0).asDouble();
+                double lat = position.path(1).asDouble();
+                points[i++] = (int) Math.round(lat * BeachPolygonIndex.COORDINATE_SCALE);
+                points[i++] = (int) Math.round(lon * BeachPolygonIndex.COORDINATE_SCALE);
+
+                feature.minLat = Math.min(feature.minLat, lat);
+                feature.minLon = Math.min(feature.minLon, lon);
+                feature.maxLat = Math.max(feature.maxLat, lat);
+                feature.maxLon = Math.max(feature.maxLon, lon);
+            }
+            feature.rings.add(points);
+        }
+    }
+
+    /**
+     * Area-weighted centroid of the largest ring (falls back to the bbox center for degenerate rings)
+     */
+    private void computeCentroid(Feature feature) {
+        double bestArea = 0;
+        feature.centroidLat = feature.centerLat();
+        feature.centroidLon = feature.centerLon();
+
+        for (int[] ring : feature.rings) {
+            int n = ring.length / 2;
+            // Work relative to the first vertex to keep the products small and precise
+            double originY = ring[0];
+            double originX = ring[1];
+            double area = 0;
+            double cx = 0;
+            double cy = 0;
+            for (int i = 0, j = n - 1; i < n; j = i++) {
+                double xi = ring[i * 2 + 1] - originX, yi = ring[i * 2] - originY;
+                double xj = ring[j * 2 + 1] - originX, yj = ring[j * 2] - originY;
+                double cross = xj * yi - xi * yj;
+                area += cross;
+                cx += (xj + xi) * cross;
+                cy += (yj + yi) * cross;
+            }
+            if (Math.abs(area) > bestArea) {
+                bestArea = Math.abs(area);
+                feature.centroidLon = (originX + cx / (3 * area)) / BeachPolygonIndex.COORDINATE_SCALE;
+                feature.centroidLat = (originY + cy / (3 * area)) / BeachPolygonIndex.COORDINATE_SCALE;
+            }
+        }
+    }
+
+    /**
+     * Pack the features into an STR R-tree and write the index file atomically
+     */
+    public void writeTo(Path output) throws IOException {
+        ByteBuffer buffer = build();
+        Path parent = output.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Path tmp = output.resolveSibling(output.getFileName() + ".tmp");
+        try (OutputStream out = Files.newOutputStream(tmp)) {
+            out.write(buffer.array(), 0, buffer.limit());
+        }
+        Files.move(tmp, output, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Serialise the index into a heap buffer
+     */
+    public ByteBuffer build() {
+        // Leaf level: order features so every leaf covers a contiguous range
+        List<Feature> ordered = strOrder(features, f -> f.centerLon(), f -> f.centerLat());
+
+        List<Node> levelNodes = new ArrayList<>();
+        for (int i = 0; i < ordered.size(); i += NODE_CAPACITY) {
+            Node node = new Node(i, Math.min(NODE_CAPACITY, ordered.size() - i), true);
+            for (int f = node.first; f < node.first + node.count; f++) {
+                node.include(ordered.get(f).minLat, ordered.get(f).minLon, ordered.get(f).maxLat, ordered.get(f).maxLon);
+            }
+            levelNodes.add(node);
+        }
+
+        // Upper levels: nodes are appended level by level, children of a node are contiguous
+        List<Node> allNodes = new ArrayList<>();
+        while (!levelNodes.isEmpty()) {
+            List<Node> sortedLevel = levelNodes.size() > 1
+                    ? strOrder(levelNodes, Node::centerLon, Node::centerLat)
+                    : levelNodes;
+            int levelStart = allNodes.size();
+            allNodes.addAll(sortedLevel);
+
+            if (sortedLevel.size() == 1) {
+                break;
+            }
+
+            List<Node> parents = new ArrayList<>();
+            for (int i = 0; i < sortedLevel.size(); i += NODE_CAPACITY) {
+                int count = Math.min(NODE_CAPACITY, sortedLevel.size() - i);
+                Node parent = new Node(levelStart + i, count, false);
+                for (int c = i; c < i + count; c++) {
+                    Node child = sortedLevel.get(c);
+                    parent.include(child.minLat, child.minLon, child.maxLat, child.maxLon);
+                }
+                parents.add(parent);
+            }
+            levelNodes = parents;
+        }
+
+        // String pool
+        Map<String, Integer> stringRefs = new HashMap<>();
+        ByteArrayBuilder strings = new ByteArrayBuilder();
+
+        int ringCount = 0;
+        int pointCount = 0;
+        for (Feature feature : ordered) {
+            ringCount += feature.rings.size();
+            for (int[] ring : feature.rings) {
+                pointCount += ring.length / 2;
+            }
+        }
+
+        int[] nameRefs = new int[ordered.size()];
+        int[] surfaceRefs = new int[ordered.size()];
+        for (int i = 0; i < ordered.size(); i++) {
+            nameRefs[i] = intern(ordered.get(i).name, stringRefs, strings);
+            surfaceRefs[i] = intern(ordered.get(i).surface, stringRefs, strings);
+        }
+
+        int size = BeachPolygonIndex.HEADER_BYTES
+                + ordered.size() * BeachPolygonIndex.FEATURE_BYTES
+                + ringCount * BeachPolygonIndex.RING_BYTES
+                + pointCount * BeachPolygonIndex.POINT_BYTES
+                + allNodes.size() * BeachPolygonIndex.NODE_BYTES
+                + strings.size();
+
+        ByteBuffer buffer = ByteBuffer.allocate(size).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putInt(BeachPolygonIndex.MAGIC);
+        buffer.putInt(BeachPolygonIndex.VERSION);
+        buffer.putInt(ordered.size());
+        buffer.putInt(ringCount);
+        buffer.putInt(pointCount);
+        buffer.putInt(allNodes.size());
+        buffer.putInt(allNodes.isEmpty() ? 0 : allNodes.size() - 1); // root is the last node written
+        buffer.putInt(strings.size());
+
+        int ringIndex = 0;
+        for (int i = 0; i < ordered.size(); i++) {
+            Feature feature = ordered.get(i);
+            putBox(buffer, feature.minLat, feature.minLon, feature.maxLat, feature.maxLon);
+            buffer.putFloat((float) feature.centroidLat);
+            buffer.putFloat((float) feature.centroidLon);
+            buffer.putInt(ringIndex);
+            buffer.putInt(feature.rings.size());
+            buffer.putInt(nameRefs[i]);
+            buffer.putInt(surfaceRefs[i]);
+            ringIndex += feature.rings.size();
+        }
+
+        int pointIndex = 0;
+        for (Feature feature : ordered) {
+            for (int[] ring : feature.rings) {
+                buffer.putInt(pointIndex);
+                buffer.putInt(ring.length / 2);
+                pointIndex += ring.length / 2;
+            }
+        }
+
+        for (Feature feature : ordered) {
+            for (int[] ring : feature.rings) {
+                for (int value : ring) {
+                    buffer.putInt(value);
+                }
+            }
+        }
+
+        for (Node node : allNodes) {
+            putBox(buffer, node.minLat, node.minLon, node.maxLat, node.maxLon);
+            buffer.putInt(node.first);
+            buffer.putInt(node.count);
+            buffer.putInt(node.leaf ? 1 : 0);
+        }
+
+        buffer.put(strings.bytes(), 0, strings.size());
+        buffer.flip();
+        return buffer;
+    }
+
+    /**
+     * Sort-Tile-Recursive ordering: vertical slices by x, each slice sorted by y
+     */
+    private static <T> List<T> strOrder(List<T> items, ToDoubleFunction<T> x,
+                                        ToDoubleFunction<T> y) {
+        List<T> byX = new ArrayList<>(items);
+        byX.sort(Comparator.comparingDouble(x));
+
+        int leafCount = (int) Math.ceil(items.size() / (double) NODE_CAPACITY);
+        int sliceCount = (int) Math.ceil(Math.sqrt(leafCount));
+        int sliceSize = Math.max(1, sliceCount * NODE_CAPACITY);
+
+        List<T> ordered = new ArrayList<>(items.size());
+        for (int i = 0; i < byX.size(); i += sliceSize) {
+            List<T> slice = new ArrayList<>(byX.subList(i, Math.min(byX.size(), i + sliceSize)));
+            slice.sort(Comparator.comparingDouble(y));
+            ordered.addAll(slice);
+        }
+        return ordered;
+    }
+
+    /**
+     * Boxes are widened to the next float so rounding never shrinks them
+     */
+    private static void putBox(ByteBuffer buffer, double minLat, double minLon, double maxLat, double maxLon) {
+        buffer.putFloat(Math.nextDown((float) minLat));
+        buffer.putFloat(Math.nextDown((float) minLon));
+        buffer.putFloat(Math.nextUp((float) maxLat));
+        buffer.putFloat(Math.nextUp((float) maxLon));
+    }
+
+    private static int intern(String value, Map<String, Integer> refs, ByteArrayBuilder strings) {
+        if (value == null) {
+            return BeachPolygonIndex.NO_STRING;
+        }
+        return refs.computeIfAbsent(value, v -> {
+            byte[] bytes = v.getBytes(StandardCharsets.UTF_8);
+            int length = Math.min(bytes.length, 0xFFFF);
+            int ref = strings.size();
+            strings.append((byte) (length & 0xFF));          // little-endian unsigned short
+            strings.append((byte) ((length >>> 8) & 0xFF));
+            strings.append(bytes, length);
+            return ref;
+        });
+    }
+
+    private static String textOrNull(JsonNode properties, String field) {
+        String value = properties.path(field).asText("");
+        return value.isEmpty() ? null : value;
+    }
+
+    private static final class Node {
+        final int first;
+        final int count;
+        final boolean leaf;
+        double minLat = Double.MAX_VALUE;
+        double minLon = Double.MAX_VALUE;
+        double maxLat = -Double.MAX_VALUE;
+        double maxLon = -Double.MAX_VALUE;
+
+        Node(int first, int count, boolean leaf) {
+            this.first = first;
+            this.count = count;
+            this.leaf = leaf;
+        }
+
+        void include(double south, double west, double north, double east) {
+            minLat = Math.min(minLat, south);
+            minLon = Math.min(minLon, west);
+            maxLat = Math.max(maxLat, north);
+            maxLon = Math.max(maxLon, east);
+        }
+
+        double centerLat() {
+            return (minLat + maxLat) / 2;
+        }
+
+        double centerLon() {
+            return (minLon + maxLon) / 2;
+        }
+    }
+
+    private static final class ByteArrayBuilder {
+        private byte[] data = new byte[1024];
+        private int size;
+
+        void append(byte value) {
+            ensure(1);
+            data[size++] = value;
+        }
+
+        void append(byte[] values, int length) {
+            ensure(length);
+            System.arraycopy(values, 0, data, size, length);
+            size += length;
+        }
+
+        int size() {
+            return size;
+        }
+
+        byte[] bytes() {
+            return data;
+        }
+
+        private void ensure(int extra) {
+            if (size + extra > data.length) {
+                data = Arrays.copyOf(data, Math.max(data.length * 2, size + extra));
+            }
+        }
+    }
+}
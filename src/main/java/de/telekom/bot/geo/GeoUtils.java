@@ -0,0 +1,42 @@
+package de.telekom.bot.geo;
+
+/**
+ * Shared geographic helper functions
+ */
+public final class GeoUtils {
+
+    public static final double EARTH_RADIUS_KM = 6371.0;
+
+    private GeoUtils() {
+        // Utility class - prevent instantiation
+    }
+
+    /**
+     * Great-circle distance between two coordinates in kilometers (haversine formula)
+     */
+    public static double haversineKm(double lat1, double lon1, double lat2, double lon2) {
+        double latDistance = Math.toRadians(lat2 - lat1);
+        double lonDistance = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(latDistance / 2) * Math.sin(latDistance / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(lonDistance / 2) * Math.sin(lonDistance / 2);
+        double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+
+        return EARTH_RADIUS_KM * c;
+    }
+
+    /**
+     * Approximate number of degrees of latitude covering the given distance
+     */
+    public static double kmToLatDegrees(double km) {
+        return km / 111.32;
+    }
+
+    /**
+     * Approximate number of degrees of longitude covering the given distance at a latitude
+     */
+    public static double kmToLonDegrees(double km, double latitude) {
+        double cos = Math.cos(Math.toRadians(latitude));
+        return km / (111.32 * Math.max(cos, 0.01));
+    }
+}
@@ -0,0 +1,53 @@
+package de.telekom.bot.geo;
+
+/**
+ * Web-mercator ("slippy map") tile address, as used by OpenStreetMap tile servers.
+ * Tiles give a stable, coarse spatial key so nearby lookups share one cached upstream query.
+ */
+public record SlippyTile(int zoom, int x, int y) {
+
+    /**
+     * Tile containing the given coordinate at the given zoom level
+     */
+    public static SlippyTile containing(double latitude, double longitude, int zoom) {
+        int n = 1 << zoom;
+        double latRad = Math.toRadians(latitude);
+
+        int x = (int) Math.floor((longitude + 180.0) / 360.0 * n);
+        int y = (int) Math.floor((1.0 - Math.log(Math.tan(latRad) + 1.0 / Math.cos(latRad)) / Math.PI) / 2.0 * n);
+
+        return new SlippyTile(zoom, clamp(x, n), clamp(y, n));
+    }
+
+    public double west() {
+        return x / (double) (1 << zoom) * 360.0 - 180.0;
+    }
+
+    public double east() {
+        return (x + 1) / (double) (1 << zoom) * 360.0 - 180.0;
+    }
+
+    public double north() {
+        return tileYToLatitude(y);
+    }
+
+    public double south() {
+        return tileYToLatitude(y + 1);
+    }
+
+    /**
+     * Stable textual key, e.g. "12_2046_1552"
+     */
+    public String key() {
+        return zoom + "_" + x + "_" + y;
+    }
+
+    private double tileYToLatitude(int tileY) {
+        double n = Math.PI - 2.0 * Math.PI * tileY / (1 << zoom);
+        return Math.toDegrees(Math.atan(Math.sinh(n)));
+    }
+
+    private static int clamp(int value, int n) {
+        return Math.max(0, Math.min(n - 1, value));
+    }
+}
@@ -0,0 +1,243 @@
+package de.telekom.bot.geo;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Immutable k-nearest-neighbour index over points on the earth's surface.
+ * <p>
+ * Coordinates are stored as unit vectors, so the straight-line (chord) distance used while
+ * walking the 3D KD-tree orders points exactly like the great-circle distance, without
+ * longitude wrap-around or pole special cases. Only the final candidates get a haversine
+ * distance in kilometers. Instances are thread-safe.
+ *
+ * @param <T> Item type
+ */
+public final class SphericalKdTree<T> {
+
+    private final List<T> items;
+    // Tree nodes in implicit layout: the median of every [from, to) range is its node
+    private final double[][] coords;
+    private final byte[] axes;
+    private final double[] latitudes;
+    private final double[] longitudes;
+
+    /**
+     * Item with its great-circle distance from the query point
+     */
+    public record Neighbor<T>(T item, double distanceKm) {
+    }
+
+    private SphericalKdTree(List<T> items, double[][] coords, byte[] axes, double[] latitudes, double[] longitudes) {
+        this.items = items;
+        this.coords = coords;
+        this.axes = axes;
+        this.latitudes = latitudes;
+        this.longitudes = longitudes;
+    }
+
+    /**
+     * Build the index
+     *
+     * @param items     Items to index
+     * @param latitude  Latitude of an item in degrees
+     * @param longitude Longitude of an item in degrees
+     */
+    public static <T> SphericalKdTree<T> build(List<T> items, ToDoubleFunction<T> latitude, ToDoubleFunction<T> longitude) {
+        int n = items.size();
+        List<T> ordered = new ArrayList<>(items);
+        double[][] coords = new double[3][n];
+        double[] latitudes = new double[n];
+        double[] longitudes = new double[n];
+
+        for (int i = 0; i < n; i++) {
+            latitudes[i] = latitude.applyAsDouble(ordered.get(i));
+            longitudes[i] = longitude.applyAsDouble(ordered.get(i));
+            double lat = Math.toRadians(latitudes[i]);
+            double lon = Math.toRadians(longitudes[i]);
+            coords[0][i] = Math.cos(lat) * Math.cos(lon);
+            coords[1][i] = Math.cos(lat) * Math.sin(lon);
+            coords[2][i] = Math.sin(lat);
+        }
+
+        SphericalKdTree<T> tree = new SphericalKdTree<>(ordered, coords, new byte[n], latitudes, longitudes);
+        tree.buildRange(0, n);
+        return tree;
+    }
+
+    public int size() {
+        return items.size();
+    }
+
+    /**
+     * Find the nearest items, closest first
+     *
+     * @param maxDistanceKm Only items within this great-circle distance are returned
+     */
+    public List<Neighbor<T>> nearest(double latitude, double longitude, int k, double maxDistanceKm) {
+        if (k <= 0 || items.isEmpty()) {
+            return List.of();
+        }
+
+        double lat = Math.toRadians(latitude);
+        double lon = Math.toRadians(longitude);
+        double[] query = {Math.cos(lat) * Math.cos(lon), Math.cos(lat) * Math.sin(lon), Math.sin(lat)};
+
+        // Chords longer than the diameter cannot occur, so clamp the radius to half the globe
+        double angle = Math.min(maxDistanceKm / GeoUtils.EARTH_RADIUS_KM, Math.PI);
+        double maxChord = 2 * Math.sin(angle / 2);
+
+        Candidates candidates = new Candidates(Math.min(k, items.size()), maxChord * maxChord);
+        search(0, items.size(), query, candidates);
+
+        List<Neighbor<T>> result = new ArrayList<>(candidates.size);
+        for (int i = 0; i < candidates.size; i++) {
+            int index = candidates.indexes[i];
+            result.add(new Neighbor<>(items.get(index),
+                    GeoUtils.haversineKm(latitude, longitude, latitudes[index], longitudes[index])));
+        }
+        return result;
+    }
+
+    private void buildRange(int from, int to) {
+        if (to - from <= 1) {
+            return;
+        }
+
+        int axis = widestAxis(from, to);
+        int median = (from + to) >>> 1;
+        select(from, to - 1, median, axis);
+        axes[median] = (byte) axis;
+
+        buildRange(from, median);
+        buildRange(median + 1, to);
+    }
+
+    private int widestAxis(int from, int to) {
+        int widest = 0;
+        double widestSpread = -1;
+        for (int axis = 0; axis < 3; axis++) {
+            double min = Double.POSITIVE_INFINITY;
+            double max = Double.NEGATIVE_INFINITY;
+            for (int i = from; i < to; i++) {
+                min = Math.min(min, coords[axis][i]);
+                max = Math.max(max, coords[axis][i]);
+            }
+            if (max - min > widestSpread) {
+                widestSpread = max - min;
+                widest = axis;
+            }
+        }
+        return widest;
+    }
+
+    // Quickselect: afterwards position nth holds the median and the range is partitioned around it
+    private void select(int left, int right, int nth, int axis) {
+        while (left < right) {
+            double pivot = coords[axis][(left + right) >>> 1];
+            int i = left;
+            int j = right;
+            while (i <= j) {
+                while (coords[axis][i] < pivot) {
+                    i++;
+                }
+                while (coords[axis][j] > pivot) {
+                    j--;
+                }
+                if (i <= j) {
+                    swap(i++, j--);
+                }
+            }
+            if (nth <= j) {
+                right = j;
+            } else if (nth >= i) {
+                left = i;
+            } else {
+                return;
+            }
+        }
+    }
+
+    private void swap(int a, int b) {
+        for (double[] axis : coords) {
+            double tmp = axis[a];
+            axis[a] = axis[b];
+            axis[b] = tmp;
+        }
+        double lat = latitudes[a];
+        latitudes[a] = latitudes[b];
+        latitudes[b] = lat;
+        double lon = longitudes[a];
+        longitudes[a] = longitudes[b];
+        longitudes[b] = lon;
+        Collections.swap(items, a, b);
+    }
+
+    private void search(int from, int to, double[] query, Candidates candidates) {
+        if (from >= to) {
+            return;
+        }
+
+        int node = (from + to) >>> 1;
+        double dx = query[0] - coords[0][node];
+        double dy = query[1] - coords[1][node];
+        double dz = query[2] - coords[2][node];
+        candidates.offer(node, dx * dx + dy * dy + dz * dz);
+
+        if (to - from == 1) {
+            return;
+        }
+
+        // Visit the side containing the query first; the other side only if the splitting
+        // plane is closer than the current k-th candidate
+        double diff = query[axes[node]] - coords[axes[node]][node];
+        if (diff < 0) {
+            search(from, node, query, candidates);
+            if (diff * diff <= candidates.bound()) {
+                search(node + 1, to, query, candidates);
+            }
+        } else {
+            search(node + 1, to, query, candidates);
+            if (diff * diff <= candidates.bound()) {
+                search(from, node, query, candidates);
+            }
+        }
+    }
+
+    /**
+     * Best k candidates by squared chord length, kept sorted by insertion (k is small)
+     */
+    private static final class Candidates {
+        private final int[] indexes;
+        private final double[] distances;
+        private final double radius;
+        private int size;
+
+        Candidates(int k, double radius) {
+            this.indexes = new int[k];
+            this.distances = new double[k];
+            this.radius = radius;
+        }
+
+        double bound() {
+            return size == indexes.length ? Math.min(distances[size - 1], radius) : radius;
+        }
+
+        void offer(int index, double distance) {
+            if (distance > radius || (size == indexes.length && distance >= distances[size - 1])) {
+                return;
+            }
+
+            int position = size == indexes.length ? size - 1 : size++;
+            while (position > 0 && distances[position - 1] > distance) {
+                indexes[position] = indexes[position - 1];
+                distances[position] = distances[position - 1];
+                position--;
+            }
+            indexes[position] = index;
+            distances[position] = distance;
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package de.telekom.bot.geo;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Read-only, memory-mapped sea surface temperature climatology on a regular lat/lon grid.
+ * <p>
+ * The file is produced by {@link SstClimatologyBuilder}: a small header followed by one float
+ * grid per month (mean SST in °C, NaN over land). An estimate is a bilinear interpolation of
+ * the four surrounding cells in the two months around the date, so every lookup reads eight
+ * floats no matter how large the grid is.
+ */
+public final class SstClimatology {
+
+    static final int MAGIC = 0x53535443; // "SSTC"
+    static final int VERSION = 1;
+
+    static final int HEADER_BYTES = 48;
+    static final int MONTHS = 12;
+
+    // Coastal beaches often sit in land cells of a coarse grid: look this many cells around
+    private static final int COAST_SEARCH_CELLS = 2;
+    private static final double DAYS_PER_MONTH = 365.25 / MONTHS;
+
+    private final ByteBuffer buffer;
+    private final int latCount;
+    private final int lonCount;
+    private final double latOrigin;
+    private final double lonOrigin;
+    private final double step;
+
+    private SstClimatology(ByteBuffer buffer) {
+        this.buffer = buffer;
+
+        if (buffer.capacity() < HEADER_BYTES || buffer.getInt(0) != MAGIC) {
+            throw new IllegalArgumentException("Not an SST climatology file");
+        }
+        int version = buffer.getInt(4);
+        if (version != VERSION) {
+            throw new IllegalArgumentException("Unsupported SST climatology version: " + version);
+        }
+
+        this.latCount = buffer.getInt(8);
+        this.lonCount = buffer.getInt(12);
+        int months = buffer.getInt(16);
+        this.latOrigin = buffer.getDouble(24);
+        this.lonOrigin = buffer.getDouble(32);
+        this.step = buffer.getDouble(40);
+
+        if (months != MONTHS || latCount <= 0 || lonCount <= 0 || !(step > 0)) {
+            throw new IllegalArgumentException("Invalid SST climatology header");
+        }
+        if (HEADER_BYTES + (long) MONTHS * latCount * lonCount * Float.BYTES > buffer.capacity()) {
+            throw new IllegalArgumentException("SST climatology file is truncated");
+        }
+    }
+
+    /**
+     * Memory-map a climatology file
+     */
+    public static SstClimatology open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return new SstClimatology(mapped.order(ByteOrder.LITTLE_ENDIAN));
+        }
+    }
+
+    /**
+     * Wrap a climatology that is already in memory (used by tests and the builder)
+     */
+    public static SstClimatology wrap(ByteBuffer buffer) {
+        return new SstClimatology(buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN));
+    }
+
+    public int cellCount() {
+        return latCount * lonCount;
+    }
+
+    /**
+     * Climatological SST at a coordinate for a day of the year
+     *
+     * @param dayOfYear 1-366
+     * @return Mean temperature in °C, NaN outside the grid or far from the sea
+     */
+    public double estimate(double latitude, double longitude, int dayOfYear) {
+        // Monthly means are centred mid-month; interpolate between the two around the date
+        double monthPosition = (dayOfYear - 0.5) / DAYS_PER_MONTH - 0.5;
+        int before = Math.floorMod((int) Math.floor(monthPosition), MONTHS);
+        int after = (before + 1) % MONTHS;
+        double weight = monthPosition - Math.floor(monthPosition);
+
+        double first = interpolate(before, latitude, longitude);
+        double second = interpolate(after, latitude, longitude);
+        if (Double.isNaN(first) || Double.isNaN(second)) {
+            return Double.isNaN(first) ? second : first;
+        }
+        return first + (second - first) * weight;
+    }
+
+    /**
+     * Bilinear interpolation over the sea cells around the point; falls back to the nearest sea
+     * cell when all four are land
+     */
+    private double interpolate(int month, double latitude, double longitude) {
+        double y = (latitude - latOrigin) / step;
+        double x = (longitude - lonOrigin) / step;
+        if (y < -COAST_SEARCH_CELLS || x < -COAST_SEARCH_CELLS
+                || y > latCount - 1 + COAST_SEARCH_CELLS || x > lonCount - 1 + COAST_SEARCH_CELLS) {
+            return Double.NaN;
+        }
+
+        int row = (int) Math.floor(y);
+        int column = (int) Math.floor(x);
+        double dy = y - row;
+        double dx = x - column;
+
+        double sum = 0;
+        double weights = 0;
+        for (int i = 0; i <= 1; i++) {
+            for (int j = 0; j <= 1; j++) {
+                float value = value(month, row + i, column + j);
+                if (!Float.isNaN(value)) {
+                    double weight = (i == 0 ? 1 - dy : dy) * (j == 0 ? 1 - dx : dx);
+                    sum += value * weight;
+                    weights += weight;
+                }
+            }
+        }
+        if (weights > 1e-9) {
+            return sum / weights;
+        }
+
+        int nearestRow = (int) Math.round(y);
+        int nearestColumn = (int) Math.round(x);
+        double best = Double.NaN;
+        double bestDistance = Double.MAX_VALUE;
+        for (int i = -COAST_SEARCH_CELLS; i <= COAST_SEARCH_CELLS; i++) {
+            for (int j = -COAST_SEARCH_CELLS; j <= COAST_SEARCH_CELLS; j++) {
+                float value = value(month, nearestRow + i, nearestColumn + j);
+                double distance = Math.hypot(nearestRow + i - y, nearestColumn + j - x);
+                if (!Float.isNaN(value) && distance < bestDistance) {
+                    best = value;
+                    bestDistance = distance;
+                }
+            }
+        }
+        return best;
+    }
+
+    private float value(int month, int row, int column) {
+        if (row < 0 || row >= latCount || column < 0 || column >= lonCount) {
+            return Float.NaN;
+        }
+        long index = ((long) month * latCount + row) * lonCount + column;
+        return buffer.getFloat((int) (HEADER_BYTES + index * Float.BYTES));
+    }
+}
@@ -0,0 +1,164 @@
+package de.telekom.bot.geo;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * Builds an {@link SstClimatology} file from a CSV of gridded monthly mean SST.
+ * <p>
+ * Every line holds one grid cell: <code>lat,lon,jan,feb,...,dec</code> in °C, empty or "nan" for
+ * land. Such a table can be exported from any gridded climatology, e.g. the NOAA OISST
+ * long-term monthly means cut to the Iberian coast (lon -19..6, lat 26..46). The grid origin
+ * and spacing are derived from the coordinates; cells missing from the CSV are stored as land.
+ */
+public class SstClimatologyBuilder {
+
+    private final List<double[]> cells = new ArrayList<>();
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("Usage: SstClimatologyBuilder <sst-monthly.csv> <output.bin>");
+            System.exit(1);
+        }
+
+        long start = System.currentTimeMillis();
+        SstClimatologyBuilder builder = new SstClimatologyBuilder();
+        try (InputStream in = Files.newInputStream(Paths.get(args[0]))) {
+            builder.readCsv(in);
+        }
+        builder.writeTo(Paths.get(args[1]));
+
+        System.out.printf("Wrote SST climatology with %d cells to %s in %dms%n",
+                builder.size(), args[1], System.currentTimeMillis() - start);
+    }
+
+    public int size() {
+        return cells.size();
+    }
+
+    /**
+     * Read grid cells; blank lines, # comments and a header line are skipped
+     */
+    public void readCsv(InputStream in) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        String line;
+        int lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            line = line.trim();
+            if (line.isEmpty() || line.startsWith("#") || Character.isLetter(line.charAt(0))) {
+                continue;
+            }
+
+            String[] parts = line.split(",", -1);
+            if (parts.length != 2 + SstClimatology.MONTHS) {
+                throw new IOException("Line " + lineNumber + ": expected lat,lon and 12 monthly values");
+            }
+            double[] cell = new double[parts.length];
+            for (int i = 0; i < parts.length; i++) {
+                String value = parts[i].trim();
+                cell[i] = value.isEmpty() || value.equalsIgnoreCase("nan") ? Double.NaN : Double.parseDouble(value);
+            }
+            addCell(cell[0], cell[1], Arrays.copyOfRange(cell, 2, cell.length));
+        }
+    }
+
+    /**
+     * Add one grid cell
+     *
+     * @param monthly Twelve monthly means in °C, NaN for land
+     */
+    public void addCell(double latitude, double longitude, double[] monthly) {
+        double[] cell = new double[2 + SstClimatology.MONTHS];
+        cell[0] = latitude;
+        cell[1] = longitude;
+        System.arraycopy(monthly, 0, cell, 2, SstClimatology.MONTHS);
+        cells.add(cell);
+    }
+
+    public void writeTo(Path output) throws IOException {
+        ByteBuffer buffer = build();
+        Path parent = output.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Path tmp = output.resolveSibling(output.getFileName() + ".tmp");
+        try (OutputStream out = Files.newOutputStream(tmp)) {
+            out.write(buffer.array(), 0, buffer.limit());
+        }
+        Files.move(tmp, output, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Serialise the grid into a heap buffer
+     */
+    public ByteBuffer build() {
+        if (cells.isEmpty()) {
+            throw new IllegalStateException("No grid cells");
+        }
+
+        TreeSet<Double> latitudes = new TreeSet<>();
+        TreeSet<Double> longitudes = new TreeSet<>();
+        for (double[] cell : cells) {
+            latitudes.add(cell[0]);
+            longitudes.add(cell[1]);
+        }
+        double step = Math.min(smallestGap(latitudes), smallestGap(longitudes));
+        double latOrigin = latitudes.first();
+        double lonOrigin = longitudes.first();
+        int latCount = (int) Math.round((latitudes.last() - latOrigin) / step) + 1;
+        int lonCount = (int) Math.round((longitudes.last() - lonOrigin) / step) + 1;
+
+        int gridSize = latCount * lonCount;
+        ByteBuffer buffer = ByteBuffer.allocate(SstClimatology.HEADER_BYTES
+                + SstClimatology.MONTHS * gridSize * Float.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putInt(0, SstClimatology.MAGIC);
+        buffer.putInt(4, SstClimatology.VERSION);
+        buffer.putInt(8, latCount);
+        buffer.putInt(12, lonCount);
+        buffer.putInt(16, SstClimatology.MONTHS);
+        buffer.putDouble(24, latOrigin);
+        buffer.putDouble(32, lonOrigin);
+        buffer.putDouble(40, step);
+
+        for (int i = 0; i < SstClimatology.MONTHS * gridSize; i++) {
+            buffer.putFloat(SstClimatology.HEADER_BYTES + i * Float.BYTES, Float.NaN);
+        }
+        for (double[] cell : cells) {
+            int row = (int) Math.round((cell[0] - latOrigin) / step);
+            int column = (int) Math.round((cell[1] - lonOrigin) / step);
+            for (int month = 0; month < SstClimatology.MONTHS; month++) {
+                int index = (month * latCount + row) * lonCount + column;
+                buffer.putFloat(SstClimatology.HEADER_BYTES + index * Float.BYTES, (float) cell[2 + month]);
+            }
+        }
+        return buffer;
+    }
+
+    private static double smallestGap(TreeSet<Double> values) {
+        double gap = Double.MAX_VALUE;
+        Double previous = null;
+        for (double value : values) {
+            if (previous != null) {
+                gap = Math.min(gap, value - previous);
+            }
+            previous = value;
+        }
+        // A single row or column: any positive step works
+        return gap == Double.MAX_VALUE ? 1.0 : gap;
+    }
+}
@@ -1,15 +1,21 @@
 package de.telekom.bot.handler;
 
 import de.telekom.bot.model.BeachLocation;
+import de.telekom.bot.model.CatalogBeach;
 import de.telekom.bot.model.WeatherInfo;
+import de.telekom.bot.service.BeachCatalog;
 import de.telekom.bot.service.BeachCharacteristicsService;
+import de.telekom.bot.service.ContentIndex;
 import de.telekom.bot.service.GeocodeService;
 import de.telekom.bot.service.UserLanguageService;
 import de.telekom.bot.service.WeatherService;
+import de.telekom.bot.util.LogSampler;
+import de.telekom.bot.util.RequestTrace;
 import de.telekom.bot.util.TypoCorrection;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Component;
 import org.telegram.telegrambots.bots.TelegramLongPollingBot;
 import org.telegram.telegrambots.meta.api.methods.send.SendMessage;
@@ -20,11 +26,15 @@ import org.telegram.telegrambots.meta.api.objects.Update;
 public class BeachNameHandler implements CommandHandler {
 
     private static final Logger logger = LoggerFactory.getLogger(BeachNameHandler.class);
+    private static final LogSampler overloadSampler = new LogSampler(5);
 
     private final GeocodeService geocodeService;
     private final WeatherService weatherService;
+    @Lazy
     private final BeachCharacteristicsService beachCharacteristicsService;
     private final UserLanguageService userLanguageService;
+    private final BeachCatalog beachCatalog;
+    private final ContentIndex contentIndex;
 
     @Override
     public String getCommand() {
@@ -39,34 +49,58 @@ public class BeachNameHandler implements CommandHandler {
         // Get user's preferred language
         String userLanguage = userLanguageService.getUserLanguage(chatId);
 
-        logger.info("Processing beach request for: {}", beachName);
+        logger.debug("Processing beach request for: {}", beachName);
+        RequestTrace trace = RequestTrace.start("beach", chatId).field("query", beachName);
 
+        // Failed requests get their summary line too
+        String outcome = "error";
+        try {
+            outcome = answer(update, bot, chatId, beachName, userLanguage, trace);
+        } catch (Exception e) {
+            trace.field("error", e.getClass().getSimpleName());
+            throw e;
+        } finally {
+            trace.finish(outcome);
+        }
+    }
+
+    /**
+     * Look up the beach and reply
+     *
+     * @return Outcome for the request trace
+     */
+    private String answer(Update update, TelegramLongPollingBot bot, long chatId, String beachName,
+                          String userLanguage, RequestTrace trace) throws Exception {
         // Get beach coordinates using GeocodeService
         BeachLocation beachLocation = geocodeService.findBeachCoordinates(beachName);
+        trace.mark("geocode");
 
         // Enhance with beach surface and characteristics if found
         if (beachLocation.isFound() && beachCharacteristicsService.isEnabled()) {
             try {
-                beachCharacteristicsService.enhanceBeachLocation(beachLocation);
-                logger.info("Enhanced beach with surface info: {}", beachLocation.getBeachSurface());
+                beachLocation = beachCharacteristicsService.enhanceBeachLocation(beachLocation);
+                logger.debug("Enhanced beach with surface info: {}", beachLocation.getBeachSurface());
             } catch (Exception e) {
                 logger.error("Failed to enhance beach characteristics", e);
             }
+            trace.mark("enhance");
         }
 
         // If not found, check for typos and suggest corrections
         if (!beachLocation.isFound()) {
             TypoCorrection.TypoCorrectionSuggestion suggestion = TypoCorrection.findBestCorrection(beachName);
             if (suggestion != null) {
-                logger.info("Suggesting typo correction: '{}' -> '{}'", beachName, suggestion.getSuggestedCorrection());
+                logger.debug("Suggesting typo correction: '{}' -> '{}'", beachName, suggestion.getSuggestedCorrection());
                 sendTypoCorrectionMessage(chatId, suggestion, bot, userLanguage, update);
-                return; // Don't send the "not found" message
+                trace.mark("reply").field("suggestion", suggestion.getSuggestedCorrection());
+                return "typo"; // Don't send the "not found" message
             }
         }
 
         // Send "searching" notification if beach was found
         if (beachLocation.isFound()) {
             sendSearchingNotification(chatId, beachLocation, bot, userLanguage, update);
+            trace.mark("notify");
         }
 
         // Get weather information if beach was found
@@ -75,19 +109,20 @@ public class BeachNameHandler implements CommandHandler {
             try {
                 if (weatherService.isEnabled()) {
                     weatherInfo = weatherService.getWeatherInfo(beachLocation);
-                    logger.info("Weather info retrieved for {}: air={}°C, water={}°C",
+                    logger.debug("Weather info retrieved for {}: air={}°C, water={}°C",
                             beachLocation.getName(),
                             weatherInfo.getFormattedAirTemperature(),
                             weatherInfo.getFormattedWaterTemperature());
                 } else {
                     // Use mock data for demonstration
                     weatherInfo = weatherService.getMockWeatherInfo(beachLocation);
-                    logger.info("Using mock weather data for demonstration");
+                    logger.debug("Using mock weather data for demonstration");
                 }
             } catch (Exception e) {
                 logger.error("Failed to get weather info for {}", beachLocation.getName(), e);
                 weatherInfo = new WeatherInfo(); // Empty weather info
             }
+            trace.mark("weather");
         }
 
         // Format the beach information response with weather data
@@ -107,6 +142,52 @@ public class BeachNameHandler implements CommandHandler {
         }
 
         bot.execute(message);
+        trace.mark("reply");
+
+        if (beachLocation.isFound()) {
+            trace.field("beach", beachLocation.getName()).field("surface", beachLocation.getBeachSurface());
+            if (weatherInfo != null && weatherInfo.isAirTempFound()) {
+                trace.field("air", weatherInfo.getAirTemperature());
+            }
+            if (weatherInfo != null && weatherInfo.isWaterTempFound()) {
+                trace.field("water", weatherInfo.getWaterTemperature());
+            }
+        }
+        return beachLocation.isFound() ? "found" : "not_found";
+    }
+
+    /**
+     * Under overload, answer catalogue beaches from the weather cache only
+     */
+    @Override
+    public boolean handleOverloaded(Update update, TelegramLongPollingBot bot) throws Exception {
+        long chatId = update.getMessage().getChatId();
+        String beachName = update.getMessage().getText().trim();
+
+        BeachLocation beachLocation = beachCatalog.findByName(beachName).map(CatalogBeach::toBeachLocation).orElse(null);
+        WeatherInfo weatherInfo = beachLocation != null
+                ? weatherService.getCachedWeatherInfo(beachLocation.getLatitude(), beachLocation.getLongitude())
+                : null;
+        if (weatherInfo == null) {
+            return false;
+        }
+
+        String userLanguage = userLanguageService.getUserLanguage(chatId);
+        // Shed lookups come in bursts, so only a few per second are logged
+        if (logger.isDebugEnabled() && overloadSampler.sample()) {
+            logger.debug("Answering {} from cached conditions while overloaded ({} earlier not logged)",
+                    beachName, overloadSampler.takeSuppressed());
+        }
+        String notice = userLanguage.equals("es")
+                ? "⏳ _Mucho tráfico ahora mismo: estas son las últimas condiciones guardadas._\n\n"
+                : "⏳ _Busy right now: these are the latest saved conditions._\n\n";
+
+        SendMessage message = new SendMessage(String.valueOf(chatId),
+                notice + formatBeachInformation(beachName, beachLocation, weatherInfo, userLanguage));
+        message.setParseMode("Markdown");
+        message.setReplyToMessageId(update.getMessage().getMessageId());
+        bot.execute(message);
+        return true;
     }
 
     private String formatBeachInformation(String beachName, BeachLocation location, WeatherInfo weatherInfo, String language) {
@@ -257,16 +338,15 @@ public class BeachNameHandler implements CommandHandler {
         StringBuilder attractions = new StringBuilder();
         attractions.append(language.equals("es") ? "🏺 **Acerca de esta área:**\n" : "🏺 **About this area:**\n");
         
-        String locationName = location.getName().toLowerCase();
-        String displayName = location.getDisplayName() != null ? location.getDisplayName().toLowerCase() : "";
-        
         // Generate location-specific attractions info
-        String attractionInfo = getAttractionInfo(locationName, displayName);
+        String attractionInfo = getAttractionInfo(location.getName(), location.getDisplayName(), language);
         
         if (!attractionInfo.isEmpty()) {
             attractions.append(attractionInfo).append("\n\n");
-        } else {
+        } else if (language.equals("es")) {
             // Generic fallback
+            attractions.append("Esta preciosa playa española es ideal para nadar, tomar el sol y disfrutar de la costa mediterránea.\n\n");
+        } else {
             attractions.append("This beautiful Spanish beach offers great opportunities for swimming, sunbathing, and enjoying the Mediterranean coastline.\n\n");
         }
         
@@ -276,85 +356,9 @@ public class BeachNameHandler implements CommandHandler {
     /**
      * Get specific attraction information for known locations
      */
-    private String getAttractionInfo(String locationName, String displayName) {
-        // Benidorm
-        if (locationName.contains("benidorm") || displayName.contains("benidorm")) {
-            return "Benidorm is famous for its towering skyscrapers, vibrant nightlife, and two main beaches. The old town offers charming tapas bars, while the nearby Terra Mítica theme park provides family entertainment. Don't miss the scenic Balcón del Mediterráneo viewpoint.";
-        }
-        
-        // Valencia
-        if (locationName.contains("valencia") || displayName.contains("valencia")) {
-            return "Valencia combines beautiful beaches with rich culture and history. Visit the stunning City of Arts and Sciences, explore the historic Central Market, and try the authentic paella valenciana in its birthplace. The nearby Albufera Natural Park offers scenic boat trips.";
-        }
-        
-        // Barcelona
-        if (locationName.contains("barcelona") || displayName.contains("barcelona")) {
-            return "Barcelona's beaches provide urban seaside relaxation near world-class attractions. The Gothic Quarter, Sagrada Família, and Park Güell are must-sees, while the bustling Las Ramblas offers shopping and dining. The beachfront Barceloneta district is perfect for seafood.";
-        }
-        
-        // Marbella
-        if (locationName.contains("marbella") || displayName.contains("marbella")) {
-            return "Marbella epitomizes Costa del Sol glamour with luxury marinas, upscale shopping, and golden beaches. Puerto Banús marina showcases superyachts and designer boutiques, while the charming old town features whitewashed buildings and traditional Andalusian architecture.";
-        }
-        
-        // San Sebastián / Donostia
-        if (locationName.contains("san sebastian") || locationName.contains("donostia") || 
-            displayName.contains("san sebastián") || displayName.contains("donostia")) {
-            return "San Sebastián is a culinary paradise with more Michelin stars per capita than anywhere else. The beautiful La Concha beach sits in a perfect shell-shaped bay, while the old town offers incredible pintxos bars. Mount Urgull provides panoramic city views.";
-        }
-        
-        // Palma de Mallorca
-        if (locationName.contains("palma") || displayName.contains("palma") || displayName.contains("mallorca")) {
-            return "Palma combines stunning beaches with impressive architecture, including the magnificent Gothic cathedral La Seu. The historic old town features narrow streets with boutiques and cafés, while the nearby Tramuntana mountains offer hiking and scenic drives.";
-        }
-        
-        // Santander
-        if (locationName.contains("santander") || displayName.contains("santander")) {
-            return "Santander offers beautiful beaches and elegant architecture along the Cantabrian coast. The Palacio de la Magdalena provides royal history and gardens, while the nearby Picos de Europa mountains offer stunning natural landscapes just a short drive away.";
-        }
-        
-        // Alicante
-        if (locationName.contains("alicante") || displayName.contains("alicante")) {
-            return "Alicante features excellent beaches beneath the impressive Santa Bárbara Castle, which offers panoramic coastal views. The charming old town Barrio Santa Cruz has colorful houses and narrow streets, while the palm-lined Explanada de España is perfect for evening strolls.";
-        }
-        
-        // Málaga
-        if (locationName.contains("malaga") || locationName.contains("málaga") || 
-            displayName.contains("malaga") || displayName.contains("málaga")) {
-            return "Málaga beautifully blends beach relaxation with cultural richness as Picasso's birthplace. The historic Alcazaba fortress and Roman theatre showcase ancient history, while modern attractions include the Picasso Museum and the vibrant Soho arts district.";
-        }
-        
-        // Tossa de Mar
-        if (locationName.contains("tossa") || displayName.contains("tossa")) {
-            return "Tossa de Mar is a picturesque Costa Brava gem with a perfectly preserved medieval old town perched above crystalline coves. The ancient walls and towers create a romantic atmosphere, while hidden beaches and scenic coastal paths offer natural beauty.";
-        }
-        
-        // Nerja
-        if (locationName.contains("nerja") || displayName.contains("nerja")) {
-            return "Nerja is famous for its spectacular Balcón de Europa viewpoint and the impressive Nerja Caves with ancient paintings. This charming white village offers beautiful coves, traditional Spanish atmosphere, and stunning mountain backdrops perfect for photography.";
-        }
-        
-        // Canary Islands - Las Palmas
-        if (locationName.contains("las palmas") || locationName.contains("canteras") || 
-            displayName.contains("las palmas") || displayName.contains("gran canaria")) {
-            return "Las Palmas offers year-round perfect weather with the stunning Las Canteras beach stretching for miles. The historic Vegueta district features Columbus connections and colonial architecture, while the modern city provides excellent shopping and dining.";
-        }
-        
-        // Regional fallbacks
-        if (displayName.contains("costa brava") || displayName.contains("girona")) {
-            return "The Costa Brava offers dramatic clifftop views, hidden coves, and charming fishing villages. This rugged coastline features crystal-clear waters perfect for snorkeling, while nearby medieval towns like Besalú and Girona provide rich cultural experiences.";
-        }
-        
-        if (displayName.contains("costa del sol")) {
-            return "The Costa del Sol enjoys over 300 days of sunshine annually, making it perfect for beach lovers. Traditional white villages dot the nearby mountains, while golf courses, marinas, and vibrant nightlife cater to every taste along this famous coastline.";
-        }
-        
-        if (displayName.contains("costa blanca")) {
-            return "The Costa Blanca features fine sandy beaches backed by dramatic mountain ranges. Charming towns with traditional Spanish architecture, excellent local markets, and authentic cuisine make this region perfect for experiencing authentic Mediterranean culture.";
-        }
-        
+    private String getAttractionInfo(String locationName, String displayName, String language) {
         // Default empty - will use generic fallback
-        return "";
+        return contentIndex.findBlurb(language, locationName, displayName).orElse("");
     }
     
     /**
@@ -422,7 +426,7 @@ public class BeachNameHandler implements CommandHandler {
             }
 
             bot.execute(message);
-            logger.info("Sent searching notification for: {}", location.getName());
+            logger.debug("Sent searching notification for: {}", location.getName());
 
         } catch (Exception e) {
             logger.error("Error sending searching notification", e);
@@ -481,7 +485,7 @@ public class BeachNameHandler implements CommandHandler {
             }
 
             bot.execute(location);
-            logger.info("Sent location for beach {}", beach.getName());
+            logger.debug("Sent location for beach {}", beach.getName());
         } catch (Exception e) {
             logger.error("Error sending location", e);
         }
@@ -504,7 +508,7 @@ public class BeachNameHandler implements CommandHandler {
             }
 
             bot.execute(message);
-            logger.info("Sent typo correction suggestion for: {}", suggestion.getOriginalInput());
+            logger.debug("Sent typo correction suggestion for: {}", suggestion.getOriginalInput());
 
         } catch (Exception e) {
             logger.error("Error sending typo correction message", e);
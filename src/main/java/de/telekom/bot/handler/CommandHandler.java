@@ -7,5 +7,13 @@ public interface CommandHandler {
     String getCommand();
 
     void handle(Update update, TelegramLongPollingBot bot) throws Exception;
-}
 
+    /**
+     * Cheap answer while the bot is overloaded, without upstream calls
+     *
+     * @return false if there is none and the generic "busy" reply should be sent
+     */
+    default boolean handleOverloaded(Update update, TelegramLongPollingBot bot) throws Exception {
+        return false;
+    }
+}
@@ -0,0 +1,174 @@
+package de.telekom.bot.handler;
+
+import de.telekom.bot.model.WeatherInfo;
+import de.telekom.bot.service.BeachComparisonService;
+import de.telekom.bot.service.BeachComparisonService.ComparedBeach;
+import de.telekom.bot.service.UserLanguageService;
+import de.telekom.bot.util.AccentFolding;
+import de.telekom.bot.util.BotConst;
+import de.telekom.bot.util.RequestTrace;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.telegram.telegrambots.bots.TelegramLongPollingBot;
+import org.telegram.telegrambots.meta.api.methods.send.SendMessage;
+import org.telegram.telegrambots.meta.api.objects.Update;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+/**
+ * /compare Levante vs Poniente vs Albir - side-by-side conditions of several beaches
+ */
+@Component
+@RequiredArgsConstructor
+public class CompareCommandHandler implements CommandHandler {
+
+    static final int MAX_BEACHES = 4;
+    private static final int COLUMN_WIDTH = 9;
+    private static final int LABEL_WIDTH = 9;
+
+    private static final Pattern SEPARATOR =
+            Pattern.compile("(?i)\\s*(?:[,;/]|\\s(?:vs\\.?|versus|contra)\\s)\\s*");
+
+    private final BeachComparisonService beachComparisonService;
+    private final UserLanguageService userLanguageService;
+
+    @Override
+    public String getCommand() {
+        return BotConst.COMMAND_COMPARE;
+    }
+
+    @Override
+    public void handle(Update update, TelegramLongPollingBot bot) throws Exception {
+        long chatId = update.getMessage().getChatId();
+        String language = userLanguageService.getUserLanguage(chatId);
+        List<String> beachNames = parseBeachNames(SubscribeCommandHandler.commandArguments(update.getMessage().getText()));
+
+        RequestTrace trace = RequestTrace.start("compare", chatId).field("beaches", beachNames.size());
+        String outcome = "error";
+        try {
+            String reply;
+            String result;
+            if (beachNames.size() < 2) {
+                reply = formatUsage(language);
+                result = "usage";
+            } else {
+                List<ComparedBeach> compared = beachComparisonService.compare(beachNames, BeachComparisonService.DEFAULT_DEADLINE);
+                trace.mark("compare").field("found", compared.stream().filter(ComparedBeach::isFound).count());
+                reply = formatComparison(compared, language);
+                result = "compared";
+            }
+
+            SendMessage message = new SendMessage(String.valueOf(chatId), reply);
+            message.setParseMode("Markdown");
+
+            // Reply to the original message to keep the response in the same topic
+            message.setReplyToMessageId(update.getMessage().getMessageId());
+
+            bot.execute(message);
+            trace.mark("reply");
+            outcome = result;
+        } catch (Exception e) {
+            trace.field("error", e.getClass().getSimpleName());
+            throw e;
+        } finally {
+            trace.finish(outcome);
+        }
+    }
+
+    /**
+     * Split "Levante vs Poniente, Albir" into distinct beach names, at most {@link #MAX_BEACHES}
+     */
+    static List<String> parseBeachNames(String arguments) {
+        List<String> names = new ArrayList<>();
+        Set<String> seen = new HashSet<>();
+        for (String part : SEPARATOR.split(" " + arguments + " ")) {
+            String name = part.trim().replaceAll("\\s+", " ").replace("`", "");
+            if (!name.isEmpty() && seen.add(AccentFolding.fold(name)) && names.size() < MAX_BEACHES) {
+                names.add(name);
+            }
+        }
+        return names;
+    }
+
+    static String formatComparison(List<ComparedBeach> beaches, String language) {
+        boolean spanish = BotConst.LANG_SPANISH.equals(language);
+        List<ComparedBeach> found = beaches.stream().filter(ComparedBeach::isFound).toList();
+
+        StringBuilder text = new StringBuilder(spanish ? "⚖️ *Comparativa de playas*\n\n" : "⚖️ *Beach comparison*\n\n");
+        if (!found.isEmpty()) {
+            text.append("```\n");
+            appendRow(text, "", found, ComparedBeach::query);
+            appendRow(text, spanish ? "Aire" : "Air", found, beach -> beach.weather() == null || !beach.weather().isAirTempFound()
+                    ? null : String.format(Locale.ROOT, "%.0f°C", beach.weather().getAirTemperature()));
+            appendRow(text, spanish ? "Agua" : "Water", found, beach -> beach.weather() == null || !beach.weather().isWaterTempFound()
+                    ? null : String.format(Locale.ROOT, "%.0f°C", beach.weather().getWaterTemperature()));
+            appendRow(text, spanish ? "Medusas" : "Jellyfish", found, beach -> hasJellyfishRisk(beach.weather())
+                    ? beach.weather().getJellyfishInfo().getRiskLevel().getDisplayName() : null);
+            appendRow(text, spanish ? "Suelo" : "Surface", found, beach -> beach.location().getBeachSurface());
+            text.append("```\n");
+        }
+
+        found.stream()
+                .filter(beach -> beach.weather() != null && beach.weather().isWaterTempFound())
+                .max(Comparator.comparingDouble(beach -> beach.weather().getWaterTemperature()))
+                .ifPresent(beach -> text.append(spanish ? "🌊 Agua más cálida: *" : "🌊 Warmest water: *")
+                        .append(beach.query()).append("*\n"));
+        found.stream()
+                .filter(beach -> hasJellyfishRisk(beach.weather()))
+                .min(Comparator.comparing(beach -> beach.weather().getJellyfishInfo().getRiskLevel()))
+                .ifPresent(beach -> text.append(spanish ? "🪼 Menos medusas: *" : "🪼 Fewest jellyfish: *")
+                        .append(beach.query()).append("*\n"));
+
+        List<String> missing = beaches.stream().filter(beach -> !beach.isFound()).map(ComparedBeach::query).toList();
+        if (!missing.isEmpty()) {
+            text.append(spanish ? "\n😔 Sin resultados para: " : "\n😔 No results for: ")
+                    .append(String.join(", ", missing)).append('\n');
+        }
+        return text.toString();
+    }
+
+    private static boolean hasJellyfishRisk(WeatherInfo weather) {
+        return weather != null && weather.getJellyfishInfo() != null && weather.getJellyfishInfo().getRiskLevel() != null;
+    }
+
+    private static void appendRow(StringBuilder text, String label, List<ComparedBeach> beaches,
+                                  Function<ComparedBeach, String> cell) {
+        text.append(pad(label, LABEL_WIDTH));
+        for (ComparedBeach beach : beaches) {
+            String value = cell.apply(beach);
+            text.append(' ').append(pad(value == null ? "-" : value, COLUMN_WIDTH));
+        }
+        // Trailing spaces only cost characters
+        int end = text.length();
+        while (end > 0 && text.charAt(end - 1) == ' ') {
+            end--;
+        }
+        text.setLength(end);
+        text.append('\n');
+    }
+
+    private static String pad(String value, int width) {
+        if (value.length() > width) {
+            return value.substring(0, width - 1) + "…";
+        }
+        return value + " ".repeat(width - value.length());
+    }
+
+    private String formatUsage(String language) {
+        if (BotConst.LANG_SPANISH.equals(language)) {
+            return "⚖️ *Comparar playas*\n\n" +
+                    "Escribe de 2 a " + MAX_BEACHES + " playas separadas por comas o \"vs\":\n" +
+                    "`/compare Levante vs Poniente vs Albir`";
+        }
+        return "⚖️ *Compare beaches*\n\n" +
+                "Send 2 to " + MAX_BEACHES + " beaches separated by commas or \"vs\":\n" +
+                "`/compare Levante vs Poniente vs Albir`";
+    }
+}
@@ -0,0 +1,191 @@
+package de.telekom.bot.handler;
+
+import de.telekom.bot.model.BeachLocation;
+import de.telekom.bot.model.CatalogBeach;
+import de.telekom.bot.model.HourlyForecast;
+import de.telekom.bot.service.BeachCatalog;
+import de.telekom.bot.service.ForecastService;
+import de.telekom.bot.service.GeocodeService;
+import de.telekom.bot.service.UserLanguageService;
+import de.telekom.bot.util.BotConst;
+import de.telekom.bot.util.RequestTrace;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+import org.telegram.telegrambots.bots.TelegramLongPollingBot;
+import org.telegram.telegrambots.meta.api.methods.send.SendMessage;
+import org.telegram.telegrambots.meta.api.objects.Update;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Locale;
+
+/**
+ * /forecast &lt;beach&gt; - hourly conditions for the rest of the day and the best time to swim
+ */
+@Component
+@RequiredArgsConstructor
+public class ForecastCommandHandler implements CommandHandler {
+
+    private static final ZoneId SPAIN = ZoneId.of("Europe/Madrid");
+    private static final int FIRST_BEACH_HOUR = 9;
+    private static final int LAST_BEACH_HOUR = 20;
+    private static final int SWIM_WINDOW_HOURS = 2;
+
+    private final BeachCatalog beachCatalog;
+    private final GeocodeService geocodeService;
+    @Lazy
+    private final ForecastService forecastService;
+    private final UserLanguageService userLanguageService;
+
+    @Override
+    public String getCommand() {
+        return BotConst.COMMAND_FORECAST;
+    }
+
+    @Override
+    public void handle(Update update, TelegramLongPollingBot bot) throws Exception {
+        long chatId = update.getMessage().getChatId();
+        String language = userLanguageService.getUserLanguage(chatId);
+        String beachName = SubscribeCommandHandler.commandArguments(update.getMessage().getText());
+
+        RequestTrace trace = RequestTrace.start("forecast", chatId).field("query", beachName);
+
+        // Failed requests get their summary line too
+        String outcome = "error";
+        try {
+            outcome = answer(update, bot, chatId, beachName, language, trace);
+        } catch (Exception e) {
+            trace.field("error", e.getClass().getSimpleName());
+            throw e;
+        } finally {
+            trace.finish(outcome);
+        }
+    }
+
+    /**
+     * Look up the beach's forecast and reply
+     *
+     * @return Outcome for the request trace
+     */
+    private String answer(Update update, TelegramLongPollingBot bot, long chatId, String beachName,
+                          String language, RequestTrace trace) throws Exception {
+        boolean spanish = BotConst.LANG_SPANISH.equals(language);
+        String reply;
+        String result;
+        if (beachName.isEmpty()) {
+            reply = spanish
+                    ? "🕒 *Previsión por horas*\n\n`/forecast Benidorm` - condiciones hora a hora y el mejor momento para bañarse"
+                    : "🕒 *Hourly forecast*\n\n`/forecast Benidorm` - hour-by-hour conditions and the best time to swim";
+            result = "usage";
+        } else {
+            BeachLocation location = beachCatalog.findByName(beachName)
+                    .map(CatalogBeach::toBeachLocation)
+                    .orElseGet(() -> geocodeService.findBeachCoordinates(beachName));
+            HourlyForecast forecast = location.isFound()
+                    ? forecastService.getForecast(location.getLatitude(), location.getLongitude())
+                    : null;
+            trace.mark("lookup");
+
+            if (!location.isFound()) {
+                reply = spanish
+                        ? "😔 No encontré la playa *" + beachName + "*. Prueba con otro nombre."
+                        : "😔 I couldn't find the beach *" + beachName + "*. Try another name.";
+                result = "not_found";
+            } else if (forecast == null) {
+                reply = spanish
+                        ? "😔 La previsión por horas no está disponible ahora mismo."
+                        : "😔 The hourly forecast is not available right now.";
+                result = "unavailable";
+            } else {
+                reply = formatForecast(beachName, forecast, Instant.now(), language);
+                result = "found";
+            }
+        }
+
+        SendMessage message = new SendMessage(String.valueOf(chatId), reply);
+        message.setParseMode("Markdown");
+
+        // Reply to the original message to keep the response in the same topic
+        message.setReplyToMessageId(update.getMessage().getMessageId());
+
+        bot.execute(message);
+        trace.mark("reply");
+        return result;
+    }
+
+    /**
+     * Beach hours of today from now on (tomorrow's once today's are over), every second hour,
+     * followed by the best swimming window
+     */
+    static String formatForecast(String beachName, HourlyForecast forecast, Instant now, String language) {
+        boolean spanish = BotConst.LANG_SPANISH.equals(language);
+        ZonedDateTime localNow = now.atZone(SPAIN);
+        LocalDate day = localNow.getHour() < LAST_BEACH_HOUR ? localNow.toLocalDate() : localNow.toLocalDate().plusDays(1);
+        int firstHour = day.equals(localNow.toLocalDate()) ? Math.max(FIRST_BEACH_HOUR, localNow.getHour()) : FIRST_BEACH_HOUR;
+
+        StringBuilder text = new StringBuilder("🕒 *").append(beachName).append("* - ")
+                .append(day.equals(localNow.toLocalDate()) ? (spanish ? "hoy" : "today") : (spanish ? "mañana" : "tomorrow"))
+                .append("\n\n```\n")
+                .append(spanish ? "Hora  Aire  Viento  Agua  Olas\n" : "Hour  Air   Wind    Water Waves\n");
+
+        int rows = 0;
+        for (int hour = firstHour; hour <= LAST_BEACH_HOUR; hour += 2) {
+            int index = forecast.getAxis().indexOf(day.atTime(hour, 0).atZone(SPAIN).toEpochSecond());
+            if (index < 0) {
+                continue;
+            }
+            text.append(String.format(Locale.ROOT, "%02d:00 %-5s %-7s %-5s %s\n", hour,
+                    format(forecast.get(HourlyForecast.Variable.AIR_TEMPERATURE, index), "%.0f°"),
+                    format(forecast.get(HourlyForecast.Variable.WIND_SPEED, index), "%.0fkm/h"),
+                    format(forecast.get(HourlyForecast.Variable.SEA_SURFACE_TEMPERATURE, index), "%.0f°"),
+                    format(forecast.get(HourlyForecast.Variable.WAVE_HEIGHT, index), "%.1fm")));
+            rows++;
+        }
+        text.append("```\n");
+        if (rows == 0) {
+            return spanish
+                    ? "😔 La previsión por horas no está disponible ahora mismo."
+                    : "😔 The hourly forecast is not available right now.";
+        }
+
+        int bestStart = bestSwimWindow(forecast, day, firstHour);
+        if (bestStart >= 0) {
+            text.append(spanish ? "🏊 Mejor momento para bañarse: *" : "🏊 Best time to swim: *")
+                    .append(String.format(Locale.ROOT, "%02d:00-%02d:00", bestStart, bestStart + SWIM_WINDOW_HOURS))
+                    .append("*\n");
+        }
+        return text.toString();
+    }
+
+    /**
+     * Local start hour of the window with the highest average swim score, -1 if there is no data
+     */
+    static int bestSwimWindow(HourlyForecast forecast, LocalDate day, int firstHour) {
+        int bestStart = -1;
+        double bestScore = -1;
+        for (int start = firstHour; start + SWIM_WINDOW_HOURS <= LAST_BEACH_HOUR; start++) {
+            double total = 0;
+            int hours = 0;
+            for (int hour = start; hour < start + SWIM_WINDOW_HOURS; hour++) {
+                int index = forecast.getAxis().indexOf(day.atTime(hour, 0).atZone(SPAIN).toEpochSecond());
+                double score = index >= 0 ? forecast.swimScore(index) : Double.NaN;
+                if (!Double.isNaN(score)) {
+                    total += score;
+                    hours++;
+                }
+            }
+            if (hours == SWIM_WINDOW_HOURS && total / hours > bestScore) {
+                bestScore = total / hours;
+                bestStart = start;
+            }
+        }
+        return bestStart;
+    }
+
+    private static String format(float value, String pattern) {
+        return Float.isNaN(value) ? "-" : String.format(Locale.ROOT, pattern, value);
+    }
+}
@@ -49,7 +49,12 @@ public class HelpCommandHandler implements CommandHandler {
                        "🔹 **Commands:**\n" +
                        "`/start` - Welcome message and instructions\n" +
                        "`/help` - Show this help message\n" +
-                       "`/language` or `/lang` - Change bot language 🌍\n\n" +
+                       "`/language` or `/lang` - Change bot language 🌍\n" +
+                       "`/subscribe <beach>` - Jellyfish & water alerts for a beach 🔔\n" +
+                       "`/unsubscribe <beach>` - Stop alerts\n" +
+                       "`/compare <beach> vs <beach>` - Compare beaches side by side ⚖️\n" +
+                       "`/forecast <beach>` - Hourly forecast and best time to swim 🕒\n\n" +
+                       "📍 Share your location to see the nearest beaches\n\n" +
                        "🏖️ **Popular beach examples to try:**\n\n" +
                        "**🌅 Costa Brava:**\n" +
                        "• Tossa de Mar • Lloret de Mar • Cadaqués\n\n" +
@@ -70,7 +75,12 @@ public class HelpCommandHandler implements CommandHandler {
                        "🔹 **Comandos:**\n" +
                        "`/start` - Mensaje de bienvenida e instrucciones\n" +
                        "`/help` - Mostrar este mensaje de ayuda\n" +
-                       "`/language` o `/lang` - Cambiar idioma del bot 🌍\n\n" +
+                       "`/language` o `/lang` - Cambiar idioma del bot 🌍\n" +
+                       "`/subscribe <playa>` - Alertas de medusas y agua de una playa 🔔\n" +
+                       "`/unsubscribe <playa>` - Cancelar alertas\n" +
+                       "`/compare <playa> vs <playa>` - Comparar playas lado a lado ⚖️\n" +
+                       "`/forecast <playa>` - Previsión por horas y mejor momento para bañarse 🕒\n\n" +
+                       "📍 Comparte tu ubicación para ver las playas más cercanas\n\n" +
                        "🏖️ **Ejemplos de playas populares para probar:**\n\n" +
                        "**🌅 Costa Brava:**\n" +
                        "• Tossa de Mar • Lloret de Mar • Cadaqués\n\n" +
@@ -92,7 +102,12 @@ public class HelpCommandHandler implements CommandHandler {
                        "🔹 **Commands:**\n" +
                        "`/start` - Welcome message and instructions\n" +
                        "`/help` - Show this help message\n" +
-                       "`/language` or `/lang` - Change bot language 🌍\n\n" +
+                       "`/language` or `/lang` - Change bot language 🌍\n" +
+                       "`/subscribe <beach>` - Jellyfish & water alerts for a beach 🔔\n" +
+                       "`/unsubscribe <beach>` - Stop alerts\n" +
+                       "`/compare <beach> vs <beach>` - Compare beaches side by side ⚖️\n" +
+                       "`/forecast <beach>` - Hourly forecast and best time to swim 🕒\n\n" +
+                       "📍 Share your location to see the nearest beaches\n\n" +
                        "🏖️ **Popular beach examples to try:**\n\n" +
                        "**🌅 Costa Brava:**\n" +
                        "• Tossa de Mar • Lloret de Mar • Cadaqués\n\n" +
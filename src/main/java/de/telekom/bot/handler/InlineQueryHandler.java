@@ -0,0 +1,142 @@
+package de.telekom.bot.handler;
+
+import de.telekom.bot.model.CatalogBeach;
+import de.telekom.bot.model.WeatherInfo;
+import de.telekom.bot.service.BeachCatalog;
+import de.telekom.bot.service.WeatherService;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.telegram.telegrambots.bots.TelegramLongPollingBot;
+import org.telegram.telegrambots.meta.api.methods.AnswerInlineQuery;
+import org.telegram.telegrambots.meta.api.objects.Update;
+import org.telegram.telegrambots.meta.api.objects.inlinequery.InlineQuery;
+import org.telegram.telegrambots.meta.api.objects.inlinequery.inputmessagecontent.InputTextMessageContent;
+import org.telegram.telegrambots.meta.api.objects.inlinequery.result.InlineQueryResult;
+import org.telegram.telegrambots.meta.api.objects.inlinequery.result.InlineQueryResultArticle;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Inline mode (@BeachMateBot mala…): autocompletes beach names from the in-memory catalogue.
+ * <p>
+ * Telegram sends a query per keystroke. Answers are delayed briefly and dropped when the same
+ * user has typed further in the meantime, so only the latest keystroke costs an API call. They
+ * are sent from a small pool, so one slow Telegram call does not hold up the other users.
+ */
+@Component
+@RequiredArgsConstructor
+public class InlineQueryHandler implements CommandHandler {
+
+    private static final Logger logger = LoggerFactory.getLogger(InlineQueryHandler.class);
+
+    private static final int MAX_RESULTS = 10;
+    private static final long DEBOUNCE_MS = 150;
+    private static final int CACHE_TIME_SECONDS = 60;
+    private static final int ANSWER_THREADS = 4;
+
+    private final BeachCatalog beachCatalog;
+    private final WeatherService weatherService;
+
+    // Latest inline query id per user; older queries still waiting for their answer are dropped
+    private final Map<Long, String> latestQueryByUser = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService debounceExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "inline-debounce");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final ExecutorService answerExecutor = Executors.newFixedThreadPool(ANSWER_THREADS, runnable -> {
+        Thread thread = new Thread(runnable, "inline-answers");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Override
+    public String getCommand() {
+        return "__INLINE_QUERY__";
+    }
+
+    @Override
+    public void handle(Update update, TelegramLongPollingBot bot) {
+        InlineQuery inlineQuery = update.getInlineQuery();
+        long userId = inlineQuery.getFrom().getId();
+
+        latestQueryByUser.put(userId, inlineQuery.getId());
+        debounceExecutor.schedule(() -> answerExecutor.execute(() -> answer(inlineQuery, userId, bot)),
+                DEBOUNCE_MS, TimeUnit.MILLISECONDS);
+    }
+
+    private void answer(InlineQuery inlineQuery, long userId, TelegramLongPollingBot bot) {
+        if (!inlineQuery.getId().equals(latestQueryByUser.get(userId))) {
+            logger.debug("Skipping superseded inline query '{}'", inlineQuery.getQuery());
+            return;
+        }
+
+        try {
+            List<CatalogBeach> beaches = beachCatalog.findByNamePrefix(inlineQuery.getQuery(), MAX_RESULTS);
+            logger.debug("Inline query '{}' matched {} beaches", inlineQuery.getQuery(), beaches.size());
+
+            List<InlineQueryResult> results = new ArrayList<>(beaches.size());
+            for (int i = 0; i < beaches.size(); i++) {
+                results.add(toResult(i, beaches.get(i)));
+            }
+
+            AnswerInlineQuery answer = new AnswerInlineQuery();
+            answer.setInlineQueryId(inlineQuery.getId());
+            answer.setResults(results);
+            answer.setCacheTime(CACHE_TIME_SECONDS);
+            bot.execute(answer);
+        } catch (Exception e) {
+            logger.warn("Failed to answer inline query '{}': {}", inlineQuery.getQuery(), e.getMessage());
+        } finally {
+            latestQueryByUser.remove(userId, inlineQuery.getId());
+        }
+    }
+
+    private InlineQueryResult toResult(int position, CatalogBeach beach) {
+        InputTextMessageContent content = new InputTextMessageContent();
+        content.setMessageText(formatBeachCard(beach));
+        content.setParseMode("Markdown");
+
+        InlineQueryResultArticle article = new InlineQueryResultArticle();
+        article.setId(String.valueOf(position));
+        article.setTitle("🏖️ " + beach.name());
+        article.setDescription(beach.region());
+        article.setInputMessageContent(content);
+        return article;
+    }
+
+    private String formatBeachCard(CatalogBeach beach) {
+        StringBuilder card = new StringBuilder()
+                .append("🏖️ *").append(beach.name()).append("*\n")
+                .append("📍 ").append(beach.region()).append('\n')
+                .append("🗺️ `").append(String.format(Locale.ROOT, "%.4f, %.4f", beach.latitude(), beach.longitude()))
+                .append('`');
+
+        // Conditions only from this replica's weather cache - inline answers never wait for the network
+        WeatherInfo weather = weatherService.getNearCachedWeatherInfo(beach.latitude(), beach.longitude());
+        if (weather != null && weather.isAirTempFound()) {
+            card.append("\n🌡️ ").append(weather.getFormattedAirTemperature());
+        }
+        if (weather != null && weather.isWaterTempFound()) {
+            card.append("\n🌊 ").append(weather.getFormattedWaterTemperature());
+        }
+        return card.toString();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        debounceExecutor.shutdownNow();
+        answerExecutor.shutdownNow();
+    }
+}
@@ -0,0 +1,124 @@
+package de.telekom.bot.handler;
+
+import de.telekom.bot.geo.SphericalKdTree;
+import de.telekom.bot.model.CatalogBeach;
+import de.telekom.bot.model.WeatherInfo;
+import de.telekom.bot.service.BeachCatalog;
+import de.telekom.bot.service.UserLanguageService;
+import de.telekom.bot.service.WeatherService;
+import de.telekom.bot.util.RequestTrace;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.telegram.telegrambots.bots.TelegramLongPollingBot;
+import org.telegram.telegrambots.meta.api.methods.send.SendMessage;
+import org.telegram.telegrambots.meta.api.objects.Location;
+import org.telegram.telegrambots.meta.api.objects.Update;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Answers a shared location with the nearest catalogue beaches. Conditions come from the
+ * weather cache only, so the reply never waits for an upstream API.
+ */
+@Component
+@RequiredArgsConstructor
+public class LocationHandler implements CommandHandler {
+
+    private static final int NEARBY_LIMIT = 5;
+    private static final double NEARBY_RADIUS_KM = 50.0;
+
+    private final BeachCatalog beachCatalog;
+    private final WeatherService weatherService;
+    private final UserLanguageService userLanguageService;
+
+    @Override
+    public String getCommand() {
+        return "__LOCATION__";
+    }
+
+    @Override
+    public void handle(Update update, TelegramLongPollingBot bot) throws Exception {
+        long chatId = update.getMessage().getChatId();
+        Location location = update.getMessage().getLocation();
+        String userLanguage = userLanguageService.getUserLanguage(chatId);
+
+        RequestTrace trace = RequestTrace.start("location", chatId);
+        List<SphericalKdTree.Neighbor<CatalogBeach>> nearby = beachCatalog.findNearest(
+                location.getLatitude(), location.getLongitude(), NEARBY_LIMIT, NEARBY_RADIUS_KM);
+        trace.mark("search").field("beaches", nearby.size());
+
+        String text = nearby.isEmpty()
+                ? formatNoBeachesNearby(userLanguage)
+                : formatNearbyBeaches(nearby, userLanguage);
+
+        SendMessage message = new SendMessage(String.valueOf(chatId), text);
+        message.setParseMode("Markdown");
+
+        // Reply to the original message to keep the response in the same topic
+        message.setReplyToMessageId(update.getMessage().getMessageId());
+
+        String outcome = "error";
+        try {
+            bot.execute(message);
+            outcome = nearby.isEmpty() ? "not_found" : "found";
+        } finally {
+            trace.mark("reply").finish(outcome);
+        }
+    }
+
+    private String formatNearbyBeaches(List<SphericalKdTree.Neighbor<CatalogBeach>> nearby, String language) {
+        StringBuilder text = new StringBuilder(switch (language) {
+            case "es" -> "📍 *Playas cerca de ti* 🏖️\n\n";
+            default -> "📍 *Beaches near you* 🏖️\n\n";
+        });
+
+        int position = 1;
+        for (SphericalKdTree.Neighbor<CatalogBeach> neighbor : nearby) {
+            CatalogBeach beach = neighbor.item();
+            text.append(position++).append(". *").append(beach.name()).append("* — ")
+                    .append(formatDistance(neighbor.distanceKm())).append('\n')
+                    .append("   ").append(beach.region());
+            appendConditions(text, beach, language);
+            text.append('\n');
+        }
+
+        text.append(switch (language) {
+            case "es" -> "\n💬 *Escribe el nombre de una playa para ver el informe completo.*";
+            default -> "\n💬 *Type a beach name to get the full report.*";
+        });
+        return text.toString();
+    }
+
+    private void appendConditions(StringBuilder text, CatalogBeach beach, String language) {
+        WeatherInfo weather = weatherService.isEnabled()
+                ? weatherService.getCachedWeatherInfo(beach.latitude(), beach.longitude())
+                : weatherService.getMockWeatherInfo(beach.toBeachLocation());
+        if (weather == null || !weather.hasTemperatureData()) {
+            return;
+        }
+
+        if (weather.isAirTempFound()) {
+            text.append(" · 🌡️ ").append(weather.getFormattedAirTemperature());
+        }
+        if (weather.isWaterTempFound()) {
+            text.append(" · 🌊 ").append(weather.getFormattedWaterTemperature())
+                    .append("es".equals(language) ? " agua" : " water");
+        }
+    }
+
+    private String formatDistance(double distanceKm) {
+        return distanceKm < 1.0
+                ? String.format(Locale.ROOT, "%d m", Math.round(distanceKm * 1000))
+                : String.format(Locale.ROOT, "%.1f km", distanceKm);
+    }
+
+    private String formatNoBeachesNearby(String language) {
+        return switch (language) {
+            case "es" -> "😔 *No hay playas conocidas a menos de " + (int) NEARBY_RADIUS_KM + " km*\n\n" +
+                    "💬 Escribe el nombre de cualquier playa española para buscarla.";
+            default -> "😔 *No known beaches within " + (int) NEARBY_RADIUS_KM + " km*\n\n" +
+                    "💬 Type the name of any Spanish beach to search for it.";
+        };
+    }
+}
@@ -0,0 +1,163 @@
+package de.telekom.bot.handler;
+
+import de.telekom.bot.config.AlertsConfig;
+import de.telekom.bot.model.BeachLocation;
+import de.telekom.bot.model.JellyfishInfo;
+import de.telekom.bot.model.Subscription;
+import de.telekom.bot.service.GeocodeService;
+import de.telekom.bot.service.SubscriptionStore;
+import de.telekom.bot.service.UserLanguageService;
+import de.telekom.bot.util.BotConst;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.telegram.telegrambots.bots.TelegramLongPollingBot;
+import org.telegram.telegrambots.meta.api.methods.send.SendMessage;
+import org.telegram.telegrambots.meta.api.objects.Update;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * /subscribe &lt;beach&gt; [water&gt;=22] [jellyfish&gt;=high] - condition alerts for a beach.
+ * Without arguments it lists the chat's subscriptions.
+ */
+@Component
+@RequiredArgsConstructor
+public class SubscribeCommandHandler implements CommandHandler {
+
+    private static final Logger logger = LoggerFactory.getLogger(SubscribeCommandHandler.class);
+
+    private static final Pattern WATER_OPTION =
+            Pattern.compile("(?i)\\b(?:water|agua)\\s*>=?\\s*(\\d+(?:[.,]\\d+)?)");
+    private static final Pattern JELLYFISH_OPTION =
+            Pattern.compile("(?i)\\b(?:jellyfish|medusas)\\s*>=?\\s*(very_low|low|moderate|high|very_high)\\b");
+
+    private final GeocodeService geocodeService;
+    private final SubscriptionStore subscriptionStore;
+    private final UserLanguageService userLanguageService;
+    private final AlertsConfig alertsConfig;
+
+    @Override
+    public String getCommand() {
+        return BotConst.COMMAND_SUBSCRIBE;
+    }
+
+    @Override
+    public void handle(Update update, TelegramLongPollingBot bot) throws Exception {
+        long chatId = update.getMessage().getChatId();
+        String language = userLanguageService.getUserLanguage(chatId);
+        String arguments = commandArguments(update.getMessage().getText());
+
+        String reply = arguments.isEmpty()
+                ? formatSubscriptionList(subscriptionStore.findByChat(chatId), language)
+                : subscribe(chatId, arguments, language);
+
+        SendMessage message = new SendMessage(String.valueOf(chatId), reply);
+        message.setParseMode("Markdown");
+
+        // Reply to the original message to keep the response in the same topic
+        message.setReplyToMessageId(update.getMessage().getMessageId());
+
+        bot.execute(message);
+    }
+
+    private String subscribe(long chatId, String arguments, String language) {
+        boolean spanish = BotConst.LANG_SPANISH.equals(language);
+
+        Double minWaterTemperature = null;
+        Matcher water = WATER_OPTION.matcher(arguments);
+        if (water.find()) {
+            minWaterTemperature = Double.parseDouble(water.group(1).replace(',', '.'));
+            arguments = water.replaceAll(" ");
+        }
+
+        JellyfishInfo.RiskLevel jellyfishRisk = Subscription.DEFAULT_JELLYFISH_RISK;
+        Matcher jellyfish = JELLYFISH_OPTION.matcher(arguments);
+        if (jellyfish.find()) {
+            jellyfishRisk = JellyfishInfo.RiskLevel.valueOf(jellyfish.group(1).toUpperCase(Locale.ROOT));
+            arguments = jellyfish.replaceAll(" ");
+        }
+
+        String beachName = arguments.trim().replaceAll("\\s+", " ");
+        if (beachName.isEmpty()) {
+            return formatUsage(language);
+        }
+
+        BeachLocation location = geocodeService.findBeachCoordinates(beachName);
+        if (!location.isFound()) {
+            return spanish
+                    ? "😔 No encontré la playa *" + beachName + "*. Prueba con otro nombre."
+                    : "😔 I couldn't find the beach *" + beachName + "*. Try another name.";
+        }
+
+        Subscription subscription = new Subscription(chatId, beachName, location.getLatitude(), location.getLongitude(),
+                minWaterTemperature, jellyfishRisk, null);
+        if (!subscriptionStore.subscribe(subscription)) {
+            return spanish
+                    ? "⚠️ Ya tienes " + alertsConfig.getMaxSubscriptionsPerChat() + " suscripciones. Usa /unsubscribe para liberar una."
+                    : "⚠️ You already have " + alertsConfig.getMaxSubscriptionsPerChat() + " subscriptions. Use /unsubscribe to free one.";
+        }
+
+        logger.info("Chat {} subscribed to {} (water>={}, jellyfish>={})", chatId, beachName, minWaterTemperature, jellyfishRisk);
+        return (spanish ? "🔔 *Suscrito a " : "🔔 *Subscribed to ") + beachName + "*\n\n" +
+                formatThresholds(subscription, language) + "\n" +
+                (spanish
+                        ? "Te avisaré cuando se cumplan estas condiciones."
+                        : "I'll let you know when these conditions are met.");
+    }
+
+    private String formatSubscriptionList(List<Subscription> subscriptions, String language) {
+        if (subscriptions.isEmpty()) {
+            return formatUsage(language);
+        }
+
+        StringBuilder text = new StringBuilder(BotConst.LANG_SPANISH.equals(language)
+                ? "🔔 *Tus suscripciones*\n\n" : "🔔 *Your subscriptions*\n\n");
+        for (Subscription subscription : subscriptions) {
+            text.append("🏖️ *").append(subscription.beach()).append("*\n")
+                    .append(formatThresholds(subscription, language)).append('\n');
+        }
+        return text.toString();
+    }
+
+    static String formatThresholds(Subscription subscription, String language) {
+        boolean spanish = BotConst.LANG_SPANISH.equals(language);
+        StringBuilder text = new StringBuilder();
+        if (subscription.jellyfishRisk() != null) {
+            text.append("   🪼 ").append(spanish ? "Medusas: riesgo " : "Jellyfish: risk ")
+                    .append(subscription.jellyfishRisk().getDisplayName()).append(spanish ? " o mayor" : " or higher").append('\n');
+        }
+        if (subscription.minWaterTemperature() != null) {
+            text.append("   🌊 ").append(spanish ? "Agua desde " : "Water from ")
+                    .append(String.format(Locale.ROOT, "%.1f°C", subscription.minWaterTemperature())).append('\n');
+        }
+        return text.toString();
+    }
+
+    private String formatUsage(String language) {
+        if (BotConst.LANG_SPANISH.equals(language)) {
+            return "🔔 *Alertas de playa*\n\n" +
+                    "`/subscribe Benidorm` - alertas de medusas\n" +
+                    "`/subscribe Benidorm agua>=22` - también cuando el agua esté a 22°C o más\n" +
+                    "`/subscribe Benidorm medusas>=high` - solo con riesgo alto\n" +
+                    "`/unsubscribe Benidorm` - cancelar";
+        }
+        return "🔔 *Beach alerts*\n\n" +
+                "`/subscribe Benidorm` - jellyfish alerts\n" +
+                "`/subscribe Benidorm water>=22` - also when the water reaches 22°C\n" +
+                "`/subscribe Benidorm jellyfish>=high` - only for high risk\n" +
+                "`/unsubscribe Benidorm` - cancel";
+    }
+
+    /**
+     * Text after the command (e.g. "/subscribe@bot Benidorm" -> "Benidorm")
+     */
+    static String commandArguments(String messageText) {
+        int space = messageText.indexOf(' ');
+        return space < 0 ? "" : messageText.substring(space + 1).trim();
+    }
+}
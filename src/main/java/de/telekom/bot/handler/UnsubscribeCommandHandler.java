@@ -0,0 +1,83 @@
+package de.telekom.bot.handler;
+
+import de.telekom.bot.model.Subscription;
+import de.telekom.bot.service.SubscriptionStore;
+import de.telekom.bot.service.UserLanguageService;
+import de.telekom.bot.util.BotConst;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.telegram.telegrambots.bots.TelegramLongPollingBot;
+import org.telegram.telegrambots.meta.api.methods.send.SendMessage;
+import org.telegram.telegrambots.meta.api.objects.Update;
+
+import java.util.List;
+
+/**
+ * /unsubscribe &lt;beach&gt; or /unsubscribe all - stop condition alerts
+ */
+@Component
+@RequiredArgsConstructor
+public class UnsubscribeCommandHandler implements CommandHandler {
+
+    private static final Logger logger = LoggerFactory.getLogger(UnsubscribeCommandHandler.class);
+
+    private final SubscriptionStore subscriptionStore;
+    private final UserLanguageService userLanguageService;
+
+    @Override
+    public String getCommand() {
+        return BotConst.COMMAND_UNSUBSCRIBE;
+    }
+
+    @Override
+    public void handle(Update update, TelegramLongPollingBot bot) throws Exception {
+        long chatId = update.getMessage().getChatId();
+        String language = userLanguageService.getUserLanguage(chatId);
+        boolean spanish = BotConst.LANG_SPANISH.equals(language);
+        String beach = SubscribeCommandHandler.commandArguments(update.getMessage().getText());
+
+        String reply;
+        if (beach.isEmpty()) {
+            reply = formatUsage(subscriptionStore.findByChat(chatId), spanish);
+        } else if (beach.equalsIgnoreCase("all") || beach.equalsIgnoreCase("todas")) {
+            int removed = subscriptionStore.unsubscribeAll(chatId);
+            logger.info("Chat {} removed all {} subscriptions", chatId, removed);
+            reply = spanish
+                    ? "🔕 Suscripciones canceladas: " + removed
+                    : "🔕 Subscriptions removed: " + removed;
+        } else {
+            Subscription removed = subscriptionStore.unsubscribe(chatId, beach);
+            if (removed != null) {
+                logger.info("Chat {} unsubscribed from {}", chatId, removed.beach());
+                reply = (spanish ? "🔕 Ya no recibirás alertas de *" : "🔕 No more alerts for *") + removed.beach() + "*";
+            } else {
+                reply = (spanish ? "🤔 No tienes una suscripción a *" : "🤔 You are not subscribed to *") + beach + "*";
+            }
+        }
+
+        SendMessage message = new SendMessage(String.valueOf(chatId), reply);
+        message.setParseMode("Markdown");
+
+        // Reply to the original message to keep the response in the same topic
+        message.setReplyToMessageId(update.getMessage().getMessageId());
+
+        bot.execute(message);
+    }
+
+    private String formatUsage(List<Subscription> subscriptions, boolean spanish) {
+        if (subscriptions.isEmpty()) {
+            return spanish ? "🔕 No tienes suscripciones." : "🔕 You have no subscriptions.";
+        }
+
+        StringBuilder text = new StringBuilder(spanish
+                ? "🔕 *¿Qué suscripción quieres cancelar?*\n\n"
+                : "🔕 *Which subscription do you want to cancel?*\n\n");
+        for (Subscription subscription : subscriptions) {
+            text.append("`/unsubscribe ").append(subscription.beach()).append("`\n");
+        }
+        text.append("`/unsubscribe all`");
+        return text.toString();
+    }
+}
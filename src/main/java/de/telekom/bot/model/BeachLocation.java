@@ -1,47 +1,92 @@
 package de.telekom.bot.model;
 
+import de.telekom.bot.util.KeywordMatcher;
 import lombok.Getter;
-import lombok.Setter;
 
 /**
- * Model representing beach location with coordinates and metadata
+ * Immutable model representing beach location with coordinates and metadata.
+ * <p>
+ * Instances are safe to cache and share between threads; enrichment creates a copy via
+ * {@link #toBuilder()}.
  */
 @Getter
-@Setter
-public class BeachLocation {
-
-    private String name;
-    private String displayName;
-    private double latitude;
-    private double longitude;
-    private String type;
-    private String classification;
-    private Double importance;
-    private boolean found;
+public final class BeachLocation {
+
+    private static final KeywordMatcher<String> BEACH_KEYWORDS = KeywordMatcher.<String>builder()
+            .add("beach", "playa", "platja", "beach", "cala")
+            .build();
+
+    private final String name;
+    private final String displayName;
+    private final double latitude;
+    private final double longitude;
+    private final String type;
+    private final String classification;
+    private final double importance;           // NaN if unknown
+    private final boolean found;
 
     // Beach characteristics
-    private String beachSurface;        // sand, pebbles, rocks, mixed
-    private String beachType;           // natural, artificial, etc.
-    private String beachCharacteristics; // calm, windy, protected, etc.
-    private String accessType;          // easy, difficult, boat_only, etc.
+    private final String beachSurface;         // sand, pebbles, rocks, mixed
+    private final String beachType;            // natural, artificial, etc.
+    private final String beachCharacteristics; // calm, windy, protected, etc.
+    private final String accessType;           // easy, difficult, boat_only, etc.
 
-    // Default constructor
+    // Empty location (not found)
     public BeachLocation() {
-        this.found = false;
+        this(new Builder());
     }
 
     // Constructor from NominatimResponse
     public BeachLocation(NominatimResponse nominatimResponse) {
-        this.name = nominatimResponse.getName();
-        this.displayName = nominatimResponse.getDisplayName();
-        this.latitude = Double.parseDouble(nominatimResponse.getLatitude());
-        this.longitude = Double.parseDouble(nominatimResponse.getLongitude());
-        this.type = nominatimResponse.getType();
-        this.classification = nominatimResponse.getClassification();
-        this.importance = nominatimResponse.getImportance();
-        this.found = true;
+        this(new Builder()
+                .name(nominatimResponse.getName())
+                .displayName(nominatimResponse.getDisplayName())
+                .latitude(Double.parseDouble(nominatimResponse.getLatitude()))
+                .longitude(Double.parseDouble(nominatimResponse.getLongitude()))
+                .type(nominatimResponse.getType())
+                .classification(nominatimResponse.getClassification())
+                .importance(nominatimResponse.getImportance() != null ? nominatimResponse.getImportance() : Double.NaN)
+                .found(true));
+    }
+
+    private BeachLocation(Builder builder) {
+        this.name = builder.name;
+        this.displayName = builder.displayName;
+        this.latitude = builder.latitude;
+        this.longitude = builder.longitude;
+        this.type = builder.type;
+        this.classification = builder.classification;
+        this.importance = builder.importance;
+        this.found = builder.found;
+        this.beachSurface = builder.beachSurface;
+        this.beachType = builder.beachType;
+        this.beachCharacteristics = builder.beachCharacteristics;
+        this.accessType = builder.accessType;
     }
 
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public Builder toBuilder() {
+        return new Builder()
+                .name(name)
+                .displayName(displayName)
+                .latitude(latitude)
+                .longitude(longitude)
+                .type(type)
+                .classification(classification)
+                .importance(importance)
+                .found(found)
+                .beachSurface(beachSurface)
+                .beachType(beachType)
+                .beachCharacteristics(beachCharacteristics)
+                .accessType(accessType);
+    }
+
+    public boolean hasImportance() {
+        return !Double.isNaN(importance);
+    }
 
     public boolean isBeach() {
         // Check beach type
@@ -54,25 +99,8 @@ public class BeachLocation {
             return true;
         }
 
-        // Check if name contains beach-related words
-        if (name != null) {
-            String lowerName = name.toLowerCase();
-            if (lowerName.contains("playa") || lowerName.contains("platja") ||
-                    lowerName.contains("beach") || lowerName.contains("cala")) {
-                return true;
-            }
-        }
-
-        // Check if display name contains beach-related words
-        if (displayName != null) {
-            String lowerDisplayName = displayName.toLowerCase();
-            if (lowerDisplayName.contains("playa") || lowerDisplayName.contains("platja") ||
-                    lowerDisplayName.contains("beach") || lowerDisplayName.contains("cala")) {
-                return true;
-            }
-        }
-
-        return false;
+        // Check if name or display name contains beach-related words
+        return BEACH_KEYWORDS.matches(name, displayName);
     }
 
     @Override
@@ -85,4 +113,89 @@ public class BeachLocation {
                 ", found=" + found +
                 '}';
     }
-}
\ No newline at end of file
+
+    /**
+     * Builder for locations created outside of Nominatim results and for enriched copies
+     */
+    public static final class Builder {
+        private String name;
+        private String displayName;
+        private double latitude;
+        private double longitude;
+        private String type;
+        private String classification;
+        private double importance = Double.NaN;
+        private boolean found;
+        private String beachSurface;
+        private String beachType;
+        private String beachCharacteristics;
+        private String accessType;
+
+        private Builder() {
+        }
+
+        public Builder name(String name) {
+            this.name = name;
+            return this;
+        }
+
+        public Builder displayName(String displayName) {
+            this.displayName = displayName;
+            return this;
+        }
+
+        public Builder latitude(double latitude) {
+            this.latitude = latitude;
+            return this;
+        }
+
+        public Builder longitude(double longitude) {
+            this.longitude = longitude;
+            return this;
+        }
+
+        public Builder type(String type) {
+            this.type = type;
+            return this;
+        }
+
+        public Builder classification(String classification) {
+            this.classification = classification;
+            return this;
+        }
+
+        public Builder importance(double importance) {
+            this.importance = importance;
+            return this;
+        }
+
+        public Builder found(boolean found) {
+            this.found = found;
+            return this;
+        }
+
+        public Builder beachSurface(String beachSurface) {
+            this.beachSurface = beachSurface;
+            return this;
+        }
+
+        public Builder beachType(String beachType) {
+            this.beachType = beachType;
+            return this;
+        }
+
+        public Builder beachCharacteristics(String beachCharacteristics) {
+            this.beachCharacteristics = beachCharacteristics;
+            return this;
+        }
+
+        public Builder accessType(String accessType) {
+            this.accessType = accessType;
+            return this;
+        }
+
+        public BeachLocation build() {
+            return new BeachLocation(this);
+        }
+    }
+}
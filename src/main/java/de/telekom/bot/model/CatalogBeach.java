@@ -0,0 +1,22 @@
+package de.telekom.bot.model;
+
+/**
+ * Beach from the bundled catalogue of well-known Spanish beaches
+ */
+public record CatalogBeach(String name, String region, double latitude, double longitude) {
+
+    /**
+     * Location for weather and characteristics lookups
+     */
+    public BeachLocation toBeachLocation() {
+        return BeachLocation.builder()
+                .name(name)
+                .displayName(name + ", " + region + ", España")
+                .latitude(latitude)
+                .longitude(longitude)
+                .type("beach")
+                .classification("natural")
+                .found(true)
+                .build();
+    }
+}
@@ -0,0 +1,118 @@
+package de.telekom.bot.model;
+
+/**
+ * Hourly forecast for one grid cell, stored as one float array per variable.
+ * <p>
+ * All arrays are indexed by the hours of a {@link TimeAxis}; cells fetched in the same model
+ * run share the same axis instance. Missing values are NaN. Instances are immutable.
+ */
+public final class HourlyForecast {
+
+    /**
+     * Hourly time axis: hour i starts at startEpochSecond + i * 3600
+     */
+    public record TimeAxis(long startEpochSecond, int hours) {
+
+        public long epochSecond(int hour) {
+            return startEpochSecond + hour * 3600L;
+        }
+
+        /**
+         * Index of the hour containing the instant, -1 if it is outside the axis
+         */
+        public int indexOf(long epochSecond) {
+            long hour = Math.floorDiv(epochSecond - startEpochSecond, 3600L);
+            return hour >= 0 && hour < hours ? (int) hour : -1;
+        }
+    }
+
+    public enum Variable {
+        AIR_TEMPERATURE,          // °C
+        WIND_SPEED,               // km/h
+        SEA_SURFACE_TEMPERATURE,  // °C
+        WAVE_HEIGHT               // m
+    }
+
+    private final TimeAxis axis;
+    private final long run;
+    private final float[][] values;
+
+    /**
+     * @param run    Model run the values belong to, the series expires with the next run
+     * @param values Arrays by {@link Variable#ordinal()}, each with axis.hours() values; null for a
+     *               variable without data
+     */
+    public HourlyForecast(TimeAxis axis, long run, float[][] values) {
+        if (values.length != Variable.values().length) {
+            throw new IllegalArgumentException("Expected " + Variable.values().length + " variables, got " + values.length);
+        }
+        this.axis = axis;
+        this.run = run;
+        this.values = new float[values.length][];
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] != null && values[i].length != axis.hours()) {
+                throw new IllegalArgumentException(Variable.values()[i] + " has " + values[i].length
+                        + " values for " + axis.hours() + " hours");
+            }
+            this.values[i] = values[i] != null ? values[i].clone() : null;
+        }
+    }
+
+    public TimeAxis getAxis() {
+        return axis;
+    }
+
+    public long getRun() {
+        return run;
+    }
+
+    /**
+     * Value of a variable at an hour of the axis, NaN if unknown
+     */
+    public float get(Variable variable, int hour) {
+        float[] series = values[variable.ordinal()];
+        return series != null && hour >= 0 && hour < series.length ? series[hour] : Float.NaN;
+    }
+
+    public boolean has(Variable variable) {
+        float[] series = values[variable.ordinal()];
+        if (series != null) {
+            for (float value : series) {
+                if (!Float.isNaN(value)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * How pleasant swimming is at an hour, from 0 to 1: warm air, calm wind, small waves and
+     * warm water. NaN if the air temperature is unknown.
+     */
+    public double swimScore(int hour) {
+        float air = get(Variable.AIR_TEMPERATURE, hour);
+        if (Float.isNaN(air)) {
+            return Double.NaN;
+        }
+
+        double score = clamp(1 - Math.abs(air - 28) / 10.0);
+        float wind = get(Variable.WIND_SPEED, hour);
+        if (!Float.isNaN(wind)) {
+            score *= clamp(1 - Math.max(0, wind - 10) / 30.0);
+        }
+        float waves = get(Variable.WAVE_HEIGHT, hour);
+        if (!Float.isNaN(waves)) {
+            score *= clamp(1 - Math.max(0, waves - 0.5) / 1.5);
+        }
+        float water = get(Variable.SEA_SURFACE_TEMPERATURE, hour);
+        if (!Float.isNaN(water)) {
+            score *= 0.5 + 0.5 * clamp((water - 16) / 8.0);
+        }
+        return score;
+    }
+
+    private static double clamp(double value) {
+        return Math.max(0, Math.min(1, value));
+    }
+}
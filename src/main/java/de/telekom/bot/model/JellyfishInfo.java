@@ -1,29 +1,45 @@
 package de.telekom.bot.model;
 
-import lombok.Data;
-import lombok.NoArgsConstructor;
-
+import java.time.Instant;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
+import java.time.ZoneId;
 import java.util.List;
 
 /**
- * Model for jellyfish information and alerts
+ * Immutable model for jellyfish information and alerts.
+ * <p>
+ * Timestamps are kept as epoch milliseconds and the sightings list is unmodifiable, so cached
+ * instances can be shared between requests and threads.
  */
-@Data
-@NoArgsConstructor
-public class JellyfishInfo {
-
-    private String location;
-    private double latitude;
-    private double longitude;
-    private RiskLevel riskLevel;
-    private List<JellyfishSighting> recentSightings = new ArrayList<>();
-    private String prediction;
-    private String safetyAdvice;
-    private String source;
-    private LocalDateTime lastUpdated;
-    private boolean hasPrediction;
+public final class JellyfishInfo {
+
+    private final String location;
+    private final double latitude;
+    private final double longitude;
+    private final RiskLevel riskLevel;
+    private final List<JellyfishSighting> recentSightings;
+    private final String prediction;
+    private final String safetyAdvice;
+    private final String source;
+    private final long lastUpdatedMillis;
+    private final boolean hasPrediction;
+
+    private JellyfishInfo(Builder builder) {
+        this.location = builder.location;
+        this.latitude = builder.latitude;
+        this.longitude = builder.longitude;
+        this.riskLevel = builder.riskLevel;
+        this.recentSightings = builder.recentSightings != null ? List.copyOf(builder.recentSightings) : List.of();
+        this.prediction = builder.prediction;
+        this.safetyAdvice = builder.safetyAdvice;
+        this.source = builder.source;
+        this.lastUpdatedMillis = builder.lastUpdatedMillis;
+        this.hasPrediction = builder.hasPrediction;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
 
     public enum RiskLevel {
         VERY_LOW("Very Low", "🟢", "Safe swimming conditions"),
@@ -59,20 +75,44 @@ public class JellyfishInfo {
         }
     }
 
-    @Data
-    @NoArgsConstructor
-    public static class JellyfishSighting {
-        private String species;
-        private String commonName;
-        private String description;
-        private LocalDateTime observedDate;
-        private double latitude;
-        private double longitude;
-        private String reportedBy;
-        private boolean verified;
-        private SeverityLevel severity;
-        private double distanceKm;
-        private int daysAgo;
+    /**
+     * Single sighting; species, common name and reporter are interned since the same few values
+     * repeat across all responses
+     */
+    public static final class JellyfishSighting {
+        private final String species;
+        private final String commonName;
+        private final String description;
+        private final long observedAtMillis;   // 0 if unknown
+        private final double latitude;
+        private final double longitude;
+        private final String reportedBy;
+        private final boolean verified;
+        private final SeverityLevel severity;
+        private final double distanceKm;
+        private final int daysAgo;
+
+        private JellyfishSighting(Builder builder) {
+            this.species = intern(builder.species);
+            this.commonName = intern(builder.commonName);
+            this.description = builder.description;
+            this.observedAtMillis = builder.observedAtMillis;
+            this.latitude = builder.latitude;
+            this.longitude = builder.longitude;
+            this.reportedBy = intern(builder.reportedBy);
+            this.verified = builder.verified;
+            this.severity = builder.severity;
+            this.distanceKm = builder.distanceKm;
+            this.daysAgo = builder.daysAgo;
+        }
+
+        public static Builder builder() {
+            return new Builder();
+        }
+
+        private static String intern(String value) {
+            return value != null ? value.intern() : null;
+        }
 
         public enum SeverityLevel {
             HARMLESS("Harmless", "🟢"),
@@ -102,6 +142,54 @@ public class JellyfishInfo {
             }
         }
 
+        public String getSpecies() {
+            return species;
+        }
+
+        public String getCommonName() {
+            return commonName;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+
+        public long getObservedAtMillis() {
+            return observedAtMillis;
+        }
+
+        public LocalDateTime getObservedDate() {
+            return observedAtMillis > 0 ? toLocalDateTime(observedAtMillis) : null;
+        }
+
+        public double getLatitude() {
+            return latitude;
+        }
+
+        public double getLongitude() {
+            return longitude;
+        }
+
+        public String getReportedBy() {
+            return reportedBy;
+        }
+
+        public boolean isVerified() {
+            return verified;
+        }
+
+        public SeverityLevel getSeverity() {
+            return severity;
+        }
+
+        public double getDistanceKm() {
+            return distanceKm;
+        }
+
+        public int getDaysAgo() {
+            return daysAgo;
+        }
+
         public String getFormattedDistance() {
             if (distanceKm < 1.0) {
                 return String.format("%.0fm away", distanceKm * 1000);
@@ -118,6 +206,130 @@ public class JellyfishInfo {
                 return daysAgo + " days ago";
             }
         }
+
+        public static final class Builder {
+            private String species;
+            private String commonName;
+            private String description;
+            private long observedAtMillis;
+            private double latitude;
+            private double longitude;
+            private String reportedBy;
+            private boolean verified;
+            private SeverityLevel severity;
+            private double distanceKm;
+            private int daysAgo;
+
+            private Builder() {
+            }
+
+            public Builder species(String species) {
+                this.species = species;
+                return this;
+            }
+
+            public Builder commonName(String commonName) {
+                this.commonName = commonName;
+                return this;
+            }
+
+            public Builder description(String description) {
+                this.description = description;
+                return this;
+            }
+
+            public Builder observedAtMillis(long observedAtMillis) {
+                this.observedAtMillis = observedAtMillis;
+                return this;
+            }
+
+            public Builder latitude(double latitude) {
+                this.latitude = latitude;
+                return this;
+            }
+
+            public Builder longitude(double longitude) {
+                this.longitude = longitude;
+                return this;
+            }
+
+            public Builder reportedBy(String reportedBy) {
+                this.reportedBy = reportedBy;
+                return this;
+            }
+
+            public Builder verified(boolean verified) {
+                this.verified = verified;
+                return this;
+            }
+
+            public Builder severity(SeverityLevel severity) {
+                this.severity = severity;
+                return this;
+            }
+
+            public Builder distanceKm(double distanceKm) {
+                this.distanceKm = distanceKm;
+                return this;
+            }
+
+            public Builder daysAgo(int daysAgo) {
+                this.daysAgo = daysAgo;
+                return this;
+            }
+
+            public JellyfishSighting build() {
+                return new JellyfishSighting(this);
+            }
+        }
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+
+    public String getLocation() {
+        return location;
+    }
+
+    public double getLatitude() {
+        return latitude;
+    }
+
+    public double getLongitude() {
+        return longitude;
+    }
+
+    public RiskLevel getRiskLevel() {
+        return riskLevel;
+    }
+
+    public List<JellyfishSighting> getRecentSightings() {
+        return recentSightings;
+    }
+
+    public String getPrediction() {
+        return prediction;
+    }
+
+    public String getSafetyAdvice() {
+        return safetyAdvice;
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    public long getLastUpdatedMillis() {
+        return lastUpdatedMillis;
+    }
+
+    public LocalDateTime getLastUpdated() {
+        return lastUpdatedMillis > 0 ? toLocalDateTime(lastUpdatedMillis) : null;
+    }
+
+    public boolean isHasPrediction() {
+        return hasPrediction;
     }
 
     public boolean hasRecentSightings() {
@@ -162,4 +374,74 @@ public class JellyfishInfo {
                 .filter(s -> s.getDaysAgo() <= 7) // Last week
                 .count();
     }
-}
\ No newline at end of file
+
+    public static final class Builder {
+        private String location;
+        private double latitude;
+        private double longitude;
+        private RiskLevel riskLevel;
+        private List<JellyfishSighting> recentSightings;
+        private String prediction;
+        private String safetyAdvice;
+        private String source;
+        private long lastUpdatedMillis;
+        private boolean hasPrediction;
+
+        private Builder() {
+        }
+
+        public Builder location(String location) {
+            this.location = location;
+            return this;
+        }
+
+        public Builder latitude(double latitude) {
+            this.latitude = latitude;
+            return this;
+        }
+
+        public Builder longitude(double longitude) {
+            this.longitude = longitude;
+            return this;
+        }
+
+        public Builder riskLevel(RiskLevel riskLevel) {
+            this.riskLevel = riskLevel;
+            return this;
+        }
+
+        public Builder recentSightings(List<JellyfishSighting> recentSightings) {
+            this.recentSightings = recentSightings;
+            return this;
+        }
+
+        public Builder prediction(String prediction) {
+            this.prediction = prediction;
+            return this;
+        }
+
+        public Builder safetyAdvice(String safetyAdvice) {
+            this.safetyAdvice = safetyAdvice;
+            return this;
+        }
+
+        public Builder source(String source) {
+            this.source = source;
+            return this;
+        }
+
+        public Builder lastUpdatedMillis(long lastUpdatedMillis) {
+            this.lastUpdatedMillis = lastUpdatedMillis;
+            return this;
+        }
+
+        public Builder hasPrediction(boolean hasPrediction) {
+            this.hasPrediction = hasPrediction;
+            return this;
+        }
+
+        public JellyfishInfo build() {
+            return new JellyfishInfo(this);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package de.telekom.bot.model;
+
+import lombok.Data;
+
+/**
+ * Configuration model for Overpass API settings and the beach tile cache
+ */
+@Data
+public class OverpassConfig {
+    private final Api api = new Api();
+    private final TileCache tileCache = new TileCache();
+    private final OfflineIndex offlineIndex = new OfflineIndex();
+
+    @Data
+    public static class Api {
+        private String interpreterUrl = "https://overpass-api.de/api/interpreter";
+        private int timeoutSeconds = 10;
+        private int connectTimeoutSeconds = 8;
+        private boolean enabled = true;
+    }
+
+    @Data
+    public static class TileCache {
+        private int zoom = 12;                  // Slippy map zoom level (~10 km tiles in Spain)
+        private int ttlHours = 168;             // Beach surfaces barely change, keep tiles for a week
+        private String directory = "cache/overpass-tiles"; // Where tiles are persisted between restarts
+    }
+
+    @Data
+    public static class OfflineIndex {
+        private String path = "";               // Beach polygon index built from an OSM extract; empty = disabled
+    }
+}
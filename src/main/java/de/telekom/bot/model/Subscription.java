@@ -0,0 +1,47 @@
+package de.telekom.bot.model;
+
+import de.telekom.bot.util.AccentFolding;
+
+import java.util.Locale;
+
+/**
+ * A chat's subscription to condition alerts for one beach
+ *
+ * @param minWaterTemperature Alert when the water is at least this warm, null to disable
+ * @param jellyfishRisk       Alert when the jellyfish risk reaches this level, null to disable
+ * @param lastAlert           Key of the last alert sent, so an unchanged alert is pushed once a day
+ */
+public record Subscription(long chatId, String beach, double latitude, double longitude,
+                           Double minWaterTemperature, JellyfishInfo.RiskLevel jellyfishRisk, String lastAlert) {
+
+    public static final JellyfishInfo.RiskLevel DEFAULT_JELLYFISH_RISK = JellyfishInfo.RiskLevel.MODERATE;
+
+    /**
+     * Accent- and case-insensitive beach key, one subscription per chat and key
+     */
+    public String beachKey() {
+        return AccentFolding.fold(beach);
+    }
+
+    /**
+     * Coordinates rounded to ~1 km, subscriptions to the same beach share one evaluation
+     */
+    public String locationKey() {
+        return String.format(Locale.ROOT, "%.2f,%.2f", latitude, longitude);
+    }
+
+    public boolean isJellyfishTriggered(WeatherInfo weather) {
+        JellyfishInfo jellyfish = weather.getJellyfishInfo();
+        return jellyfishRisk != null && jellyfish != null && jellyfish.getRiskLevel() != null
+                && jellyfish.getRiskLevel().compareTo(jellyfishRisk) >= 0;
+    }
+
+    public boolean isWaterTriggered(WeatherInfo weather) {
+        return minWaterTemperature != null && weather.isWaterTempFound()
+                && weather.getWaterTemperature() >= minWaterTemperature;
+    }
+
+    public Subscription withLastAlert(String alert) {
+        return new Subscription(chatId, beach, latitude, longitude, minWaterTemperature, jellyfishRisk, alert);
+    }
+}
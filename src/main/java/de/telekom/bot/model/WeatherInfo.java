@@ -1,94 +1,122 @@
 package de.telekom.bot.model;
 
-import lombok.Getter;
-
 /**
- * Model for weather information including air and water temperature
+ * Immutable weather information including air and water temperature.
+ * <p>
+ * Numeric values are stored as primitives with a presence bitmask, so cached instances can be
+ * shared between threads without copying.
  */
-@Getter
-public class WeatherInfo {
-
-    private Double airTemperature;      // Temperature in Celsius
-    private Double waterTemperature;    // Water temperature in Celsius
-    private String description;         // Weather description (e.g., "clear sky", "light rain")
-    private Integer humidity;           // Humidity percentage
-    private Double windSpeed;           // Wind speed in m/s
-    private String location;            // Location name
-    private boolean airTempFound;       // Whether air temperature was successfully retrieved
-    private boolean waterTempFound;     // Whether water temperature was successfully retrieved
-    private String source;              // Data source information
-    private JellyfishInfo jellyfishInfo; // Jellyfish safety information
-
-    // Default constructor
+public final class WeatherInfo {
+
+    // Presence flags for the numeric fields
+    private static final int AIR_TEMPERATURE = 1;
+    private static final int WATER_TEMPERATURE = 1 << 1;
+    private static final int HUMIDITY = 1 << 2;
+    private static final int WIND_SPEED = 1 << 3;
+
+    private final int present;
+    private final double airTemperature;     // Temperature in Celsius
+    private final double waterTemperature;   // Water temperature in Celsius
+    private final int humidity;              // Humidity percentage
+    private final double windSpeed;          // Wind speed in m/s
+    private final String description;        // Weather description (e.g., "clear sky", "light rain")
+    private final String location;           // Location name
+    private final String source;             // Data source information
+    private final JellyfishInfo jellyfishInfo; // Jellyfish safety information
+
+    // Empty weather info
     public WeatherInfo() {
-        this.airTempFound = false;
-        this.waterTempFound = false;
+        this(new Builder());
+    }
+
+    private WeatherInfo(Builder builder) {
+        this.present = builder.present;
+        this.airTemperature = builder.airTemperature;
+        this.waterTemperature = builder.waterTemperature;
+        this.humidity = builder.humidity;
+        this.windSpeed = builder.windSpeed;
+        this.description = builder.description;
+        this.location = builder.location;
+        this.source = builder.source;
+        this.jellyfishInfo = builder.jellyfishInfo;
     }
 
-    // Constructor with basic temperature data
-    public WeatherInfo(Double airTemperature, Double waterTemperature) {
-        this.airTemperature = airTemperature;
-        this.waterTemperature = waterTemperature;
-        this.airTempFound = airTemperature != null;
-        this.waterTempFound = waterTemperature != null;
+    public static Builder builder() {
+        return new Builder();
     }
 
-    // Custom setters with logic
-    public void setAirTemperature(Double airTemperature) {
-        this.airTemperature = airTemperature;
-        this.airTempFound = airTemperature != null;
+    public Builder toBuilder() {
+        Builder builder = new Builder()
+                .description(description)
+                .location(location)
+                .source(source)
+                .jellyfishInfo(jellyfishInfo);
+        builder.present = present;
+        builder.airTemperature = airTemperature;
+        builder.waterTemperature = waterTemperature;
+        builder.humidity = humidity;
+        builder.windSpeed = windSpeed;
+        return builder;
     }
 
-    public void setWaterTemperature(Double waterTemperature) {
-        this.waterTemperature = waterTemperature;
-        this.waterTempFound = waterTemperature != null;
+    private boolean has(int flag) {
+        return (present & flag) != 0;
     }
 
-    // Standard setters for other fields
-    public void setDescription(String description) {
-        this.description = description;
+    // Accessors return null for missing values, the primitives are only boxed on access
+
+    public Double getAirTemperature() {
+        return has(AIR_TEMPERATURE) ? airTemperature : null;
     }
 
-    public void setHumidity(Integer humidity) {
-        this.humidity = humidity;
+    public Double getWaterTemperature() {
+        return has(WATER_TEMPERATURE) ? waterTemperature : null;
     }
 
-    public void setWindSpeed(Double windSpeed) {
-        this.windSpeed = windSpeed;
+    public Integer getHumidity() {
+        return has(HUMIDITY) ? humidity : null;
     }
 
-    public void setLocation(String location) {
-        this.location = location;
+    public Double getWindSpeed() {
+        return has(WIND_SPEED) ? windSpeed : null;
     }
 
-    public void setAirTempFound(boolean airTempFound) {
-        this.airTempFound = airTempFound;
+    public boolean isAirTempFound() {
+        return has(AIR_TEMPERATURE);
     }
 
-    public void setWaterTempFound(boolean waterTempFound) {
-        this.waterTempFound = waterTempFound;
+    public boolean isWaterTempFound() {
+        return has(WATER_TEMPERATURE);
     }
 
-    public void setSource(String source) {
-        this.source = source;
+    public String getDescription() {
+        return description;
     }
 
-    public void setJellyfishInfo(JellyfishInfo jellyfishInfo) {
-        this.jellyfishInfo = jellyfishInfo;
+    public String getLocation() {
+        return location;
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    public JellyfishInfo getJellyfishInfo() {
+        return jellyfishInfo;
     }
 
     /**
      * Check if any temperature data was found
      */
     public boolean hasTemperatureData() {
-        return airTempFound || waterTempFound;
+        return has(AIR_TEMPERATURE | WATER_TEMPERATURE);
     }
 
     /**
      * Get formatted air temperature string
      */
     public String getFormattedAirTemperature() {
-        if (airTemperature == null) {
+        if (!has(AIR_TEMPERATURE)) {
             return "N/A";
         }
         return String.format("%.1f°C", airTemperature);
@@ -98,7 +126,7 @@ public class WeatherInfo {
      * Get formatted water temperature string
      */
     public String getFormattedWaterTemperature() {
-        if (waterTemperature == null) {
+        if (!has(WATER_TEMPERATURE)) {
             return "N/A";
         }
         return String.format("%.1f°C", waterTemperature);
@@ -114,7 +142,7 @@ public class WeatherInfo {
 
         StringBuilder comfort = new StringBuilder();
 
-        if (airTempFound && airTemperature != null) {
+        if (has(AIR_TEMPERATURE)) {
             if (airTemperature >= 25) {
                 comfort.append("🌤️ Perfect beach weather");
             } else if (airTemperature >= 20) {
@@ -126,7 +154,7 @@ public class WeatherInfo {
             }
         }
 
-        if (waterTempFound && waterTemperature != null) {
+        if (has(WATER_TEMPERATURE)) {
             if (comfort.length() > 0) {
                 comfort.append(", ");
             }
@@ -162,7 +190,76 @@ public class WeatherInfo {
 
     @Override
     public String toString() {
-        return String.format("WeatherInfo{air=%.1f°C, water=%.1f°C, description='%s', location='%s'}",
-                airTemperature, waterTemperature, description, location);
+        return String.format("WeatherInfo{air=%s, water=%s, description='%s', location='%s'}",
+                getFormattedAirTemperature(), getFormattedWaterTemperature(), description, location);
+    }
+
+    /**
+     * Builder collecting weather data from the individual sources
+     */
+    public static final class Builder {
+        private int present;
+        private double airTemperature;
+        private double waterTemperature;
+        private int humidity;
+        private double windSpeed;
+        private String description;
+        private String location;
+        private String source;
+        private JellyfishInfo jellyfishInfo;
+
+        private Builder() {
+        }
+
+        // Null values mark the field as missing
+
+        public Builder airTemperature(Double airTemperature) {
+            this.airTemperature = airTemperature != null ? airTemperature : 0;
+            return flag(AIR_TEMPERATURE, airTemperature != null);
+        }
+
+        public Builder waterTemperature(Double waterTemperature) {
+            this.waterTemperature = waterTemperature != null ? waterTemperature : 0;
+            return flag(WATER_TEMPERATURE, waterTemperature != null);
+        }
+
+        public Builder humidity(Integer humidity) {
+            this.humidity = humidity != null ? humidity : 0;
+            return flag(HUMIDITY, humidity != null);
+        }
+
+        public Builder windSpeed(Double windSpeed) {
+            this.windSpeed = windSpeed != null ? windSpeed : 0;
+            return flag(WIND_SPEED, windSpeed != null);
+        }
+
+        public Builder description(String description) {
+            this.description = description;
+            return this;
+        }
+
+        public Builder location(String location) {
+            this.location = location;
+            return this;
+        }
+
+        public Builder source(String source) {
+            this.source = source;
+            return this;
+        }
+
+        public Builder jellyfishInfo(JellyfishInfo jellyfishInfo) {
+            this.jellyfishInfo = jellyfishInfo;
+            return this;
+        }
+
+        public WeatherInfo build() {
+            return new WeatherInfo(this);
+        }
+
+        private Builder flag(int flag, boolean set) {
+            present = set ? present | flag : present & ~flag;
+            return this;
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,190 @@
+package de.telekom.bot.service;
+
+import de.telekom.bot.config.AdmissionConfig;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Admits expensive updates (beach lookups) onto a fixed set of workers while the expected
+ * queueing delay stays within the latency target, and sheds the rest.
+ * <p>
+ * The expected delay is the queue length times the recent average handling time divided by the
+ * number of workers. A shed update gets its cheap fallback instead, run on the caller's thread.
+ * Updates that still waited past the target (the estimate was too optimistic) are shed when
+ * they reach a worker, so nobody gets an answer that is already too late.
+ * <p>
+ * On shutdown it stops after polling has stopped and lets admitted updates finish within the
+ * configured grace period.
+ */
+@Component
+public class AdmissionController implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(AdmissionController.class);
+
+    private static final double SERVICE_TIME_ALPHA = 0.1;
+
+    private final AdmissionConfig admissionConfig;
+    private final ThreadPoolExecutor executor;
+
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong shed = new AtomicLong();
+    private final AtomicBoolean overloaded = new AtomicBoolean();
+    private volatile double averageServiceMillis;
+    private volatile boolean running;
+
+    public AdmissionController(AdmissionConfig admissionConfig) {
+        this.admissionConfig = admissionConfig;
+        this.averageServiceMillis = admissionConfig.getInitialServiceTimeMs();
+        int workers = Math.max(1, admissionConfig.getWorkers());
+        this.executor = new ThreadPoolExecutor(workers, workers, 0, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "update-worker");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    /**
+     * Run a task on a worker, or its fallback right away when the queue is over the target
+     *
+     * @return true if the task was admitted
+     */
+    public boolean submit(Runnable task, Runnable fallback) {
+        if (!admissionConfig.isEnabled()) {
+            task.run();
+            return true;
+        }
+
+        long estimatedWait = estimatedWaitMillis();
+        if (queued.get() >= admissionConfig.getMaxQueued() || estimatedWait > admissionConfig.getLatencyTargetMs()) {
+            shed(fallback, estimatedWait);
+            return false;
+        }
+
+        long enqueuedAt = System.nanoTime();
+        queued.incrementAndGet();
+        try {
+            executor.execute(() -> {
+                queued.decrementAndGet();
+                long waitedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - enqueuedAt);
+                if (waitedMillis > admissionConfig.getLatencyTargetMs()) {
+                    shed(fallback, waitedMillis);
+                    return;
+                }
+                run(task);
+            });
+        } catch (RejectedExecutionException e) {
+            queued.decrementAndGet();
+            shed(fallback, estimatedWait);
+            return false;
+        }
+        return true;
+    }
+
+    private void run(Runnable task) {
+        inFlight.incrementAndGet();
+        long start = System.nanoTime();
+        try {
+            task.run();
+        } finally {
+            inFlight.decrementAndGet();
+            recordServiceTime((System.nanoTime() - start) / 1_000_000.0);
+            if (queued.get() == 0 && overloaded.compareAndSet(true, false)) {
+                logger.info("Update queue drained, {} updates shed during overload", shed.get());
+            }
+        }
+    }
+
+    private synchronized void recordServiceTime(double millis) {
+        averageServiceMillis += (millis - averageServiceMillis) * SERVICE_TIME_ALPHA;
+    }
+
+    private void shed(Runnable fallback, long waitMillis) {
+        shed.incrementAndGet();
+        if (overloaded.compareAndSet(false, true)) {
+            logger.warn("Overloaded: shedding lookups ({} queued, {} in flight, ~{}ms wait)",
+                    queued.get(), inFlight.get(), waitMillis);
+        } else {
+            logger.debug("Shedding lookup, ~{}ms wait", waitMillis);
+        }
+        fallback.run();
+    }
+
+    /**
+     * Expected wait of a lookup submitted now
+     */
+    public long estimatedWaitMillis() {
+        int waiting = queued.get() + inFlight.get() - executor.getMaximumPoolSize();
+        if (waiting < 0) {
+            return 0;
+        }
+        return Math.round((waiting + 1) * averageServiceMillis / executor.getMaximumPoolSize());
+    }
+
+    public int getQueued() {
+        return queued.get();
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public long getShedCount() {
+        return shed.get();
+    }
+
+    @Override
+    public void start() {
+        running = true;
+    }
+
+    /**
+     * Stop taking updates and wait for the admitted ones; later submissions get their fallback
+     */
+    @Override
+    public void stop() {
+        running = false;
+        executor.shutdown();
+        int pending = queued.get() + inFlight.get();
+        if (pending > 0) {
+            logger.info("Waiting up to {}ms for {} admitted updates", admissionConfig.getShutdownGraceMs(), pending);
+        }
+        try {
+            if (!executor.awaitTermination(admissionConfig.getShutdownGraceMs(), TimeUnit.MILLISECONDS)) {
+                logger.warn("Shutdown grace period over, abandoning {} updates", queued.get() + inFlight.get());
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            executor.shutdownNow();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // Stops right after polling (BotRegistration, default phase), before anything updates rely on
+    @Override
+    public int getPhase() {
+        return DEFAULT_PHASE - 1;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,142 @@
+package de.telekom.bot.service;
+
+import de.telekom.bot.geo.BeachCatalogFile;
+import de.telekom.bot.geo.BeachCatalogFileBuilder;
+import de.telekom.bot.geo.SphericalKdTree;
+import de.telekom.bot.model.CatalogBeach;
+import de.telekom.bot.util.AccentFolding;
+import de.telekom.bot.util.PrefixIndex;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.IntStream;
+
+/**
+ * Catalogue of well-known Spanish beaches.
+ * <p>
+ * The records are read from a memory-mapped {@link BeachCatalogFile} when catalog.path points
+ * at one (./gradlew buildBeachCatalog), so replicas on one host share its pages; otherwise the
+ * same format is built on the heap from the bundled resources. Only the small search indexes
+ * below are Java objects, and they hold record numbers rather than beaches.
+ */
+@Component
+public class BeachCatalog {
+
+    private static final Logger logger = LoggerFactory.getLogger(BeachCatalog.class);
+
+    static final String CATALOG_RESOURCE = "/catalog/beaches.csv";
+
+    @Value("${catalog.path:}")
+    private String catalogPath = "";
+
+    private volatile Indexes indexes = new Indexes(BeachCatalogFile.wrap(new BeachCatalogFileBuilder().build()));
+
+    /**
+     * Catalogue records with nearest-neighbour and name indexes over their numbers
+     */
+    private static final class Indexes {
+        final BeachCatalogFile file;
+        final SphericalKdTree<Integer> nearest;
+        final PrefixIndex<Integer> names;
+
+        Indexes(BeachCatalogFile file) {
+            this.file = file;
+            List<Integer> beaches = IntStream.range(0, file.size()).boxed().toList();
+            this.nearest = SphericalKdTree.build(beaches, file::latitude, file::longitude);
+            this.names = PrefixIndex.build(beaches, beach -> file.name(beach) + " " + file.region(beach));
+        }
+
+        CatalogBeach beach(int beach) {
+            return new CatalogBeach(file.name(beach), file.region(beach), file.latitude(beach), file.longitude(beach));
+        }
+    }
+
+    @PostConstruct
+    public void loadCatalog() {
+        try {
+            long start = System.nanoTime();
+            BeachCatalogFile file = catalogPath == null || catalogPath.isBlank() ? buildBundled() : mapFile(Paths.get(catalogPath));
+            if (file == null) {
+                return;
+            }
+            indexes = new Indexes(file);
+            logger.info("Loaded beach catalogue with {} beaches in {}ms",
+                    file.size(), (System.nanoTime() - start) / 1_000_000);
+        } catch (Exception e) {
+            logger.error("Failed to load beach catalogue", e);
+        }
+    }
+
+    private BeachCatalogFile mapFile(Path path) throws IOException {
+        if (!Files.exists(path)) {
+            logger.warn("Beach catalogue {} not found, using the bundled catalogue", path);
+            return buildBundled();
+        }
+        return BeachCatalogFile.open(path);
+    }
+
+    /**
+     * Build the catalogue format on the heap from the bundled resources
+     */
+    private static BeachCatalogFile buildBundled() throws IOException {
+        BeachCatalogFileBuilder builder = new BeachCatalogFileBuilder();
+        try (InputStream in = BeachCatalog.class.getResourceAsStream(CATALOG_RESOURCE)) {
+            if (in == null) {
+                logger.warn("Beach catalogue {} not found, nearby search disabled", CATALOG_RESOURCE);
+                return null;
+            }
+            builder.readBeaches(in);
+        }
+        return BeachCatalogFile.wrap(builder.build());
+    }
+
+    public int size() {
+        return indexes.file.size();
+    }
+
+    /**
+     * Find the catalogue beaches closest to a coordinate, closest first
+     *
+     * @param radiusKm Maximum great-circle distance
+     */
+    public List<SphericalKdTree.Neighbor<CatalogBeach>> findNearest(double latitude, double longitude, int limit, double radiusKm) {
+        Indexes current = indexes;
+        return current.nearest.nearest(latitude, longitude, limit, radiusKm).stream()
+                .map(neighbor -> new SphericalKdTree.Neighbor<>(current.beach(neighbor.item()), neighbor.distanceKm()))
+                .toList();
+    }
+
+    /**
+     * Autocomplete beach names, ignoring case and accents
+     *
+     * @param query Beginning of the beach name or of any word in its name or region
+     */
+    public List<CatalogBeach> findByNamePrefix(String query, int limit) {
+        Indexes current = indexes;
+        return current.names.search(query, limit).stream().map(current::beach).toList();
+    }
+
+    /**
+     * Catalogue beach a free-text name clearly refers to, e.g. "levante" for Playa de Levante (Benidorm)
+     *
+     * @return Empty if no beach or more than one beach matches
+     */
+    public Optional<CatalogBeach> findByName(String name) {
+        if (AccentFolding.fold(name).length() < 3) {
+            return Optional.empty();
+        }
+        Indexes current = indexes;
+        List<Integer> matches = current.names.search(name, 2);
+        return matches.size() == 1 ? Optional.of(current.beach(matches.get(0))) : Optional.empty();
+    }
+}
@@ -1,24 +1,16 @@
 package de.telekom.bot.service;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import de.telekom.bot.config.AppFeaturesConfig;
 import de.telekom.bot.model.BeachLocation;
+import de.telekom.bot.util.KeywordMatcher;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
 
-import java.io.IOException;
-import java.net.URI;
-import java.net.URLEncoder;
-import java.net.http.HttpClient;
-import java.net.http.HttpRequest;
-import java.net.http.HttpResponse;
-import java.nio.charset.StandardCharsets;
-import java.time.Duration;
-import java.util.Collections;
-import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
@@ -29,17 +21,23 @@ import java.util.concurrent.TimeUnit;
  * Service for retrieving beach surface and characteristics information
  */
 @Service
+@Lazy
 @RequiredArgsConstructor
 public class BeachCharacteristicsService {
 
     private static final Logger logger = LoggerFactory.getLogger(BeachCharacteristicsService.class);
 
-    private final HttpClient httpClient = HttpClient.newBuilder()
-            .connectTimeout(Duration.ofSeconds(8))
-            .build();
-    private final ObjectMapper objectMapper = new ObjectMapper();
     private final AppFeaturesConfig appFeaturesConfig;
-    private final ExecutorService executorService = Executors.newFixedThreadPool(2);
+    private final OverpassTileCache overpassTileCache;
+    private final OfflineBeachIndex offlineBeachIndex;
+    // Town and region surface defaults
+    private final ContentIndex contentIndex;
+    // Overpass calls are bounded by its adaptive concurrency limit, not by the pool size
+    private final ExecutorService executorService = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "beach-characteristics");
+        thread.setDaemon(true);
+        return thread;
+    });
 
     // Search radius for nearby beach features
     private static final double SEARCH_RADIUS_KM = 5.0;
@@ -56,49 +54,19 @@ public class BeachCharacteristicsService {
             "artificial", "Artificial"
     );
 
-    // Common Spanish beach types and their characteristics
-    private static final Map<String, BeachInfo> SPANISH_BEACH_DATABASE;
-
-    static {
-        Map<String, BeachInfo> database = new HashMap<>();
-
-        // Costa Brava
-        database.put("platja d'aro", new BeachInfo("Sand", "Natural", "Protected bay"));
-        database.put("tossa de mar", new BeachInfo("Sand", "Natural", "Historic cove"));
-        database.put("lloret de mar", new BeachInfo("Sand", "Natural", "Tourist beach"));
-
-        // Costa del Sol  
-        database.put("marbella", new BeachInfo("Sand", "Natural", "Golden sand"));
-        database.put("nerja", new BeachInfo("Mixed", "Natural", "Coves and beaches"));
-        database.put("torremolinos", new BeachInfo("Sand", "Natural", "Dark sand"));
-
-        // Costa Blanca
-        database.put("benidorm", new BeachInfo("Sand", "Natural", "Fine golden sand"));
-        database.put("calpe", new BeachInfo("Sand", "Natural", "Wide sandy beach"));
-        database.put("denia", new BeachInfo("Sand", "Natural", "Fine sand"));
-
-        // Valencia region
-        database.put("valencia", new BeachInfo("Sand", "Natural", "Urban beach"));
-        database.put("gandia", new BeachInfo("Sand", "Natural", "Fine white sand"));
-        database.put("cullera", new BeachInfo("Sand", "Natural", "Family beach"));
-
-        // Balearic Islands
-        database.put("palma", new BeachInfo("Sand", "Natural", "City beaches"));
-        database.put("cala millor", new BeachInfo("Sand", "Natural", "White sand"));
-        database.put("magaluf", new BeachInfo("Sand", "Natural", "Tourist beach"));
-
-        // Canary Islands
-        database.put("las canteras", new BeachInfo("Sand", "Natural", "Golden sand"));
-        database.put("maspalomas", new BeachInfo("Sand", "Natural", "Sand dunes"));
-        database.put("playa del ingles", new BeachInfo("Sand", "Natural", "Dark sand"));
-
-        // Northern Spain
-        database.put("san sebastian", new BeachInfo("Sand", "Natural", "Shell-shaped bay"));
-        database.put("santander", new BeachInfo("Sand", "Natural", "Protected bay"));
-        database.put("gijon", new BeachInfo("Sand", "Natural", "Urban beach"));
+    // Surface clues in OSM beach names
+    private static final KeywordMatcher<BeachInfo> OSM_NAME_CLUES = KeywordMatcher.<BeachInfo>builder()
+            .add(new BeachInfo("Sandy", "Natural", "Sandy beach"), "sand")
+            .add(new BeachInfo("Rocky", "Natural", "Rocky coastline"), "rock", "stone")
+            .add(new BeachInfo("Pebble", "Natural", "Pebble beach"), "pebble")
+            .build();
 
-        SPANISH_BEACH_DATABASE = Collections.unmodifiableMap(database);
-    }
+    // Surface clues in geocoded location names
+    private static final KeywordMatcher<BeachInfo> NAME_CLUES = KeywordMatcher.<BeachInfo>builder()
+            .add(new BeachInfo("Mixed", "Natural", "Small cove"), "cala")
+            .add(new BeachInfo("Sandy", "Natural", "Sandy beach"), "arena", "sand")
+            .add(new BeachInfo("Rocky", "Natural", "Rocky coastline"), "rock", "stone", "piedra")
+            .build();
 
     private static class BeachInfo {
         final String surface;
@@ -114,22 +82,26 @@ public class BeachCharacteristicsService {
 
     /**
      * Enhance beach location with surface and characteristics information
+     *
+     * @return Copy of the location with beach characteristics, or the location itself if invalid
      */
-    public void enhanceBeachLocation(BeachLocation location) {
+    public BeachLocation enhanceBeachLocation(BeachLocation location) {
         if (location == null || !location.isFound()) {
             logger.warn("Cannot enhance invalid beach location");
-            return;
+            return location;
         }
 
-        logger.info("Enhancing beach location: {} at {}, {}",
+        logger.debug("Enhancing beach location: {} at {}, {}",
                 location.getName(), location.getLatitude(), location.getLongitude());
 
         // Try multiple approaches in parallel
         CompletableFuture<BeachInfo> dbLookup = CompletableFuture.supplyAsync(() ->
                 lookupInDatabase(location), executorService);
 
-        CompletableFuture<BeachInfo> osmLookup = CompletableFuture.supplyAsync(() ->
-                getFromOverpassAPI(location), executorService);
+        // The offline polygon index answers without any upstream call when it is available
+        CompletableFuture<BeachInfo> osmLookup = offlineBeachIndex.isAvailable()
+                ? CompletableFuture.completedFuture(getFromOfflineIndex(location))
+                : CompletableFuture.supplyAsync(() -> getFromOverpassAPI(location), executorService);
 
         try {
             // Wait for both lookups (max 5 seconds)
@@ -143,145 +115,81 @@ public class BeachCharacteristicsService {
 
             // Apply the information to the location
             if (finalInfo != null) {
-                location.setBeachSurface(finalInfo.surface);
-                location.setBeachType(finalInfo.type);
-                location.setAccessType("Easy access"); // Default for now
-
-                logger.info("Enhanced beach info: surface={}, type={}",
+                logger.debug("Enhanced beach info: surface={}, type={}",
                         finalInfo.surface, finalInfo.type);
+                return withBeachInfo(location, finalInfo);
             }
+            return location;
 
         } catch (Exception e) {
             logger.warn("Failed to enhance beach location", e);
             // Apply fallback information
-            applyFallbackInfo(location);
+            return applyFallbackInfo(location);
         }
     }
 
     /**
-     * Look up beach info in our curated database
+     * Look up the surface defaults of the town named in the location name, else in its display name
      */
     private BeachInfo lookupInDatabase(BeachLocation location) {
         if (location.getName() == null) return null;
 
-        String searchKey = location.getName().toLowerCase()
-                .replace("playa de ", "")
-                .replace("playa ", "")
-                .replace("platja de ", "")
-                .replace("platja ", "")
-                .trim();
-
-        // Try exact match first
-        BeachInfo info = SPANISH_BEACH_DATABASE.get(searchKey);
-        if (info != null) {
-            logger.debug("Found exact database match for: {}", searchKey);
-            return info;
-        }
-
-        // Try partial matches
-        for (Map.Entry<String, BeachInfo> entry : SPANISH_BEACH_DATABASE.entrySet()) {
-            if (searchKey.contains(entry.getKey()) || entry.getKey().contains(searchKey)) {
-                logger.debug("Found partial database match: {} -> {}", searchKey, entry.getKey());
-                return entry.getValue();
-            }
-        }
-
-        // Try display name
-        if (location.getDisplayName() != null) {
-            String displayKey = location.getDisplayName().toLowerCase();
-            for (Map.Entry<String, BeachInfo> entry : SPANISH_BEACH_DATABASE.entrySet()) {
-                if (displayKey.contains(entry.getKey())) {
-                    logger.debug("Found display name match: {} -> {}", displayKey, entry.getKey());
-                    return entry.getValue();
-                }
-            }
-        }
+        return contentIndex.findSurfaceDefaults(ContentIndex.Place.Kind.TOWN, location.getName())
+                .or(() -> contentIndex.findSurfaceDefaults(ContentIndex.Place.Kind.TOWN, location.getDisplayName()))
+                .map(place -> {
+                    logger.debug("Found content match for {}: {}", location.getName(), place.id());
+                    return new BeachInfo(place.surface(), place.beachType(), place.characteristics());
+                })
+                .orElse(null);
+    }
 
-        return null;
+    /**
+     * Get beach surface info from the offline OSM beach polygon index
+     */
+    private BeachInfo getFromOfflineIndex(BeachLocation location) {
+        return offlineBeachIndex.findBeach(location.getLatitude(), location.getLongitude(), SEARCH_RADIUS_KM)
+                .map(beach -> toBeachInfo(beach.name(), beach.surface(), null))
+                .orElse(null);
     }
 
     /**
-     * Get beach surface info from OpenStreetMap via Overpass API
+     * Get beach surface info from OpenStreetMap via the tile-keyed Overpass cache
      */
     private BeachInfo getFromOverpassAPI(BeachLocation location) {
         try {
-            // Search for beach features near the location
-            String overpassQuery = String.format(
-                    "[out:json][timeout:5];" +
-                            "(node[\"natural\"=\"beach\"](around:%d,%f,%f);" +
-                            " way[\"natural\"=\"beach\"](around:%d,%f,%f);" +
-                            " relation[\"natural\"=\"beach\"](around:%d,%f,%f););" +
-                            "out geom;",
-                    (int) (SEARCH_RADIUS_KM * 1000), location.getLatitude(), location.getLongitude(),
-                    (int) (SEARCH_RADIUS_KM * 1000), location.getLatitude(), location.getLongitude(),
-                    (int) (SEARCH_RADIUS_KM * 1000), location.getLatitude(), location.getLongitude()
-            );
-
-            String url = "https://overpass-api.de/api/interpreter";
-
-            HttpRequest request = HttpRequest.newBuilder()
-                    .uri(URI.create(url))
-                    .header("Content-Type", "application/x-www-form-urlencoded")
-                    .timeout(Duration.ofSeconds(5))
-                    .POST(HttpRequest.BodyPublishers.ofString("data=" + URLEncoder.encode(overpassQuery, StandardCharsets.UTF_8)))
-                    .build();
-
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
-
-            if (response.statusCode() == 200) {
-                return parseOverpassResponse(response.body());
-            } else {
-                logger.warn("Overpass API returned status: {}", response.statusCode());
+            List<OverpassTileCache.BeachFeature> nearbyBeaches = overpassTileCache.findNearbyBeaches(
+                    location.getLatitude(), location.getLongitude(), SEARCH_RADIUS_KM);
+
+            // Nearest beach with a usable surface tag or name clue wins
+            for (OverpassTileCache.BeachFeature beach : nearbyBeaches) {
+                BeachInfo info = toBeachInfo(beach.name(), beach.surface(), beach.description());
+                if (info != null) {
+                    return info;
+                }
             }
-
         } catch (Exception e) {
-            logger.debug("Failed to get data from Overpass API", e);
+            logger.debug("Failed to get data from Overpass tile cache", e);
         }
 
         return null;
     }
 
     /**
-     * Parse Overpass API response for beach characteristics
+     * Derive beach characteristics from OSM beach tags
      */
-    private BeachInfo parseOverpassResponse(String jsonResponse) throws IOException {
-        JsonNode root = objectMapper.readTree(jsonResponse);
-        JsonNode elements = root.get("elements");
-
-        if (elements == null || !elements.isArray() || elements.size() == 0) {
-            return null;
+    private BeachInfo toBeachInfo(String beachName, String surfaceTag, String descriptionTag) {
+        // Check for surface tag
+        String surface = surfaceTag != null ? surfaceTag.toLowerCase() : "";
+        if (SURFACE_MAPPING.containsKey(surface)) {
+            String mappedSurface = SURFACE_MAPPING.get(surface);
+            String description = descriptionTag != null ? descriptionTag : "";
+
+            logger.debug("Found OSM beach data: surface={}, description={}", mappedSurface, description);
+            return new BeachInfo(mappedSurface, "Natural", description.isEmpty() ? "Beach" : description);
         }
 
-        // Look through elements for surface information
-        for (JsonNode element : elements) {
-            JsonNode tags = element.get("tags");
-            if (tags != null) {
-                // Check for surface tag
-                String surface = tags.path("surface").asText("");
-                if (!surface.isEmpty() && SURFACE_MAPPING.containsKey(surface.toLowerCase())) {
-                    String mappedSurface = SURFACE_MAPPING.get(surface.toLowerCase());
-
-                    // Get additional characteristics
-                    String description = tags.path("description").asText("");
-                    String access = tags.path("access").asText("Easy access");
-
-                    logger.debug("Found OSM beach data: surface={}, description={}", mappedSurface, description);
-                    return new BeachInfo(mappedSurface, "Natural", description.isEmpty() ? "Beach" : description);
-                }
-
-                // Check name for clues
-                String name = tags.path("name").asText("").toLowerCase();
-                if (name.contains("sand")) {
-                    return new BeachInfo("Sandy", "Natural", "Sandy beach");
-                } else if (name.contains("rock") || name.contains("stone")) {
-                    return new BeachInfo("Rocky", "Natural", "Rocky coastline");
-                } else if (name.contains("pebble")) {
-                    return new BeachInfo("Pebble", "Natural", "Pebble beach");
-                }
-            }
-        }
-
-        return null;
+        // Check name for clues
+        return OSM_NAME_CLUES.first(beachName).orElse(null);
     }
 
     /**
@@ -310,61 +218,28 @@ public class BeachCharacteristicsService {
             return new BeachInfo("Sand", "Natural", "Beach");
         }
 
-        String name = location.getName().toLowerCase();
-        String displayName = location.getDisplayName() != null ? location.getDisplayName().toLowerCase() : "";
-
-        // Analyze name for clues
-        if (name.contains("cala")) {
-            return new BeachInfo("Mixed", "Natural", "Small cove");
-        }
-
-        if (name.contains("arena") || name.contains("sand")) {
-            return new BeachInfo("Sandy", "Natural", "Sandy beach");
-        }
-
-        if (name.contains("rock") || name.contains("stone") || name.contains("piedra")) {
-            return new BeachInfo("Rocky", "Natural", "Rocky coastline");
-        }
-
-        // Regional defaults for Spain
-        if (displayName.contains("costa del sol") || displayName.contains("malaga")) {
-            return new BeachInfo("Sand", "Natural", "Dark sand typical of Costa del Sol");
-        }
-
-        if (displayName.contains("costa brava") || displayName.contains("girona")) {
-            return new BeachInfo("Mixed", "Natural", "Coves and sandy beaches");
-        }
-
-        if (displayName.contains("costa blanca") || displayName.contains("alicante") || displayName.contains("valencia")) {
-            return new BeachInfo("Sand", "Natural", "Fine golden sand");
-        }
-
-        if (displayName.contains("balear") || displayName.contains("mallorca") || displayName.contains("ibiza")) {
-            return new BeachInfo("Sand", "Natural", "White Mediterranean sand");
-        }
-
-        if (displayName.contains("canarias") || displayName.contains("canary")) {
-            return new BeachInfo("Sand", "Natural", "Volcanic sand beaches");
-        }
-
-        if (displayName.contains("asturias") || displayName.contains("cantabria") || displayName.contains("galicia")) {
-            return new BeachInfo("Sand", "Natural", "Atlantic coast beach");
-        }
-
-        // Default for Spanish beaches
-        return new BeachInfo("Sand", "Natural", "Spanish beach");
+        // Name clues first, then regional defaults for Spain, then the default for Spanish beaches
+        return NAME_CLUES.first(location.getName())
+                .or(() -> contentIndex.findSurfaceDefaults(ContentIndex.Place.Kind.REGION, location.getDisplayName())
+                        .map(place -> new BeachInfo(place.surface(), place.beachType(), place.characteristics())))
+                .orElseGet(() -> new BeachInfo("Sand", "Natural", "Spanish beach"));
     }
 
     /**
      * Apply fallback information when all else fails
      */
-    private void applyFallbackInfo(BeachLocation location) {
+    private BeachLocation applyFallbackInfo(BeachLocation location) {
         BeachInfo fallback = generateSmartFallback(location);
-        location.setBeachSurface(fallback.surface);
-        location.setBeachType(fallback.type);
-        location.setAccessType("Easy access");
+        logger.debug("Applied fallback beach info: surface={}", fallback.surface);
+        return withBeachInfo(location, fallback);
+    }
 
-        logger.info("Applied fallback beach info: surface={}", fallback.surface);
+    private BeachLocation withBeachInfo(BeachLocation location, BeachInfo info) {
+        return location.toBuilder()
+                .beachSurface(info.surface)
+                .beachType(info.type)
+                .accessType("Easy access") // Default for now
+                .build();
     }
 
     /**
@@ -373,4 +248,9 @@ public class BeachCharacteristicsService {
     public boolean isEnabled() {
         return appFeaturesConfig.getFeatures().isWeather(); // Reuse weather feature flag
     }
-}
\ No newline at end of file
+
+    @PreDestroy
+    public void shutdown() {
+        executorService.shutdownNow();
+    }
+}
@@ -0,0 +1,154 @@
+package de.telekom.bot.service;
+
+import de.telekom.bot.model.BeachLocation;
+import de.telekom.bot.model.CatalogBeach;
+import de.telekom.bot.model.WeatherInfo;
+import de.telekom.bot.util.LogSampler;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Looks up several beaches at once for side-by-side comparisons.
+ * <p>
+ * Names are resolved in one step: catalogue beaches answer locally, the rest go to the geocoder
+ * as one batch. Every beach is enriched (weather and characteristics) as soon as it is
+ * resolved, all beaches in parallel, and the whole comparison shares one deadline, so it takes
+ * about as long as a single lookup. Whatever is not ready at the deadline is left out.
+ */
+@Service
+@RequiredArgsConstructor
+public class BeachComparisonService {
+
+    private static final Logger logger = LoggerFactory.getLogger(BeachComparisonService.class);
+    private static final LogSampler detailSampler = new LogSampler(5);
+
+    public static final Duration DEFAULT_DEADLINE = Duration.ofSeconds(8);
+
+    private final BeachCatalog beachCatalog;
+    private final GeocodeService geocodeService;
+    private final WeatherService weatherService;
+    @Lazy
+    private final BeachCharacteristicsService beachCharacteristicsService;
+
+    private final ExecutorService executorService = Executors.newFixedThreadPool(8, runnable -> {
+        Thread thread = new Thread(runnable, "beach-comparison");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * One compared beach. Location and weather are null when they were not found or did not
+     * arrive before the deadline.
+     */
+    public record ComparedBeach(String query, BeachLocation location, WeatherInfo weather) {
+
+        public boolean isFound() {
+            return location != null && location.isFound();
+        }
+    }
+
+    /**
+     * Compare beaches, keeping the order of the names
+     */
+    public List<ComparedBeach> compare(List<String> beachNames, Duration deadline) {
+        long start = System.currentTimeMillis();
+
+        // Resolve: catalogue hits are ready immediately, the others share one geocoding batch
+        List<CompletableFuture<BeachLocation>> resolved = new ArrayList<>(beachNames.size());
+        List<String> toGeocode = new ArrayList<>();
+        for (String beachName : beachNames) {
+            Optional<CatalogBeach> known = beachCatalog.findByName(beachName);
+            resolved.add(known.map(beach -> CompletableFuture.completedFuture(beach.toBeachLocation())).orElse(null));
+            if (known.isEmpty()) {
+                toGeocode.add(beachName);
+            }
+        }
+
+        CompletableFuture<Map<String, BeachLocation>> geocoded = toGeocode.isEmpty()
+                ? CompletableFuture.completedFuture(Map.of())
+                : CompletableFuture.supplyAsync(() -> geocodeService.findBeachCoordinates(toGeocode), executorService);
+        for (int i = 0; i < beachNames.size(); i++) {
+            if (resolved.get(i) == null) {
+                String beachName = beachNames.get(i);
+                resolved.set(i, geocoded.thenApply(locations -> locations.get(beachName)));
+            }
+        }
+
+        // Enrich every beach as soon as its own location is known
+        List<CompletableFuture<BeachLocation>> locations = new ArrayList<>(beachNames.size());
+        List<CompletableFuture<WeatherInfo>> weather = new ArrayList<>(beachNames.size());
+        for (CompletableFuture<BeachLocation> location : resolved) {
+            locations.add(location.thenApplyAsync(this::enhance, executorService));
+            weather.add(location.thenApplyAsync(this::weather, executorService));
+        }
+
+        List<CompletableFuture<?>> all = new ArrayList<>(locations);
+        all.addAll(weather);
+        try {
+            CompletableFuture.allOf(all.toArray(CompletableFuture[]::new)).get(deadline.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            logger.warn("Beach comparison hit its {}ms deadline, answering with partial data", deadline.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            logger.warn("Beach comparison failed for some beaches: {}", e.getMessage());
+        }
+
+        List<ComparedBeach> compared = new ArrayList<>(beachNames.size());
+        for (int i = 0; i < beachNames.size(); i++) {
+            BeachLocation location = completed(locations.get(i));
+            if (location == null) {
+                // Characteristics missed the deadline, the plain location is still useful
+                location = completed(resolved.get(i));
+            }
+            compared.add(new ComparedBeach(beachNames.get(i), location, completed(weather.get(i))));
+        }
+
+        // The handler's request trace has the summary; this detail is for a few comparisons per second
+        if (logger.isDebugEnabled() && detailSampler.sample()) {
+            logger.debug("Compared {} beaches ({} geocoded) in {}ms ({} earlier comparisons not detailed)",
+                    beachNames.size(), toGeocode.size(), System.currentTimeMillis() - start, detailSampler.takeSuppressed());
+        }
+        return compared;
+    }
+
+    private BeachLocation enhance(BeachLocation location) {
+        if (location == null || !location.isFound() || !beachCharacteristicsService.isEnabled()) {
+            return location;
+        }
+        return beachCharacteristicsService.enhanceBeachLocation(location);
+    }
+
+    private WeatherInfo weather(BeachLocation location) {
+        if (location == null || !location.isFound()) {
+            return null;
+        }
+        return weatherService.isEnabled()
+                ? weatherService.getWeatherInfo(location)
+                : weatherService.getMockWeatherInfo(location);
+    }
+
+    private static <T> T completed(CompletableFuture<T> future) {
+        return future.isDone() && !future.isCompletedExceptionally() ? future.join() : null;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executorService.shutdownNow();
+    }
+}
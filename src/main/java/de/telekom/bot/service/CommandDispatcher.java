@@ -3,19 +3,23 @@ package de.telekom.bot.service;
 import de.telekom.bot.handler.CommandHandler;
 import de.telekom.bot.handler.UnknownCommandHandler;
 import de.telekom.bot.handler.BeachNameHandler;
+import de.telekom.bot.handler.InlineQueryHandler;
 import de.telekom.bot.handler.LanguageCommandHandler;
+import de.telekom.bot.handler.LocationHandler;
 import de.telekom.bot.util.BotConst;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 import org.telegram.telegrambots.bots.TelegramLongPollingBot;
+import org.telegram.telegrambots.meta.api.methods.send.SendMessage;
 import org.telegram.telegrambots.meta.api.objects.Update;
 
 import jakarta.annotation.PostConstruct;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
@@ -27,13 +31,22 @@ public class CommandDispatcher {
     private final UnknownCommandHandler unknownCommandHandler;
     private final BeachNameHandler beachNameHandler;
     private final LanguageCommandHandler languageCommandHandler;
+    private final LocationHandler locationHandler;
+    private final InlineQueryHandler inlineQueryHandler;
     private final List<CommandHandler> handlers;
+    private final AdmissionController admissionController;
+    private final UserLanguageService userLanguageService;
+
+    // Answered without upstream calls, so they are served even when lookups are shed
+    private static final Set<String> ALWAYS_SERVED = Set.of(
+            BotConst.COMMAND_START, BotConst.COMMAND_HELP, BotConst.COMMAND_LANGUAGE, BotConst.COMMAND_LANG);
 
     @PostConstruct
     public void initializeHandlers() {
         for (CommandHandler handler : handlers) {
             String command = handler.getCommand();
-            if (!command.equals("__UNKNOWN__") && !command.equals("__BEACH_NAME__")) {
+            // Internal handlers (__NAME__) are routed by update type, not by command text
+            if (!command.startsWith("__")) {
                 commandHandlers.put(command, handler);
                 logger.info("Registered command handler: {}", command);
             }
@@ -64,6 +77,20 @@ public class CommandDispatcher {
                 return;
             }
             
+            // Handle inline mode autocomplete (@bot <beach>)
+            if (update.hasInlineQuery()) {
+                logger.debug("Handling inline query: {}", update.getInlineQuery().getQuery());
+                inlineQueryHandler.handle(update, bot);
+                return;
+            }
+
+            // Handle shared locations ("beaches near me")
+            if (update.hasMessage() && update.getMessage().hasLocation()) {
+                logger.debug("Handling shared location");
+                locationHandler.handle(update, bot);
+                return;
+            }
+
             // Handle text messages
             if (update.hasMessage() && update.getMessage().hasText()) {
                 String messageText = update.getMessage().getText();
@@ -81,16 +108,58 @@ public class CommandDispatcher {
                     logger.debug("Handling beach name: {}", messageText);
                 }
                 
-                handler.handle(update, bot);
-                logger.debug("Handled message with {}", handler.getClass().getSimpleName());
+                if (ALWAYS_SERVED.contains(command) || handler == unknownCommandHandler) {
+                    handler.handle(update, bot);
+                    logger.debug("Handled message with {}", handler.getClass().getSimpleName());
+                } else {
+                    // Lookups go through admission control so the backlog stays within the latency target
+                    admissionController.submit(
+                            () -> handleLookup(handler, update, bot),
+                            () -> handleOverloaded(handler, update, bot));
+                }
+            }
+        } catch (Exception e) {
+            logFailure(update, e);
+        }
+    }
+
+    private void handleLookup(CommandHandler handler, Update update, TelegramLongPollingBot bot) {
+        try {
+            handler.handle(update, bot);
+            logger.debug("Handled message with {}", handler.getClass().getSimpleName());
+        } catch (Exception e) {
+            logFailure(update, e);
+        }
+    }
+
+    /**
+     * Degraded answer for a shed lookup: the handler's cached-only reply or a "busy, retry" note
+     */
+    private void handleOverloaded(CommandHandler handler, Update update, TelegramLongPollingBot bot) {
+        try {
+            if (handler.handleOverloaded(update, bot)) {
+                return;
             }
+
+            long chatId = update.getMessage().getChatId();
+            String text = BotConst.LANG_SPANISH.equals(userLanguageService.getUserLanguage(chatId))
+                    ? "⏳ Ahora mismo hay muchas consultas. Inténtalo de nuevo en un minuto, por favor."
+                    : "⏳ Lots of lookups right now. Please try again in a minute.";
+            SendMessage message = new SendMessage(String.valueOf(chatId), text);
+            message.setReplyToMessageId(update.getMessage().getMessageId());
+            bot.execute(message);
         } catch (Exception e) {
-            String identifier = update.hasMessage() ? update.getMessage().getText() : 
-                               update.hasCallbackQuery() ? update.getCallbackQuery().getData() : "unknown";
-            logger.error("Error handling update '{}': {}", identifier, e.getMessage(), e);
+            logFailure(update, e);
         }
     }
 
+    private void logFailure(Update update, Exception e) {
+        String identifier = update.hasMessage() ? update.getMessage().getText() : 
+                           update.hasCallbackQuery() ? update.getCallbackQuery().getData() :
+                           update.hasInlineQuery() ? update.getInlineQuery().getQuery() : "unknown";
+        logger.error("Error handling update '{}': {}", identifier, e.getMessage(), e);
+    }
+
     private String extractCommand(String messageText) {
         // Extract command from message (e.g., "/start" or "/start@botname")
         if (messageText.startsWith("/")) {
@@ -0,0 +1,312 @@
+package de.telekom.bot.service;
+
+import de.telekom.bot.config.ContentConfig;
+import de.telekom.bot.util.AccentFolding;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+/**
+ * Towns and regions with their localised area blurbs and beach surface defaults.
+ * <p>
+ * Content comes from <code>places.txt</code> (<code>id|town or region|names|surface|beach
+ * type|characteristics</code>) and one <code>blurbs_&lt;language&gt;.txt</code> per language
+ * (<code>id|blurb</code>), bundled under /content. Place names are accent-folded into token
+ * sequences and hashed, so a lookup checks every token run of the text up to the longest name:
+ * O(tokens) whatever the amount of content. Earlier places win when several match. When
+ * content.directory is set, files there replace the bundled ones and are reloaded on change.
+ */
+@Component
+@RequiredArgsConstructor
+public class ContentIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(ContentIndex.class);
+
+    static final String PLACES_FILE = "places.txt";
+    static final List<String> LANGUAGES = List.of("en", "es");
+    private static final String DEFAULT_LANGUAGE = "en";
+    private static final String RESOURCE_DIRECTORY = "/content/";
+
+    private final ContentConfig contentConfig;
+
+    private volatile Content content = new Content(List.of());
+    private volatile long loadedStamp;
+    private volatile ScheduledExecutorService reloadChecker;
+
+    /**
+     * Town or region with its optional surface defaults and blurbs
+     *
+     * @param surface Default surface, null if the place has no surface defaults
+     * @param blurbs  Area blurb by language
+     */
+    public record Place(String id, Kind kind, List<String> names, String surface, String beachType,
+                        String characteristics, Map<String, String> blurbs) {
+
+        public enum Kind { TOWN, REGION }
+
+        /**
+         * @return The blurb in the language, else in English, else null
+         */
+        public String blurb(String language) {
+            String blurb = blurbs.get(language);
+            return blurb != null ? blurb : blurbs.get(DEFAULT_LANGUAGE);
+        }
+    }
+
+    /**
+     * Immutable snapshot of the content: places in priority order and their folded names
+     */
+    private static final class Content {
+        final List<Place> places;
+        final Map<String, int[]> placesByName = new HashMap<>();
+        final int maxNameTokens;
+
+        Content(List<Place> places) {
+            this.places = places;
+            int maxTokens = 0;
+            for (int i = 0; i < places.size(); i++) {
+                for (String name : places.get(i).names()) {
+                    String key = AccentFolding.fold(name);
+                    if (key.isEmpty()) {
+                        continue;
+                    }
+                    int place = i;
+                    placesByName.merge(key, new int[]{place}, (existing, added) -> {
+                        int[] merged = Arrays.copyOf(existing, existing.length + 1);
+                        merged[existing.length] = place;
+                        return merged;
+                    });
+                    maxTokens = Math.max(maxTokens, key.split(" ").length);
+                }
+            }
+            this.maxNameTokens = maxTokens;
+        }
+    }
+
+    @PostConstruct
+    public void load() {
+        reload();
+        if (hasDirectory() && contentConfig.getReloadCheckMs() > 0) {
+            reloadChecker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "content-reload");
+                thread.setDaemon(true);
+                return thread;
+            });
+            reloadChecker.scheduleWithFixedDelay(this::reloadIfChanged, contentConfig.getReloadCheckMs(),
+                    contentConfig.getReloadCheckMs(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Reload when a file in the content directory changed since the last load
+     */
+    void reloadIfChanged() {
+        if (directoryStamp() != loadedStamp) {
+            reload();
+        }
+    }
+
+    private synchronized void reload() {
+        long stamp = directoryStamp();
+        try {
+            List<Place> places = readPlaces();
+            content = new Content(places);
+            loadedStamp = stamp;
+            logger.info("Loaded content for {} places", places.size());
+        } catch (IOException e) {
+            // Keep serving the previous content
+            loadedStamp = stamp;
+            logger.error("Failed to load place content, keeping the previous content", e);
+        }
+    }
+
+    public int size() {
+        return content.places.size();
+    }
+
+    /**
+     * Surface defaults of the first town or region named in the text
+     */
+    public Optional<Place> findSurfaceDefaults(Place.Kind kind, CharSequence text) {
+        return find(place -> place.kind() == kind && place.surface() != null, text);
+    }
+
+    /**
+     * Area blurb of the first place named in any of the texts that has one
+     *
+     * @param language Language code; blurbs missing in it fall back to English
+     */
+    public Optional<String> findBlurb(String language, CharSequence... texts) {
+        return find(place -> place.blurb(language) != null, texts).map(place -> place.blurb(language));
+    }
+
+    /**
+     * Earliest place accepted by the filter whose name occurs as a token run in the texts
+     */
+    private Optional<Place> find(Predicate<Place> filter, CharSequence... texts) {
+        Content current = content;
+        int best = Integer.MAX_VALUE;
+        for (CharSequence text : texts) {
+            String folded = AccentFolding.fold(text);
+            if (folded.isEmpty()) {
+                continue;
+            }
+            String[] tokens = folded.split(" ");
+            for (int start = 0; start < tokens.length; start++) {
+                StringBuilder key = new StringBuilder();
+                for (int end = start; end < tokens.length && end - start < current.maxNameTokens; end++) {
+                    if (end > start) {
+                        key.append(' ');
+                    }
+                    key.append(tokens[end]);
+                    int[] places = current.placesByName.get(key.toString());
+                    if (places == null) {
+                        continue;
+                    }
+                    for (int place : places) {
+                        if (place < best && filter.test(current.places.get(place))) {
+                            best = place;
+                        }
+                    }
+                }
+            }
+        }
+        return best == Integer.MAX_VALUE ? Optional.empty() : Optional.of(current.places.get(best));
+    }
+
+    private List<Place> readPlaces() throws IOException {
+        Map<String, Map<String, String>> blurbs = new HashMap<>();
+        for (String language : LANGUAGES) {
+            for (String[] fields : readLines(blurbsFile(language), 2)) {
+                blurbs.computeIfAbsent(fields[0], id -> new HashMap<>()).put(language, fields[1]);
+            }
+        }
+
+        List<Place> places = new ArrayList<>();
+        for (String[] fields : readLines(PLACES_FILE, 6)) {
+            Place.Kind kind;
+            try {
+                kind = Place.Kind.valueOf(fields[1].toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                logger.warn("Skipping place {} of unknown kind {}", fields[0], fields[1]);
+                continue;
+            }
+            List<String> names = new ArrayList<>();
+            for (String name : fields[2].split(",")) {
+                if (!name.isBlank()) {
+                    names.add(name.trim());
+                }
+            }
+            places.add(new Place(fields[0], kind, List.copyOf(names), emptyToNull(fields[3]),
+                    emptyToNull(fields[4]), emptyToNull(fields[5]), Map.copyOf(blurbs.getOrDefault(fields[0], Map.of()))));
+        }
+        return List.copyOf(places);
+    }
+
+    /**
+     * Read the pipe-separated lines of a content file; blank lines and # comments are skipped
+     */
+    private List<String[]> readLines(String fileName, int fieldCount) throws IOException {
+        List<String[]> lines = new ArrayList<>();
+        try (InputStream in = open(fileName)) {
+            if (in == null) {
+                logger.warn("Content file {} not found", fileName);
+                return lines;
+            }
+            BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] fields = line.split("\\|", -1);
+                if (fields.length != fieldCount) {
+                    logger.warn("Skipping malformed line {} of {}: {}", lineNumber, fileName, line);
+                    continue;
+                }
+                for (int i = 0; i < fields.length; i++) {
+                    fields[i] = fields[i].trim();
+                }
+                lines.add(fields);
+            }
+        }
+        return lines;
+    }
+
+    private InputStream open(String fileName) throws IOException {
+        if (hasDirectory()) {
+            Path file = Paths.get(contentConfig.getDirectory(), fileName);
+            if (Files.exists(file)) {
+                return Files.newInputStream(file);
+            }
+        }
+        return ContentIndex.class.getResourceAsStream(RESOURCE_DIRECTORY + fileName);
+    }
+
+    /**
+     * Changes whenever a content file in the directory is added, removed or modified
+     */
+    private long directoryStamp() {
+        if (!hasDirectory()) {
+            return 0;
+        }
+        long stamp = 0;
+        List<String> files = new ArrayList<>(List.of(PLACES_FILE));
+        LANGUAGES.forEach(language -> files.add(blurbsFile(language)));
+        for (String fileName : files) {
+            Path file = Paths.get(contentConfig.getDirectory(), fileName);
+            try {
+                stamp = stamp * 31 + (Files.exists(file) ? Files.getLastModifiedTime(file).toMillis() + Files.size(file) : -1);
+            } catch (IOException e) {
+                stamp = stamp * 31 - 1;
+            }
+        }
+        return stamp;
+    }
+
+    private static String blurbsFile(String language) {
+        return "blurbs_" + language + ".txt";
+    }
+
+    private boolean hasDirectory() {
+        return contentConfig.getDirectory() != null && !contentConfig.getDirectory().isBlank();
+    }
+
+    private static String emptyToNull(String value) {
+        return value.isEmpty() ? null : value;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        ScheduledExecutorService checker = reloadChecker;
+        if (checker != null) {
+            checker.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,292 @@
+package de.telekom.bot.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.telekom.bot.config.AlertsConfig;
+import de.telekom.bot.model.BeachLocation;
+import de.telekom.bot.model.Subscription;
+import de.telekom.bot.model.WeatherInfo;
+import de.telekom.bot.util.BotConst;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.telegram.telegrambots.meta.api.methods.send.SendMessage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Morning digest with the conditions of every subscribed beach, one message per chat.
+ * <p>
+ * Recipients are paged in chunks of chats from the subscription store's in-memory index (the
+ * store itself is loaded whole at startup). Each beach is evaluated once per run, failures
+ * included, each beach section is rendered once per language and identical digests are reused,
+ * so the upstream and rendering cost grows with distinct beaches, not with subscribers. Messages go through the paced
+ * {@link OutboundMessageQueue}; after every delivered chunk the last chat is checkpointed, so a
+ * restart resumes the day's digest instead of sending it again.
+ */
+@Service
+@RequiredArgsConstructor
+public class DigestBroadcastService {
+
+    private static final Logger logger = LoggerFactory.getLogger(DigestBroadcastService.class);
+
+    private static final ZoneId SPAIN = ZoneId.of("Europe/Madrid");
+    private static final int MAX_CACHED_DIGESTS = 10_000;
+
+    private final AlertsConfig alertsConfig;
+    private final SubscriptionStore subscriptionStore;
+    private final WeatherService weatherService;
+    private final OutboundMessageQueue outboundMessageQueue;
+    private final UserLanguageService userLanguageService;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final ExecutorService runner = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "digest-broadcast");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Progress of a day's digest: every chat up to lastChatId has been handled
+     */
+    record Checkpoint(String day, long lastChatId, int delivered, boolean completed) {
+    }
+
+    @Scheduled(cron = "${alerts.digest.cron:0 0 8 * * *}", zone = "Europe/Madrid")
+    public void scheduleDigest() {
+        if (alertsConfig.isEnabled() && alertsConfig.getDigest().isEnabled()) {
+            startDigest();
+        }
+    }
+
+    /**
+     * Resume today's digest if the application stopped in the middle of it
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeInterruptedDigest() {
+        if (!alertsConfig.isEnabled() || !alertsConfig.getDigest().isEnabled()) {
+            return;
+        }
+        Checkpoint checkpoint = readCheckpoint();
+        if (checkpoint != null && !checkpoint.completed() && checkpoint.day().equals(today())) {
+            logger.info("Resuming today's digest after chat {} ({} delivered)",
+                    checkpoint.lastChatId(), checkpoint.delivered());
+            startDigest();
+        }
+    }
+
+    /**
+     * Start today's digest in the background
+     *
+     * @return false if a digest is already running
+     */
+    public boolean startDigest() {
+        if (!running.compareAndSet(false, true)) {
+            logger.warn("Digest broadcast already running");
+            return false;
+        }
+
+        runner.execute(() -> {
+            try {
+                runDigest(today());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                logger.warn("Digest broadcast interrupted, it resumes from the last checkpoint");
+            } catch (Exception e) {
+                logger.error("Digest broadcast failed", e);
+            } finally {
+                running.set(false);
+            }
+        });
+        return true;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        runner.shutdownNow();
+    }
+
+    void runDigest(String day) throws InterruptedException {
+        Checkpoint checkpoint = readCheckpoint();
+        if (checkpoint == null || !day.equals(checkpoint.day())) {
+            checkpoint = new Checkpoint(day, Long.MIN_VALUE, 0, false);
+        }
+        if (checkpoint.completed()) {
+            logger.info("Digest for {} already sent", day);
+            return;
+        }
+
+        long start = System.currentTimeMillis();
+        DigestRenderer renderer = new DigestRenderer();
+        int chunkSize = Math.max(1, alertsConfig.getDigest().getChunkSize());
+        int chats = 0;
+
+        List<List<Subscription>> page;
+        while (!(page = subscriptionStore.findChatsAfter(checkpoint.lastChatId(), chunkSize)).isEmpty()) {
+            List<CompletableFuture<Boolean>> deliveries = new ArrayList<>(page.size());
+            for (List<Subscription> chatSubscriptions : page) {
+                long chatId = chatSubscriptions.get(0).chatId();
+                String text = renderer.render(chatSubscriptions, userLanguageService.getUserLanguage(chatId));
+
+                SendMessage message = new SendMessage(String.valueOf(chatId), text);
+                message.setParseMode("Markdown");
+                deliveries.add(outboundMessageQueue.enqueue(message));
+            }
+
+            // Wait for the chunk: keeps the queue short and the checkpoint covers delivered chats only
+            int delivered = 0;
+            for (CompletableFuture<Boolean> delivery : deliveries) {
+                try {
+                    if (Boolean.TRUE.equals(delivery.get())) {
+                        delivered++;
+                    }
+                } catch (ExecutionException e) {
+                    logger.debug("Digest delivery failed: {}", e.getMessage());
+                }
+            }
+
+            chats += page.size();
+            long lastChatId = page.get(page.size() - 1).get(0).chatId();
+            checkpoint = new Checkpoint(day, lastChatId, checkpoint.delivered() + delivered, false);
+            writeCheckpoint(checkpoint);
+        }
+
+        writeCheckpoint(new Checkpoint(day, checkpoint.lastChatId(), checkpoint.delivered(), true));
+        logger.info("Digest for {} sent to {} chats ({} delivered today) in {}s: {} beaches evaluated, {} distinct digests",
+                day, chats, checkpoint.delivered(), (System.currentTimeMillis() - start) / 1000,
+                renderer.weatherByBeach.size(), renderer.digests.size());
+    }
+
+    /**
+     * Per-run caches: weather per beach, rendered sections per beach and language, whole digests
+     */
+    private final class DigestRenderer {
+        // Empty when the evaluation failed, so a failing beach is not retried for every subscriber
+        private final Map<String, Optional<WeatherInfo>> weatherByBeach = new HashMap<>();
+        private final Map<String, String> sections = new HashMap<>();
+        private final Map<String, String> digests = new HashMap<>();
+
+        String render(List<Subscription> chatSubscriptions, String language) {
+            StringBuilder key = new StringBuilder(language);
+            for (Subscription subscription : chatSubscriptions) {
+                key.append('|').append(subscription.locationKey()).append('|').append(subscription.beach());
+            }
+
+            String digest = digests.get(key.toString());
+            if (digest != null) {
+                return digest;
+            }
+
+            boolean spanish = BotConst.LANG_SPANISH.equals(language);
+            StringBuilder text = new StringBuilder(spanish
+                    ? "☀️ *¡Buenos días! Así están tus playas hoy*\n\n"
+                    : "☀️ *Good morning! Here are your beaches today*\n\n");
+            for (Subscription subscription : chatSubscriptions) {
+                text.append(sections.computeIfAbsent(
+                        subscription.locationKey() + '|' + subscription.beach() + '|' + language,
+                        sectionKey -> renderSection(subscription, spanish)));
+            }
+            text.append(spanish ? "_/unsubscribe para gestionar tus alertas_" : "_/unsubscribe to manage your alerts_");
+
+            digest = text.toString();
+            if (digests.size() < MAX_CACHED_DIGESTS) {
+                digests.put(key.toString(), digest);
+            }
+            return digest;
+        }
+
+        private String renderSection(Subscription subscription, boolean spanish) {
+            WeatherInfo weather = weatherByBeach.computeIfAbsent(subscription.locationKey(),
+                    beach -> Optional.ofNullable(evaluate(subscription))).orElse(null);
+
+            StringBuilder section = new StringBuilder("🏖️ *").append(subscription.beach()).append("*\n   ");
+            if (weather == null || !weather.hasTemperatureData()) {
+                section.append(spanish ? "❔ Sin datos por ahora" : "❔ No data right now");
+            } else {
+                List<String> parts = new ArrayList<>();
+                if (weather.isAirTempFound()) {
+                    parts.add("🌡️ " + weather.getFormattedAirTemperature());
+                }
+                if (weather.isWaterTempFound()) {
+                    parts.add("🌊 " + weather.getFormattedWaterTemperature());
+                }
+                if (weather.getJellyfishInfo() != null && weather.getJellyfishInfo().getRiskLevel() != null) {
+                    parts.add("🪼 " + weather.getJellyfishInfo().getFormattedRiskLevel());
+                }
+                section.append(String.join(" · ", parts));
+            }
+            return section.append("\n\n").toString();
+        }
+
+        private WeatherInfo evaluate(Subscription subscription) {
+            BeachLocation location = BeachLocation.builder()
+                    .name(subscription.beach())
+                    .latitude(subscription.latitude())
+                    .longitude(subscription.longitude())
+                    .type("beach")
+                    .found(true)
+                    .build();
+            try {
+                return weatherService.getWeatherInfo(location);
+            } catch (Exception e) {
+                logger.warn("Failed to evaluate {} for the digest: {}", subscription.beach(), e.getMessage());
+                return null;
+            }
+        }
+    }
+
+    private Checkpoint readCheckpoint() {
+        Path file = checkpointFile();
+        if (!Files.exists(file)) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(file.toFile(), Checkpoint.class);
+        } catch (IOException e) {
+            logger.warn("Ignoring unreadable digest checkpoint {}: {}", file, e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeCheckpoint(Checkpoint checkpoint) {
+        Path file = checkpointFile();
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            Path tmp = Files.createTempFile(parent, "digest-checkpoint", ".tmp");
+            objectMapper.writeValue(tmp.toFile(), checkpoint);
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            logger.error("Failed to write digest checkpoint {}", file, e);
+        }
+    }
+
+    private Path checkpointFile() {
+        return Paths.get(alertsConfig.getDigest().getCheckpointPath());
+    }
+
+    private static String today() {
+        return LocalDate.now(SPAIN).toString();
+    }
+}
@@ -0,0 +1,252 @@
+package de.telekom.bot.service;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import de.telekom.bot.config.ForecastConfig;
+import de.telekom.bot.model.HourlyForecast;
+import de.telekom.bot.util.AdaptiveConcurrencyLimiter;
+import de.telekom.bot.util.StreamingJson;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hourly forecasts (air temperature, wind, sea surface temperature, waves) for beaches.
+ * <p>
+ * Series are fetched once per grid cell and model run from the Open-Meteo forecast and marine
+ * APIs (both requests in parallel) and kept in the {@link ForecastStore}, so every beach in the
+ * same cell is answered from memory. Concurrent requests for a cell share one fetch.
+ */
+@Service
+@Lazy
+@RequiredArgsConstructor
+public class ForecastService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ForecastService.class);
+
+    private static final long FETCH_TIMEOUT_SECONDS = 20;
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+    private final ForecastConfig forecastConfig;
+    private final ForecastStore forecastStore;
+    private final UpstreamLimiters upstreamLimiters;
+
+    private final Map<Long, CompletableFuture<HourlyForecast>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * Hourly columns of one API response, keyed by Open-Meteo variable name
+     */
+    record HourlyColumns(long startEpochSecond, int hours, Map<String, float[]> columns) {
+    }
+
+    public boolean isEnabled() {
+        return forecastConfig.isEnabled();
+    }
+
+    /**
+     * Hourly forecast of the grid cell containing a beach
+     *
+     * @return Forecast of the current model run, or null if it could not be fetched
+     */
+    public HourlyForecast getForecast(double latitude, double longitude) {
+        if (!forecastConfig.isEnabled()) {
+            return null;
+        }
+
+        long cell = forecastStore.cellKey(latitude, longitude);
+        HourlyForecast cached = forecastStore.get(cell);
+        if (cached != null) {
+            return cached;
+        }
+
+        CompletableFuture<HourlyForecast> created = new CompletableFuture<>();
+        CompletableFuture<HourlyForecast> pending = inFlight.putIfAbsent(cell, created);
+        if (pending == null) {
+            pending = created;
+            fetch(latitude, longitude).whenComplete((forecast, error) -> {
+                if (forecast != null) {
+                    forecastStore.put(cell, forecast);
+                } else {
+                    logger.warn("Failed to fetch hourly forecast for {}, {}: {}", latitude, longitude,
+                            error != null ? error.getMessage() : "no data");
+                }
+                inFlight.remove(cell, created);
+                created.complete(forecast);
+            });
+        }
+
+        try {
+            return pending.get(FETCH_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (Exception e) {
+            logger.warn("Hourly forecast for {}, {} not available: {}", latitude, longitude, e.getMessage());
+            return null;
+        }
+    }
+
+    private CompletableFuture<HourlyForecast> fetch(double latitude, double longitude) {
+        long run = forecastStore.currentRun();
+        int days = forecastConfig.getForecastDays();
+
+        CompletableFuture<HourlyColumns> weather = request(UpstreamLimiters.OPEN_METEO, String.format(Locale.ROOT,
+                "https://api.open-meteo.com/v1/forecast?latitude=%.4f&longitude=%.4f" +
+                        "&hourly=temperature_2m,wind_speed_10m&timezone=GMT&timeformat=unixtime&forecast_days=%d",
+                latitude, longitude, days));
+        // Inland cells have no marine data, the weather columns are still useful
+        CompletableFuture<HourlyColumns> marine = request(UpstreamLimiters.OPEN_METEO_MARINE, String.format(Locale.ROOT,
+                "https://marine-api.open-meteo.com/v1/marine?latitude=%.4f&longitude=%.4f" +
+                        "&hourly=sea_surface_temperature,wave_height&timezone=GMT&timeformat=unixtime&forecast_days=%d",
+                latitude, longitude, days))
+                .exceptionally(error -> null);
+
+        return weather.thenCombine(marine, (weatherColumns, marineColumns) -> {
+            if (weatherColumns == null || weatherColumns.hours() == 0) {
+                return null;
+            }
+            HourlyForecast.TimeAxis axis = forecastStore.axis(weatherColumns.startEpochSecond(), weatherColumns.hours());
+            float[][] values = new float[HourlyForecast.Variable.values().length][];
+            values[HourlyForecast.Variable.AIR_TEMPERATURE.ordinal()] = align(weatherColumns, "temperature_2m", axis);
+            values[HourlyForecast.Variable.WIND_SPEED.ordinal()] = align(weatherColumns, "wind_speed_10m", axis);
+            values[HourlyForecast.Variable.SEA_SURFACE_TEMPERATURE.ordinal()] = align(marineColumns, "sea_surface_temperature", axis);
+            values[HourlyForecast.Variable.WAVE_HEIGHT.ordinal()] = align(marineColumns, "wave_height", axis);
+            return new HourlyForecast(axis, run, values);
+        });
+    }
+
+    private CompletableFuture<HourlyColumns> request(String upstream, String url) {
+        logger.debug("Hourly forecast request URL: {}", url);
+        HttpRequest request = HttpRequest.newBuilder()
+                .uri(URI.create(url))
+                .header("User-Agent", "Spanish Beach Bot/1.0")
+                .timeout(Duration.ofSeconds(FETCH_TIMEOUT_SECONDS))
+                .GET()
+                .build();
+
+        AdaptiveConcurrencyLimiter.Permit permit;
+        try {
+            permit = upstreamLimiters.acquire(upstream);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return CompletableFuture.failedFuture(e);
+        }
+        if (permit == null) {
+            return CompletableFuture.failedFuture(new RejectedExecutionException("Upstream " + upstream + " is saturated"));
+        }
+
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofInputStream())
+                .thenApply(response -> {
+                    try (InputStream body = response.body()) {
+                        if (UpstreamLimiters.isOverloaded(response)) {
+                            permit.dropped();
+                        }
+                        if (response.statusCode() != 200) {
+                            logger.warn("Open-Meteo returned status {} for {}", response.statusCode(), url);
+                            return null;
+                        }
+                        return readHourly(body);
+                    } catch (IOException e) {
+                        // Passed through unwrapped, so the failed read counts as a drop below
+                        throw new CompletionException(e);
+                    }
+                })
+                .whenComplete((columns, error) -> {
+                    // Timeouts and connection failures reach here as IOExceptions
+                    if (error == null) {
+                        permit.success();
+                    } else if (error.getCause() instanceof IOException) {
+                        permit.dropped();
+                    } else {
+                        permit.ignore();
+                    }
+                });
+    }
+
+    /**
+     * Stream the "hourly" object of an Open-Meteo response (requested with timeformat=unixtime)
+     */
+    static HourlyColumns readHourly(InputStream body) throws IOException {
+        try (JsonParser parser = StreamingJson.createParser(body)) {
+            if (!StreamingJson.moveTo(parser, "hourly")) {
+                return null;
+            }
+
+            long[] time = {0, 0}; // start, hours
+            Map<String, float[]> columns = new HashMap<>();
+            StreamingJson.readObject(parser, (field, value) -> {
+                if ("time".equals(field)) {
+                    readTimeAxis(value, time);
+                } else if (value.currentToken() == JsonToken.START_ARRAY) {
+                    columns.put(field, StreamingJson.readFloatArray(value));
+                }
+            });
+            return new HourlyColumns(time[0], (int) time[1], columns);
+        }
+    }
+
+    private static void readTimeAxis(JsonParser parser, long[] time) throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            return;
+        }
+        int count = 0;
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (count++ == 0) {
+                time[0] = StreamingJson.longOr(parser, 0);
+            }
+            parser.skipChildren();
+        }
+        time[1] = count;
+    }
+
+    /**
+     * Copy a column onto the shared axis; hours the column does not cover stay NaN
+     */
+    static float[] align(HourlyColumns source, String column, HourlyForecast.TimeAxis axis) {
+        float[] values = source != null ? source.columns().get(column) : null;
+        if (values == null) {
+            return null;
+        }
+        if (source.startEpochSecond() == axis.startEpochSecond() && values.length == axis.hours()) {
+            return values;
+        }
+
+        float[] aligned = new float[axis.hours()];
+        Arrays.fill(aligned, Float.NaN);
+        long offset = (source.startEpochSecond() - axis.startEpochSecond()) / 3600;
+        for (int i = 0; i < values.length; i++) {
+            long hour = i + offset;
+            if (hour >= 0 && hour < aligned.length) {
+                aligned[(int) hour] = values[i];
+            }
+        }
+        return aligned;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        httpClient.shutdownNow();
+    }
+}
@@ -0,0 +1,95 @@
+package de.telekom.bot.service;
+
+import de.telekom.bot.config.ForecastConfig;
+import de.telekom.bot.model.HourlyForecast;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory hourly forecasts per grid cell.
+ * <p>
+ * Series are kept as float arrays ({@link HourlyForecast}) and expire by model run rather than
+ * by age: a series fetched during one run is served until the next run is published. Identical
+ * time axes are interned, so all cells of a run share one axis instance.
+ */
+@Component
+@Lazy
+@RequiredArgsConstructor
+public class ForecastStore {
+
+    private final ForecastConfig forecastConfig;
+
+    private final Map<Long, HourlyForecast> cells = new ConcurrentHashMap<>();
+    private final Map<HourlyForecast.TimeAxis, HourlyForecast.TimeAxis> axes = new ConcurrentHashMap<>();
+
+    /**
+     * Grid cell containing a coordinate
+     */
+    public long cellKey(double latitude, double longitude) {
+        double size = forecastConfig.getCellDegrees();
+        long latCell = (long) Math.floor(latitude / size);
+        long lonCell = (long) Math.floor(longitude / size);
+        return (latCell << 32) | (lonCell & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Model run published at a time; runs are numbered from the epoch
+     */
+    public long runAt(long epochMillis) {
+        return epochMillis / (Math.max(1, forecastConfig.getRunIntervalHours()) * 3_600_000L);
+    }
+
+    public long currentRun() {
+        return runAt(System.currentTimeMillis());
+    }
+
+    /**
+     * Shared instance of a time axis
+     */
+    public HourlyForecast.TimeAxis axis(long startEpochSecond, int hours) {
+        HourlyForecast.TimeAxis axis = new HourlyForecast.TimeAxis(startEpochSecond, hours);
+        return axes.computeIfAbsent(axis, key -> key);
+    }
+
+    /**
+     * Forecast of a cell from the current model run, null if missing or expired
+     */
+    public HourlyForecast get(long cell) {
+        return get(cell, currentRun());
+    }
+
+    HourlyForecast get(long cell, long currentRun) {
+        HourlyForecast forecast = cells.get(cell);
+        return forecast != null && forecast.getRun() == currentRun ? forecast : null;
+    }
+
+    public void put(long cell, HourlyForecast forecast) {
+        cells.put(cell, forecast);
+        if (cells.size() > forecastConfig.getMaxCells()) {
+            evictExpired(forecast.getRun());
+        }
+    }
+
+    /**
+     * Drop series of older runs; if the store is still full, drop arbitrary cells of the current run
+     */
+    private void evictExpired(long currentRun) {
+        cells.values().removeIf(forecast -> forecast.getRun() < currentRun);
+        axes.keySet().removeIf(axis -> cells.values().stream().noneMatch(forecast -> forecast.getAxis() == axis));
+
+        Iterator<Long> iterator = cells.keySet().iterator();
+        while (cells.size() > forecastConfig.getMaxCells() && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    public int size() {
+        return cells.size();
+    }
+}
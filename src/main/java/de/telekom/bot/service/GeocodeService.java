@@ -2,16 +2,25 @@ package de.telekom.bot.service;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import de.telekom.bot.cache.CacheCodecs;
+import de.telekom.bot.cache.ClusterRateBudget;
+import de.telekom.bot.cache.TieredCache;
+import de.telekom.bot.cache.TieredCaches;
 import de.telekom.bot.config.ApiConfigurationProperties;
 import de.telekom.bot.config.AppFeaturesConfig;
 import de.telekom.bot.model.BeachLocation;
 import de.telekom.bot.model.NominatimResponse;
-import lombok.RequiredArgsConstructor;
+import de.telekom.bot.util.AccentFolding;
+import de.telekom.bot.util.KeywordMatcher;
+import de.telekom.bot.util.LogSampler;
+import de.telekom.bot.util.QueryNormalizer;
+import jakarta.annotation.PreDestroy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
 import java.net.URLEncoder;
 import java.net.http.HttpClient;
@@ -19,10 +28,13 @@ import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 @Service
-@RequiredArgsConstructor
 public class GeocodeService {
 
     private static final Logger logger = LoggerFactory.getLogger(GeocodeService.class);
@@ -30,15 +42,56 @@ public class GeocodeService {
     private final ObjectMapper objectMapper = new ObjectMapper();
     private final ApiConfigurationProperties apiConfig;
     private final AppFeaturesConfig appFeaturesConfig;
+    private final UpstreamLimiters upstreamLimiters;
+    // Nominatim usage policy: one request per rate-limit-ms across all replicas
+    private final ClusterRateBudget rateBudget;
     
-    // Track last request time for rate limiting
-    private long lastRequestTime = 0;
+    // Beach-related keywords in result names and display names
+    private static final KeywordMatcher<String> BEACH_NAME_KEYWORDS = KeywordMatcher.<String>builder()
+            .add("beach", "playa", "beach", "costa", "cala")
+            .build();
+    private static final KeywordMatcher<String> BEACH_DISPLAY_NAME_KEYWORDS = KeywordMatcher.<String>builder()
+            .add("beach", "playa", "beach", "costa")
+            .build();
+
+    // Country and region names identifying Spanish results
+    private static final KeywordMatcher<String> SPAIN_KEYWORDS = KeywordMatcher.<String>builder()
+            .add("spain", "spain", "españa", "catalunya", "catalonia", "andalusia", "andalucía",
+                    "valencia", "comunitat valenciana", "galicia", "euskadi", "país vasco", "basque country",
+                    "murcia", "castilla", "aragón", "asturias", "cantabria", "la rioja", "navarra",
+                    "extremadura", "madrid", "baleares", "balearic", "canarias", "canary")
+            .build();
+
+    // Per-response detail of Nominatim answers, sampled so DEBUG stays cheap under load
+    private static final LogSampler responseDetailSampler = new LogSampler(5);
+
+    // Found locations by folded name; beaches do not move, so a day is safe.
+    // Shared with the other replicas if configured, so each name hits Nominatim once.
+    private static final Duration CACHE_DURATION = Duration.ofHours(24);
+    private static final int MAX_CACHE_ENTRIES = 2_000;
+    private final TieredCache<BeachLocation> cache;
+
+    // Lazy-initialized HttpClient, shared by all requests and closed on shutdown
+    private volatile HttpClient httpClient;
+
+    public GeocodeService(ApiConfigurationProperties apiConfig, AppFeaturesConfig appFeaturesConfig,
+                          UpstreamLimiters upstreamLimiters, ClusterRateBudget rateBudget, TieredCaches caches) {
+        this.apiConfig = apiConfig;
+        this.appFeaturesConfig = appFeaturesConfig;
+        this.upstreamLimiters = upstreamLimiters;
+        this.rateBudget = rateBudget;
+        this.cache = caches.create("geocode", CacheCodecs.BEACH_LOCATION, CACHE_DURATION, MAX_CACHE_ENTRIES);
+    }
 
-    // Lazy-initialized HttpClient
     private HttpClient getHttpClient() {
-        return HttpClient.newBuilder()
-                .connectTimeout(Duration.ofSeconds(apiConfig.getNominatim().getApi().getConnectTimeoutSeconds()))
-                .build();
+        HttpClient client = httpClient;
+        if (client == null) {
+            client = HttpClient.newBuilder()
+                    .connectTimeout(Duration.ofSeconds(apiConfig.getNominatim().getApi().getConnectTimeoutSeconds()))
+                    .build();
+            httpClient = client;
+        }
+        return client;
     }
 
     /**
@@ -48,8 +101,24 @@ public class GeocodeService {
      * @return BeachLocation with coordinates if found, empty location if not found
      */
     public BeachLocation findBeachCoordinates(String beachName) {
+        String cacheKey = AccentFolding.fold(beachName);
+        BeachLocation cached = cache.get(cacheKey);
+        if (cached != null) {
+            logger.debug("Using cached coordinates for: {}", beachName);
+            return cached;
+        }
+
+        // Only found locations are cached; misses may be transient API failures
+        BeachLocation location = searchNominatim(beachName);
+        if (location.isFound()) {
+            cache.put(cacheKey, location);
+        }
+        return location;
+    }
+
+    private BeachLocation searchNominatim(String beachName) {
         try {
-            logger.info("Searching for beach coordinates: {}", beachName);
+            logger.debug("Searching for beach coordinates: {}", beachName);
 
             // Check if geocoding is enabled
             if (!appFeaturesConfig.getFeatures().isGeocoding()) {
@@ -59,17 +128,14 @@ public class GeocodeService {
 
             // Add beach context if not already included
             String searchQuery = beachName.toLowerCase();
-            boolean hasBeachKeyword = searchQuery.contains("beach") ||
-                    searchQuery.contains("playa") ||
-                    searchQuery.contains("platja") ||
-                    searchQuery.contains("cala");
+            boolean hasBeachKeyword = QueryNormalizer.hasBeachWord(beachName);
 
-            logger.info("Original query: '{}', has beach keyword: {}", beachName, hasBeachKeyword);
+            logger.debug("Original query: '{}', has beach keyword: {}", beachName, hasBeachKeyword);
 
             // If the query is just a city name like "benidorm", add "beach" to get beaches
-            if (!hasBeachKeyword && !searchQuery.contains("beach")) {
+            if (!hasBeachKeyword) {
                 searchQuery = searchQuery + " beach";
-                logger.info("Modified query to: '{}'", searchQuery);
+                logger.debug("Modified query to: '{}'", searchQuery);
             }
 
             // Encode the modified query
@@ -94,20 +160,14 @@ public class GeocodeService {
 
             logger.debug("Making request to: {}", url);
 
-            // Apply rate limiting
-            synchronized (this) {
-                long currentTime = System.currentTimeMillis();
-                long timeSinceLastRequest = currentTime - lastRequestTime;
-                int rateLimitMs = apiConfig.getNominatim().getApi().getRateLimitMs();
-                
-                if (timeSinceLastRequest < rateLimitMs) {
-                    long waitTime = rateLimitMs - timeSinceLastRequest;
-                    logger.debug("Rate limiting: waiting {}ms before request", waitTime);
-                    Thread.sleep(waitTime);
-                }
-                lastRequestTime = System.currentTimeMillis();
+            // Apply rate limiting: reserve this replica's next free slot, then wait for it
+            long waitTime = rateBudget.reserve();
+            if (waitTime > 0) {
+                logger.debug("Rate limiting: waiting {}ms before request", waitTime);
+                Thread.sleep(waitTime);
             }
-            
+
+
             // Create HTTP request using configuration
             String userAgent = apiConfig.getNominatim().getApi().getUserAgent();
             int timeoutSeconds = apiConfig.getNominatim().getApi().getTimeoutSeconds();
@@ -121,15 +181,18 @@ public class GeocodeService {
                     .build();
 
             // Send request
-            HttpResponse<String> response = getHttpClient().send(request, HttpResponse.BodyHandlers.ofString());
-
-            if (response.statusCode() == 200) {
-                return parseNominatimResponse(response.body(), beachName);
-            } else {
-                logger.warn("Nominatim API returned status code: {} for query: {}. Response: {}",
-                        response.statusCode(), beachName, response.body());
-                return new BeachLocation(); // Empty location
-            }
+            // A slow Nominatim gets fewer parallel requests on top of the rate limit
+            return upstreamLimiters.callHttp(UpstreamLimiters.NOMINATIM,
+                    () -> getHttpClient().send(request, HttpResponse.BodyHandlers.ofInputStream()),
+                    response -> {
+                        if (response.statusCode() == 200) {
+                            return parseNominatimResponse(response.body(), beachName);
+                        }
+                        logger.warn("Nominatim API returned status code: {} for query: {}. Response: {}",
+                                response.statusCode(), beachName,
+                                new String(response.body().readAllBytes(), StandardCharsets.UTF_8));
+                        return new BeachLocation(); // Empty location
+                    });
 
         } catch (Exception e) {
             logger.error("Error searching for beach coordinates: {}", beachName, e);
@@ -138,16 +201,33 @@ public class GeocodeService {
     }
 
     /**
-     * Parse Nominatim JSON response and find the best match
+     * Resolve several beach names in one step. Names differing only in case or accents are
+     * looked up once; the lookups share the Nominatim rate limit.
+     *
+     * @return Locations keyed by the given names, empty locations for names not found
+     */
+    public Map<String, BeachLocation> findBeachCoordinates(Collection<String> beachNames) {
+        Map<String, BeachLocation> byFoldedName = new HashMap<>();
+        Map<String, BeachLocation> locations = new LinkedHashMap<>();
+        for (String beachName : beachNames) {
+            locations.put(beachName, byFoldedName.computeIfAbsent(AccentFolding.fold(beachName),
+                    folded -> findBeachCoordinates(beachName)));
+        }
+        return locations;
+    }
+
+    /**
+     * Parse Nominatim JSON response and find the best match. Results are bound straight from the
+     * response stream, unknown fields are skipped.
      */
-    private BeachLocation parseNominatimResponse(String jsonResponse, String originalQuery) {
+    private BeachLocation parseNominatimResponse(InputStream jsonResponse, String originalQuery) {
         try {
             List<NominatimResponse> responses = objectMapper.readValue(
                     jsonResponse, new TypeReference<List<NominatimResponse>>() {
                     });
 
             if (responses.isEmpty()) {
-                logger.info("No results found for: {}", originalQuery);
+                logger.debug("No results found for: {}", originalQuery);
                 return new BeachLocation();
             }
 
@@ -156,12 +236,12 @@ public class GeocodeService {
 
             if (bestMatch != null) {
                 BeachLocation location = new BeachLocation(bestMatch);
-                logger.info("Found coordinates for '{}': lat={}, lon={}, display_name={}, isBeach={}",
+                logger.debug("Found coordinates for '{}': lat={}, lon={}, display_name={}, isBeach={}",
                         originalQuery, location.getLatitude(), location.getLongitude(),
                         location.getDisplayName(), location.isBeach());
                 return location;
             } else {
-                logger.info("No suitable match found for: {}", originalQuery);
+                logger.debug("No suitable match found for: {}", originalQuery);
                 return new BeachLocation();
             }
 
@@ -179,12 +259,15 @@ public class GeocodeService {
             return null;
         }
 
-        // Log all responses for debugging
-        logger.debug("Found {} responses for query: {}", responses.size(), originalQuery);
-        for (int i = 0; i < responses.size(); i++) {
-            NominatimResponse response = responses.get(i);
-            logger.debug("Response {}: name={}, type={}, class={}, display_name={}",
-                    i, response.getName(), response.getType(), response.getClassification(), response.getDisplayName());
+        // Log all responses for debugging, for a few queries per second at most
+        if (logger.isDebugEnabled() && responseDetailSampler.sample()) {
+            logger.debug("Found {} responses for query: {} ({} earlier queries not detailed)",
+                    responses.size(), originalQuery, responseDetailSampler.takeSuppressed());
+            for (int i = 0; i < responses.size(); i++) {
+                NominatimResponse response = responses.get(i);
+                logger.debug("Response {}: name={}, type={}, class={}, display_name={}",
+                        i, response.getName(), response.getType(), response.getClassification(), response.getDisplayName());
+            }
         }
 
         // Priority 1: Beach locations (all results are already from Spain due to countrycodes=es)
@@ -214,8 +297,6 @@ public class GeocodeService {
     private boolean isBeachLocation(NominatimResponse response) {
         String type = response.getType();
         String classification = response.getClassification();
-        String name = response.getName();
-        String displayName = response.getDisplayName();
 
         // Direct beach types
         if ("beach".equals(type) || "coastline".equals(type)) {
@@ -228,60 +309,22 @@ public class GeocodeService {
         }
 
         // Check names for beach-related keywords
-        if (name != null) {
-            String lowerName = name.toLowerCase();
-            if (lowerName.contains("playa") || lowerName.contains("beach") ||
-                    lowerName.contains("costa") || lowerName.contains("cala")) {
-                return true;
-            }
-        }
-
-        // Check display name for beach-related keywords
-        if (displayName != null) {
-            String lowerDisplayName = displayName.toLowerCase();
-            if (lowerDisplayName.contains("playa") || lowerDisplayName.contains("beach") ||
-                    lowerDisplayName.contains("costa")) {
-                return true;
-            }
-        }
-
-        return false;
+        return BEACH_NAME_KEYWORDS.matches(response.getName())
+                || BEACH_DISPLAY_NAME_KEYWORDS.matches(response.getDisplayName());
     }
 
     /**
      * Check if the location is in Spain
      */
     private boolean isInSpain(NominatimResponse response) {
-        String displayName = response.getDisplayName();
-        if (displayName == null) {
-            return false;
-        }
+        return SPAIN_KEYWORDS.matches(response.getDisplayName());
+    }
 
-        String lowerDisplayName = displayName.toLowerCase();
-        return lowerDisplayName.contains("spain") ||
-                lowerDisplayName.contains("españa") ||
-                lowerDisplayName.contains("catalunya") ||
-                lowerDisplayName.contains("catalonia") ||
-                lowerDisplayName.contains("andalusia") ||
-                lowerDisplayName.contains("andalucía") ||
-                lowerDisplayName.contains("valencia") ||
-                lowerDisplayName.contains("comunitat valenciana") ||
-                lowerDisplayName.contains("galicia") ||
-                lowerDisplayName.contains("euskadi") ||
-                lowerDisplayName.contains("país vasco") ||
-                lowerDisplayName.contains("basque country") ||
-                lowerDisplayName.contains("murcia") ||
-                lowerDisplayName.contains("castilla") ||
-                lowerDisplayName.contains("aragón") ||
-                lowerDisplayName.contains("asturias") ||
-                lowerDisplayName.contains("cantabria") ||
-                lowerDisplayName.contains("la rioja") ||
-                lowerDisplayName.contains("navarra") ||
-                lowerDisplayName.contains("extremadura") ||
-                lowerDisplayName.contains("madrid") ||
-                lowerDisplayName.contains("baleares") ||
-                lowerDisplayName.contains("balearic") ||
-                lowerDisplayName.contains("canarias") ||
-                lowerDisplayName.contains("canary");
+    @PreDestroy
+    public void shutdown() {
+        HttpClient client = httpClient;
+        if (client != null) {
+            client.shutdownNow();
+        }
     }
-}
\ No newline at end of file
+}
@@ -1,16 +1,22 @@
 package de.telekom.bot.service;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.core.JsonParser;
+import de.telekom.bot.cache.CacheCodecs;
+import de.telekom.bot.cache.TieredCache;
+import de.telekom.bot.cache.TieredCaches;
 import de.telekom.bot.config.AppFeaturesConfig;
 import de.telekom.bot.model.BeachLocation;
 import de.telekom.bot.model.JellyfishInfo;
-import lombok.RequiredArgsConstructor;
+import de.telekom.bot.util.KeywordMatcher;
+import de.telekom.bot.util.StreamingJson;
+import jakarta.annotation.PreDestroy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
 import java.net.URLEncoder;
 import java.net.http.HttpClient;
@@ -19,14 +25,13 @@ import java.net.http.HttpResponse;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
-import java.time.temporal.ChronoUnit;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.Map;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
@@ -36,7 +41,7 @@ import java.util.concurrent.TimeoutException;
  * Service for retrieving jellyfish information from multiple open APIs
  */
 @Service
-@RequiredArgsConstructor
+@Lazy
 public class JellyfishService {
 
     private static final Logger logger = LoggerFactory.getLogger(JellyfishService.class);
@@ -44,9 +49,14 @@ public class JellyfishService {
     private final HttpClient httpClient = HttpClient.newBuilder()
             .connectTimeout(Duration.ofSeconds(10)) // Reduced timeout
             .build();
-    private final ObjectMapper objectMapper = new ObjectMapper();
     private final AppFeaturesConfig appFeaturesConfig;
-    private final ExecutorService executorService = Executors.newFixedThreadPool(3); // For parallel API calls
+    private final UpstreamLimiters upstreamLimiters;
+    // For parallel API calls; each API's own concurrency limit decides how many run at once
+    private final ExecutorService executorService = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "jellyfish-sources");
+        thread.setDaemon(true);
+        return thread;
+    });
 
     // Search radius in kilometers
     private static final double SEARCH_RADIUS_KM = 50.0;
@@ -55,35 +65,44 @@ public class JellyfishService {
     private static final Duration API_TIMEOUT = Duration.ofSeconds(8);
     private static final Duration FAST_TIMEOUT = Duration.ofSeconds(5);
 
-    // Simple cache to avoid repeated API calls (5 minute cache)
-    private final Map<String, JellyfishInfo> cache = new ConcurrentHashMap<>();
-    private final Map<String, LocalDateTime> cacheTimestamps = new ConcurrentHashMap<>();
+    // Cache to avoid repeated API calls (5 minutes), shared with the other replicas if configured
     private static final Duration CACHE_DURATION = Duration.ofMinutes(5);
+    private static final int MAX_CACHE_ENTRIES = 100;
+    private final TieredCache<JellyfishInfo> cache;
+    private static final long MILLIS_PER_DAY = Duration.ofDays(1).toMillis();
+
+    // Known dangerous jellyfish species, most severe first so overlapping names err on the safe side
+    private static final KeywordMatcher<JellyfishInfo.JellyfishSighting.SeverityLevel> SPECIES_SEVERITY =
+            KeywordMatcher.<JellyfishInfo.JellyfishSighting.SeverityLevel>builder()
+                    .add(JellyfishInfo.JellyfishSighting.SeverityLevel.EXTREME,
+                            "Physalia physalis",    // Portuguese Man o' War
+                            "Chironex fleckeri")    // Box Jellyfish
+                    .add(JellyfishInfo.JellyfishSighting.SeverityLevel.DANGEROUS,
+                            "Carybdea")             // Box Jellyfish family
+                    .add(JellyfishInfo.JellyfishSighting.SeverityLevel.PAINFUL,
+                            "Pelagia noctiluca",    // Mauve Stinger
+                            "Chrysaora")            // Sea Nettle
+                    .add(JellyfishInfo.JellyfishSighting.SeverityLevel.MILD,
+                            "Aurelia aurita",       // Moon Jellyfish
+                            "Rhizostoma pulmo")     // Barrel Jellyfish
+                    .build();
+
+    // Common names mapping, generic "Cnidaria" last
+    private static final KeywordMatcher<String> COMMON_NAMES = KeywordMatcher.<String>builder()
+            .add("Portuguese Man o' War", "Physalia physalis")
+            .add("Box Jellyfish", "Chironex fleckeri")
+            .add("Mauve Stinger", "Pelagia noctiluca")
+            .add("Sea Nettle", "Chrysaora quinquecirrha", "Chrysaora")
+            .add("Moon Jellyfish", "Aurelia aurita", "Aurelia")
+            .add("Barrel Jellyfish", "Rhizostoma pulmo", "Rhizostoma")
+            .add("Jellyfish", "Cnidaria")
+            .build();
 
-    // Known dangerous jellyfish species
-    private static final Map<String, JellyfishInfo.JellyfishSighting.SeverityLevel> SPECIES_SEVERITY = Map.of(
-            "Physalia physalis", JellyfishInfo.JellyfishSighting.SeverityLevel.EXTREME, // Portuguese Man o' War
-            "Chironex fleckeri", JellyfishInfo.JellyfishSighting.SeverityLevel.EXTREME,   // Box Jellyfish
-            "Carybdea", JellyfishInfo.JellyfishSighting.SeverityLevel.DANGEROUS,          // Box Jellyfish family
-            "Pelagia noctiluca", JellyfishInfo.JellyfishSighting.SeverityLevel.PAINFUL,   // Mauve Stinger
-            "Chrysaora", JellyfishInfo.JellyfishSighting.SeverityLevel.PAINFUL,           // Sea Nettle
-            "Aurelia aurita", JellyfishInfo.JellyfishSighting.SeverityLevel.MILD,         // Moon Jellyfish
-            "Rhizostoma pulmo", JellyfishInfo.JellyfishSighting.SeverityLevel.MILD        // Barrel Jellyfish
-    );
-
-    // Common names mapping
-    private static final Map<String, String> COMMON_NAMES = Map.of(
-            "Physalia physalis", "Portuguese Man o' War",
-            "Chironex fleckeri", "Box Jellyfish",
-            "Pelagia noctiluca", "Mauve Stinger",
-            "Chrysaora quinquecirrha", "Sea Nettle",
-            "Chrysaora", "Sea Nettle",
-            "Aurelia aurita", "Moon Jellyfish",
-            "Aurelia", "Moon Jellyfish",
-            "Rhizostoma pulmo", "Barrel Jellyfish",
-            "Rhizostoma", "Barrel Jellyfish",
-            "Cnidaria", "Jellyfish"
-    );
+    public JellyfishService(AppFeaturesConfig appFeaturesConfig, UpstreamLimiters upstreamLimiters, TieredCaches caches) {
+        this.appFeaturesConfig = appFeaturesConfig;
+        this.upstreamLimiters = upstreamLimiters;
+        this.cache = caches.create("jellyfish", CacheCodecs.JELLYFISH_INFO, CACHE_DURATION, MAX_CACHE_ENTRIES);
+    }
 
     /**
      * Get jellyfish information for a beach location
@@ -98,28 +117,23 @@ public class JellyfishService {
         String cacheKey = String.format("%.4f,%.4f", location.getLatitude(), location.getLongitude());
         JellyfishInfo cachedInfo = getCachedInfo(cacheKey);
         if (cachedInfo != null) {
-            logger.info("Using cached jellyfish info for location: {}", location.getName());
+            logger.debug("Using cached jellyfish info for location: {}", location.getName());
             return cachedInfo;
         }
 
-        logger.info("Getting fresh jellyfish info for location: {} at {}, {}",
+        logger.debug("Getting fresh jellyfish info for location: {} at {}, {}",
                 location.getName(), location.getLatitude(), location.getLongitude());
 
-        JellyfishInfo info = new JellyfishInfo();
-        info.setLocation(location.getName());
-        info.setLatitude(location.getLatitude());
-        info.setLongitude(location.getLongitude());
-        info.setLastUpdated(LocalDateTime.now());
-        info.setSource("GBIF + iNaturalist + OBIS");
+        long startedAt = System.currentTimeMillis();
 
-        // Set current location for async methods
-        this.currentLocation = location;
+        double latitude = location.getLatitude();
+        double longitude = location.getLongitude();
 
         List<JellyfishInfo.JellyfishSighting> allSightings = new ArrayList<>();
 
         // Get data from multiple sources in parallel for speed
         CompletableFuture<List<JellyfishInfo.JellyfishSighting>> inatFuture =
-                CompletableFuture.supplyAsync(this::safeGetINaturalistSightings, executorService)
+                CompletableFuture.supplyAsync(() -> safeGetINaturalistSightings(latitude, longitude), executorService)
                         .orTimeout(FAST_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)
                         .exceptionally(t -> {
                             logger.warn("iNaturalist API failed: {}", t.getMessage());
@@ -127,7 +141,7 @@ public class JellyfishService {
                         });
 
         CompletableFuture<List<JellyfishInfo.JellyfishSighting>> gbifFuture =
-                CompletableFuture.supplyAsync(this::safeGetGBIFSightings, executorService)
+                CompletableFuture.supplyAsync(() -> safeGetGBIFSightings(latitude, longitude), executorService)
                         .orTimeout(API_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)
                         .exceptionally(t -> {
                             logger.warn("GBIF API failed: {}", t.getMessage());
@@ -135,7 +149,7 @@ public class JellyfishService {
                         });
 
         CompletableFuture<List<JellyfishInfo.JellyfishSighting>> obisFuture =
-                CompletableFuture.supplyAsync(this::safeGetOBISSightings, executorService)
+                CompletableFuture.supplyAsync(() -> safeGetOBISSightings(latitude, longitude), executorService)
                         .orTimeout(API_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)
                         .exceptionally(t -> {
                             logger.warn("OBIS API failed: {}", t.getMessage());
@@ -179,17 +193,25 @@ public class JellyfishService {
 
         // Process and analyze sightings
         allSightings = processAndDeduplicateSightings(allSightings, location);
-        info.setRecentSightings(allSightings);
 
         // Calculate risk level
-        info.setRiskLevel(calculateRiskLevel(allSightings));
-        info.setHasPrediction(true);
-
-        // Generate prediction and advice
-        info.setPrediction(generatePrediction(allSightings, info.getRiskLevel()));
-        info.setSafetyAdvice(generateSafetyAdvice(allSightings, info.getRiskLevel()));
+        JellyfishInfo.RiskLevel riskLevel = calculateRiskLevel(allSightings);
+
+        JellyfishInfo info = JellyfishInfo.builder()
+                .location(location.getName())
+                .latitude(location.getLatitude())
+                .longitude(location.getLongitude())
+                .lastUpdatedMillis(startedAt)
+                .source("GBIF + iNaturalist + OBIS")
+                .recentSightings(allSightings)
+                .riskLevel(riskLevel)
+                .hasPrediction(true)
+                // Generate prediction and advice
+                .prediction(generatePrediction(allSightings, riskLevel))
+                .safetyAdvice(generateSafetyAdvice(allSightings, riskLevel))
+                .build();
 
-        logger.info("Jellyfish analysis complete: {} recent sightings, risk level: {}",
+        logger.debug("Jellyfish analysis complete: {} recent sightings, risk level: {}",
                 allSightings.size(), info.getRiskLevel());
 
         // Cache the result
@@ -201,9 +223,9 @@ public class JellyfishService {
     /**
      * Safe wrapper for iNaturalist API call (for async use)
      */
-    private List<JellyfishInfo.JellyfishSighting> safeGetINaturalistSightings() {
+    private List<JellyfishInfo.JellyfishSighting> safeGetINaturalistSightings(double lat, double lon) {
         try {
-            return getINaturalistSightings(currentLocation.getLatitude(), currentLocation.getLongitude());
+            return getINaturalistSightings(lat, lon);
         } catch (Exception e) {
             logger.error("Failed to get iNaturalist data", e);
             return Collections.emptyList();
@@ -213,9 +235,9 @@ public class JellyfishService {
     /**
      * Safe wrapper for GBIF API call (for async use)
      */
-    private List<JellyfishInfo.JellyfishSighting> safeGetGBIFSightings() {
+    private List<JellyfishInfo.JellyfishSighting> safeGetGBIFSightings(double lat, double lon) {
         try {
-            return getGBIFSightings(currentLocation.getLatitude(), currentLocation.getLongitude());
+            return getGBIFSightings(lat, lon);
         } catch (Exception e) {
             logger.error("Failed to get GBIF data", e);
             return Collections.emptyList();
@@ -225,18 +247,15 @@ public class JellyfishService {
     /**
      * Safe wrapper for OBIS API call (for async use)
      */
-    private List<JellyfishInfo.JellyfishSighting> safeGetOBISSightings() {
+    private List<JellyfishInfo.JellyfishSighting> safeGetOBISSightings(double lat, double lon) {
         try {
-            return getOBISSightings(currentLocation.getLatitude(), currentLocation.getLongitude());
+            return getOBISSightings(lat, lon);
         } catch (Exception e) {
             logger.error("Failed to get OBIS data", e);
             return Collections.emptyList();
         }
     }
 
-    // Временная переменная для передачи location в async методы
-    private BeachLocation currentLocation;
-
     /**
      * Get jellyfish sightings from iNaturalist API
      */
@@ -258,78 +277,51 @@ public class JellyfishService {
                 .GET()
                 .build();
 
-        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
-
-        if (response.statusCode() != 200) {
-            logger.warn("iNaturalist API returned status: {}", response.statusCode());
-            return Collections.emptyList();
-        }
+        List<Occurrence> occurrences = upstreamLimiters.callHttp(UpstreamLimiters.INATURALIST,
+                () -> httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream()),
+                response -> {
+                    if (response.statusCode() != 200) {
+                        logger.warn("iNaturalist API returned status: {}", response.statusCode());
+                        return List.of();
+                    }
+                    return readResults(response.body(), this::readINaturalistObservation);
+                });
 
-        return parseINaturalistResponse(response.body(), lat, lon);
+        return toSightings(occurrences, lat, lon, "iNaturalist Community");
     }
 
     /**
-     * Parse iNaturalist API response
+     * Read one iNaturalist observation: taxon name and common name, "lat,lon" location, observation day
      */
-    private List<JellyfishInfo.JellyfishSighting> parseINaturalistResponse(String jsonResponse, double centerLat, double centerLon)
-            throws IOException {
-
-        List<JellyfishInfo.JellyfishSighting> sightings = new ArrayList<>();
-        JsonNode root = objectMapper.readTree(jsonResponse);
-        JsonNode results = root.get("results");
-
-        if (results == null || !results.isArray()) {
-            return sightings;
-        }
-
-        for (JsonNode obs : results) {
-            try {
-                JellyfishInfo.JellyfishSighting sighting = new JellyfishInfo.JellyfishSighting();
-
-                // Extract species information
-                JsonNode taxon = obs.get("taxon");
-                if (taxon != null) {
-                    String scientificName = taxon.get("name").asText();
-                    sighting.setSpecies(scientificName);
-
-                    // Try to get a meaningful common name
-                    String commonName = getCommonName(scientificName, taxon);
-                    sighting.setCommonName(commonName);
-                }
-
-                // Extract location
-                String location = obs.path("location").asText();
-                if (!location.isEmpty()) {
-                    String[] coords = location.split(",");
-                    if (coords.length == 2) {
-                        sighting.setLatitude(Double.parseDouble(coords[0].trim()));
-                        sighting.setLongitude(Double.parseDouble(coords[1].trim()));
-                        sighting.setDistanceKm(calculateDistance(centerLat, centerLon,
-                                sighting.getLatitude(), sighting.getLongitude()));
+    private Occurrence readINaturalistObservation(JsonParser parser) throws IOException {
+        Occurrence occurrence = new Occurrence();
+        StreamingJson.readObject(parser, (field, value) -> {
+            switch (field) {
+                case "taxon" -> StreamingJson.readObject(value, (taxonField, taxonValue) -> {
+                    if ("name".equals(taxonField)) {
+                        occurrence.species = StreamingJson.textOrNull(taxonValue);
+                    } else {
+                        occurrence.offerCommonName(taxonField, taxonValue);
+                    }
+                });
+                case "location" -> {
+                    String location = StreamingJson.textOrNull(value);
+                    String[] coords = location != null ? location.split(",") : new String[0];
+                    try {
+                        if (coords.length == 2) {
+                            occurrence.setCoordinates(Double.parseDouble(coords[0].trim()), Double.parseDouble(coords[1].trim()));
+                        }
+                    } catch (NumberFormatException e) {
+                        logger.debug("Invalid iNaturalist location: {}", location);
                     }
                 }
-
-                // Extract date
-                String observedOn = obs.path("observed_on").asText();
-                if (!observedOn.isEmpty()) {
-                    LocalDateTime observedDate = LocalDateTime.parse(observedOn + "T12:00:00");
-                    sighting.setObservedDate(observedDate);
-                    sighting.setDaysAgo((int) ChronoUnit.DAYS.between(observedDate.toLocalDate(), LocalDateTime.now().toLocalDate()));
+                case "observed_on" -> occurrence.date = StreamingJson.textOrNull(value);
+                default -> {
+                    // Not needed
                 }
-
-                // Set severity based on species
-                sighting.setSeverity(determineSeverity(sighting.getSpecies()));
-                sighting.setReportedBy("iNaturalist Community");
-                sighting.setVerified(true);
-
-                sightings.add(sighting);
-
-            } catch (Exception e) {
-                logger.debug("Error parsing iNaturalist observation", e);
             }
-        }
-
-        return sightings;
+        });
+        return occurrence;
     }
 
     /**
@@ -362,82 +354,39 @@ public class JellyfishService {
                 .GET()
                 .build();
 
-        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
-
-        if (response.statusCode() != 200) {
-            logger.warn("GBIF API returned status: {}", response.statusCode());
-            return Collections.emptyList();
-        }
+        List<Occurrence> occurrences = upstreamLimiters.callHttp(UpstreamLimiters.GBIF,
+                () -> httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream()),
+                response -> {
+                    if (response.statusCode() != 200) {
+                        logger.warn("GBIF API returned status: {}", response.statusCode());
+                        return List.of();
+                    }
+                    return readResults(response.body(), this::readGBIFRecord);
+                });
 
-        return parseGBIFResponse(response.body(), lat, lon);
+        return toSightings(occurrences, lat, lon, "GBIF Network");
     }
 
     /**
-     * Parse GBIF API response
+     * Read one GBIF occurrence record
      */
-    private List<JellyfishInfo.JellyfishSighting> parseGBIFResponse(String jsonResponse, double centerLat, double centerLon)
-            throws IOException {
-
-        List<JellyfishInfo.JellyfishSighting> sightings = new ArrayList<>();
-        JsonNode root = objectMapper.readTree(jsonResponse);
-        JsonNode results = root.get("results");
-
-        if (results == null || !results.isArray()) {
-            return sightings;
-        }
-
-        for (JsonNode record : results) {
-            try {
-                JellyfishInfo.JellyfishSighting sighting = new JellyfishInfo.JellyfishSighting();
-
-                // Extract species
-                String scientificName = record.path("scientificName").asText("");
-                sighting.setSpecies(scientificName);
-
-                // Try to get a meaningful common name
-                String commonName = getCommonName(scientificName, record);
-                sighting.setCommonName(commonName);
-
-                // Extract coordinates
-                double recLat = record.path("decimalLatitude").asDouble(0);
-                double recLon = record.path("decimalLongitude").asDouble(0);
-                if (recLat != 0 && recLon != 0) {
-                    sighting.setLatitude(recLat);
-                    sighting.setLongitude(recLon);
-                    sighting.setDistanceKm(calculateDistance(centerLat, centerLon, recLat, recLon));
-                }
-
-                // Extract date
-                String eventDate = record.path("eventDate").asText();
-                if (!eventDate.isEmpty()) {
-                    try {
-                        LocalDateTime date = LocalDateTime.parse(eventDate, DateTimeFormatter.ISO_LOCAL_DATE_TIME);
-                        sighting.setObservedDate(date);
-                        sighting.setDaysAgo((int) ChronoUnit.DAYS.between(date.toLocalDate(), LocalDateTime.now().toLocalDate()));
-                    } catch (Exception e) {
-                        // Try different date format
-                        try {
-                            LocalDateTime date = LocalDateTime.parse(eventDate + "T12:00:00");
-                            sighting.setObservedDate(date);
-                            sighting.setDaysAgo((int) ChronoUnit.DAYS.between(date.toLocalDate(), LocalDateTime.now().toLocalDate()));
-                        } catch (Exception ex) {
-                            logger.debug("Could not parse date: {}", eventDate);
-                        }
-                    }
-                }
-
-                sighting.setSeverity(determineSeverity(sighting.getSpecies()));
-                sighting.setReportedBy("GBIF Network");
-                sighting.setVerified(true);
-
-                sightings.add(sighting);
-
-            } catch (Exception e) {
-                logger.debug("Error parsing GBIF record", e);
+    private Occurrence readGBIFRecord(JsonParser parser) throws IOException {
+        Occurrence occurrence = new Occurrence();
+        double[] coordinates = new double[2];
+        StreamingJson.readObject(parser, (field, value) -> {
+            switch (field) {
+                case "scientificName" -> occurrence.species = StreamingJson.textOrNull(value);
+                case "decimalLatitude" -> coordinates[0] = StreamingJson.doubleOr(value, 0);
+                case "decimalLongitude" -> coordinates[1] = StreamingJson.doubleOr(value, 0);
+                case "eventDate" -> occurrence.date = StreamingJson.textOrNull(value);
+                default -> occurrence.offerCommonName(field, value);
             }
+        });
+        if (occurrence.species == null) {
+            occurrence.species = "";
         }
-
-        return sightings;
+        occurrence.setCoordinates(coordinates[0], coordinates[1]);
+        return occurrence;
     }
 
     /**
@@ -470,103 +419,176 @@ public class JellyfishService {
                 .GET()
                 .build();
 
-        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        List<Occurrence> occurrences = upstreamLimiters.callHttp(UpstreamLimiters.OBIS,
+                () -> httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream()),
+                response -> {
+                    if (response.statusCode() != 200) {
+                        logger.warn("OBIS API returned status: {}", response.statusCode());
+                        return List.of();
+                    }
+                    return readResults(response.body(), this::readOBISRecord);
+                });
 
-        if (response.statusCode() != 200) {
-            logger.warn("OBIS API returned status: {}", response.statusCode());
-            return Collections.emptyList();
-        }
+        return toSightings(occurrences, lat, lon, "OBIS Network");
+    }
 
-        return parseOBISResponse(response.body(), lat, lon);
+    /**
+     * Read one OBIS occurrence record (dates are epoch milliseconds)
+     */
+    private Occurrence readOBISRecord(JsonParser parser) throws IOException {
+        Occurrence occurrence = new Occurrence();
+        double[] coordinates = new double[2];
+        String[] scientificName = new String[1];
+        StreamingJson.readObject(parser, (field, value) -> {
+            switch (field) {
+                case "species" -> occurrence.species = StreamingJson.textOrNull(value);
+                case "scientificName" -> scientificName[0] = StreamingJson.textOrNull(value);
+                case "decimalLatitude" -> coordinates[0] = StreamingJson.doubleOr(value, 0);
+                case "decimalLongitude" -> coordinates[1] = StreamingJson.doubleOr(value, 0);
+                case "date_mid" -> occurrence.dateMillis = StreamingJson.longOr(value, 0);
+                default -> occurrence.offerCommonName(field, value);
+            }
+        });
+        if (occurrence.species == null || occurrence.species.isEmpty()) {
+            occurrence.species = scientificName[0] != null ? scientificName[0] : "";
+        }
+        occurrence.setCoordinates(coordinates[0], coordinates[1]);
+        return occurrence;
     }
 
     /**
-     * Parse OBIS API response
+     * Stream the "results" array of an occurrence API response into compact occurrences
      */
-    private List<JellyfishInfo.JellyfishSighting> parseOBISResponse(String jsonResponse, double centerLat, double centerLon)
+    private List<Occurrence> readResults(InputStream body, StreamingJson.ObjectReader<Occurrence> reader)
             throws IOException {
-
-        List<JellyfishInfo.JellyfishSighting> sightings = new ArrayList<>();
-        JsonNode root = objectMapper.readTree(jsonResponse);
-        JsonNode results = root.get("results");
-
-        if (results == null || !results.isArray()) {
-            return sightings;
+        try (JsonParser parser = StreamingJson.createParser(body)) {
+            if (!StreamingJson.moveTo(parser, "results")) {
+                return Collections.emptyList();
+            }
+            return StreamingJson.readArray(parser, reader);
         }
+    }
 
-        for (JsonNode record : results) {
+    /**
+     * Convert occurrences from any source into sightings relative to the search center
+     */
+    private List<JellyfishInfo.JellyfishSighting> toSightings(List<Occurrence> occurrences,
+                                                              double centerLat, double centerLon, String reportedBy) {
+        List<JellyfishInfo.JellyfishSighting> sightings = new ArrayList<>(occurrences.size());
+        long today = Math.floorDiv(System.currentTimeMillis(), MILLIS_PER_DAY);
+
+        for (Occurrence occurrence : occurrences) {
             try {
-                JellyfishInfo.JellyfishSighting sighting = new JellyfishInfo.JellyfishSighting();
+                JellyfishInfo.JellyfishSighting.Builder sighting = JellyfishInfo.JellyfishSighting.builder();
 
-                // Extract species
-                String species = record.path("species").asText();
-                if (species.isEmpty()) {
-                    species = record.path("scientificName").asText("");
-                }
-                sighting.setSpecies(species);
-
-                // Try to get a meaningful common name
-                String commonName = getCommonName(species, record);
-                sighting.setCommonName(commonName);
-
-                // Extract coordinates
-                double recLat = record.path("decimalLatitude").asDouble(0);
-                double recLon = record.path("decimalLongitude").asDouble(0);
-                if (recLat != 0 && recLon != 0) {
-                    sighting.setLatitude(recLat);
-                    sighting.setLongitude(recLon);
-                    sighting.setDistanceKm(calculateDistance(centerLat, centerLon, recLat, recLon));
+                // Species and a meaningful common name
+                if (occurrence.species != null) {
+                    sighting.species(occurrence.species)
+                            .commonName(getCommonName(occurrence.species, occurrence.commonName));
                 }
 
-                // Extract date (OBIS uses timestamps)
-                long dateMid = record.path("date_mid").asLong(0);
-                if (dateMid > 0) {
-                    LocalDateTime date = LocalDateTime.ofEpochSecond(dateMid / 1000, 0, java.time.ZoneOffset.UTC);
-                    sighting.setObservedDate(date);
-                    sighting.setDaysAgo((int) ChronoUnit.DAYS.between(date.toLocalDate(), LocalDateTime.now().toLocalDate()));
+                if (occurrence.hasCoordinates) {
+                    sighting.latitude(occurrence.latitude)
+                            .longitude(occurrence.longitude)
+                            .distanceKm(calculateDistance(centerLat, centerLon,
+                                    occurrence.latitude, occurrence.longitude));
                 }
 
-                sighting.setSeverity(determineSeverity(sighting.getSpecies()));
-                sighting.setReportedBy("OBIS Network");
-                sighting.setVerified(true);
+                long observedAtMillis = occurrence.observedAtMillis();
+                if (observedAtMillis > 0) {
+                    sighting.observedAtMillis(observedAtMillis)
+                            .daysAgo((int) (today - Math.floorDiv(observedAtMillis, MILLIS_PER_DAY)));
+                }
 
-                sightings.add(sighting);
+                // Set severity based on species
+                sightings.add(sighting
+                        .severity(determineSeverity(occurrence.species))
+                        .reportedBy(reportedBy)
+                        .verified(true)
+                        .build());
 
             } catch (Exception e) {
-                logger.debug("Error parsing OBIS record", e);
+                logger.debug("Error converting {} record", reportedBy, e);
             }
         }
 
         return sightings;
     }
 
+    /**
+     * Fields extracted from one occurrence record, independent of the source API
+     */
+    private static final class Occurrence {
+
+        // Common name fields in order of preference
+        private static final List<String> COMMON_NAME_FIELDS = List.of("preferred_common_name", "vernacularName", "common_name");
+
+        String species;
+        String commonName;
+        int commonNameRank = Integer.MAX_VALUE;
+        boolean hasCoordinates;
+        double latitude;
+        double longitude;
+        String date;
+        long dateMillis;
+
+        void offerCommonName(String field, JsonParser value) throws IOException {
+            int rank = COMMON_NAME_FIELDS.indexOf(field);
+            if (rank >= 0 && rank < commonNameRank) {
+                String name = StreamingJson.textOrNull(value);
+                if (name != null) {
+                    commonName = name;
+                    commonNameRank = rank;
+                }
+            }
+        }
+
+        void setCoordinates(double lat, double lon) {
+            if (lat != 0 && lon != 0) {
+                latitude = lat;
+                longitude = lon;
+                hasCoordinates = true;
+            }
+        }
+
+        long observedAtMillis() {
+            if (dateMillis > 0) {
+                return dateMillis;
+            }
+            if (date == null || date.isEmpty()) {
+                return 0;
+            }
+            try {
+                return LocalDateTime.parse(date, DateTimeFormatter.ISO_LOCAL_DATE_TIME).toInstant(ZoneOffset.UTC).toEpochMilli();
+            } catch (DateTimeParseException e) {
+                // Plain dates are taken as noon of that day
+                try {
+                    return LocalDateTime.parse(date + "T12:00:00").toInstant(ZoneOffset.UTC).toEpochMilli();
+                } catch (DateTimeParseException ex) {
+                    logger.debug("Could not parse date: {}", date);
+                    return 0;
+                }
+            }
+        }
+    }
+
     /**
      * Get meaningful common name for a species
      */
-    private String getCommonName(String scientificName, JsonNode data) {
+    private String getCommonName(String scientificName, String apiCommonName) {
         if (scientificName == null || scientificName.trim().isEmpty()) {
             return null; // Will be filtered out
         }
 
         // First check our known species mapping
-        for (Map.Entry<String, String> entry : COMMON_NAMES.entrySet()) {
-            if (scientificName.toLowerCase().contains(entry.getKey().toLowerCase())) {
-                return entry.getValue();
-            }
+        String knownName = COMMON_NAMES.first(scientificName).orElse(null);
+        if (knownName != null) {
+            return knownName;
         }
 
-        // Try to extract from API response
-        if (data != null) {
-            // Try different common name fields
-            String apiCommonName = data.path("preferred_common_name").asText(
-                    data.path("vernacularName").asText(
-                            data.path("common_name").asText("")
-                    )
-            );
-
-            if (!apiCommonName.isEmpty() && !apiCommonName.equals("null")) {
-                return apiCommonName;
-            }
+        // Then the common name from the API response
+        if (apiCommonName != null && !apiCommonName.isEmpty() && !apiCommonName.equals("null")) {
+            return apiCommonName;
         }
 
         // Try to make scientific name more readable
@@ -661,15 +683,8 @@ public class JellyfishService {
             return JellyfishInfo.JellyfishSighting.SeverityLevel.MILD;
         }
 
-        // Check for exact matches first
-        for (Map.Entry<String, JellyfishInfo.JellyfishSighting.SeverityLevel> entry : SPECIES_SEVERITY.entrySet()) {
-            if (species.toLowerCase().contains(entry.getKey().toLowerCase())) {
-                return entry.getValue();
-            }
-        }
-
-        // Default to mild for unknown species
-        return JellyfishInfo.JellyfishSighting.SeverityLevel.MILD;
+        // Known species first, default to mild for unknown species
+        return SPECIES_SEVERITY.first(species).orElse(JellyfishInfo.JellyfishSighting.SeverityLevel.MILD);
     }
 
     /**
@@ -777,17 +792,15 @@ public class JellyfishService {
     }
 
     /**
-     * Get cached jellyfish info if still valid
+     * Get cached jellyfish info if still valid. Entries are immutable, so they are returned as is;
+     * the age check also covers entries another replica fetched earlier.
      */
     private JellyfishInfo getCachedInfo(String cacheKey) {
-        LocalDateTime cacheTime = cacheTimestamps.get(cacheKey);
-        if (cacheTime != null && Duration.between(cacheTime, LocalDateTime.now()).compareTo(CACHE_DURATION) < 0) {
-            return cache.get(cacheKey);
+        JellyfishInfo cached = cache.get(cacheKey);
+        if (cached != null && System.currentTimeMillis() - cached.getLastUpdatedMillis() < CACHE_DURATION.toMillis()) {
+            return cached;
         }
 
-        // Clean up expired cache entry
-        cache.remove(cacheKey);
-        cacheTimestamps.remove(cacheKey);
         return null;
     }
 
@@ -796,32 +809,25 @@ public class JellyfishService {
      */
     private void cacheInfo(String cacheKey, JellyfishInfo info) {
         cache.put(cacheKey, info);
-        cacheTimestamps.put(cacheKey, LocalDateTime.now());
-
-        // Simple cleanup: remove oldest entries if cache gets too large
-        if (cache.size() > 100) {
-            String oldestKey = cacheTimestamps.entrySet().stream()
-                    .min(Map.Entry.comparingByValue())
-                    .map(Map.Entry::getKey)
-                    .orElse(null);
-            if (oldestKey != null) {
-                cache.remove(oldestKey);
-                cacheTimestamps.remove(oldestKey);
-            }
-        }
     }
 
     /**
      * Create empty jellyfish info for fallback
      */
     private JellyfishInfo createEmptyInfo() {
-        JellyfishInfo info = new JellyfishInfo();
-        info.setRiskLevel(JellyfishInfo.RiskLevel.VERY_LOW);
-        info.setRecentSightings(Collections.emptyList());
-        info.setPrediction("No data available for this location");
-        info.setSafetyAdvice("Check local beach conditions before swimming");
-        info.setSource("No data");
-        info.setLastUpdated(LocalDateTime.now());
-        return info;
+        return JellyfishInfo.builder()
+                .riskLevel(JellyfishInfo.RiskLevel.VERY_LOW)
+                .recentSightings(Collections.emptyList())
+                .prediction("No data available for this location")
+                .safetyAdvice("Check local beach conditions before swimming")
+                .source("No data")
+                .lastUpdatedMillis(System.currentTimeMillis())
+                .build();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executorService.shutdownNow();
+        httpClient.shutdownNow();
     }
-}
\ No newline at end of file
+}
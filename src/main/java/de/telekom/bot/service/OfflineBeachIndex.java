@@ -0,0 +1,78 @@
+package de.telekom.bot.service;
+
+import de.telekom.bot.config.ApiConfigurationProperties;
+import de.telekom.bot.geo.BeachPolygonIndex;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+
+/**
+ * Offline beach polygon lookups backed by a memory-mapped index of an OSM extract.
+ * When no index file is configured, lookups report unavailable and callers fall back to Overpass.
+ */
+@Component
+@Lazy
+@RequiredArgsConstructor
+public class OfflineBeachIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(OfflineBeachIndex.class);
+
+    private final ApiConfigurationProperties apiConfig;
+
+    private volatile BeachPolygonIndex index;
+
+    @PostConstruct
+    public void loadIndex() {
+        String configuredPath = apiConfig.getOverpass().getOfflineIndex().getPath();
+        if (configuredPath == null || configuredPath.isBlank()) {
+            logger.info("Offline beach index not configured, using Overpass for beach surfaces");
+            return;
+        }
+
+        Path path = Paths.get(configuredPath);
+        if (!Files.exists(path)) {
+            logger.warn("Offline beach index {} not found, using Overpass for beach surfaces", path);
+            return;
+        }
+
+        try {
+            long start = System.nanoTime();
+            index = BeachPolygonIndex.open(path);
+            logger.info("Mapped offline beach index {} with {} beaches in {}ms",
+                    path, index.size(), (System.nanoTime() - start) / 1_000_000);
+        } catch (Exception e) {
+            logger.error("Failed to load offline beach index {}", path, e);
+        }
+    }
+
+    public boolean isAvailable() {
+        return index != null;
+    }
+
+    /**
+     * Find the beach at or nearest to a coordinate
+     *
+     * @param radiusKm Maximum distance to the beach outline
+     */
+    public Optional<BeachPolygonIndex.Match> findBeach(double latitude, double longitude, double radiusKm) {
+        BeachPolygonIndex current = index;
+        if (current == null) {
+            return Optional.empty();
+        }
+
+        // Point-in-polygon first: a location on the beach itself is the common case
+        Optional<BeachPolygonIndex.Match> containing = current.findContaining(latitude, longitude);
+        if (containing.isPresent()) {
+            return containing;
+        }
+        return current.findNearest(latitude, longitude, radiusKm);
+    }
+}
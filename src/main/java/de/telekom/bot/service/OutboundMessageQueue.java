@@ -0,0 +1,222 @@
+package de.telekom.bot.service;
+
+import de.telekom.bot.config.AlertsConfig;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.stereotype.Service;
+import org.telegram.telegrambots.meta.api.methods.send.SendMessage;
+import org.telegram.telegrambots.meta.exceptions.TelegramApiRequestException;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Paced queue for messages the bot pushes on its own (alerts, digests).
+ * <p>
+ * A single sender thread keeps below the Telegram limits: a global token bucket caps messages
+ * per second and every chat gets at most one message per interval. Messages for a chat that
+ * is not ready yet are re-queued instead of blocking other chats. A 429 answer pauses the
+ * whole queue for the advertised retry_after. On shutdown, messages due within the flush
+ * timeout are still delivered. The subscription store is closed after the queue, so alerts
+ * delivered during that flush are still recorded.
+ */
+@Service
+@DependsOn("subscriptionStore")
+@RequiredArgsConstructor
+public class OutboundMessageQueue {
+
+    private static final Logger logger = LoggerFactory.getLogger(OutboundMessageQueue.class);
+
+    private static final int TOO_MANY_REQUESTS = 429;
+    private static final int MAX_TRACKED_CHATS = 10_000;
+
+    private final AlertsConfig alertsConfig;
+    // Provider breaks the cycle bot -> dispatcher -> handlers -> queue
+    private final ObjectProvider<WeatherBot> bot;
+
+    private final DelayQueue<Outgoing> queue = new DelayQueue<>();
+    private final Map<String, Long> nextAllowedByChat = new ConcurrentHashMap<>();
+    // Messages not yet delivered or given up, including the one the sender is working on
+    private final AtomicInteger undelivered = new AtomicInteger();
+
+    private volatile Thread sender;
+
+    // Token bucket state, only touched by the sender thread
+    private double tokens;
+    private long lastRefillNanos;
+
+    /**
+     * Message waiting in the queue until readyAt; the future reports whether it was delivered
+     */
+    private record Outgoing(SendMessage message, int attempt, long readyAtMillis,
+                            CompletableFuture<Boolean> delivered) implements Delayed {
+
+        Outgoing retryAt(long readyAtMillis) {
+            return new Outgoing(message, attempt, readyAtMillis, delivered);
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(readyAtMillis - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(readyAtMillis, ((Outgoing) other).readyAtMillis);
+        }
+    }
+
+    @PostConstruct
+    public void start() {
+        lastRefillNanos = System.nanoTime();
+        tokens = alertsConfig.getBroadcast().getMessagesPerSecond();
+
+        sender = new Thread(this::run, "outbound-messages");
+        sender.setDaemon(true);
+        sender.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        Thread current = sender;
+        if (current != null) {
+            flush(alertsConfig.getBroadcast().getShutdownFlushMs());
+        }
+        sender = null;
+        if (current != null) {
+            current.interrupt();
+        }
+        if (!queue.isEmpty()) {
+            logger.warn("Dropping {} queued outbound messages on shutdown", queue.size());
+            queue.forEach(outgoing -> outgoing.delivered().complete(false));
+        }
+    }
+
+    /**
+     * Queue a message for paced delivery
+     *
+     * @return Completes with true once sent, false if delivery was given up
+     */
+    public CompletableFuture<Boolean> enqueue(SendMessage message) {
+        CompletableFuture<Boolean> delivered = new CompletableFuture<>();
+        undelivered.incrementAndGet();
+        delivered.whenComplete((sent, error) -> undelivered.decrementAndGet());
+        queue.add(new Outgoing(message, 1, System.currentTimeMillis(), delivered));
+        return delivered;
+    }
+
+    public int size() {
+        return queue.size();
+    }
+
+    /**
+     * Wait for the sender to deliver what becomes due before the timeout
+     */
+    private void flush(long timeoutMs) {
+        long deadline = System.currentTimeMillis() + timeoutMs;
+        if (undelivered.get() == 0) {
+            return;
+        }
+        logger.info("Flushing {} outbound messages before shutdown", undelivered.get());
+        try {
+            while (System.currentTimeMillis() < deadline) {
+                // A message is either queued or held by the sender
+                boolean sending = undelivered.get() > queue.size();
+                boolean dueInTime = queue.stream().anyMatch(outgoing -> outgoing.readyAtMillis() < deadline);
+                if (!sending && !dueInTime) {
+                    return;
+                }
+                Thread.sleep(50);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void run() {
+        while (sender == Thread.currentThread()) {
+            try {
+                Outgoing outgoing = queue.take();
+
+                // Chat still inside its interval: put it back and serve other chats meanwhile
+                long now = System.currentTimeMillis();
+                long chatReadyAt = nextAllowedByChat.getOrDefault(outgoing.message().getChatId(), 0L);
+                if (chatReadyAt > now) {
+                    queue.add(outgoing.retryAt(chatReadyAt));
+                    continue;
+                }
+
+                acquireToken();
+                send(outgoing);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                logger.error("Outbound message loop failed", e);
+            }
+        }
+    }
+
+    private void send(Outgoing outgoing) throws InterruptedException {
+        AlertsConfig.Broadcast settings = alertsConfig.getBroadcast();
+        String chatId = outgoing.message().getChatId();
+        long now = System.currentTimeMillis();
+        if (nextAllowedByChat.size() > MAX_TRACKED_CHATS) {
+            nextAllowedByChat.values().removeIf(readyAt -> readyAt <= now);
+        }
+        nextAllowedByChat.put(chatId, now + settings.getPerChatIntervalMs());
+
+        try {
+            bot.getObject().execute(outgoing.message());
+            outgoing.delivered().complete(true);
+        } catch (TelegramApiRequestException e) {
+            Integer retryAfter = e.getParameters() != null ? e.getParameters().getRetryAfter() : null;
+            if (e.getErrorCode() != null && e.getErrorCode() == TOO_MANY_REQUESTS && retryAfter != null) {
+                logger.warn("Telegram rate limit hit, pausing outbound messages for {}s", retryAfter);
+                retry(outgoing, retryAfter * 1000L);
+                Thread.sleep(retryAfter * 1000L);
+            } else {
+                logger.warn("Failed to send message to chat {}: {}", chatId, e.getApiResponse());
+                outgoing.delivered().complete(false);
+            }
+        } catch (Exception e) {
+            logger.warn("Failed to send message to chat {}: {}", chatId, e.getMessage());
+            retry(outgoing, settings.getPerChatIntervalMs());
+        }
+    }
+
+    private void retry(Outgoing outgoing, long delayMs) {
+        if (outgoing.attempt() >= alertsConfig.getBroadcast().getMaxAttempts()) {
+            logger.warn("Giving up on message to chat {} after {} attempts",
+                    outgoing.message().getChatId(), outgoing.attempt());
+            outgoing.delivered().complete(false);
+            return;
+        }
+        queue.add(new Outgoing(outgoing.message(), outgoing.attempt() + 1, System.currentTimeMillis() + delayMs,
+                outgoing.delivered()));
+    }
+
+    private void acquireToken() throws InterruptedException {
+        int rate = Math.max(1, alertsConfig.getBroadcast().getMessagesPerSecond());
+        while (true) {
+            long now = System.nanoTime();
+            tokens = Math.min(rate, tokens + (now - lastRefillNanos) * rate / 1e9);
+            lastRefillNanos = now;
+            if (tokens >= 1) {
+                tokens -= 1;
+                return;
+            }
+            TimeUnit.NANOSECONDS.sleep((long) ((1 - tokens) * 1e9 / rate));
+        }
+    }
+}
@@ -0,0 +1,326 @@
+package de.telekom.bot.service;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.telekom.bot.config.ApiConfigurationProperties;
+import de.telekom.bot.geo.GeoUtils;
+import de.telekom.bot.geo.SlippyTile;
+import de.telekom.bot.model.OverpassConfig;
+import de.telekom.bot.util.AdaptiveConcurrencyLimiter;
+import de.telekom.bot.util.StreamingJson;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tile-keyed cache of OpenStreetMap beach features.
+ * <p>
+ * Instead of one Overpass "around" query with full geometries per lookup, every slippy tile is
+ * fetched once with tags and centroids only ({@code out tags center}). Tiles are kept in memory,
+ * persisted to disk for days and the nearest beach is selected locally.
+ */
+@Component
+@Lazy
+@RequiredArgsConstructor
+public class OverpassTileCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(OverpassTileCache.class);
+
+    // Tile bounding boxes are padded so beaches just across a tile edge are still found
+    private static final double TILE_PADDING_KM = 5.0;
+
+    private final ApiConfigurationProperties apiConfig;
+    private final UpstreamLimiters upstreamLimiters;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<SlippyTile, TileEntry> tiles = new ConcurrentHashMap<>();
+    private final Map<SlippyTile, CompletableFuture<TileEntry>> loading = new ConcurrentHashMap<>();
+
+    private volatile HttpClient httpClient;
+
+    /**
+     * Beach feature reduced to the fields we need: centroid and the descriptive tags
+     */
+    public record BeachFeature(double latitude, double longitude, String name, String surface, String description) {
+    }
+
+    /**
+     * Cached content of a single tile
+     */
+    public record TileEntry(long fetchedAtMillis, List<BeachFeature> beaches) {
+
+        boolean isExpired(Duration ttl) {
+            return System.currentTimeMillis() - fetchedAtMillis > ttl.toMillis();
+        }
+    }
+
+    /**
+     * Find beach features around a coordinate, nearest first
+     *
+     * @param latitude  Latitude of the location
+     * @param longitude Longitude of the location
+     * @param radiusKm  Maximum distance of returned beaches
+     * @return Beaches within the radius sorted by distance, empty if the tile is unavailable
+     */
+    public List<BeachFeature> findNearbyBeaches(double latitude, double longitude, double radiusKm) {
+        OverpassConfig.TileCache settings = apiConfig.getOverpass().getTileCache();
+        SlippyTile tile = SlippyTile.containing(latitude, longitude, settings.getZoom());
+
+        TileEntry entry = getTile(tile);
+        if (entry == null || entry.beaches().isEmpty()) {
+            return List.of();
+        }
+
+        return entry.beaches().stream()
+                .filter(b -> GeoUtils.haversineKm(latitude, longitude, b.latitude(), b.longitude()) <= radiusKm)
+                .sorted(Comparator.comparingDouble(b -> GeoUtils.haversineKm(latitude, longitude, b.latitude(), b.longitude())))
+                .toList();
+    }
+
+    /**
+     * Get tile content from memory, disk or Overpass (in that order)
+     */
+    private TileEntry getTile(SlippyTile tile) {
+        Duration ttl = Duration.ofHours(apiConfig.getOverpass().getTileCache().getTtlHours());
+
+        TileEntry entry = tiles.get(tile);
+        if (entry == null) {
+            entry = readFromDisk(tile);
+            if (entry != null) {
+                tiles.put(tile, entry);
+            }
+        }
+
+        if (entry != null && !entry.isExpired(ttl)) {
+            return entry;
+        }
+
+        if (!apiConfig.getOverpass().getApi().isEnabled()) {
+            return entry;
+        }
+
+        // Only one Overpass query per tile at a time, concurrent lookups wait for it
+        CompletableFuture<TileEntry> pending = new CompletableFuture<>();
+        CompletableFuture<TileEntry> existing = loading.putIfAbsent(tile, pending);
+        if (existing != null) {
+            try {
+                return existing.get(apiConfig.getOverpass().getApi().getTimeoutSeconds(), TimeUnit.SECONDS);
+            } catch (Exception e) {
+                logger.debug("Waiting for tile {} failed: {}", tile.key(), e.getMessage());
+                return entry;
+            }
+        }
+
+        try {
+            TileEntry fresh = fetchTile(tile);
+            if (fresh != null) {
+                tiles.put(tile, fresh);
+                writeToDisk(tile, fresh);
+                entry = fresh;
+            } else if (entry != null) {
+                logger.info("Overpass unavailable, serving stale tile {}", tile.key());
+            }
+            pending.complete(entry);
+            return entry;
+        } catch (RuntimeException e) {
+            pending.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(tile);
+        }
+    }
+
+    /**
+     * Query Overpass for all beaches in the (padded) tile, tags and centroids only
+     */
+    private TileEntry fetchTile(SlippyTile tile) {
+        OverpassConfig.Api api = apiConfig.getOverpass().getApi();
+
+        double latPad = GeoUtils.kmToLatDegrees(TILE_PADDING_KM);
+        double lonPad = GeoUtils.kmToLonDegrees(TILE_PADDING_KM, tile.north());
+
+        String overpassQuery = String.format(Locale.ROOT,
+                "[out:json][timeout:%d];" +
+                        "nwr[\"natural\"=\"beach\"](%.5f,%.5f,%.5f,%.5f);" +
+                        "out tags center;",
+                api.getTimeoutSeconds(),
+                tile.south() - latPad, tile.west() - lonPad, tile.north() + latPad, tile.east() + lonPad
+        );
+
+        try {
+            HttpRequest request = HttpRequest.newBuilder()
+                    .uri(URI.create(api.getInterpreterUrl()))
+                    .header("Content-Type", "application/x-www-form-urlencoded")
+                    .timeout(Duration.ofSeconds(api.getTimeoutSeconds()))
+                    .POST(HttpRequest.BodyPublishers.ofString("data=" + URLEncoder.encode(overpassQuery, StandardCharsets.UTF_8)))
+                    .build();
+
+            // Overpass answers 429/504 when its slots are taken: back off instead of piling on
+            AdaptiveConcurrencyLimiter.Permit permit = upstreamLimiters.acquire(UpstreamLimiters.OVERPASS);
+            if (permit == null) {
+                return null;
+            }
+
+            long start = System.currentTimeMillis();
+            List<BeachFeature> beaches;
+            try {
+                HttpResponse<InputStream> response = getHttpClient().send(request, HttpResponse.BodyHandlers.ofInputStream());
+                try (InputStream body = response.body()) {
+                    if (UpstreamLimiters.isOverloaded(response)) {
+                        permit.dropped();
+                    }
+                    if (response.statusCode() != 200) {
+                        logger.warn("Overpass API returned status {} for tile {}", response.statusCode(), tile.key());
+                        permit.ignore();
+                        return null;
+                    }
+                    beaches = parseFeatures(body);
+                }
+                permit.success();
+            } catch (IOException e) {
+                permit.dropped();
+                throw e;
+            } finally {
+                permit.ignore();
+            }
+
+            logger.info("Fetched Overpass tile {} with {} beaches in {}ms",
+                    tile.key(), beaches.size(), System.currentTimeMillis() - start);
+            return new TileEntry(System.currentTimeMillis(), beaches);
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            logger.debug("Failed to fetch Overpass tile {}", tile.key(), e);
+        }
+        return null;
+    }
+
+    /**
+     * Stream an "out tags center" response into beach features
+     */
+    private List<BeachFeature> parseFeatures(InputStream body) throws IOException {
+        try (JsonParser parser = StreamingJson.createParser(body)) {
+            if (!StreamingJson.moveTo(parser, "elements")) {
+                return List.of();
+            }
+            return StreamingJson.readArray(parser, this::readElement);
+        }
+    }
+
+    /**
+     * Read one element; nodes carry lat/lon directly, ways and relations carry a "center" object
+     */
+    private BeachFeature readElement(JsonParser parser) throws IOException {
+        double[] position = {Double.NaN, Double.NaN};
+        String[] tags = new String[3];
+
+        StreamingJson.readObject(parser, (field, value) -> {
+            switch (field) {
+                case "lat" -> position[0] = StreamingJson.doubleOr(value, Double.NaN);
+                case "lon" -> position[1] = StreamingJson.doubleOr(value, Double.NaN);
+                case "center" -> StreamingJson.readObject(value, (centerField, centerValue) -> {
+                    if ("lat".equals(centerField)) {
+                        position[0] = StreamingJson.doubleOr(centerValue, Double.NaN);
+                    } else if ("lon".equals(centerField)) {
+                        position[1] = StreamingJson.doubleOr(centerValue, Double.NaN);
+                    }
+                });
+                case "tags" -> StreamingJson.readObject(value, (tag, tagValue) -> {
+                    switch (tag) {
+                        case "name" -> tags[0] = nonEmpty(StreamingJson.textOrNull(tagValue));
+                        case "surface" -> tags[1] = nonEmpty(StreamingJson.textOrNull(tagValue));
+                        case "description" -> tags[2] = nonEmpty(StreamingJson.textOrNull(tagValue));
+                        default -> {
+                            // Other tags are not used
+                        }
+                    }
+                });
+                default -> {
+                    // Not needed
+                }
+            }
+        });
+
+        if (Double.isNaN(position[0]) || Double.isNaN(position[1])) {
+            return null;
+        }
+        return new BeachFeature(position[0], position[1], tags[0], tags[1], tags[2]);
+    }
+
+    private static String nonEmpty(String value) {
+        return value == null || value.isEmpty() ? null : value;
+    }
+
+    private TileEntry readFromDisk(SlippyTile tile) {
+        Path file = tileFile(tile);
+        if (!Files.exists(file)) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(file.toFile(), TileEntry.class);
+        } catch (IOException e) {
+            logger.warn("Ignoring unreadable tile cache file {}: {}", file, e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeToDisk(SlippyTile tile, TileEntry entry) {
+        Path file = tileFile(tile);
+        try {
+            Files.createDirectories(file.getParent());
+            // Write to a temp file first so a crash never leaves a truncated tile behind
+            Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+            objectMapper.writeValue(tmp.toFile(), entry);
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            logger.warn("Failed to persist tile {}: {}", tile.key(), e.getMessage());
+        }
+    }
+
+    private Path tileFile(SlippyTile tile) {
+        return Paths.get(apiConfig.getOverpass().getTileCache().getDirectory(), tile.key() + ".json");
+    }
+
+    private HttpClient getHttpClient() {
+        HttpClient client = httpClient;
+        if (client == null) {
+            client = HttpClient.newBuilder()
+                    .connectTimeout(Duration.ofSeconds(apiConfig.getOverpass().getApi().getConnectTimeoutSeconds()))
+                    .build();
+            httpClient = client;
+        }
+        return client;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        HttpClient client = httpClient;
+        if (client != null) {
+            client.shutdownNow();
+        }
+    }
+}
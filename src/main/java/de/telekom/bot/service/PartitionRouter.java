@@ -0,0 +1,273 @@
+package de.telekom.bot.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.telekom.bot.cluster.ConsistentHashRing;
+import de.telekom.bot.cluster.PartitionClient;
+import de.telekom.bot.cluster.PartitionServer;
+import de.telekom.bot.config.PartitionConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.telegram.telegrambots.bots.TelegramLongPollingBot;
+import org.telegram.telegrambots.meta.api.objects.Update;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Routes every update to the node owning its chat, so per-chat state (language, typo
+ * suggestions, subscriptions) lives on one predictable node.
+ * <p>
+ * The node polling Telegram maps the chat id onto a consistent-hash ring of the reachable nodes
+ * and forwards updates for other nodes' chats over the partition protocol; the owner hands them
+ * to its own {@link CommandDispatcher}. An unreachable owner leaves the ring and its chats are
+ * handled by the next node (and this update locally) until it answers again. A node that starts
+ * announces itself to the known nodes and takes over its share of the ring. Only the chats of
+ * the joining or leaving node move; their in-memory state is not migrated.
+ * <p>
+ * Every node handles an update id at most once, whether it polled or received the update. An
+ * update that was written to the owner but not acknowledged is sent once more instead of being
+ * handled here, since the owner may already have it; only an owner that cannot be reached at
+ * all leaves the ring.
+ */
+@Component
+public class PartitionRouter implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(PartitionRouter.class);
+
+    private static final int MAX_RECENT_UPDATES = 10_000;
+
+    private final PartitionConfig partitionConfig;
+    private final CommandDispatcher commandDispatcher;
+    // Provider breaks the cycle bot -> router -> bot
+    private final ObjectProvider<WeatherBot> bot;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ConsistentHashRing ring;
+    private final Map<String, PartitionClient> clients = new ConcurrentHashMap<>();
+    private final Set<String> unreachable = ConcurrentHashMap.newKeySet();
+    // Update ids handled here, oldest first
+    private final Set<Integer> recentUpdates = Collections.newSetFromMap(new LinkedHashMap<>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Integer, Boolean> eldest) {
+            return size() > MAX_RECENT_UPDATES;
+        }
+    });
+
+    private volatile PartitionServer server;
+    private volatile ScheduledExecutorService rejoinChecker;
+
+    public PartitionRouter(PartitionConfig partitionConfig, CommandDispatcher commandDispatcher,
+                           ObjectProvider<WeatherBot> bot) {
+        this.partitionConfig = partitionConfig;
+        this.commandDispatcher = commandDispatcher;
+        this.bot = bot;
+        this.ring = new ConsistentHashRing(partitionConfig.getVirtualNodes());
+
+        ring.add(partitionConfig.getNodeId());
+        partitionConfig.getNodes().forEach((nodeId, address) -> {
+            if (!nodeId.equals(partitionConfig.getNodeId())) {
+                clients.put(nodeId, client(address));
+                ring.add(nodeId);
+            }
+        });
+    }
+
+    /**
+     * Handle the update here or forward it to the node owning its chat
+     */
+    public void route(Update update, TelegramLongPollingBot bot) {
+        Long chatId = chatId(update);
+        String owner = partitionConfig.isEnabled() && chatId != null ? ring.nodeFor(chatId) : null;
+        if (owner == null || owner.equals(partitionConfig.getNodeId())) {
+            dispatchOnce(update, bot);
+            return;
+        }
+
+        PartitionClient.Delivery delivery = forward(owner, update);
+        if (delivery == PartitionClient.Delivery.UNCONFIRMED) {
+            // The owner may have it already and drops a repeat; retried on a fresh connection
+            delivery = forward(owner, update);
+            if (delivery == PartitionClient.Delivery.UNCONFIRMED) {
+                logger.warn("Node {} did not confirm update {}, leaving it to that node", owner, update.getUpdateId());
+                return;
+            }
+        }
+        if (delivery == PartitionClient.Delivery.NOT_SENT) {
+            markUnreachable(owner);
+            dispatchOnce(update, bot);
+        }
+    }
+
+    /**
+     * @return The node owning the chat on this node's view of the ring
+     */
+    public String ownerOf(long chatId) {
+        return ring.nodeFor(chatId);
+    }
+
+    private PartitionClient.Delivery forward(String owner, Update update) {
+        PartitionClient client = clients.get(owner);
+        if (client == null) {
+            return PartitionClient.Delivery.NOT_SENT;
+        }
+        try {
+            return client.forward(objectMapper.writeValueAsBytes(update));
+        } catch (IOException e) {
+            logger.error("Failed to serialise update {} for node {}", update.getUpdateId(), owner, e);
+            return PartitionClient.Delivery.NOT_SENT;
+        }
+    }
+
+    private void receive(byte[] payload) {
+        try {
+            dispatchOnce(objectMapper.readValue(payload, Update.class), bot.getObject());
+        } catch (IOException e) {
+            logger.error("Dropping unreadable forwarded update", e);
+        }
+    }
+
+    /**
+     * Dispatch the update unless this node already handled its id
+     */
+    private void dispatchOnce(Update update, TelegramLongPollingBot bot) {
+        Integer updateId = update.getUpdateId();
+        if (updateId != null) {
+            boolean first;
+            synchronized (recentUpdates) {
+                first = recentUpdates.add(updateId);
+            }
+            if (!first) {
+                logger.debug("Skipping update {}, already handled", updateId);
+                return;
+            }
+        }
+        commandDispatcher.dispatch(update, bot);
+    }
+
+    /**
+     * A node announced itself: (re)join it to the ring
+     */
+    void nodeJoined(String nodeId, String address) {
+        if (nodeId.equals(partitionConfig.getNodeId())) {
+            return;
+        }
+        PartitionClient previous = clients.put(nodeId, client(address));
+        if (previous != null) {
+            previous.close();
+        }
+        unreachable.remove(nodeId);
+        if (ring.add(nodeId)) {
+            logger.info("Node {} joined at {}, ring is now {}", nodeId, address, ring.nodes());
+        }
+    }
+
+    private void markUnreachable(String nodeId) {
+        if (ring.remove(nodeId)) {
+            unreachable.add(nodeId);
+            logger.warn("Node {} unreachable, its chats move to the remaining nodes {}", nodeId, ring.nodes());
+        }
+    }
+
+    private void checkUnreachable() {
+        for (String nodeId : unreachable) {
+            PartitionClient client = clients.get(nodeId);
+            if (client != null && client.ping() && unreachable.remove(nodeId) && ring.add(nodeId)) {
+                logger.info("Node {} reachable again, ring is now {}", nodeId, ring.nodes());
+            }
+        }
+    }
+
+    private PartitionClient client(String address) {
+        return new PartitionClient(address, Duration.ofMillis(partitionConfig.getForwardTimeoutMs()));
+    }
+
+    private static Long chatId(Update update) {
+        if (update.hasMessage()) {
+            return update.getMessage().getChatId();
+        }
+        if (update.hasCallbackQuery() && update.getCallbackQuery().getMessage() != null) {
+            return update.getCallbackQuery().getMessage().getChatId();
+        }
+        if (update.hasInlineQuery()) {
+            // Inline queries have no chat; the user's private chat has the same id
+            return update.getInlineQuery().getFrom().getId();
+        }
+        return null;
+    }
+
+    @Override
+    public void start() {
+        if (!partitionConfig.isEnabled()) {
+            return;
+        }
+        PartitionServer partitionServer = new PartitionServer(partitionConfig.getPort(), new PartitionServer.Handler() {
+            @Override
+            public void update(byte[] payload) {
+                receive(payload);
+            }
+
+            @Override
+            public void join(String nodeId, String address) {
+                nodeJoined(nodeId, address);
+            }
+        });
+        try {
+            partitionServer.start();
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to start partition server on port " + partitionConfig.getPort(), e);
+        }
+        server = partitionServer;
+
+        // Announce this node; the nodes already running move its chats over to it
+        clients.forEach((nodeId, client) -> {
+            if (!client.join(partitionConfig.getNodeId(), partitionConfig.getAdvertisedAddress())) {
+                markUnreachable(nodeId);
+            }
+        });
+        logger.info("Node {} serving partitions, ring is {}", partitionConfig.getNodeId(), ring.nodes());
+
+        rejoinChecker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "partition-rejoin");
+            thread.setDaemon(true);
+            return thread;
+        });
+        rejoinChecker.scheduleWithFixedDelay(this::checkUnreachable, partitionConfig.getRejoinCheckMs(),
+                partitionConfig.getRejoinCheckMs(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void stop() {
+        ScheduledExecutorService checker = rejoinChecker;
+        if (checker != null) {
+            checker.shutdownNow();
+        }
+        PartitionServer current = server;
+        server = null;
+        if (current != null) {
+            current.close();
+        }
+        clients.values().forEach(PartitionClient::close);
+    }
+
+    @Override
+    public boolean isRunning() {
+        return server != null;
+    }
+
+    // Receives forwarded updates before polling starts and until after admitted lookups finished
+    @Override
+    public int getPhase() {
+        return DEFAULT_PHASE - 2;
+    }
+}
@@ -0,0 +1,73 @@
+package de.telekom.bot.service;
+
+import de.telekom.bot.config.MarineConfig;
+import de.telekom.bot.geo.SstClimatology;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+
+/**
+ * Climatological water temperature backed by a memory-mapped SST grid.
+ * When no grid is configured, estimates report unavailable and callers use their own fallback.
+ */
+@Component
+@Lazy
+@RequiredArgsConstructor
+public class SeaTemperatureClimatology {
+
+    private static final Logger logger = LoggerFactory.getLogger(SeaTemperatureClimatology.class);
+
+    private final MarineConfig marineConfig;
+
+    private volatile SstClimatology grid;
+
+    @PostConstruct
+    public void loadGrid() {
+        String configuredPath = marineConfig.getClimatology().getPath();
+        if (configuredPath == null || configuredPath.isBlank()) {
+            logger.info("SST climatology not configured, using regional water temperature estimates");
+            return;
+        }
+
+        Path path = Paths.get(configuredPath);
+        if (!Files.exists(path)) {
+            logger.warn("SST climatology {} not found, using regional water temperature estimates", path);
+            return;
+        }
+
+        try {
+            long start = System.nanoTime();
+            grid = SstClimatology.open(path);
+            logger.info("Mapped SST climatology {} with {} cells in {}ms",
+                    path, grid.cellCount(), (System.nanoTime() - start) / 1_000_000);
+        } catch (Exception e) {
+            logger.error("Failed to load SST climatology {}", path, e);
+        }
+    }
+
+    public boolean isAvailable() {
+        return grid != null;
+    }
+
+    /**
+     * Mean water temperature for the coordinate and date, rounded to 0.1°C
+     *
+     * @return null if no grid is loaded or the point is outside it
+     */
+    public Double estimate(double latitude, double longitude, LocalDate date) {
+        SstClimatology current = grid;
+        if (current == null) {
+            return null;
+        }
+        double temperature = current.estimate(latitude, longitude, date.getDayOfYear());
+        return Double.isNaN(temperature) ? null : Math.round(temperature * 10.0) / 10.0;
+    }
+}
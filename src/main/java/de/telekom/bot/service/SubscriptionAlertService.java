@@ -0,0 +1,147 @@
+package de.telekom.bot.service;
+
+import de.telekom.bot.config.AlertsConfig;
+import de.telekom.bot.model.BeachLocation;
+import de.telekom.bot.model.JellyfishInfo;
+import de.telekom.bot.model.Subscription;
+import de.telekom.bot.model.WeatherInfo;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.telegram.telegrambots.meta.api.methods.send.SendMessage;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Periodically evaluates subscribed beaches and pushes alerts to their subscribers.
+ * <p>
+ * Subscriptions are grouped by beach location, so every beach costs one upstream evaluation
+ * per cycle no matter how many chats follow it. Alerts go through the paced
+ * {@link OutboundMessageQueue}; an unchanged alert is sent at most once a day once it was
+ * delivered.
+ */
+@Service
+@RequiredArgsConstructor
+public class SubscriptionAlertService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SubscriptionAlertService.class);
+
+    private static final ZoneId SPAIN = ZoneId.of("Europe/Madrid");
+
+    private final AlertsConfig alertsConfig;
+    private final SubscriptionStore subscriptionStore;
+    private final WeatherService weatherService;
+    private final OutboundMessageQueue outboundMessageQueue;
+    private final UserLanguageService userLanguageService;
+
+    @Scheduled(initialDelayString = "${alerts.check-interval-ms:3600000}",
+            fixedDelayString = "${alerts.check-interval-ms:3600000}")
+    public void evaluateSubscriptions() {
+        if (!alertsConfig.isEnabled()) {
+            return;
+        }
+
+        Map<String, List<Subscription>> byBeach = subscriptionStore.findAll().stream()
+                .collect(Collectors.groupingBy(Subscription::locationKey, LinkedHashMap::new, Collectors.toList()));
+        if (byBeach.isEmpty()) {
+            return;
+        }
+
+        long start = System.currentTimeMillis();
+        String today = LocalDate.now(SPAIN).toString();
+        int alerts = 0;
+
+        for (List<Subscription> subscribers : byBeach.values()) {
+            WeatherInfo weather = evaluateBeach(subscribers.get(0));
+            if (weather == null) {
+                continue;
+            }
+
+            for (Subscription subscription : subscribers) {
+                String alert = alertKey(subscription, weather, today);
+                if (alert == null || alert.equals(subscription.lastAlert())) {
+                    continue;
+                }
+
+                String language = userLanguageService.getUserLanguage(subscription.chatId());
+                SendMessage message = new SendMessage(String.valueOf(subscription.chatId()),
+                        formatAlert(subscription, weather, language));
+                message.setParseMode("Markdown");
+                // Only a delivered alert is suppressed for the rest of the day
+                outboundMessageQueue.enqueue(message).thenAccept(sent -> {
+                    if (sent) {
+                        subscriptionStore.recordAlert(subscription, alert);
+                    }
+                });
+                alerts++;
+            }
+        }
+
+        logger.info("Evaluated {} subscribed beaches in {}ms, queued {} alerts",
+                byBeach.size(), System.currentTimeMillis() - start, alerts);
+    }
+
+    private WeatherInfo evaluateBeach(Subscription subscription) {
+        BeachLocation location = BeachLocation.builder()
+                .name(subscription.beach())
+                .latitude(subscription.latitude())
+                .longitude(subscription.longitude())
+                .type("beach")
+                .found(true)
+                .build();
+        try {
+            return weatherService.getWeatherInfo(location);
+        } catch (Exception e) {
+            logger.error("Failed to evaluate subscribed beach {}", subscription.beach(), e);
+            return null;
+        }
+    }
+
+    /**
+     * Key identifying today's triggered conditions, null if nothing is triggered
+     */
+    static String alertKey(Subscription subscription, WeatherInfo weather, String day) {
+        StringBuilder key = new StringBuilder();
+        if (subscription.isJellyfishTriggered(weather)) {
+            key.append("|jellyfish:").append(weather.getJellyfishInfo().getRiskLevel());
+        }
+        if (subscription.isWaterTriggered(weather)) {
+            key.append("|water");
+        }
+        return key.isEmpty() ? null : day + key;
+    }
+
+    private String formatAlert(Subscription subscription, WeatherInfo weather, String language) {
+        boolean spanish = "es".equals(language);
+        StringBuilder text = new StringBuilder()
+                .append("🔔 *").append(spanish ? "Alerta de playa: " : "Beach alert: ")
+                .append(subscription.beach()).append("*\n\n");
+
+        if (subscription.isJellyfishTriggered(weather)) {
+            JellyfishInfo jellyfish = weather.getJellyfishInfo();
+            text.append("🪼 ").append(spanish ? "Riesgo de medusas: " : "Jellyfish risk: ")
+                    .append(jellyfish.getFormattedRiskLevel()).append('\n')
+                    .append("💡 ").append(jellyfish.getFormattedAdvice()).append('\n');
+        }
+        if (subscription.isWaterTriggered(weather)) {
+            text.append("🌊 ").append(spanish ? "Agua a " : "Water is at ")
+                    .append(weather.getFormattedWaterTemperature()).append('\n');
+        }
+        if (weather.isAirTempFound()) {
+            text.append("🌡️ ").append(spanish ? "Aire: " : "Air: ")
+                    .append(weather.getFormattedAirTemperature()).append('\n');
+        }
+
+        text.append('\n').append(spanish
+                ? "_/unsubscribe " + subscription.beach() + " para dejar de recibir alertas_"
+                : "_/unsubscribe " + subscription.beach() + " to stop these alerts_");
+        return text.toString();
+    }
+}
@@ -0,0 +1,202 @@
+package de.telekom.bot.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.telekom.bot.config.AlertsConfig;
+import de.telekom.bot.model.Subscription;
+import de.telekom.bot.util.AccentFolding;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Beach subscriptions kept in memory and persisted to a JSON file.
+ * <p>
+ * Changes only mark the store dirty; {@link #flush()} writes the whole file at most once per
+ * alerts.store-flush-ms and on shutdown, so an alert cycle recording thousands of alerts costs
+ * one write instead of one per alert.
+ */
+@Component
+@RequiredArgsConstructor
+public class SubscriptionStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(SubscriptionStore.class);
+
+    private final AlertsConfig alertsConfig;
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    // chatId -> beach key -> subscription; ordered by chat so broadcasts can page through it
+    private final ConcurrentNavigableMap<Long, Map<String, Subscription>> subscriptions = new ConcurrentSkipListMap<>();
+    private final AtomicBoolean dirty = new AtomicBoolean();
+
+    @PostConstruct
+    public void load() {
+        Path file = storeFile();
+        if (!Files.exists(file)) {
+            logger.info("No subscription store at {}, starting empty", file);
+            return;
+        }
+
+        try {
+            List<Subscription> stored = objectMapper.readValue(file.toFile(), new TypeReference<List<Subscription>>() {
+            });
+            stored.forEach(this::put);
+            logger.info("Loaded {} subscriptions from {}", stored.size(), file);
+        } catch (IOException e) {
+            logger.error("Failed to read subscription store {}", file, e);
+        }
+    }
+
+    /**
+     * Add or replace the chat's subscription to a beach
+     *
+     * @return false if the chat already has the maximum number of other subscriptions
+     */
+    public boolean subscribe(Subscription subscription) {
+        Map<String, Subscription> chatSubscriptions =
+                subscriptions.computeIfAbsent(subscription.chatId(), id -> new ConcurrentHashMap<>());
+        if (!chatSubscriptions.containsKey(subscription.beachKey())
+                && chatSubscriptions.size() >= alertsConfig.getMaxSubscriptionsPerChat()) {
+            return false;
+        }
+
+        chatSubscriptions.put(subscription.beachKey(), subscription);
+        dirty.set(true);
+        return true;
+    }
+
+    /**
+     * Remove the chat's subscription to a beach
+     *
+     * @return The removed subscription, or null if there was none
+     */
+    public Subscription unsubscribe(long chatId, String beach) {
+        Map<String, Subscription> chatSubscriptions = subscriptions.get(chatId);
+        if (chatSubscriptions == null) {
+            return null;
+        }
+
+        Subscription removed = chatSubscriptions.remove(AccentFolding.fold(beach));
+        if (removed != null) {
+            dirty.set(true);
+        }
+        return removed;
+    }
+
+    /**
+     * Remove every subscription of a chat
+     *
+     * @return Number of removed subscriptions
+     */
+    public int unsubscribeAll(long chatId) {
+        Map<String, Subscription> removed = subscriptions.remove(chatId);
+        if (removed == null || removed.isEmpty()) {
+            return 0;
+        }
+        dirty.set(true);
+        return removed.size();
+    }
+
+    public List<Subscription> findByChat(long chatId) {
+        Map<String, Subscription> chatSubscriptions = subscriptions.get(chatId);
+        if (chatSubscriptions == null) {
+            return List.of();
+        }
+        return chatSubscriptions.values().stream()
+                .sorted(Comparator.comparing(Subscription::beach))
+                .toList();
+    }
+
+    public List<Subscription> findAll() {
+        List<Subscription> all = new ArrayList<>();
+        subscriptions.values().forEach(chatSubscriptions -> all.addAll(chatSubscriptions.values()));
+        return all;
+    }
+
+    /**
+     * Page through the in-memory subscriptions in chat order, e.g. for broadcasts that resume
+     * after a restart
+     *
+     * @param afterChatId Last chat of the previous page, Long.MIN_VALUE to start from the beginning
+     * @param maxChats    Maximum number of chats in the page
+     * @return Subscriptions of the next chats, grouped by chat
+     */
+    public List<List<Subscription>> findChatsAfter(long afterChatId, int maxChats) {
+        List<List<Subscription>> page = new ArrayList<>(maxChats);
+        for (Map<String, Subscription> chatSubscriptions : subscriptions.tailMap(afterChatId, false).values()) {
+            if (page.size() == maxChats) {
+                break;
+            }
+            if (!chatSubscriptions.isEmpty()) {
+                page.add(chatSubscriptions.values().stream()
+                        .sorted(Comparator.comparing(Subscription::beach))
+                        .toList());
+            }
+        }
+        return page;
+    }
+
+    /**
+     * Remember the alert sent for a subscription, unless it was removed meanwhile
+     */
+    public void recordAlert(Subscription subscription, String alert) {
+        Map<String, Subscription> chatSubscriptions = subscriptions.get(subscription.chatId());
+        if (chatSubscriptions != null
+                && chatSubscriptions.replace(subscription.beachKey(), subscription, subscription.withLastAlert(alert))) {
+            dirty.set(true);
+        }
+    }
+
+    private void put(Subscription subscription) {
+        subscriptions.computeIfAbsent(subscription.chatId(), id -> new ConcurrentHashMap<>())
+                .put(subscription.beachKey(), subscription);
+    }
+
+    /**
+     * Write the store if it changed since the last flush. The whole store goes to a temporary
+     * file that is moved into place, so a crash never leaves a truncated store behind.
+     */
+    @Scheduled(initialDelayString = "${alerts.store-flush-ms:5000}", fixedDelayString = "${alerts.store-flush-ms:5000}")
+    @PreDestroy
+    public synchronized void flush() {
+        if (!dirty.getAndSet(false)) {
+            return;
+        }
+        Path file = storeFile();
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            Path tmp = Files.createTempFile(parent, "subscriptions", ".tmp");
+            objectMapper.writeValue(tmp.toFile(), findAll());
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            // Try again with the next flush
+            dirty.set(true);
+            logger.error("Failed to write subscription store {}", file, e);
+        }
+    }
+
+    private Path storeFile() {
+        return Paths.get(alertsConfig.getStorePath());
+    }
+}
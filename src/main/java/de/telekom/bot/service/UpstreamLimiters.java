@@ -0,0 +1,134 @@
+package de.telekom.bot.service;
+
+import de.telekom.bot.config.UpstreamConfig;
+import de.telekom.bot.util.AdaptiveConcurrencyLimiter;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Predicate;
+
+/**
+ * One {@link AdaptiveConcurrencyLimiter} per external API, so each dependency gets as many
+ * parallel calls as it currently handles well instead of a fixed thread pool size.
+ */
+@Component
+@RequiredArgsConstructor
+public class UpstreamLimiters {
+
+    private static final Logger logger = LoggerFactory.getLogger(UpstreamLimiters.class);
+
+    public static final String NOMINATIM = "nominatim";
+    public static final String OVERPASS = "overpass";
+    public static final String OPEN_METEO = "open-meteo";
+    public static final String OPEN_METEO_MARINE = "open-meteo-marine";
+    public static final String INATURALIST = "inaturalist";
+    public static final String GBIF = "gbif";
+    public static final String OBIS = "obis";
+
+    /**
+     * Reads an upstream's HTTP response; the body is closed afterwards
+     */
+    @FunctionalInterface
+    public interface ResponseReader<R> {
+        R read(HttpResponse<InputStream> response) throws IOException;
+    }
+
+    private final UpstreamConfig upstreamConfig;
+    private final Map<String, AdaptiveConcurrencyLimiter> limiters = new ConcurrentHashMap<>();
+
+    public AdaptiveConcurrencyLimiter get(String upstream) {
+        return limiters.computeIfAbsent(upstream, name -> {
+            UpstreamConfig.Limit limit = upstreamConfig.limitFor(name);
+            return new AdaptiveConcurrencyLimiter(name, limit.getInitialLimit(), limit.getMinLimit(), limit.getMaxLimit());
+        });
+    }
+
+    /**
+     * How long a call may wait for a free slot before it is shed
+     */
+    public Duration queueTimeout(String upstream) {
+        return Duration.ofMillis(upstreamConfig.limitFor(upstream).getQueueTimeoutMs());
+    }
+
+    /**
+     * HTTP statuses upstreams answer with when they are overloaded
+     */
+    public static boolean isOverloadStatus(int statusCode) {
+        return statusCode == 429 || statusCode == 503 || statusCode == 504;
+    }
+
+    public static boolean isOverloaded(HttpResponse<?> response) {
+        return isOverloadStatus(response.statusCode());
+    }
+
+    /**
+     * Run a call to an upstream under its limit
+     *
+     * @throws RejectedExecutionException if the upstream is saturated
+     */
+    public <T, E extends Exception> T call(String upstream, AdaptiveConcurrencyLimiter.Call<T, E> call)
+            throws E, InterruptedException {
+        return call(upstream, call, result -> false);
+    }
+
+    /**
+     * Send an HTTP request to an upstream and read its response under the limit. The slot is
+     * held, and the round trip measured, until the body has been read; 429/503/504 answers and
+     * I/O failures shrink the limit.
+     *
+     * @throws RejectedExecutionException if the upstream is saturated
+     */
+    public <R> R callHttp(String upstream, AdaptiveConcurrencyLimiter.Call<HttpResponse<InputStream>, IOException> send,
+                          ResponseReader<R> reader) throws IOException, InterruptedException {
+        AdaptiveConcurrencyLimiter.Permit permit = acquire(upstream);
+        if (permit == null) {
+            throw new RejectedExecutionException("Upstream " + upstream + " is at its concurrency limit");
+        }
+        try {
+            HttpResponse<InputStream> response = send.call();
+            R result;
+            try (InputStream body = response.body()) {
+                result = reader.read(response);
+            }
+            if (isOverloaded(response)) {
+                permit.dropped();
+            } else {
+                permit.success();
+            }
+            return result;
+        } catch (IOException e) {
+            permit.dropped();
+            throw e;
+        } finally {
+            permit.ignore();
+        }
+    }
+
+    private <T, E extends Exception> T call(String upstream, AdaptiveConcurrencyLimiter.Call<T, E> call,
+                                            Predicate<? super T> overloaded) throws E, InterruptedException {
+        AdaptiveConcurrencyLimiter limiter = get(upstream);
+        try {
+            return limiter.call(queueTimeout(upstream), call, overloaded);
+        } catch (RejectedExecutionException e) {
+            logger.debug("Shedding call to {}", limiter);
+            throw e;
+        }
+    }
+
+    public AdaptiveConcurrencyLimiter.Permit acquire(String upstream) throws InterruptedException {
+        AdaptiveConcurrencyLimiter.Permit permit = get(upstream).acquire(queueTimeout(upstream));
+        if (permit == null) {
+            logger.debug("Shedding call to {}", get(upstream));
+        }
+        return permit;
+    }
+}
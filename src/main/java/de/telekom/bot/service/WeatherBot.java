@@ -14,7 +14,7 @@ public class WeatherBot extends TelegramLongPollingBot {
 
     private static final Logger logger = LoggerFactory.getLogger(WeatherBot.class);
 
-    private final CommandDispatcher commandDispatcher;
+    private final PartitionRouter partitionRouter;
 
     @Value("${telegram.bot.token}")
     private String botToken;
@@ -34,6 +34,6 @@ public class WeatherBot extends TelegramLongPollingBot {
 
     @Override
     public void onUpdateReceived(Update update) {
-        commandDispatcher.dispatch(update, this);
+        partitionRouter.route(update, this);
     }
 }
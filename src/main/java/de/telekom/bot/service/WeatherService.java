@@ -1,25 +1,41 @@
 package de.telekom.bot.service;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.core.JsonParser;
+import de.telekom.bot.cache.CacheCodec;
+import de.telekom.bot.cache.CacheCodecs;
+import de.telekom.bot.cache.TieredCache;
+import de.telekom.bot.cache.TieredCaches;
 import de.telekom.bot.config.AppFeaturesConfig;
+import de.telekom.bot.geo.GeoUtils;
 import de.telekom.bot.model.BeachLocation;
 import de.telekom.bot.model.JellyfishInfo;
 import de.telekom.bot.model.WeatherInfo;
-import lombok.RequiredArgsConstructor;
+import de.telekom.bot.util.Hedging;
+import de.telekom.bot.util.LatencyTracker;
+import de.telekom.bot.util.StreamingJson;
+import jakarta.annotation.PreDestroy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
 
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 @Service
-@RequiredArgsConstructor
 public class WeatherService {
 
     private static final Logger logger = LoggerFactory.getLogger(WeatherService.class);
@@ -27,9 +43,65 @@ public class WeatherService {
     private final HttpClient httpClient = HttpClient.newBuilder()
             .connectTimeout(Duration.ofSeconds(10))
             .build();
-    private final ObjectMapper objectMapper = new ObjectMapper();
     private final AppFeaturesConfig appFeaturesConfig;
     private final JellyfishService jellyfishService;
+    private final UpstreamLimiters upstreamLimiters;
+
+    // Recent readings per ~1 km grid cell, reused for answers that must not wait for the APIs.
+    // Shared with the other replicas if configured, so a reading fetched anywhere can be served.
+    private static final Duration CACHE_DURATION = Duration.ofMinutes(30);
+    private static final int MAX_CACHE_ENTRIES = 500;
+    private static final double CELLS_PER_DEGREE = 100.0;
+    private static final double CACHE_MATCH_KM = 2.0;
+
+    private record CachedWeather(WeatherInfo info, double latitude, double longitude, long fetchedAtMillis) {
+    }
+
+    private static final CacheCodec<CachedWeather> CACHED_WEATHER = new CacheCodec<>() {
+        @Override
+        public void write(CachedWeather cached, DataOutputStream out) throws IOException {
+            out.writeDouble(cached.latitude());
+            out.writeDouble(cached.longitude());
+            out.writeLong(cached.fetchedAtMillis());
+            CacheCodecs.WEATHER_INFO.write(cached.info(), out);
+        }
+
+        @Override
+        public CachedWeather read(DataInputStream in) throws IOException {
+            double latitude = in.readDouble();
+            double longitude = in.readDouble();
+            long fetchedAtMillis = in.readLong();
+            return new CachedWeather(CacheCodecs.WEATHER_INFO.read(in), latitude, longitude, fetchedAtMillis);
+        }
+    };
+
+    private final TieredCache<CachedWeather> cache;
+
+    // Water temperature providers are hedged on their recent p90 latency
+    private static final Duration WATER_PROVIDERS_TIMEOUT = Duration.ofSeconds(25);
+    private static final long DEFAULT_PROVIDER_LATENCY_MS = 3000;
+    private final Map<String, LatencyTracker> providerLatencies = new ConcurrentHashMap<>();
+    private final ExecutorService waterProviderExecutor = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "water-temperature");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // Optional, so the service also works without the climatology grid (e.g. in tests)
+    private SeaTemperatureClimatology climatology;
+
+    @Autowired
+    public void setClimatology(@Lazy SeaTemperatureClimatology climatology) {
+        this.climatology = climatology;
+    }
+
+    public WeatherService(AppFeaturesConfig appFeaturesConfig, @Lazy JellyfishService jellyfishService,
+                          UpstreamLimiters upstreamLimiters, TieredCaches caches) {
+        this.appFeaturesConfig = appFeaturesConfig;
+        this.jellyfishService = jellyfishService;
+        this.upstreamLimiters = upstreamLimiters;
+        this.cache = caches.create("weather", CACHED_WEATHER, CACHE_DURATION, MAX_CACHE_ENTRIES);
+    }
 
     /**
      * Get weather information for a beach location
@@ -40,17 +112,17 @@ public class WeatherService {
             return new WeatherInfo();
         }
 
-        logger.info("Fetching weather info for location: {} at {}, {}",
+        logger.debug("Fetching weather info for location: {} at {}, {}",
                 location.getName(), location.getLatitude(), location.getLongitude());
 
-        WeatherInfo weatherInfo = new WeatherInfo();
-        weatherInfo.setLocation(location.getName());
+        WeatherInfo.Builder weatherInfo = WeatherInfo.builder()
+                .location(location.getName());
 
         // Get air temperature from Open-Meteo (free API, no key required)
         try {
             Double airTemp = getAirTemperatureFromOpenMeteo(location.getLatitude(), location.getLongitude());
-            weatherInfo.setAirTemperature(airTemp);
-            logger.info("Air temperature retrieved: {}°C", airTemp);
+            weatherInfo.airTemperature(airTemp);
+            logger.debug("Air temperature retrieved: {}°C", airTemp);
         } catch (Exception e) {
             logger.error("Failed to get air temperature", e);
         }
@@ -58,9 +130,9 @@ public class WeatherService {
         // Get water temperature from multiple sources
         try {
             Double waterTemp = getWaterTemperature(location.getLatitude(), location.getLongitude());
-            weatherInfo.setWaterTemperature(waterTemp);
+            weatherInfo.waterTemperature(waterTemp);
             if (waterTemp != null) {
-                logger.info("Water temperature retrieved: {}°C", waterTemp);
+                logger.debug("Water temperature retrieved: {}°C", waterTemp);
             } else {
                 logger.warn("No water temperature data available for this location");
             }
@@ -72,15 +144,74 @@ public class WeatherService {
         try {
             if (jellyfishService.isEnabled()) {
                 JellyfishInfo jellyfishInfo = jellyfishService.getJellyfishInfo(location);
-                weatherInfo.setJellyfishInfo(jellyfishInfo);
-                logger.info("Jellyfish risk level: {}", jellyfishInfo.getRiskLevel());
+                weatherInfo.jellyfishInfo(jellyfishInfo);
+                logger.debug("Jellyfish risk level: {}", jellyfishInfo.getRiskLevel());
             }
         } catch (Exception e) {
             logger.error("Failed to get jellyfish information", e);
         }
 
-        weatherInfo.setSource("Open-Meteo API + Marine Biology APIs");
-        return weatherInfo;
+        WeatherInfo result = weatherInfo
+                .source("Open-Meteo API + Marine Biology APIs")
+                .build();
+        cacheWeather(location.getLatitude(), location.getLongitude(), result);
+        return result;
+    }
+
+    /**
+     * Get the most recent weather reading near a coordinate without calling any API
+     *
+     * @return Cached weather fetched within the cache period and about 2 km, or null
+     */
+    public WeatherInfo getCachedWeatherInfo(double latitude, double longitude) {
+        return findCachedWeather(latitude, longitude, true);
+    }
+
+    /**
+     * Like {@link #getCachedWeatherInfo}, but only from this replica's near tier, so it never
+     * waits on the shared cache
+     */
+    public WeatherInfo getNearCachedWeatherInfo(double latitude, double longitude) {
+        return findCachedWeather(latitude, longitude, false);
+    }
+
+    private WeatherInfo findCachedWeather(double latitude, double longitude, boolean askSharedTier) {
+        long now = System.currentTimeMillis();
+        long latCell = Math.round(latitude * CELLS_PER_DEGREE);
+        long lonCell = Math.round(longitude * CELLS_PER_DEGREE);
+
+        // Look at the neighbouring cells too, a beach may straddle a cell border. Only the own
+        // cell is asked from the shared tier, the neighbours would cost eight more round trips.
+        CachedWeather best = null;
+        double bestDistance = CACHE_MATCH_KM;
+        for (long dLat = -1; dLat <= 1; dLat++) {
+            for (long dLon = -1; dLon <= 1; dLon++) {
+                String key = cellKey(latCell + dLat, lonCell + dLon);
+                CachedWeather cached = askSharedTier && dLat == 0 && dLon == 0 ? cache.get(key) : cache.getNear(key);
+                if (cached == null || now - cached.fetchedAtMillis() >= CACHE_DURATION.toMillis()) {
+                    continue;
+                }
+                double distance = GeoUtils.haversineKm(latitude, longitude, cached.latitude(), cached.longitude());
+                if (distance <= bestDistance) {
+                    best = cached;
+                    bestDistance = distance;
+                }
+            }
+        }
+        return best != null ? best.info() : null;
+    }
+
+    private void cacheWeather(double latitude, double longitude, WeatherInfo info) {
+        String key = cellKey(Math.round(latitude * CELLS_PER_DEGREE), Math.round(longitude * CELLS_PER_DEGREE));
+        cache.put(key, new CachedWeather(info, latitude, longitude, System.currentTimeMillis()));
+    }
+
+    private LatencyTracker providerLatency(String provider) {
+        return providerLatencies.computeIfAbsent(provider, name -> new LatencyTracker(100, DEFAULT_PROVIDER_LATENCY_MS));
+    }
+
+    private static String cellKey(long latCell, long lonCell) {
+        return latCell + "," + lonCell;
     }
 
     /**
@@ -103,64 +234,65 @@ public class WeatherService {
                 .GET()
                 .build();
 
-        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
-
-        if (response.statusCode() == 200) {
-            JsonNode root = objectMapper.readTree(response.body());
-            JsonNode currentWeather = root.get("current_weather");
+        return upstreamLimiters.callHttp(UpstreamLimiters.OPEN_METEO,
+                () -> httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream()),
+                response -> {
+                    if (response.statusCode() == 200) {
+                        Double temperature = readNumber(response.body(), "current_weather", "temperature");
+                        if (temperature != null) {
+                            return temperature;
+                        }
+                    }
+                    logger.warn("Failed to parse air temperature from Open-Meteo response: {}", response.statusCode());
+                    return null;
+                });
+    }
 
-            if (currentWeather != null && currentWeather.has("temperature")) {
-                return currentWeather.get("temperature").asDouble();
+    /**
+     * Stream a response body up to a single numeric field, null if it is missing or null
+     */
+    private Double readNumber(InputStream body, String... path) throws IOException {
+        try (JsonParser parser = StreamingJson.createParser(body)) {
+            if (!StreamingJson.moveTo(parser, path)) {
+                return null;
             }
+            double value = StreamingJson.doubleOr(parser, Double.NaN);
+            return Double.isNaN(value) ? null : value;
         }
-
-        logger.warn("Failed to parse air temperature from Open-Meteo response: {}", response.statusCode());
-        return null;
     }
 
     /**
-     * Get water temperature from multiple sources (tries different APIs)
+     * Get water temperature from multiple sources. The providers are hedged: a provider that has
+     * not answered within its p90 latency gets the next one started in parallel.
      */
     private Double getWaterTemperature(double latitude, double longitude) {
         logger.debug("Attempting to get water temperature for {}, {}", latitude, longitude);
 
-        // Try Open-Meteo Marine API first (most reliable for coastal areas)
-        try {
-            Double temp = getWaterTemperatureFromOpenMeteo(latitude, longitude);
-            if (temp != null) {
-                logger.debug("Got water temperature from Open-Meteo Marine: {}°C", temp);
-                return temp;
-            }
-        } catch (Exception e) {
-            logger.debug("Open-Meteo Marine API failed: {}", e.getMessage());
-        }
-
-        // Try OpenWeatherMap One Call API (if we had a key, but we can try the free tier)
-        try {
-            Double temp = getWaterTemperatureFromOpenWeatherFree(latitude, longitude);
-            if (temp != null) {
-                logger.debug("Got water temperature from OpenWeatherMap: {}°C", temp);
-                return temp;
-            }
-        } catch (Exception e) {
-            logger.debug("OpenWeatherMap API failed: {}", e.getMessage());
-        }
+        // Open-Meteo Marine first (most reliable for coastal areas), then OpenWeatherMap, then NOAA
+        List<Hedging.Attempt<Double>> providers = List.of(
+                new Hedging.Attempt<>("Open-Meteo Marine", () -> getWaterTemperatureFromOpenMeteo(latitude, longitude),
+                        providerLatency("Open-Meteo Marine")),
+                new Hedging.Attempt<>("OpenWeatherMap", () -> getWaterTemperatureFromOpenWeatherFree(latitude, longitude),
+                        providerLatency("OpenWeatherMap")),
+                new Hedging.Attempt<>("NOAA", () -> getWaterTemperatureFromNOAA(latitude, longitude),
+                        providerLatency("NOAA")));
 
-        // Try NOAA if near US waters (limited but free)
         try {
-            Double temp = getWaterTemperatureFromNOAA(latitude, longitude);
-            if (temp != null) {
-                logger.debug("Got water temperature from NOAA: {}°C", temp);
-                return temp;
+            Hedging.Result<Double> result = Hedging.firstValid(providers, waterProviderExecutor, WATER_PROVIDERS_TIMEOUT);
+            if (result.value() != null) {
+                logger.debug("Got water temperature from {}: {}°C ({} providers called)",
+                        result.provider(), result.value(), result.started());
+                return result.value();
             }
-        } catch (Exception e) {
-            logger.debug("NOAA API failed: {}", e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
         }
 
         // Last resort: estimate based on location and season
         Double estimatedTemp = estimateWaterTemperature(latitude, longitude);
         if (estimatedTemp != null) {
-            logger.info("Using estimated water temperature: {}°C (no real-time data available)", estimatedTemp);
+            logger.debug("Using estimated water temperature: {}°C (no real-time data available)", estimatedTemp);
         }
 
         return estimatedTemp;
@@ -186,22 +318,19 @@ public class WeatherService {
                 .GET()
                 .build();
 
-        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
-
-        if (response.statusCode() == 200) {
-            JsonNode root = objectMapper.readTree(response.body());
-            JsonNode current = root.get("current");
-
-            if (current != null && current.has("sea_surface_temperature")) {
-                JsonNode tempNode = current.get("sea_surface_temperature");
-                if (!tempNode.isNull()) {
-                    return tempNode.asDouble();
-                }
-            }
-        }
-
-        logger.warn("Failed to parse water temperature from Open-Meteo Marine response: {}", response.statusCode());
-        return null;
+        return upstreamLimiters.callHttp(UpstreamLimiters.OPEN_METEO_MARINE,
+                () -> httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream()),
+                response -> {
+                    if (response.statusCode() == 200) {
+                        Double temperature = readNumber(response.body(), "current", "sea_surface_temperature");
+                        if (temperature != null) {
+                            return temperature;
+                        }
+                    }
+                    logger.warn("Failed to parse water temperature from Open-Meteo Marine response: {}",
+                            response.statusCode());
+                    return null;
+                });
     }
 
     /**
@@ -237,9 +366,16 @@ public class WeatherService {
      */
     private Double estimateWaterTemperature(double latitude, double longitude) {
         java.time.LocalDate now = java.time.LocalDate.now();
-        int dayOfYear = now.getDayOfYear();
         int month = now.getMonthValue();
 
+        // Gridded climatology first: interpolated for the exact spot and day
+        if (climatology != null) {
+            Double climatological = climatology.estimate(latitude, longitude, now);
+            if (climatological != null) {
+                return climatological;
+            }
+        }
+
         // Mediterranean Sea (Spain, France, Italy, etc.)
         if (latitude >= 30 && latitude <= 45 && longitude >= -6 && longitude <= 36) {
             return estimateMediterraneanWaterTemp(latitude, month);
@@ -347,34 +483,41 @@ public class WeatherService {
      * Get mock weather data for testing when API is disabled
      */
     public WeatherInfo getMockWeatherInfo(BeachLocation location) {
-        logger.info("Returning mock weather data for: {}", location.getName());
+        logger.debug("Returning mock weather data for: {}", location.getName());
 
-        WeatherInfo weatherInfo = new WeatherInfo();
-        weatherInfo.setLocation(location.getName());
+        WeatherInfo.Builder weatherInfo = WeatherInfo.builder()
+                .location(location.getName());
 
         // Mock data based on typical Mediterranean climate
         if (location.getName().toLowerCase().contains("benidorm")) {
-            weatherInfo.setAirTemperature(24.5);
-            weatherInfo.setWaterTemperature(20.2);
-            weatherInfo.setDescription("Partly cloudy");
-            weatherInfo.setHumidity(65);
-            weatherInfo.setWindSpeed(3.2);
+            weatherInfo.airTemperature(24.5);
+            weatherInfo.waterTemperature(20.2);
+            weatherInfo.description("Partly cloudy");
+            weatherInfo.humidity(65);
+            weatherInfo.windSpeed(3.2);
         } else if (location.getName().toLowerCase().contains("valencia")) {
-            weatherInfo.setAirTemperature(22.8);
-            weatherInfo.setWaterTemperature(19.5);
-            weatherInfo.setDescription("Clear sky");
-            weatherInfo.setHumidity(58);
-            weatherInfo.setWindSpeed(2.1);
+            weatherInfo.airTemperature(22.8);
+            weatherInfo.waterTemperature(19.5);
+            weatherInfo.description("Clear sky");
+            weatherInfo.humidity(58);
+            weatherInfo.windSpeed(2.1);
         } else {
             // Default Mediterranean values
-            weatherInfo.setAirTemperature(23.0);
-            weatherInfo.setWaterTemperature(19.8);
-            weatherInfo.setDescription("Clear sky");
-            weatherInfo.setHumidity(62);
-            weatherInfo.setWindSpeed(2.8);
+            weatherInfo.airTemperature(23.0);
+            weatherInfo.waterTemperature(19.8);
+            weatherInfo.description("Clear sky");
+            weatherInfo.humidity(62);
+            weatherInfo.windSpeed(2.8);
         }
 
-        weatherInfo.setSource("Mock Data (for testing)");
-        return weatherInfo;
+        return weatherInfo
+                .source("Mock Data (for testing)")
+                .build();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        waterProviderExecutor.shutdownNow();
+        httpClient.shutdownNow();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,41 @@
+package de.telekom.bot.util;
+
+import java.text.Normalizer;
+
+/**
+ * Folds names for accent- and case-insensitive lookups: "Cadaqués" and "CADAQUES" both
+ * become "cadaques". Punctuation becomes a single space, so "(Málaga)" folds to "malaga".
+ */
+public final class AccentFolding {
+
+    private AccentFolding() {
+        // Utility class - prevent instantiation
+    }
+
+    public static String fold(CharSequence text) {
+        if (text == null) {
+            return "";
+        }
+
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        StringBuilder folded = new StringBuilder(decomposed.length());
+        boolean pendingSpace = false;
+
+        for (int i = 0; i < decomposed.length(); i++) {
+            char c = decomposed.charAt(i);
+            if (Character.getType(c) == Character.NON_SPACING_MARK) {
+                continue;
+            }
+            if (Character.isLetterOrDigit(c)) {
+                if (pendingSpace && !folded.isEmpty()) {
+                    folded.append(' ');
+                }
+                pendingSpace = false;
+                folded.append(Character.toLowerCase(c));
+            } else {
+                pendingSpace = true;
+            }
+        }
+        return folded.toString();
+    }
+}
@@ -0,0 +1,204 @@
+package de.telekom.bot.util;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Predicate;
+
+/**
+ * Limits the calls in flight to one upstream and adapts the limit to how fast it answers.
+ * <p>
+ * Round-trip times feed a short and a long moving average. While the short one stays close to
+ * the long-term baseline the limit keeps growing slowly; when the upstream slows down the limit
+ * shrinks in proportion (gradient), and a timeout or overload answer halves it. Callers beyond
+ * the limit wait briefly for a slot and are shed when none frees up. Thread-safe.
+ */
+public final class AdaptiveConcurrencyLimiter {
+
+    // Round trips up to this multiple of the baseline still count as healthy
+    private static final double RTT_TOLERANCE = 1.5;
+    private static final double MIN_GRADIENT = 0.5;
+    private static final double BACKOFF_RATIO = 0.5;
+    private static final double SMOOTHING = 0.2;
+    private static final double SHORT_RTT_ALPHA = 0.2;
+    private static final double LONG_RTT_ALPHA = 0.01;
+
+    private final String name;
+    private final int minLimit;
+    private final int maxLimit;
+
+    private double limit;
+    private int inFlight;
+    private double shortRttNanos;
+    private double longRttNanos;
+    private long shed;
+
+    /**
+     * A blocking call to an upstream that may throw a checked exception
+     */
+    @FunctionalInterface
+    public interface Call<T, E extends Exception> {
+        T call() throws E, InterruptedException;
+    }
+
+    /**
+     * One admitted call; only the first outcome reported counts, so a finally block can
+     * release it safely
+     */
+    public final class Permit {
+        private final long startNanos = System.nanoTime();
+        private final int inFlightAtStart;
+        private boolean released;
+
+        private Permit(int inFlightAtStart) {
+            this.inFlightAtStart = inFlightAtStart;
+        }
+
+        /**
+         * The upstream answered; its round-trip time counts towards the limit
+         */
+        public void success() {
+            release(this, System.nanoTime() - startNanos, false);
+        }
+
+        /**
+         * The upstream timed out or signalled overload
+         */
+        public void dropped() {
+            release(this, 0, true);
+        }
+
+        /**
+         * The call ended for reasons unrelated to the upstream's capacity
+         */
+        public void ignore() {
+            release(this, -1, false);
+        }
+    }
+
+    public AdaptiveConcurrencyLimiter(String name, int initialLimit, int minLimit, int maxLimit) {
+        if (minLimit < 1 || maxLimit < minLimit) {
+            throw new IllegalArgumentException("Invalid concurrency limits for " + name);
+        }
+        this.name = name;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public synchronized int getLimit() {
+        return (int) limit;
+    }
+
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    public synchronized long getShedCount() {
+        return shed;
+    }
+
+    /**
+     * Take a slot, waiting up to maxWait for one to free up
+     *
+     * @return Permit to report the outcome with, or null if the call is shed
+     */
+    public synchronized Permit acquire(Duration maxWait) throws InterruptedException {
+        long deadline = System.nanoTime() + maxWait.toNanos();
+        while (inFlight >= (int) limit) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                shed++;
+                return null;
+            }
+            wait(Math.max(1, remaining / 1_000_000));
+        }
+        inFlight++;
+        return new Permit(inFlight);
+    }
+
+    /**
+     * Run a call under the limit. I/O failures (including timeouts) count as drops.
+     *
+     * @throws RejectedExecutionException if no slot frees up within maxWait
+     */
+    public <T, E extends Exception> T call(Duration maxWait, Call<T, E> call) throws E, InterruptedException {
+        return call(maxWait, call, result -> false);
+    }
+
+    /**
+     * Run a call under the limit. I/O failures (including timeouts) and results the upstream
+     * signalled overload with (e.g. HTTP 429/503) count as drops.
+     *
+     * @param overloaded Whether a result is an overload answer
+     * @throws RejectedExecutionException if no slot frees up within maxWait
+     */
+    public <T, E extends Exception> T call(Duration maxWait, Call<T, E> call, Predicate<? super T> overloaded)
+            throws E, InterruptedException {
+        Permit permit = acquire(maxWait);
+        if (permit == null) {
+            throw new RejectedExecutionException("Upstream " + name + " is at its concurrency limit");
+        }
+        try {
+            T result = call.call();
+            if (overloaded.test(result)) {
+                permit.dropped();
+            } else {
+                permit.success();
+            }
+            return result;
+        } catch (Throwable e) {
+            if (e instanceof IOException) {
+                permit.dropped();
+            } else {
+                permit.ignore();
+            }
+            throw e;
+        }
+    }
+
+    private synchronized void release(Permit permit, long rttNanos, boolean dropped) {
+        if (permit.released) {
+            return;
+        }
+        permit.released = true;
+        inFlight--;
+
+        if (dropped) {
+            limit = Math.max(minLimit, limit * BACKOFF_RATIO);
+        } else if (rttNanos >= 0) {
+            update(rttNanos, permit.inFlightAtStart);
+        }
+        notifyAll();
+    }
+
+    private void update(long rttNanos, int inFlightAtStart) {
+        rttNanos = Math.max(1, rttNanos);
+        shortRttNanos = shortRttNanos == 0 ? rttNanos : shortRttNanos + (rttNanos - shortRttNanos) * SHORT_RTT_ALPHA;
+        longRttNanos = longRttNanos == 0 ? rttNanos : longRttNanos + (rttNanos - longRttNanos) * LONG_RTT_ALPHA;
+
+        // The upstream got faster again: let the baseline follow quickly
+        if (longRttNanos > 2 * shortRttNanos) {
+            longRttNanos *= 0.95;
+        }
+
+        // A mostly idle limiter has no evidence the upstream could take more
+        if (inFlightAtStart < limit / 2) {
+            return;
+        }
+
+        double gradient = Math.max(MIN_GRADIENT, Math.min(1.0, RTT_TOLERANCE * longRttNanos / shortRttNanos));
+        double target = limit * gradient + 1;
+        limit = Math.max(minLimit, Math.min(maxLimit, limit * (1 - SMOOTHING) + target * SMOOTHING));
+    }
+
+    @Override
+    public synchronized String toString() {
+        return String.format(Locale.ROOT, "%s(limit=%d, inFlight=%d, shed=%d)", name, (int) limit, inFlight, shed);
+    }
+}
@@ -10,6 +10,10 @@ public class BotConst {
     public static final String COMMAND_HELP = "/help";
     public static final String COMMAND_LANGUAGE = "/language";
     public static final String COMMAND_LANG = "/lang";
+    public static final String COMMAND_SUBSCRIBE = "/subscribe";
+    public static final String COMMAND_UNSUBSCRIBE = "/unsubscribe";
+    public static final String COMMAND_COMPARE = "/compare";
+    public static final String COMMAND_FORECAST = "/forecast";
     
     // Supported languages
     public static final String LANG_ENGLISH = "en";
@@ -0,0 +1,143 @@
+package de.telekom.bot.util;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Hedged calls across redundant providers.
+ * <p>
+ * Providers are tried in order, but a slow provider does not hold up the ones behind it: if it
+ * has not answered within its own p90 latency, the next one starts in parallel, and a provider
+ * that fails or has no answer hands over immediately. The first non-null answer wins and the
+ * calls still running are cancelled. Every finished call feeds its provider's latency tracker.
+ */
+public final class Hedging {
+
+    private static final double HEDGE_PERCENTILE = 0.9;
+    private static final long MIN_HEDGE_DELAY_MS = 50;
+
+    private Hedging() {
+        // Utility class - prevent instantiation
+    }
+
+    /**
+     * One provider of a hedged call
+     *
+     * @param call    Returns the answer, or null if the provider has none
+     * @param latency Recent latencies of the provider, used for the hedge delay
+     */
+    public record Attempt<T>(String name, Callable<T> call, LatencyTracker latency) {
+    }
+
+    /**
+     * Result of a hedged call
+     *
+     * @param value    First non-null answer, null if no provider had one in time
+     * @param provider Name of the provider that answered, null without an answer
+     * @param started  Number of providers that were called
+     */
+    public record Result<T>(T value, String provider, int started) {
+    }
+
+    public static <T> Result<T> firstValid(List<Attempt<T>> attempts, ExecutorService executor, Duration timeout)
+            throws InterruptedException {
+        HedgedCall<T> call = new HedgedCall<>(attempts, executor);
+        call.startNext();
+        try {
+            return call.result.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException | ExecutionException e) {
+            return new Result<>(null, null, call.started.get());
+        } finally {
+            call.cancelRunning();
+        }
+    }
+
+    private static final class HedgedCall<T> {
+        private final List<Attempt<T>> attempts;
+        private final ExecutorService executor;
+        private final CompletableFuture<Result<T>> result = new CompletableFuture<>();
+        private final AtomicInteger started = new AtomicInteger();
+        private final AtomicInteger finished = new AtomicInteger();
+        private final Future<?>[] running;
+
+        HedgedCall(List<Attempt<T>> attempts, ExecutorService executor) {
+            this.attempts = attempts;
+            this.executor = executor;
+            this.running = new Future<?>[attempts.size()];
+        }
+
+        /**
+         * Start the next provider, unless the call is answered or all providers already run
+         */
+        void startNext() {
+            if (result.isDone()) {
+                return;
+            }
+            int index = started.getAndIncrement();
+            if (index >= attempts.size()) {
+                started.decrementAndGet();
+                return;
+            }
+
+            Attempt<T> attempt = attempts.get(index);
+            long hedgeDelay = Math.max(MIN_HEDGE_DELAY_MS, attempt.latency().percentile(HEDGE_PERCENTILE));
+            try {
+                synchronized (running) {
+                    running[index] = executor.submit(() -> run(attempt));
+                }
+            } catch (RejectedExecutionException e) {
+                result.complete(new Result<>(null, null, index));
+                return;
+            }
+            if (index + 1 < attempts.size()) {
+                CompletableFuture.delayedExecutor(hedgeDelay, TimeUnit.MILLISECONDS, executor).execute(() -> {
+                    if (started.get() == index + 1) {
+                        startNext();
+                    }
+                });
+            }
+        }
+
+        private void run(Attempt<T> attempt) {
+            long start = System.nanoTime();
+            T value = null;
+            try {
+                value = attempt.call().call();
+            } catch (InterruptedException e) {
+                // Cancelled because another provider answered first
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                // Failure counts like "no answer": hand over to the next provider
+            }
+            attempt.latency().record((System.nanoTime() - start) / 1_000_000);
+
+            if (value != null) {
+                result.complete(new Result<>(value, attempt.name(), started.get()));
+            } else if (finished.incrementAndGet() >= attempts.size()) {
+                result.complete(new Result<>(null, null, started.get()));
+            } else {
+                startNext();
+            }
+        }
+
+        void cancelRunning() {
+            synchronized (running) {
+                for (Future<?> future : running) {
+                    if (future != null) {
+                        future.cancel(true);
+                    }
+                }
+            }
+        }
+    }
+}
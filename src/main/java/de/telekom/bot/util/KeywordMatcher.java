@@ -0,0 +1,232 @@
+package de.telekom.bot.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * Case-insensitive multi-keyword matcher based on the Aho-Corasick automaton.
+ * <p>
+ * Keywords are grouped into categories. A single pass over the input reports every matched
+ * category as a bitmask, so a dictionary of dozens of keywords costs one scan and no lowercased
+ * copies of the input. Categories keep their insertion order, which is also the priority used by
+ * {@link #first(CharSequence...)}. Instances are immutable and thread-safe.
+ *
+ * @param <T> Category type
+ */
+public final class KeywordMatcher<T> {
+
+    // Categories are tracked in a long bitmask
+    public static final int MAX_CATEGORIES = Long.SIZE;
+
+    private final List<T> categories;
+
+    // Compiled trie: sorted edge labels and targets per state, failure links and category outputs
+    private final char[][] edgeChars;
+    private final int[][] edgeTargets;
+    private final int[] failure;
+    private final long[] outputs;
+
+    private KeywordMatcher(List<T> categories, char[][] edgeChars, int[][] edgeTargets, int[] failure, long[] outputs) {
+        this.categories = categories;
+        this.edgeChars = edgeChars;
+        this.edgeTargets = edgeTargets;
+        this.failure = failure;
+        this.outputs = outputs;
+    }
+
+    public static <T> Builder<T> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * Scan texts once and return the bitmask of matched categories
+     *
+     * @param texts Texts to scan, null entries are ignored
+     * @return Bit i is set if any keyword of the i-th category occurs in any of the texts
+     */
+    public long scan(CharSequence... texts) {
+        long matched = 0L;
+        for (CharSequence text : texts) {
+            if (text != null) {
+                matched |= scanText(text);
+            }
+        }
+        return matched;
+    }
+
+    /**
+     * Check whether any keyword occurs in the texts
+     */
+    public boolean matches(CharSequence... texts) {
+        return scan(texts) != 0L;
+    }
+
+    /**
+     * Find the highest priority (first added) category matched in the texts
+     */
+    public Optional<T> first(CharSequence... texts) {
+        return Optional.ofNullable(first(scan(texts)));
+    }
+
+    /**
+     * Get the highest priority category contained in a scan result
+     *
+     * @return Category or null if the mask is empty
+     */
+    public T first(long mask) {
+        return mask == 0L ? null : categories.get(Long.numberOfTrailingZeros(mask));
+    }
+
+    /**
+     * Get all categories contained in a scan result, in priority order
+     */
+    public List<T> categories(long mask) {
+        List<T> result = new ArrayList<>(Long.bitCount(mask));
+        for (long remaining = mask; remaining != 0L; remaining &= remaining - 1) {
+            result.add(categories.get(Long.numberOfTrailingZeros(remaining)));
+        }
+        return result;
+    }
+
+    /**
+     * Check whether a scan result contains the given category
+     */
+    public boolean contains(long mask, T category) {
+        int index = categories.indexOf(category);
+        return index >= 0 && (mask & (1L << index)) != 0L;
+    }
+
+    private long scanText(CharSequence text) {
+        long matched = 0L;
+        int state = 0;
+
+        for (int i = 0; i < text.length(); i++) {
+            char c = Character.toLowerCase(text.charAt(i));
+
+            int next = transition(state, c);
+            while (next < 0 && state != 0) {
+                state = failure[state];
+                next = transition(state, c);
+            }
+            state = Math.max(next, 0);
+            matched |= outputs[state];
+        }
+
+        return matched;
+    }
+
+    private int transition(int state, char c) {
+        int index = Arrays.binarySearch(edgeChars[state], c);
+        return index >= 0 ? edgeTargets[state][index] : -1;
+    }
+
+    /**
+     * Collects keywords per category and compiles the automaton
+     */
+    public static final class Builder<T> {
+
+        private final List<T> categories = new ArrayList<>();
+        private final List<TreeMap<Character, Integer>> edges = new ArrayList<>();
+        private final List<Long> outputs = new ArrayList<>();
+
+        private Builder() {
+            newState();
+        }
+
+        /**
+         * Add keywords for a category. The category is registered even without keywords, so
+         * several matchers can share the same priority order.
+         */
+        public Builder<T> add(T category, String... keywords) {
+            int index = categories.indexOf(category);
+            if (index < 0) {
+                if (categories.size() == MAX_CATEGORIES) {
+                    throw new IllegalStateException("KeywordMatcher supports at most " + MAX_CATEGORIES + " categories");
+                }
+                categories.add(category);
+                index = categories.size() - 1;
+            }
+
+            for (String keyword : keywords) {
+                if (keyword == null || keyword.isEmpty()) {
+                    continue;
+                }
+                int state = 0;
+                for (int i = 0; i < keyword.length(); i++) {
+                    char c = Character.toLowerCase(keyword.charAt(i));
+                    Integer next = edges.get(state).get(c);
+                    if (next == null) {
+                        next = newState();
+                        edges.get(state).put(c, next);
+                    }
+                    state = next;
+                }
+                outputs.set(state, outputs.get(state) | (1L << index));
+            }
+            return this;
+        }
+
+        public KeywordMatcher<T> build() {
+            int stateCount = edges.size();
+            char[][] edgeChars = new char[stateCount][];
+            int[][] edgeTargets = new int[stateCount][];
+            int[] failure = new int[stateCount];
+            long[] compiledOutputs = new long[stateCount];
+
+            for (int state = 0; state < stateCount; state++) {
+                TreeMap<Character, Integer> stateEdges = edges.get(state);
+                edgeChars[state] = new char[stateEdges.size()];
+                edgeTargets[state] = new int[stateEdges.size()];
+                int i = 0;
+                for (var edge : stateEdges.entrySet()) {
+                    edgeChars[state][i] = edge.getKey();
+                    edgeTargets[state][i] = edge.getValue();
+                    i++;
+                }
+                compiledOutputs[state] = outputs.get(state);
+            }
+
+            // Breadth-first failure links; outputs inherit everything their failure state reports
+            ArrayDeque<Integer> queue = new ArrayDeque<>();
+            for (int child : edgeTargets[0]) {
+                queue.add(child);
+            }
+            while (!queue.isEmpty()) {
+                int state = queue.poll();
+                for (int i = 0; i < edgeChars[state].length; i++) {
+                    char c = edgeChars[state][i];
+                    int child = edgeTargets[state][i];
+
+                    int fallback = failure[state];
+                    int target = find(edgeChars, edgeTargets, fallback, c);
+                    while (target < 0 && fallback != 0) {
+                        fallback = failure[fallback];
+                        target = find(edgeChars, edgeTargets, fallback, c);
+                    }
+                    failure[child] = Math.max(target, 0);
+                    compiledOutputs[child] |= compiledOutputs[failure[child]];
+                    queue.add(child);
+                }
+            }
+
+            return new KeywordMatcher<>(Collections.unmodifiableList(new ArrayList<>(categories)),
+                    edgeChars, edgeTargets, failure, compiledOutputs);
+        }
+
+        private int newState() {
+            edges.add(new TreeMap<>());
+            outputs.add(0L);
+            return edges.size() - 1;
+        }
+
+        private static int find(char[][] edgeChars, int[][] edgeTargets, int state, char c) {
+            int index = Arrays.binarySearch(edgeChars[state], c);
+            return index >= 0 ? edgeTargets[state][index] : -1;
+        }
+    }
+}
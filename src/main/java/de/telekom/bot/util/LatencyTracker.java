@@ -0,0 +1,56 @@
+package de.telekom.bot.util;
+
+import java.util.Arrays;
+
+/**
+ * Latencies of the most recent calls to one upstream, for percentile-based timeouts.
+ * <p>
+ * Keeps a fixed ring of samples; until enough samples are known, percentiles return the
+ * configured default. Thread-safe.
+ */
+public final class LatencyTracker {
+
+    private static final int MIN_SAMPLES = 5;
+
+    private final long[] samples;
+    private final long defaultMillis;
+    private int count;
+    private int next;
+
+    /**
+     * @param window        Number of recent calls to keep
+     * @param defaultMillis Percentile answered while fewer than a handful of calls are known
+     */
+    public LatencyTracker(int window, long defaultMillis) {
+        this.samples = new long[window];
+        this.defaultMillis = defaultMillis;
+    }
+
+    public synchronized void record(long millis) {
+        samples[next] = millis;
+        next = (next + 1) % samples.length;
+        count = Math.min(count + 1, samples.length);
+    }
+
+    /**
+     * Latency below which the given share of recent calls finished
+     *
+     * @param percentile 0-1, e.g. 0.9 for p90
+     */
+    public long percentile(double percentile) {
+        long[] sorted;
+        synchronized (this) {
+            if (count < MIN_SAMPLES) {
+                return defaultMillis;
+            }
+            sorted = Arrays.copyOf(samples, count);
+        }
+        Arrays.sort(sorted);
+        int rank = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, rank))];
+    }
+
+    public synchronized int sampleCount() {
+        return count;
+    }
+}
@@ -0,0 +1,49 @@
+package de.telekom.bot.util;
+
+/**
+ * Lets through at most a fixed number of log events per second and counts the rest.
+ * <p>
+ * Meant for detail logging on the request path: guard the statement with
+ * <code>logger.isDebugEnabled() &amp;&amp; sampler.sample()</code> so that neither the
+ * arguments are built nor the appenders are hit once the budget of the current second is
+ * spent. Thread-safe.
+ */
+public final class LogSampler {
+
+    private static final long SECOND_NANOS = 1_000_000_000L;
+
+    private final int eventsPerSecond;
+    private long windowStartNanos = System.nanoTime();
+    private int used;
+    private long suppressed;
+
+    public LogSampler(int eventsPerSecond) {
+        this.eventsPerSecond = eventsPerSecond;
+    }
+
+    /**
+     * @return true if this event may be logged
+     */
+    public synchronized boolean sample() {
+        long now = System.nanoTime();
+        if (now - windowStartNanos >= SECOND_NANOS) {
+            windowStartNanos = now;
+            used = 0;
+        }
+        if (used < eventsPerSecond) {
+            used++;
+            return true;
+        }
+        suppressed++;
+        return false;
+    }
+
+    /**
+     * Events dropped since the last call, for an occasional "n more suppressed" note
+     */
+    public synchronized long takeSuppressed() {
+        long count = suppressed;
+        suppressed = 0;
+        return count;
+    }
+}
@@ -0,0 +1,121 @@
+package de.telekom.bot.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Autocomplete index over accent-folded names, stored as one sorted array of keys.
+ * <p>
+ * Every word of a name starts a key ("playa de la concha" is also found as "concha"), so a
+ * lookup is a binary search for the first key with the query as prefix followed by a short
+ * scan. Matches at the start of a name rank before matches on a later word. Instances are
+ * immutable and thread-safe.
+ *
+ * @param <T> Item type
+ */
+public final class PrefixIndex<T> {
+
+    private final List<T> items;
+    private final String[] keys;
+    private final int[] itemIndexes;
+    private final boolean[] wholeName;
+
+    private PrefixIndex(List<T> items, String[] keys, int[] itemIndexes, boolean[] wholeName) {
+        this.items = items;
+        this.keys = keys;
+        this.itemIndexes = itemIndexes;
+        this.wholeName = wholeName;
+    }
+
+    /**
+     * Build the index
+     *
+     * @param items Items to index
+     * @param name  Display name of an item, folded with {@link AccentFolding}
+     */
+    public static <T> PrefixIndex<T> build(List<T> items, Function<T, String> name) {
+        record Entry(String key, int item, boolean wholeName) {
+        }
+
+        List<Entry> entries = new ArrayList<>();
+        for (int i = 0; i < items.size(); i++) {
+            String folded = AccentFolding.fold(name.apply(items.get(i)));
+            if (folded.isEmpty()) {
+                continue;
+            }
+            entries.add(new Entry(folded, i, true));
+            for (int space = folded.indexOf(' '); space >= 0; space = folded.indexOf(' ', space + 1)) {
+                entries.add(new Entry(folded.substring(space + 1), i, false));
+            }
+        }
+        entries.sort(Comparator.comparing(Entry::key));
+
+        String[] keys = new String[entries.size()];
+        int[] itemIndexes = new int[entries.size()];
+        boolean[] wholeName = new boolean[entries.size()];
+        for (int i = 0; i < entries.size(); i++) {
+            keys[i] = entries.get(i).key();
+            itemIndexes[i] = entries.get(i).item();
+            wholeName[i] = entries.get(i).wholeName();
+        }
+        return new PrefixIndex<>(List.copyOf(items), keys, itemIndexes, wholeName);
+    }
+
+    public int size() {
+        return items.size();
+    }
+
+    /**
+     * Find items with a name or name word starting with the query
+     *
+     * @param query Raw user input, folded before the lookup
+     * @param limit Maximum number of distinct items
+     * @return Matching items, whole-name matches first, then in key order
+     */
+    public List<T> search(String query, int limit) {
+        String prefix = AccentFolding.fold(query);
+        if (prefix.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        int from = Arrays.binarySearch(keys, prefix);
+        if (from < 0) {
+            from = -from - 1;
+        }
+        int to = from;
+        while (to < keys.length && keys[to].startsWith(prefix)) {
+            to++;
+        }
+
+        int[] found = new int[Math.min(limit, items.size())];
+        int count = collect(from, to, true, found, 0);
+        count = collect(from, to, false, found, count);
+
+        List<T> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            result.add(items.get(found[i]));
+        }
+        return result;
+    }
+
+    private int collect(int from, int to, boolean wholeNames, int[] found, int count) {
+        for (int i = from; i < to && count < found.length; i++) {
+            if (wholeName[i] == wholeNames && !contains(found, count, itemIndexes[i])) {
+                found[count++] = itemIndexes[i];
+            }
+        }
+        return count;
+    }
+
+    private static boolean contains(int[] values, int count, int value) {
+        for (int i = 0; i < count; i++) {
+            if (values[i] == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,58 @@
+package de.telekom.bot.util;
+
+import java.util.Set;
+
+/**
+ * Canonical form of beach queries for matching and typo correction, so that "Málaga",
+ * "malaga" and "Playa de MALAGA " match the same place. Not a cache key: dropping the beach
+ * words would make different beaches ("Playa de la Mar", "Cala Mar") collide.
+ * <p>
+ * A query is folded with {@link AccentFolding} (case, accents, punctuation and whitespace) and
+ * loses its beach words and articles ("playa", "platja", "cala", "beach", "de", "la", ...),
+ * unless nothing else would remain. Stateless and thread-safe.
+ */
+public final class QueryNormalizer {
+
+    private static final Set<String> BEACH_WORDS = Set.of("playa", "playas", "platja", "platges", "cala", "beach");
+
+    private static final Set<String> STOP_WORDS = Set.of(
+            "playa", "playas", "platja", "platges", "cala", "beach",
+            "de", "del", "d", "la", "las", "el", "els", "les", "los", "l", "the", "of");
+
+    private QueryNormalizer() {
+        // Utility class - prevent instantiation
+    }
+
+    /**
+     * @return Canonical form of the query, empty for blank queries
+     */
+    public static String normalize(CharSequence query) {
+        String folded = AccentFolding.fold(query);
+        if (folded.isEmpty()) {
+            return folded;
+        }
+        StringBuilder canonical = new StringBuilder(folded.length());
+        for (String token : folded.split(" ")) {
+            if (!STOP_WORDS.contains(token)) {
+                if (!canonical.isEmpty()) {
+                    canonical.append(' ');
+                }
+                canonical.append(token);
+            }
+        }
+        // "Playa" alone or "La Cala" keep their words rather than becoming blank
+        return canonical.isEmpty() ? folded : canonical.toString();
+    }
+
+    /**
+     * @return Whether the query already names a beach ("playa", "platja", "cala", "beach")
+     */
+    public static boolean hasBeachWord(CharSequence query) {
+        for (String token : AccentFolding.fold(query).split(" ")) {
+            if (BEACH_WORDS.contains(token)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
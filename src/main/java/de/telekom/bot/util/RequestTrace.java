@@ -0,0 +1,83 @@
+package de.telekom.bot.util;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Stage timings of one user request, logged as a single key=value summary line when it ends.
+ * <p>
+ * Replaces a trail of INFO lines per request: the handler marks the end of each stage and adds
+ * the outcome fields, and the "de.telekom.bot.request" logger gets one event, e.g.
+ * <code>request=beach chat=42 outcome=found total_ms=812 geocode_ms=410 weather_ms=390 query="Levante"</code>.
+ * Not thread-safe; a trace belongs to the thread handling the request.
+ */
+public final class RequestTrace {
+
+    private static final Logger summaryLogger = LoggerFactory.getLogger("de.telekom.bot.request");
+
+    private final String request;
+    private final long chatId;
+    private final long startNanos = System.nanoTime();
+    private long lastMarkNanos = startNanos;
+    private final Map<String, Long> stageMillis = new LinkedHashMap<>();
+    private final Map<String, Object> fields = new LinkedHashMap<>();
+
+    private RequestTrace(String request, long chatId) {
+        this.request = request;
+        this.chatId = chatId;
+    }
+
+    public static RequestTrace start(String request, long chatId) {
+        return new RequestTrace(request, chatId);
+    }
+
+    /**
+     * End the current stage; a stage marked twice adds up
+     */
+    public RequestTrace mark(String stage) {
+        long now = System.nanoTime();
+        stageMillis.merge(stage, (now - lastMarkNanos) / 1_000_000, Long::sum);
+        lastMarkNanos = now;
+        return this;
+    }
+
+    public RequestTrace field(String key, Object value) {
+        fields.put(key, value);
+        return this;
+    }
+
+    /**
+     * Log the summary event
+     */
+    public void finish(String outcome) {
+        if (summaryLogger.isInfoEnabled()) {
+            summaryLogger.info(summary(outcome));
+        }
+    }
+
+    String summary(String outcome) {
+        StringBuilder line = new StringBuilder(128)
+                .append("request=").append(request)
+                .append(" chat=").append(chatId)
+                .append(" outcome=").append(outcome)
+                .append(" total_ms=").append((System.nanoTime() - startNanos) / 1_000_000);
+        stageMillis.forEach((stage, millis) -> line.append(' ').append(stage).append("_ms=").append(millis));
+        fields.forEach((key, value) -> line.append(' ').append(key).append('=').append(format(value)));
+        return line.toString();
+    }
+
+    private static String format(Object value) {
+        if (value instanceof Double || value instanceof Float) {
+            return String.format(Locale.ROOT, "%.1f", ((Number) value).doubleValue());
+        }
+        if (value instanceof Number || value instanceof Boolean) {
+            return value.toString();
+        }
+        // Quote text so values with spaces stay one field
+        return "\"" + String.valueOf(value).replace("\\", "\\\\").replace("\"", "\\\"").replace('\n', ' ') + "\"";
+    }
+}
@@ -0,0 +1,164 @@
+package de.telekom.bot.util;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Streaming extraction helpers on top of the Jackson {@link JsonParser}.
+ * <p>
+ * Upstream responses are read straight from the response stream: only the fields a caller asks
+ * for are materialised, every other value is skipped without building a tree.
+ */
+public final class StreamingJson {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private StreamingJson() {
+    }
+
+    /**
+     * Reads one object from the parser, which is positioned on its START_OBJECT token
+     */
+    @FunctionalInterface
+    public interface ObjectReader<T> {
+        T read(JsonParser parser) throws IOException;
+    }
+
+    /**
+     * Receives object fields with the parser positioned on the field value. Values the visitor
+     * does not consume are skipped.
+     */
+    @FunctionalInterface
+    public interface FieldVisitor {
+        void visit(String field, JsonParser parser) throws IOException;
+    }
+
+    public static JsonParser createParser(InputStream in) throws IOException {
+        return JSON_FACTORY.createParser(in);
+    }
+
+    /**
+     * Advance from the document root to the value of a nested field, skipping everything else
+     *
+     * @param parser Parser at the start of the document
+     * @param path   Field names from the root object down to the wanted value
+     * @return true if the parser is now positioned on the value, false if the path does not exist
+     */
+    public static boolean moveTo(JsonParser parser, String... path) throws IOException {
+        if (parser.currentToken() == null) {
+            parser.nextToken();
+        }
+
+        for (String field : path) {
+            if (parser.currentToken() != JsonToken.START_OBJECT || !moveToField(parser, field)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean moveToField(JsonParser parser, String field) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            parser.nextToken();
+            if (field.equals(name)) {
+                return true;
+            }
+            parser.skipChildren();
+        }
+        return false;
+    }
+
+    /**
+     * Visit every field of the object the parser is positioned on
+     */
+    public static void readObject(JsonParser parser, FieldVisitor visitor) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return;
+        }
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            parser.nextToken();
+            visitor.visit(name, parser);
+            // No-op for scalars and for containers the visitor already consumed
+            parser.skipChildren();
+        }
+    }
+
+    /**
+     * Read every object of the array the parser is positioned on. Null results and non-object
+     * elements are dropped.
+     */
+    public static <T> List<T> readArray(JsonParser parser, ObjectReader<T> reader) throws IOException {
+        List<T> items = new ArrayList<>();
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return items;
+        }
+
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (parser.currentToken() == JsonToken.START_OBJECT) {
+                T item = reader.read(parser);
+                if (item != null) {
+                    items.add(item);
+                }
+            }
+            parser.skipChildren();
+        }
+        return items;
+    }
+
+    /**
+     * Read the numeric array the parser is positioned on; nulls and non-numeric values become NaN
+     */
+    public static float[] readFloatArray(JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return new float[0];
+        }
+
+        float[] values = new float[64];
+        int count = 0;
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (count == values.length) {
+                values = Arrays.copyOf(values, count * 2);
+            }
+            values[count++] = (float) doubleOr(parser, Double.NaN);
+            parser.skipChildren();
+        }
+        return Arrays.copyOf(values, count);
+    }
+
+    /**
+     * Current scalar value as text, null for JSON null, objects and arrays
+     */
+    public static String textOrNull(JsonParser parser) throws IOException {
+        return parser.currentToken() != null && parser.currentToken().isScalarValue()
+                && parser.currentToken() != JsonToken.VALUE_NULL ? parser.getText() : null;
+    }
+
+    /**
+     * Current numeric value, or the default for null and non-numeric values
+     */
+    public static double doubleOr(JsonParser parser, double defaultValue) throws IOException {
+        return parser.currentToken() != null && parser.currentToken().isNumeric()
+                ? parser.getDoubleValue() : defaultValue;
+    }
+
+    /**
+     * Current integral value, or the default for null and non-numeric values
+     */
+    public static long longOr(JsonParser parser, long defaultValue) throws IOException {
+        return parser.currentToken() != null && parser.currentToken().isNumeric()
+                ? parser.getValueAsLong(defaultValue) : defaultValue;
+    }
+}
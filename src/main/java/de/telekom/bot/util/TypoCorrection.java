@@ -78,7 +78,8 @@ public class TypoCorrection {
             return null;
         }
 
-        String normalizedInput = input.toLowerCase().trim();
+        // "Playa de Benidrm" is checked as "benidrm"
+        String normalizedInput = QueryNormalizer.normalize(input);
 
         // First check exact matches (user typed correctly)
         if (POPULAR_DESTINATIONS.containsKey(normalizedInput)) {
@@ -0,0 +1,79 @@
+package de.telekom.bot;
+
+import de.telekom.bot.service.CommandDispatcher;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.telegram.telegrambots.bots.TelegramLongPollingBot;
+import org.telegram.telegrambots.meta.api.methods.send.SendMessage;
+import org.telegram.telegrambots.meta.api.objects.Chat;
+import org.telegram.telegrambots.meta.api.objects.Message;
+import org.telegram.telegrambots.meta.api.objects.Update;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Measures the time from starting the application until the first update is answered
+ */
+class StartupTimeTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(StartupTimeTest.class);
+
+    // Generous bound for CI machines; the measured time is logged for comparison
+    private static final long MAX_STARTUP_TO_FIRST_UPDATE_MS = 30_000;
+
+    private static Update helpUpdate() {
+        Chat chat = new Chat();
+        chat.setId(42L);
+        chat.setType("private");
+
+        Message message = new Message();
+        message.setMessageId(1);
+        message.setChat(chat);
+        message.setText("/help");
+
+        Update update = new Update();
+        update.setMessage(message);
+        return update;
+    }
+
+    @Test
+    void testStartupToFirstUpdate() throws Exception {
+        // Nothing may be sent or written outside the temporary directory
+        Path dataDir = Files.createTempDirectory("startup-time");
+        long start = System.nanoTime();
+
+        SpringApplication application = new SpringApplication(BotApplication.class);
+        try (ConfigurableApplicationContext context = application.run(
+                "--telegram.bot.auto-register=false", "--spring.main.banner-mode=off",
+                "--cache-snapshot.enabled=false",
+                "--alerts.enabled=false",
+                "--alerts.digest.enabled=false",
+                "--alerts.store-path=" + dataDir.resolve("subscriptions.json"),
+                "--alerts.digest.checkpoint-path=" + dataDir.resolve("digest-checkpoint.json"))) {
+            long startedMs = (System.nanoTime() - start) / 1_000_000;
+
+            TelegramLongPollingBot bot = mock(TelegramLongPollingBot.class);
+            context.getBean(CommandDispatcher.class).dispatch(helpUpdate(), bot);
+            long firstUpdateMs = (System.nanoTime() - start) / 1_000_000;
+
+            verify(bot).execute(any(SendMessage.class));
+            logger.info("Context started in {}ms, first update answered after {}ms", startedMs, firstUpdateMs);
+            assertTrue(firstUpdateMs < MAX_STARTUP_TO_FIRST_UPDATE_MS,
+                    "Startup to first update took " + firstUpdateMs + "ms");
+
+            // Enrichment beans are created on first use, not during startup
+            assertFalse(context.getBeanFactory().containsSingleton("jellyfishService"));
+            assertFalse(context.getBeanFactory().containsSingleton("beachCharacteristicsService"));
+            assertFalse(context.getBeanFactory().containsSingleton("forecastService"));
+        }
+    }
+}
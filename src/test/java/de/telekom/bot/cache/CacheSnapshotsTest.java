@@ -0,0 +1,125 @@
+package de.telekom.bot.cache;
+
+import de.telekom.bot.model.BeachLocation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for snapshotting caches across restarts
+ */
+public class CacheSnapshotsTest {
+
+    private static final Duration TTL = Duration.ofHours(24);
+
+    private Path directory;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("cache-snapshots");
+    }
+
+    private static TieredCache<BeachLocation> cache(Duration ttl) {
+        return new TieredCache<>("geocode", SharedCache.NONE, CacheCodecs.BEACH_LOCATION, ttl, 100);
+    }
+
+    private static BeachLocation location(String name) {
+        return BeachLocation.builder()
+                .name(name)
+                .latitude(38.5345)
+                .longitude(-0.1233)
+                .type("beach")
+                .found(true)
+                .build();
+    }
+
+    @Test
+    public void testRestartRestoresEntries() {
+        Path file = directory.resolve("snapshot.bin");
+        TieredCache<BeachLocation> before = cache(TTL);
+        before.put("levante", location("Playa de Levante"));
+        before.put("poniente", location("Playa de Poniente"));
+        CacheSnapshots snapshots = new CacheSnapshots(file);
+        snapshots.register("geocode", before);
+        snapshots.close();
+
+        CacheSnapshots restarted = new CacheSnapshots(file);
+        restarted.load();
+        TieredCache<BeachLocation> after = cache(TTL);
+        restarted.register("geocode", after);
+
+        assertEquals(2, after.nearSize());
+        assertEquals("Playa de Levante", after.getNear("levante").getName());
+        assertEquals(38.5345, after.getNear("poniente").getLatitude(), 1e-9);
+    }
+
+    @Test
+    public void testExpiredEntriesAreDiscarded() throws Exception {
+        TieredCache<BeachLocation> before = cache(Duration.ofMillis(50));
+        before.put("levante", location("Playa de Levante"));
+        byte[] snapshot = before.snapshot();
+        Thread.sleep(100);
+
+        TieredCache<BeachLocation> after = cache(TTL);
+        assertEquals(0, after.restore(snapshot));
+        assertNull(after.getNear("levante"));
+    }
+
+    @Test
+    public void testSectionsOfUnregisteredCachesAreKept() {
+        Path file = directory.resolve("snapshot.bin");
+        TieredCache<BeachLocation> jellyfish = cache(TTL);
+        jellyfish.put("benidorm", location("Benidorm"));
+        CacheSnapshots first = new CacheSnapshots(file);
+        first.register("jellyfish", jellyfish);
+        first.close();
+
+        // The lazy cache is not used during the second run
+        CacheSnapshots second = new CacheSnapshots(file);
+        second.load();
+        second.register("geocode", cache(TTL));
+        second.close();
+
+        CacheSnapshots third = new CacheSnapshots(file);
+        third.load();
+        TieredCache<BeachLocation> restored = cache(TTL);
+        third.register("jellyfish", restored);
+        assertNotNull(restored.getNear("benidorm"));
+    }
+
+    @Test
+    public void testCorruptedSnapshotIsIgnored() throws Exception {
+        Path file = directory.resolve("snapshot.bin");
+        TieredCache<BeachLocation> before = cache(TTL);
+        before.put("levante", location("Playa de Levante"));
+        CacheSnapshots snapshots = new CacheSnapshots(file);
+        snapshots.register("geocode", before);
+        snapshots.save();
+
+        byte[] bytes = Files.readAllBytes(file);
+        bytes[bytes.length / 2] ^= 0x55;
+        Files.write(file, bytes);
+
+        CacheSnapshots restarted = new CacheSnapshots(file);
+        restarted.load();
+        TieredCache<BeachLocation> after = cache(TTL);
+        restarted.register("geocode", after);
+        assertEquals(0, after.nearSize(), "Checksum mismatch starts cold");
+    }
+
+    @Test
+    public void testDisabledSnapshotsWriteNothing() {
+        TieredCache<BeachLocation> cache = cache(TTL);
+        cache.put("levante", location("Playa de Levante"));
+        CacheSnapshots.NONE.register("geocode", cache);
+        CacheSnapshots.NONE.close();
+
+        assertEquals(1, cache.nearSize());
+    }
+}
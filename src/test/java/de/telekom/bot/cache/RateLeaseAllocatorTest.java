@@ -0,0 +1,152 @@
+package de.telekom.bot.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for splitting a cluster-wide rate budget between replicas
+ */
+public class RateLeaseAllocatorTest {
+
+    private static final double GLOBAL = 1.0;
+    private static final long LEASE_MS = 10_000;
+
+    @Test
+    public void testSingleReplicaGetsTheWholeBudget() {
+        RateLeaseAllocator allocator = new RateLeaseAllocator();
+
+        assertEquals(GLOBAL, allocator.grant("nominatim", "a", GLOBAL, 0.2, LEASE_MS, 0), 1e-9);
+    }
+
+    @Test
+    public void testBusyReplicaGetsTheLargerShare() {
+        RateLeaseAllocator allocator = new RateLeaseAllocator();
+        allocator.grant("nominatim", "a", GLOBAL, 0, LEASE_MS, 0);
+        allocator.grant("nominatim", "b", GLOBAL, 0, LEASE_MS, 0);
+
+        // Renewals with the reported demand settle after a few rounds
+        for (long now = 1_000; now <= 4_000; now += 1_000) {
+            allocator.grant("nominatim", "a", GLOBAL, 0.9, LEASE_MS, now);
+            allocator.grant("nominatim", "b", GLOBAL, 0.1, LEASE_MS, now);
+        }
+        double a = allocator.grant("nominatim", "a", GLOBAL, 0.9, LEASE_MS, 5_000);
+        double b = allocator.grant("nominatim", "b", GLOBAL, 0.1, LEASE_MS, 5_000);
+
+        assertEquals(0.85, a, 1e-9, "Busy replica gets its idle part and the rest of the budget");
+        assertEquals(0.15, b, 1e-9, "Quiet replica gets its idle part and its demand");
+    }
+
+    @Test
+    public void testGrantsNeverExceedTheBudgetWhileDemandShifts() {
+        RateLeaseAllocator allocator = new RateLeaseAllocator();
+        double a = allocator.grant("nominatim", "a", GLOBAL, 1.0, LEASE_MS, 0);
+        assertEquals(GLOBAL, a, 1e-9);
+
+        // a still holds the whole budget, so the newcomer waits until a renews
+        double b = allocator.grant("nominatim", "b", GLOBAL, 1.0, LEASE_MS, 1_000);
+        assertEquals(0, b, 1e-9);
+
+        a = allocator.grant("nominatim", "a", GLOBAL, 1.0, LEASE_MS, 5_000);
+        b = allocator.grant("nominatim", "b", GLOBAL, 1.0, LEASE_MS, 6_000);
+        assertEquals(0.5, a, 1e-9);
+        assertEquals(0.5, b, 1e-9);
+    }
+
+    @Test
+    public void testExpiredLeaseReturnsItsShare() {
+        RateLeaseAllocator allocator = new RateLeaseAllocator();
+        allocator.grant("nominatim", "a", GLOBAL, 1.0, LEASE_MS, 0);
+        allocator.grant("nominatim", "b", GLOBAL, 1.0, LEASE_MS, 0);
+        assertEquals(2, allocator.holders("nominatim", 0));
+
+        // b stopped renewing
+        double a = allocator.grant("nominatim", "a", GLOBAL, 1.0, LEASE_MS, LEASE_MS + 1);
+        assertEquals(GLOBAL, a, 1e-9);
+        assertEquals(1, allocator.holders("nominatim", LEASE_MS + 1));
+    }
+
+    @Test
+    public void testBudgetFallsBackToLocalShareWithoutCoordinator() throws Exception {
+        // One request per second shared by two replicas: 2s between this replica's requests
+        ClusterRateBudget budget = new ClusterRateBudget("nominatim", GLOBAL, SharedCache.NONE,
+                Duration.ofMillis(LEASE_MS), 2);
+
+        assertEquals(0.5, budget.currentRate(), 1e-9);
+        assertEquals(0, budget.reserve());
+        long wait = budget.reserve();
+        assertTrue(wait > 1_900 && wait <= 2_000, "Second request waits " + wait + "ms");
+    }
+
+    @Test
+    public void testReplicaGrantedNothingSendsNothingUntilGranted() throws Exception {
+        // Another replica holds the whole budget until the grant changes
+        AtomicReference<Double> granted = new AtomicReference<>(0.0);
+        SharedCache coordinator = new SharedCache() {
+            @Override
+            public byte[] get(String key) {
+                return null;
+            }
+
+            @Override
+            public void put(String key, byte[] value, Duration ttl) {
+            }
+
+            @Override
+            public void invalidate(String key) {
+            }
+
+            @Override
+            public void addInvalidationListener(InvalidationListener listener) {
+            }
+
+            @Override
+            public RateLease lease(String budget, double globalPerSecond, double demandPerSecond, Duration duration) {
+                return new RateLease(granted.get(), System.currentTimeMillis() + duration.toMillis());
+            }
+        };
+        ClusterRateBudget budget = new ClusterRateBudget("nominatim", GLOBAL, coordinator,
+                Duration.ofMillis(1_000), 1);
+
+        CompletableFuture<Long> first = CompletableFuture.supplyAsync(() -> {
+            try {
+                return budget.reserve();
+            } catch (InterruptedException e) {
+                throw new CompletionException(e);
+            }
+        });
+        Thread.sleep(1_600);
+        assertFalse(first.isDone(), "No slot while every renewal grants nothing");
+
+        granted.set(GLOBAL);
+        assertEquals(0, (long) first.get(2, TimeUnit.SECONDS), "Sent as soon as a renewal grants a share");
+        long second = budget.reserve();
+        assertTrue(second > 900 && second <= 1_000, "Second request waits " + second + "ms");
+    }
+
+    @Test
+    public void testBudgetUsesLeasedRate() throws Exception {
+        try (CacheServer server = new CacheServer(0, 10)) {
+            server.start();
+            TcpSharedCache coordinator = new TcpSharedCache("localhost", server.getPort(),
+                    Duration.ofSeconds(2), Duration.ofMillis(100), 1);
+            try {
+                ClusterRateBudget budget = new ClusterRateBudget("nominatim", 4.0, coordinator,
+                        Duration.ofMillis(LEASE_MS), 1);
+
+                assertEquals(0, budget.reserve());
+                assertEquals(4.0, budget.currentRate(), 1e-9, "Only replica holds the whole budget");
+                long wait = budget.reserve();
+                assertTrue(wait > 200 && wait <= 250, "Second request waits " + wait + "ms");
+            } finally {
+                coordinator.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,284 @@
+package de.telekom.bot.cache;
+
+import de.telekom.bot.model.BeachLocation;
+import de.telekom.bot.model.JellyfishInfo;
+import de.telekom.bot.model.WeatherInfo;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the near cache plus shared TCP tier
+ */
+public class TieredCacheTest {
+
+    private static final Duration TTL = Duration.ofMinutes(5);
+
+    private CacheServer server;
+    private TcpSharedCache replicaA;
+    private TcpSharedCache replicaB;
+
+    @BeforeEach
+    public void setUp() throws IOException, InterruptedException {
+        server = new CacheServer(0, 100);
+        server.start();
+        replicaA = client(server.getPort());
+        replicaB = client(server.getPort());
+
+        // Both replicas receive invalidations before the tests write
+        for (int i = 0; i < 100 && server.subscriberCount() < 2; i++) {
+            Thread.sleep(20);
+        }
+        assertEquals(2, server.subscriberCount());
+    }
+
+    @AfterEach
+    public void tearDown() {
+        replicaA.close();
+        replicaB.close();
+        server.close();
+    }
+
+    private static TcpSharedCache client(int port) {
+        TcpSharedCache client = new TcpSharedCache("localhost", port, Duration.ofSeconds(2), Duration.ofMillis(100), 4);
+        client.start();
+        return client;
+    }
+
+    private static BeachLocation location(String name, double latitude) {
+        return BeachLocation.builder()
+                .name(name)
+                .latitude(latitude)
+                .longitude(-0.1233)
+                .type("beach")
+                .found(true)
+                .build();
+    }
+
+    private static void awaitNearMiss(TieredCache<?> cache, String key) throws InterruptedException {
+        for (int i = 0; i < 100 && cache.getNear(key) != null; i++) {
+            Thread.sleep(20);
+        }
+    }
+
+    @Test
+    public void testReplicaReadsWhatAnotherFetched() {
+        TieredCache<BeachLocation> cacheA = new TieredCache<>("geocode", replicaA, CacheCodecs.BEACH_LOCATION, TTL, 10);
+        TieredCache<BeachLocation> cacheB = new TieredCache<>("geocode", replicaB, CacheCodecs.BEACH_LOCATION, TTL, 10);
+
+        cacheA.put("playa de levante", location("Playa de Levante", 38.5368));
+
+        assertNull(cacheB.getNear("playa de levante"));
+        BeachLocation shared = cacheB.get("playa de levante");
+        assertNotNull(shared);
+        assertEquals("Playa de Levante", shared.getName());
+        assertEquals(38.5368, shared.getLatitude());
+        assertTrue(shared.isFound());
+        assertNotNull(cacheB.getNear("playa de levante"), "Shared hits are kept near");
+    }
+
+    @Test
+    public void testWriteInvalidatesOtherReplicasNearCopies() throws InterruptedException {
+        TieredCache<BeachLocation> cacheA = new TieredCache<>("geocode", replicaA, CacheCodecs.BEACH_LOCATION, TTL, 10);
+        TieredCache<BeachLocation> cacheB = new TieredCache<>("geocode", replicaB, CacheCodecs.BEACH_LOCATION, TTL, 10);
+        cacheA.put("levante", location("Old", 1));
+        assertEquals("Old", cacheB.get("levante").getName());
+
+        cacheA.put("levante", location("New", 2));
+        awaitNearMiss(cacheB, "levante");
+
+        assertEquals("New", cacheB.get("levante").getName());
+        assertEquals("New", cacheA.getNear("levante").getName(), "The writer keeps its own copy");
+
+        cacheB.invalidate("levante");
+        awaitNearMiss(cacheA, "levante");
+        assertNull(cacheA.get("levante"));
+    }
+
+    @Test
+    public void testUnreachableServerIsAMiss() throws IOException {
+        int freePort;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            freePort = socket.getLocalPort();
+        }
+        TcpSharedCache offline = new TcpSharedCache("localhost", freePort, Duration.ofMillis(200), Duration.ofSeconds(60), 4);
+        TieredCache<BeachLocation> cache = new TieredCache<>("geocode", offline, CacheCodecs.BEACH_LOCATION, TTL, 10);
+        try {
+            cache.put("levante", location("Levante", 1));
+            assertEquals("Levante", cache.get("levante").getName(), "The near tier still works");
+            assertNull(offline.get("geocode:levante"));
+        } finally {
+            offline.close();
+        }
+    }
+
+    @Test
+    public void testSlowAnswerOnlyMissesThatCall() throws Exception {
+        // Answers every GET with a hit, but "slow" only after the client gave up
+        try (ServerSocket slowServer = new ServerSocket(0)) {
+            Thread acceptor = new Thread(() -> {
+                while (!slowServer.isClosed()) {
+                    try {
+                        Socket socket = slowServer.accept();
+                        Thread handler = new Thread(() -> answer(socket));
+                        handler.setDaemon(true);
+                        handler.start();
+                    } catch (IOException e) {
+                        return;
+                    }
+                }
+            });
+            acceptor.setDaemon(true);
+            acceptor.start();
+
+            TcpSharedCache client = new TcpSharedCache("localhost", slowServer.getLocalPort(),
+                    Duration.ofMillis(200), Duration.ofSeconds(60), 4);
+            try {
+                assertNull(client.get("slow"), "A timed out call is a miss");
+                byte[] value = client.get("fast");
+                assertNotNull(value, "The next call does not wait for a reconnect delay");
+                assertEquals(7, value[0]);
+            } finally {
+                client.close();
+            }
+        }
+    }
+
+    private static void answer(Socket socket) {
+        try (socket) {
+            DataInputStream in = new DataInputStream(socket.getInputStream());
+            DataOutputStream out = new DataOutputStream(socket.getOutputStream());
+            in.readUnsignedByte();
+            in.readUTF();
+            while (true) {
+                in.readUnsignedByte();
+                if (in.readUTF().equals("slow")) {
+                    Thread.sleep(500);
+                }
+                out.writeByte(CacheProtocol.HIT);
+                out.writeInt(1);
+                out.writeByte(7);
+                out.flush();
+            }
+        } catch (IOException | InterruptedException ignored) {
+        }
+    }
+
+    @Test
+    public void testConcurrentLookupsShareTheConnectionPool() throws Exception {
+        ExecutorService workers = Executors.newFixedThreadPool(16);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                String key = "geocode:beach " + (i % 50);
+                results.add(workers.submit(() -> {
+                    replicaA.put(key, key.getBytes(StandardCharsets.UTF_8), TTL);
+                    byte[] value = replicaA.get(key);
+                    return value != null && key.equals(new String(value, StandardCharsets.UTF_8));
+                }));
+            }
+            for (Future<Boolean> result : results) {
+                assertTrue(result.get(10, TimeUnit.SECONDS));
+            }
+        } finally {
+            workers.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testSlowSubscriberDoesNotStallWriters() throws Exception {
+        // Subscribes and never reads its invalidations
+        try (Socket stalled = new Socket("localhost", server.getPort())) {
+            DataOutputStream out = new DataOutputStream(stalled.getOutputStream());
+            out.writeByte(CacheProtocol.HELLO);
+            out.writeUTF("stalled");
+            out.writeByte(CacheProtocol.SUBSCRIBE);
+            out.flush();
+            for (int i = 0; i < 100 && server.subscriberCount() < 3; i++) {
+                Thread.sleep(20);
+            }
+            assertEquals(3, server.subscriberCount());
+
+            String padding = "x".repeat(200);
+            long start = System.currentTimeMillis();
+            for (int i = 0; i < 30_000; i++) {
+                replicaA.invalidate("geocode:" + padding + i);
+            }
+
+            assertTrue(System.currentTimeMillis() - start < 30_000);
+            for (int i = 0; i < 100 && server.subscriberCount() > 2; i++) {
+                Thread.sleep(20);
+            }
+            assertEquals(2, server.subscriberCount(), "The subscriber that fell behind is dropped");
+        }
+    }
+
+    @Test
+    public void testNearTierIsBounded() {
+        TieredCache<BeachLocation> cache = new TieredCache<>("geocode", SharedCache.NONE, CacheCodecs.BEACH_LOCATION, TTL, 3);
+        for (int i = 0; i < 10; i++) {
+            cache.put("beach " + i, location("Beach " + i, i));
+        }
+        assertEquals(3, cache.nearSize());
+    }
+
+    @Test
+    public void testWeatherWithJellyfishRoundTrip() throws IOException {
+        JellyfishInfo jellyfish = JellyfishInfo.builder()
+                .location("Benidorm")
+                .latitude(38.53)
+                .longitude(-0.13)
+                .riskLevel(JellyfishInfo.RiskLevel.MODERATE)
+                .recentSightings(List.of(JellyfishInfo.JellyfishSighting.builder()
+                        .species("Pelagia noctiluca")
+                        .observedAtMillis(1_700_000_000_000L)
+                        .severity(JellyfishInfo.JellyfishSighting.SeverityLevel.PAINFUL)
+                        .distanceKm(3.5)
+                        .daysAgo(2)
+                        .build()))
+                .lastUpdatedMillis(1_700_000_100_000L)
+                .build();
+        WeatherInfo weather = WeatherInfo.builder()
+                .location("Benidorm")
+                .airTemperature(27.5)
+                .waterTemperature(null)
+                .humidity(60)
+                .jellyfishInfo(jellyfish)
+                .build();
+
+        WeatherInfo decoded = CacheCodecs.WEATHER_INFO.decode(CacheCodecs.WEATHER_INFO.encode(weather));
+
+        assertEquals(27.5, decoded.getAirTemperature());
+        assertNull(decoded.getWaterTemperature());
+        assertEquals(60, decoded.getHumidity());
+        assertNull(decoded.getSource());
+        assertEquals(JellyfishInfo.RiskLevel.MODERATE, decoded.getJellyfishInfo().getRiskLevel());
+        JellyfishInfo.JellyfishSighting sighting = decoded.getJellyfishInfo().getRecentSightings().get(0);
+        assertEquals("Pelagia noctiluca", sighting.getSpecies());
+        assertEquals(JellyfishInfo.JellyfishSighting.SeverityLevel.PAINFUL, sighting.getSeverity());
+        assertEquals(2, sighting.getDaysAgo());
+    }
+
+    @Test
+    public void testOtherFormatVersionIsRejected() {
+        byte[] bytes = CacheCodecs.BEACH_LOCATION.encode(location("Levante", 1));
+        bytes[0] = 99;
+        assertThrows(IOException.class, () -> CacheCodecs.BEACH_LOCATION.decode(bytes));
+    }
+}
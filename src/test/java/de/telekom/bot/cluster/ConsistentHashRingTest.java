@@ -0,0 +1,171 @@
+package de.telekom.bot.cluster;
+
+import org.junit.jupiter.api.Test;
+
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for partitioning chats between nodes and forwarding updates to them
+ */
+public class ConsistentHashRingTest {
+
+    private static final int CHATS = 30_000;
+
+    @Test
+    public void testEmptyRingHasNoOwner() {
+        assertNull(new ConsistentHashRing(16).nodeFor(42));
+    }
+
+    @Test
+    public void testChatsAreSpreadEvenly() {
+        ConsistentHashRing ring = ring("node-1", "node-2", "node-3");
+
+        Map<String, Integer> counts = new HashMap<>();
+        for (long chatId = 1; chatId <= CHATS; chatId++) {
+            counts.merge(ring.nodeFor(chatId), 1, Integer::sum);
+        }
+
+        assertEquals(3, counts.size());
+        counts.forEach((node, count) ->
+                assertTrue(count > CHATS / 3 * 0.8 && count < CHATS / 3 * 1.2, node + " owns " + count));
+    }
+
+    @Test
+    public void testJoinMovesOnlyChatsToTheNewNode() {
+        ConsistentHashRing ring = ring("node-1", "node-2", "node-3");
+        String[] before = owners(ring);
+
+        assertTrue(ring.add("node-4"));
+        assertFalse(ring.add("node-4"));
+        String[] after = owners(ring);
+
+        int moved = 0;
+        for (int i = 0; i < CHATS; i++) {
+            if (!before[i].equals(after[i])) {
+                assertEquals("node-4", after[i], "Chats only move to the joining node");
+                moved++;
+            }
+        }
+        assertTrue(moved > CHATS / 4 * 0.8 && moved < CHATS / 4 * 1.2, "Moved " + moved);
+    }
+
+    @Test
+    public void testRemoveMovesOnlyTheRemovedNodesChats() {
+        ConsistentHashRing ring = ring("node-1", "node-2", "node-3");
+        String[] before = owners(ring);
+
+        assertTrue(ring.remove("node-2"));
+        String[] after = owners(ring);
+
+        for (int i = 0; i < CHATS; i++) {
+            if (before[i].equals("node-2")) {
+                assertNotEquals("node-2", after[i]);
+            } else {
+                assertEquals(before[i], after[i], "Chat " + (i + 1) + " stays with its node");
+            }
+        }
+    }
+
+    @Test
+    public void testForwardedUpdatesAndJoinsReachTheServer() throws Exception {
+        BlockingQueue<String> received = new LinkedBlockingQueue<>();
+        PartitionServer server = new PartitionServer(0, new PartitionServer.Handler() {
+            @Override
+            public void update(byte[] payload) {
+                received.add(new String(payload, StandardCharsets.UTF_8));
+            }
+
+            @Override
+            public void join(String nodeId, String address) {
+                received.add(nodeId + "@" + address);
+            }
+        });
+        server.start();
+        try (PartitionClient client = new PartitionClient("localhost:" + server.getPort(), Duration.ofSeconds(2))) {
+            assertTrue(client.ping());
+            assertTrue(client.join("node-2", "worker-2:7490"));
+            assertEquals(PartitionClient.Delivery.DELIVERED, client.forward("{\"update_id\":1}".getBytes(StandardCharsets.UTF_8)));
+            assertEquals(PartitionClient.Delivery.DELIVERED, client.forward("{\"update_id\":2}".getBytes(StandardCharsets.UTF_8)));
+
+            assertEquals("node-2@worker-2:7490", received.poll(2, TimeUnit.SECONDS));
+            assertEquals("{\"update_id\":1}", received.poll(2, TimeUnit.SECONDS));
+            assertEquals("{\"update_id\":2}", received.poll(2, TimeUnit.SECONDS));
+        } finally {
+            server.close();
+        }
+
+        try (PartitionClient client = new PartitionClient("localhost:" + server.getPort(), Duration.ofMillis(200))) {
+            assertEquals(PartitionClient.Delivery.NOT_SENT, client.forward(new byte[]{1}),
+                    "Forwarding to a stopped node fails");
+        }
+    }
+
+    @Test
+    public void testSlowHandlingDoesNotDelayAcknowledgements() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        BlockingQueue<String> received = new LinkedBlockingQueue<>();
+        PartitionServer server = new PartitionServer(0, new PartitionServer.Handler() {
+            @Override
+            public void update(byte[] payload) {
+                try {
+                    // e.g. a shared location being answered
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                received.add(new String(payload, StandardCharsets.UTF_8));
+            }
+
+            @Override
+            public void join(String nodeId, String address) {
+            }
+        });
+        server.start();
+        try (PartitionClient client = new PartitionClient("localhost:" + server.getPort(), Duration.ofMillis(300))) {
+            assertEquals(PartitionClient.Delivery.DELIVERED, client.forward("1".getBytes(StandardCharsets.UTF_8)));
+            assertEquals(PartitionClient.Delivery.DELIVERED, client.forward("2".getBytes(StandardCharsets.UTF_8)));
+            assertEquals(PartitionClient.Delivery.DELIVERED, client.forward("3".getBytes(StandardCharsets.UTF_8)));
+
+            release.countDown();
+            assertEquals("1", received.poll(2, TimeUnit.SECONDS));
+            assertEquals("2", received.poll(2, TimeUnit.SECONDS));
+            assertEquals("3", received.poll(2, TimeUnit.SECONDS));
+        } finally {
+            server.close();
+        }
+    }
+
+    @Test
+    public void testMissingAcknowledgementIsUnconfirmed() throws Exception {
+        // Accepts and reads, but never answers
+        try (ServerSocket silent = new ServerSocket(0);
+             PartitionClient client = new PartitionClient("localhost:" + silent.getLocalPort(), Duration.ofMillis(200))) {
+            assertEquals(PartitionClient.Delivery.UNCONFIRMED, client.forward(new byte[]{1}));
+        }
+    }
+
+    private static ConsistentHashRing ring(String... nodes) {
+        ConsistentHashRing ring = new ConsistentHashRing(128);
+        List.of(nodes).forEach(ring::add);
+        return ring;
+    }
+
+    private static String[] owners(ConsistentHashRing ring) {
+        String[] owners = new String[CHATS];
+        for (int i = 0; i < CHATS; i++) {
+            owners[i] = ring.nodeFor(i + 1);
+        }
+        return owners;
+    }
+}
@@ -0,0 +1,48 @@
+package de.telekom.bot.geo;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for building and mapping the beach catalogue file
+ */
+public class BeachCatalogFileTest {
+
+    @Test
+    public void testMappedFileReadsRecords() throws Exception {
+        BeachCatalogFileBuilder builder = new BeachCatalogFileBuilder();
+        builder.addBeach("Playa de Levante (Benidorm)", "Costa Blanca", 38.5368, -0.1233);
+        builder.addBeach("Playa de la Concha", "País Vasco", 43.3180, -1.9860);
+
+        Path file = Files.createTempDirectory("catalog").resolve("beaches.bin");
+        builder.writeTo(file);
+        BeachCatalogFile catalog = BeachCatalogFile.open(file);
+
+        assertEquals(2, catalog.size());
+        assertEquals("Playa de Levante (Benidorm)", catalog.name(0));
+        assertEquals("Costa Blanca", catalog.region(0));
+        assertEquals(38.5368, catalog.latitude(0), 1e-6);
+        assertEquals(-1.9860, catalog.longitude(1), 1e-6);
+        assertEquals("País Vasco", catalog.region(1));
+    }
+
+    @Test
+    public void testRejectsOtherFiles() {
+        assertThrows(IllegalArgumentException.class,
+                () -> BeachCatalogFile.wrap(ByteBuffer.allocate(64)));
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> BeachCatalogFile.wrap(new BeachCatalogFileBuilder().build()).name(0));
+    }
+
+    @Test
+    public void testRejectsVersionOneFiles() {
+        ByteBuffer versionOne = new BeachCatalogFileBuilder().build().putInt(4, 1);
+
+        assertThrows(IllegalArgumentException.class, () -> BeachCatalogFile.wrap(versionOne));
+    }
+}
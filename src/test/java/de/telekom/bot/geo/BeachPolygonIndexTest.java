@@ -0,0 +1,84 @@
+package de.telekom.bot.geo;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the offline beach polygon index and its builder
+ */
+public class BeachPolygonIndexTest {
+
+    private static final String GEOJSON = """
+            {"type": "FeatureCollection", "features": [
+              {"type": "Feature",
+               "properties": {"natural": "beach", "name": "Playa de Levante", "surface": "sand"},
+               "geometry": {"type": "Polygon", "coordinates": [[
+                 [-0.130, 38.530], [-0.110, 38.530], [-0.110, 38.540], [-0.130, 38.540], [-0.130, 38.530]],
+                 [[-0.125, 38.533], [-0.120, 38.533], [-0.120, 38.537], [-0.125, 38.537], [-0.125, 38.533]]]}},
+              {"type": "Feature",
+               "properties": {"natural": "beach", "name": "Cala Moraig", "surface": "pebbles"},
+               "geometry": {"type": "Point", "coordinates": [0.1520, 38.6880]}},
+              {"type": "Feature",
+               "properties": {"natural": "cliff", "name": "Not a beach"},
+               "geometry": {"type": "Polygon", "coordinates": [[
+                 [-0.130, 38.530], [-0.110, 38.530], [-0.110, 38.540], [-0.130, 38.530]]]}}
+            ]}
+            """;
+
+    private BeachPolygonIndex index;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        BeachPolygonIndexBuilder builder = new BeachPolygonIndexBuilder();
+        builder.readGeoJson(new ByteArrayInputStream(GEOJSON.getBytes(StandardCharsets.UTF_8)));
+        index = BeachPolygonIndex.wrap(builder.build());
+    }
+
+    @Test
+    public void testOnlyBeachesAreIndexed() {
+        assertEquals(2, index.size());
+    }
+
+    @Test
+    public void testPointInPolygon() {
+        Optional<BeachPolygonIndex.Match> match = index.findContaining(38.535, -0.115);
+
+        assertTrue(match.isPresent());
+        assertEquals("Playa de Levante", match.get().name());
+        assertEquals("sand", match.get().surface());
+        assertEquals(0.0, match.get().distanceKm());
+    }
+
+    @Test
+    public void testHoleIsNotInside() {
+        assertTrue(index.findContaining(38.535, -0.122).isEmpty());
+    }
+
+    @Test
+    public void testNearestBeach() {
+        // A few hundred meters off the Levante polygon
+        Optional<BeachPolygonIndex.Match> match = index.findNearest(38.528, -0.120, 5.0);
+
+        assertTrue(match.isPresent());
+        assertEquals("Playa de Levante", match.get().name());
+        assertTrue(match.get().distanceKm() > 0.1 && match.get().distanceKm() < 0.5,
+                "Distance should be measured to the outline: " + match.get().distanceKm());
+
+        // Point beaches are found by distance as well
+        Optional<BeachPolygonIndex.Match> cala = index.findNearest(38.69, 0.15, 5.0);
+        assertTrue(cala.isPresent());
+        assertEquals("Cala Moraig", cala.get().name());
+    }
+
+    @Test
+    public void testNothingWithinRadius() {
+        assertTrue(index.findNearest(41.38, 2.19, 5.0).isEmpty());
+        assertTrue(index.findContaining(41.38, 2.19).isEmpty());
+    }
+}
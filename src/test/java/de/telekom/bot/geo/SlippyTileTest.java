@@ -0,0 +1,41 @@
+package de.telekom.bot.geo;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for slippy map tile addressing used by the Overpass tile cache
+ */
+public class SlippyTileTest {
+
+    @Test
+    public void testTileContainsCoordinate() {
+        // Playa de Levante, Benidorm
+        double latitude = 38.5355;
+        double longitude = -0.1218;
+
+        SlippyTile tile = SlippyTile.containing(latitude, longitude, 12);
+
+        assertEquals(12, tile.zoom());
+        assertTrue(latitude >= tile.south() && latitude <= tile.north(), "Latitude should be inside tile: " + tile);
+        assertTrue(longitude >= tile.west() && longitude <= tile.east(), "Longitude should be inside tile: " + tile);
+    }
+
+    @Test
+    public void testNearbyPointsShareTile() {
+        SlippyTile levante = SlippyTile.containing(38.5355, -0.1218, 12);
+        SlippyTile sameBeach = SlippyTile.containing(38.5362, -0.1200, 12);
+        SlippyTile barcelona = SlippyTile.containing(41.3780, 2.1925, 12);
+
+        assertEquals(levante, sameBeach);
+        assertEquals(levante.key(), sameBeach.key());
+        assertNotEquals(levante, barcelona);
+    }
+
+    @Test
+    public void testKeyFormat() {
+        SlippyTile tile = new SlippyTile(12, 2046, 1572);
+        assertEquals("12_2046_1572", tile.key());
+    }
+}
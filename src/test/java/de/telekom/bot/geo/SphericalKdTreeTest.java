@@ -0,0 +1,93 @@
+package de.telekom.bot.geo;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the k-nearest-neighbour index against a brute force scan
+ */
+public class SphericalKdTreeTest {
+
+    private record Point(String name, double latitude, double longitude) {
+    }
+
+    private static SphericalKdTree<Point> build(List<Point> points) {
+        return SphericalKdTree.build(points, Point::latitude, Point::longitude);
+    }
+
+    @Test
+    public void testMatchesBruteForce() {
+        Random random = new Random(42);
+        List<Point> points = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            points.add(new Point("p" + i, 27 + random.nextDouble() * 17, -18 + random.nextDouble() * 22));
+        }
+        SphericalKdTree<Point> tree = build(points);
+
+        for (int q = 0; q < 200; q++) {
+            double lat = 27 + random.nextDouble() * 17;
+            double lon = -18 + random.nextDouble() * 22;
+
+            List<Point> expected = points.stream()
+                    .filter(p -> GeoUtils.haversineKm(lat, lon, p.latitude(), p.longitude()) <= 100)
+                    .sorted(Comparator.comparingDouble(p -> GeoUtils.haversineKm(lat, lon, p.latitude(), p.longitude())))
+                    .limit(5)
+                    .toList();
+            List<SphericalKdTree.Neighbor<Point>> actual = tree.nearest(lat, lon, 5, 100);
+
+            assertEquals(expected.size(), actual.size());
+            for (int i = 0; i < expected.size(); i++) {
+                assertEquals(expected.get(i).name(), actual.get(i).item().name());
+            }
+        }
+    }
+
+    @Test
+    public void testDistancesAreHaversineKm() {
+        SphericalKdTree<Point> tree = build(List.of(
+                new Point("Levante", 38.5368, -0.1233),
+                new Point("Malvarrosa", 39.4790, -0.3240)));
+
+        List<SphericalKdTree.Neighbor<Point>> result = tree.nearest(38.54, -0.12, 2, 500);
+
+        assertEquals("Levante", result.get(0).item().name());
+        assertEquals(GeoUtils.haversineKm(38.54, -0.12, 38.5368, -0.1233), result.get(0).distanceKm(), 1e-9);
+        assertEquals("Malvarrosa", result.get(1).item().name());
+    }
+
+    @Test
+    public void testRadiusLimitsResults() {
+        SphericalKdTree<Point> tree = build(List.of(
+                new Point("near", 38.54, -0.12),
+                new Point("far", 43.32, -1.98)));
+
+        List<SphericalKdTree.Neighbor<Point>> result = tree.nearest(38.5, -0.1, 5, 50);
+
+        assertEquals(1, result.size());
+        assertEquals("near", result.get(0).item().name());
+    }
+
+    @Test
+    public void testAntimeridian() {
+        SphericalKdTree<Point> tree = build(List.of(
+                new Point("east", 0, 179.9),
+                new Point("west", 0, -179.9),
+                new Point("origin", 0, 0)));
+
+        List<SphericalKdTree.Neighbor<Point>> result = tree.nearest(0, 179.95, 2, 100);
+
+        assertEquals(2, result.size());
+        assertTrue(result.stream().noneMatch(n -> n.item().name().equals("origin")));
+    }
+
+    @Test
+    public void testEmptyTree() {
+        assertTrue(build(List.of()).nearest(38.5, -0.1, 5, 50).isEmpty());
+    }
+}
@@ -0,0 +1,79 @@
+package de.telekom.bot.geo;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the SST climatology grid and its builder
+ */
+public class SstClimatologyTest {
+
+    // 3 x 3 grid at 0.5°; January is 14°C plus one degree per month, land in the north-west corner
+    private static final String CSV = """
+            # lat,lon,jan..dec
+            lat,lon,jan,feb,mar,apr,may,jun,jul,aug,sep,oct,nov,dec
+            38.0,-0.5,14,15,16,17,18,19,20,21,22,23,24,25
+            38.0,0.0,16,17,18,19,20,21,22,23,24,25,26,27
+            38.0,0.5,16,17,18,19,20,21,22,23,24,25,26,27
+            38.5,-0.5,14,15,16,17,18,19,20,21,22,23,24,25
+            38.5,0.0,16,17,18,19,20,21,22,23,24,25,26,27
+            38.5,0.5,16,17,18,19,20,21,22,23,24,25,26,27
+            39.0,-0.5,nan,,,,,,,,,,,
+            39.0,0.0,16,17,18,19,20,21,22,23,24,25,26,27
+            39.0,0.5,16,17,18,19,20,21,22,23,24,25,26,27
+            """;
+
+    private static final int MID_JANUARY = 16;
+    private static final int END_OF_JANUARY = 31;
+
+    private SstClimatology climatology;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        SstClimatologyBuilder builder = new SstClimatologyBuilder();
+        builder.readCsv(new ByteArrayInputStream(CSV.getBytes(StandardCharsets.UTF_8)));
+        climatology = SstClimatology.wrap(builder.build());
+    }
+
+    @Test
+    public void testGridCellValues() {
+        assertEquals(9, climatology.cellCount());
+        assertEquals(14.0, climatology.estimate(38.0, -0.5, MID_JANUARY), 0.05);
+        assertEquals(16.0, climatology.estimate(38.5, 0.0, MID_JANUARY), 0.05);
+    }
+
+    @Test
+    public void testBilinearInterpolation() {
+        // Halfway between the 14°C and 16°C columns
+        assertEquals(15.0, climatology.estimate(38.25, -0.25, MID_JANUARY), 0.05);
+        assertEquals(14.5, climatology.estimate(38.25, -0.375, MID_JANUARY), 0.05);
+    }
+
+    @Test
+    public void testInterpolationBetweenMonths() {
+        // End of January sits about halfway between the January and February means
+        assertEquals(14.5, climatology.estimate(38.0, -0.5, END_OF_JANUARY), 0.05);
+        // Early January blends with December of the same place
+        assertTrue(climatology.estimate(38.0, -0.5, 1) > 14.0);
+    }
+
+    @Test
+    public void testLandCellsAreIgnored() {
+        // The land corner does not drag the estimate to NaN
+        assertEquals(16.0, climatology.estimate(38.9, -0.1, MID_JANUARY), 0.1);
+        // Beaches just outside the grid use the nearest sea cell
+        assertEquals(16.0, climatology.estimate(39.3, 0.6, MID_JANUARY), 0.05);
+        assertTrue(Double.isNaN(climatology.estimate(45.0, 3.0, MID_JANUARY)));
+    }
+
+    @Test
+    public void testRejectsOtherFiles() {
+        assertThrows(IllegalArgumentException.class, () -> SstClimatology.wrap(ByteBuffer.allocate(64)));
+    }
+}
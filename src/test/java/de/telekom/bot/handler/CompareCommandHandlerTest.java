@@ -0,0 +1,47 @@
+package de.telekom.bot.handler;
+
+import de.telekom.bot.model.BeachLocation;
+import de.telekom.bot.model.JellyfishInfo;
+import de.telekom.bot.model.WeatherInfo;
+import de.telekom.bot.service.BeachComparisonService.ComparedBeach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for /compare argument parsing and the comparison table
+ */
+public class CompareCommandHandlerTest {
+
+    @Test
+    public void testParseBeachNames() {
+        assertEquals(List.of("Levante", "Poniente", "Albir"),
+                CompareCommandHandler.parseBeachNames("Levante vs Poniente VS. Albir"));
+        assertEquals(List.of("La Concha", "Zurriola"),
+                CompareCommandHandler.parseBeachNames("La Concha, Zurriola, la concha"));
+        assertEquals(List.of("Cadaqués"), CompareCommandHandler.parseBeachNames("Cadaqués"));
+        assertEquals(CompareCommandHandler.MAX_BEACHES,
+                CompareCommandHandler.parseBeachNames("a; b; c; d; e; f").size());
+    }
+
+    @Test
+    public void testTableHasOneColumnPerBeach() {
+        BeachLocation location = BeachLocation.builder().name("x").found(true).build();
+        WeatherInfo warm = WeatherInfo.builder().airTemperature(28.0).waterTemperature(24.4)
+                .jellyfishInfo(JellyfishInfo.builder().riskLevel(JellyfishInfo.RiskLevel.HIGH).build()).build();
+        WeatherInfo cool = WeatherInfo.builder().airTemperature(25.0).waterTemperature(21.0)
+                .jellyfishInfo(JellyfishInfo.builder().riskLevel(JellyfishInfo.RiskLevel.LOW).build()).build();
+
+        String text = CompareCommandHandler.formatComparison(List.of(
+                new ComparedBeach("Levante", location, warm),
+                new ComparedBeach("Poniente", location, cool),
+                new ComparedBeach("Nowhere", new BeachLocation(), null)), "en");
+
+        assertTrue(text.contains("Water     24°C      21°C\n"), text);
+        assertTrue(text.contains("Warmest water: *Levante*"));
+        assertTrue(text.contains("Fewest jellyfish: *Poniente*"));
+        assertTrue(text.contains("No results for: Nowhere"));
+    }
+}
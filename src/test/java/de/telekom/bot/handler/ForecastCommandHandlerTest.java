@@ -0,0 +1,44 @@
+package de.telekom.bot.handler;
+
+import de.telekom.bot.model.HourlyForecast;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the /forecast view
+ */
+public class ForecastCommandHandlerTest {
+
+    private static final long MIDNIGHT = 1_782_864_000L; // 2026-07-01T00:00Z, 02:00 in Spain
+
+    private static HourlyForecast forecast() {
+        float[] air = new float[48];
+        float[] wind = new float[48];
+        for (int hour = 0; hour < 48; hour++) {
+            air[hour] = 20 + Math.min(hour % 24, 14) / 2f;   // Warmest at 14:00 UTC, 16:00 in Spain
+            wind[hour] = hour % 24 >= 14 ? 35 : 8;          // Wind picks up from 16:00 in Spain
+        }
+        return new HourlyForecast(new HourlyForecast.TimeAxis(MIDNIGHT, 48), 1, new float[][]{air, wind, null, null});
+    }
+
+    @Test
+    public void testBestSwimWindowAvoidsTheWindyAfternoon() {
+        assertEquals(14, ForecastCommandHandler.bestSwimWindow(forecast(), LocalDate.of(2026, 7, 1), 9));
+    }
+
+    @Test
+    public void testViewStartsAtTheCurrentHour() {
+        // 15:30 in Spain
+        String text = ForecastCommandHandler.formatForecast("Benidorm", forecast(),
+                Instant.ofEpochSecond(MIDNIGHT + 13 * 3600 + 1800), "en");
+
+        assertTrue(text.contains("*Benidorm* - today"));
+        assertFalse(text.contains("13:00"));
+        assertTrue(text.contains("15:00 27°   8km/h   -     -\n"), text);
+        assertTrue(text.contains("Best time to swim: *15:00-17:00*"), text);
+    }
+}
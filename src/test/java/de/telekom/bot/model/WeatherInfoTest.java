@@ -0,0 +1,79 @@
+package de.telekom.bot.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for the immutable weather and jellyfish value types
+ */
+public class WeatherInfoTest {
+
+    @Test
+    public void testMissingValuesAreReportedAsNull() {
+        WeatherInfo weather = WeatherInfo.builder()
+                .location("Benidorm")
+                .airTemperature(24.5)
+                .waterTemperature(null)
+                .build();
+
+        assertTrue(weather.isAirTempFound());
+        assertFalse(weather.isWaterTempFound());
+        assertEquals(24.5, weather.getAirTemperature());
+        assertNull(weather.getWaterTemperature());
+        assertNull(weather.getHumidity());
+        assertNull(weather.getWindSpeed());
+        assertEquals("N/A", weather.getFormattedWaterTemperature());
+        assertTrue(weather.hasTemperatureData());
+    }
+
+    @Test
+    public void testEmptyWeatherInfo() {
+        WeatherInfo weather = new WeatherInfo();
+
+        assertFalse(weather.hasTemperatureData());
+        assertEquals("Weather data unavailable", weather.getComfortDescription());
+    }
+
+    @Test
+    public void testToBuilderCopiesWithoutTouchingOriginal() {
+        WeatherInfo original = WeatherInfo.builder()
+                .airTemperature(22.0)
+                .humidity(60)
+                .build();
+
+        WeatherInfo updated = original.toBuilder()
+                .humidity(null)
+                .waterTemperature(19.5)
+                .build();
+
+        assertEquals(60, original.getHumidity());
+        assertFalse(original.isWaterTempFound());
+        assertNull(updated.getHumidity());
+        assertEquals(19.5, updated.getWaterTemperature());
+        assertEquals(22.0, updated.getAirTemperature());
+    }
+
+    @Test
+    public void testJellyfishInfoIsDetachedFromInput() {
+        List<JellyfishInfo.JellyfishSighting> sightings = new ArrayList<>();
+        sightings.add(JellyfishInfo.JellyfishSighting.builder()
+                .species(new String("Pelagia noctiluca"))
+                .severity(JellyfishInfo.JellyfishSighting.SeverityLevel.PAINFUL)
+                .build());
+
+        JellyfishInfo info = JellyfishInfo.builder()
+                .recentSightings(sightings)
+                .lastUpdatedMillis(System.currentTimeMillis())
+                .build();
+        sightings.clear();
+
+        assertEquals(1, info.getRecentSightings().size());
+        assertThrows(UnsupportedOperationException.class, () -> info.getRecentSightings().clear());
+        assertSame("Pelagia noctiluca", info.getRecentSightings().get(0).getSpecies());
+        assertNotNull(info.getLastUpdated());
+    }
+}
@@ -0,0 +1,163 @@
+package de.telekom.bot.service;
+
+import de.telekom.bot.config.AdmissionConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for admission control of beach lookups
+ */
+public class AdmissionControllerTest {
+
+    private AdmissionController controller;
+
+    private AdmissionController controller(int workers, long latencyTargetMs, int maxQueued, long serviceTimeMs) {
+        AdmissionConfig config = new AdmissionConfig();
+        config.setWorkers(workers);
+        config.setLatencyTargetMs(latencyTargetMs);
+        config.setMaxQueued(maxQueued);
+        config.setInitialServiceTimeMs(serviceTimeMs);
+        controller = new AdmissionController(config);
+        return controller;
+    }
+
+    @AfterEach
+    public void tearDown() {
+        if (controller != null) {
+            controller.shutdown();
+        }
+    }
+
+    private static Runnable blockUntil(CountDownLatch started, CountDownLatch release) {
+        return () -> {
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+    }
+
+    @Test
+    public void testAdmitsWhileWorkersAreFree() throws InterruptedException {
+        AdmissionController admission = controller(2, 10_000, 10, 1_000);
+        CountDownLatch done = new CountDownLatch(2);
+        AtomicInteger fallbacks = new AtomicInteger();
+
+        assertTrue(admission.submit(done::countDown, fallbacks::incrementAndGet));
+        assertTrue(admission.submit(done::countDown, fallbacks::incrementAndGet));
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(0, fallbacks.get());
+        assertEquals(0, admission.getShedCount());
+    }
+
+    @Test
+    public void testShedsWhenExpectedWaitExceedsTarget() throws InterruptedException {
+        // One worker, 1s per lookup, 2.5s target: two lookups may queue behind the running one
+        AdmissionController admission = controller(1, 2_500, 100, 1_000);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger fallbacks = new AtomicInteger();
+
+        assertTrue(admission.submit(blockUntil(started, release), fallbacks::incrementAndGet));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        assertTrue(admission.submit(() -> { }, fallbacks::incrementAndGet));
+        assertTrue(admission.submit(() -> { }, fallbacks::incrementAndGet));
+        assertFalse(admission.submit(() -> { }, fallbacks::incrementAndGet), "Third queued lookup would wait ~3s");
+
+        assertEquals(1, fallbacks.get(), "The shed lookup gets its fallback right away");
+        assertEquals(1, admission.getShedCount());
+        assertEquals(2, admission.getQueued());
+        release.countDown();
+    }
+
+    @Test
+    public void testQueueLengthIsCapped() throws InterruptedException {
+        AdmissionController admission = controller(1, 60_000, 1, 1);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger fallbacks = new AtomicInteger();
+
+        admission.submit(blockUntil(started, release), fallbacks::incrementAndGet);
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        assertTrue(admission.submit(() -> { }, fallbacks::incrementAndGet));
+        assertFalse(admission.submit(() -> { }, fallbacks::incrementAndGet));
+        assertEquals(1, fallbacks.get());
+        release.countDown();
+    }
+
+    @Test
+    public void testLookupThatWaitedTooLongIsShedAtTheWorker() throws InterruptedException {
+        // The estimate admits the lookup, but the running one takes far longer than expected
+        AdmissionController admission = controller(1, 100, 10, 1);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch fallbackRan = new CountDownLatch(1);
+        AtomicInteger handled = new AtomicInteger();
+
+        admission.submit(blockUntil(started, release), () -> { });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        assertTrue(admission.submit(handled::incrementAndGet, fallbackRan::countDown));
+
+        Thread.sleep(200);
+        release.countDown();
+
+        assertTrue(fallbackRan.await(5, TimeUnit.SECONDS));
+        assertEquals(0, handled.get());
+    }
+
+    @Test
+    public void testStopWaitsForAdmittedUpdates() throws InterruptedException {
+        AdmissionController admission = controller(1, 60_000, 10, 1);
+        admission.start();
+        CountDownLatch started = new CountDownLatch(1);
+        AtomicInteger handled = new AtomicInteger();
+        AtomicInteger fallbacks = new AtomicInteger();
+
+        assertTrue(admission.submit(() -> {
+            started.countDown();
+            try {
+                Thread.sleep(200);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            handled.incrementAndGet();
+        }, fallbacks::incrementAndGet));
+        assertTrue(admission.submit(handled::incrementAndGet, fallbacks::incrementAndGet));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        admission.stop();
+        assertFalse(admission.isRunning());
+        assertEquals(2, handled.get(), "Running and queued updates finish before stop returns");
+
+        assertFalse(admission.submit(handled::incrementAndGet, fallbacks::incrementAndGet));
+        assertEquals(1, fallbacks.get(), "Updates arriving after stop get their fallback");
+    }
+
+    @Test
+    public void testDisabledRunsInline() {
+        AdmissionConfig config = new AdmissionConfig();
+        config.setEnabled(false);
+        controller = new AdmissionController(config);
+        Thread caller = Thread.currentThread();
+        AtomicInteger sameThread = new AtomicInteger();
+
+        assertTrue(controller.submit(() -> {
+            if (Thread.currentThread() == caller) {
+                sameThread.incrementAndGet();
+            }
+        }, () -> fail("Nothing is shed when admission control is off")));
+        assertEquals(1, sameThread.get());
+    }
+}
@@ -0,0 +1,52 @@
+package de.telekom.bot.service;
+
+import de.telekom.bot.geo.BeachCatalogFile;
+import de.telekom.bot.geo.BeachCatalogFileBuilder;
+import de.telekom.bot.geo.SphericalKdTree;
+import de.telekom.bot.model.CatalogBeach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the bundled beach catalogue
+ */
+public class BeachCatalogTest {
+
+    @Test
+    public void testBundledCatalogueLoads() {
+        BeachCatalog catalog = new BeachCatalog();
+        catalog.loadCatalog();
+
+        assertTrue(catalog.size() > 50);
+
+        // Standing on Levante beach in Benidorm
+        List<SphericalKdTree.Neighbor<CatalogBeach>> nearby = catalog.findNearest(38.5370, -0.1240, 3, 50);
+        assertEquals("Playa de Levante (Benidorm)", nearby.get(0).item().name());
+        assertEquals("Playa de Poniente (Benidorm)", nearby.get(1).item().name());
+    }
+
+    @Test
+    public void testMalformedLinesAreSkipped() throws Exception {
+        String csv = """
+                # comment
+                Playa A,Region,38.5,-0.1
+
+                broken line
+                Playa B,Region,not-a-number,-0.1
+                Playa C,Region,39.0,-0.3
+                """;
+
+        BeachCatalogFileBuilder builder = new BeachCatalogFileBuilder();
+        builder.readBeaches(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+        BeachCatalogFile beaches = BeachCatalogFile.wrap(builder.build());
+
+        assertEquals(2, beaches.size());
+        assertEquals("Playa A", beaches.name(0));
+        assertEquals(-0.3, beaches.longitude(1));
+    }
+}
@@ -0,0 +1,115 @@
+package de.telekom.bot.service;
+
+import de.telekom.bot.cache.CacheSnapshots;
+import de.telekom.bot.cache.ClusterRateBudget;
+import de.telekom.bot.cache.SharedCache;
+import de.telekom.bot.cache.TieredCaches;
+import de.telekom.bot.config.ApiConfigurationProperties;
+import de.telekom.bot.config.AppFeaturesConfig;
+import de.telekom.bot.config.ContentConfig;
+import de.telekom.bot.config.UpstreamConfig;
+import de.telekom.bot.model.BeachLocation;
+import de.telekom.bot.model.WeatherInfo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for parallel multi-beach lookups
+ */
+public class BeachComparisonServiceTest {
+
+    private final AtomicInteger geocodeBatches = new AtomicInteger();
+    private volatile long weatherDelayMs = 300;
+
+    private BeachComparisonService comparison;
+
+    @BeforeEach
+    public void setUp() {
+        AppFeaturesConfig features = new AppFeaturesConfig();
+        UpstreamLimiters upstreamLimiters = new UpstreamLimiters(new UpstreamConfig());
+        TieredCaches caches = new TieredCaches(SharedCache.NONE, CacheSnapshots.NONE);
+        BeachCatalog catalog = new BeachCatalog();
+        catalog.loadCatalog();
+
+        GeocodeService geocodeService = new GeocodeService(new ApiConfigurationProperties(), features, upstreamLimiters,
+                new ClusterRateBudget("nominatim", 1.0, SharedCache.NONE, Duration.ofSeconds(10), 1), caches) {
+            @Override
+            public Map<String, BeachLocation> findBeachCoordinates(Collection<String> beachNames) {
+                geocodeBatches.incrementAndGet();
+                sleep(300);
+                Map<String, BeachLocation> locations = new LinkedHashMap<>();
+                for (String name : beachNames) {
+                    locations.put(name, name.equals("Nowhere") ? new BeachLocation()
+                            : BeachLocation.builder().name(name).latitude(38.56).longitude(-0.07).found(true).build());
+                }
+                return locations;
+            }
+        };
+        WeatherService weatherService = new WeatherService(features, new JellyfishService(features, upstreamLimiters, caches),
+                upstreamLimiters, caches) {
+            @Override
+            public WeatherInfo getWeatherInfo(BeachLocation location) {
+                sleep(weatherDelayMs);
+                return WeatherInfo.builder().waterTemperature(23.0).build();
+            }
+        };
+        ContentIndex contentIndex = new ContentIndex(new ContentConfig());
+        contentIndex.load();
+        BeachCharacteristicsService characteristics = new BeachCharacteristicsService(features, null, null, contentIndex) {
+            @Override
+            public boolean isEnabled() {
+                return false;
+            }
+        };
+        comparison = new BeachComparisonService(catalog, geocodeService, weatherService, characteristics);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Test
+    public void testBeachesAreLookedUpInParallel() {
+        long start = System.currentTimeMillis();
+        List<BeachComparisonService.ComparedBeach> beaches =
+                comparison.compare(List.of("Levante", "Poniente", "Albir", "Nowhere"), Duration.ofSeconds(5));
+        long elapsed = System.currentTimeMillis() - start;
+
+        // One geocoding batch (300ms) followed by parallel weather (300ms), not 4 sequential lookups
+        assertTrue(elapsed < 1000, "took " + elapsed + "ms");
+        assertEquals(1, geocodeBatches.get());
+
+        assertEquals("Playa de Levante (Benidorm)", beaches.get(0).location().getName());
+        assertEquals("Playa de Poniente (Benidorm)", beaches.get(1).location().getName());
+        assertEquals("Albir", beaches.get(2).location().getName());
+        assertEquals(23.0, beaches.get(2).weather().getWaterTemperature());
+        assertFalse(beaches.get(3).isFound());
+    }
+
+    @Test
+    public void testDeadlineReturnsPartialResults() {
+        weatherDelayMs = 3000;
+
+        long start = System.currentTimeMillis();
+        List<BeachComparisonService.ComparedBeach> beaches =
+                comparison.compare(List.of("Levante", "Poniente"), Duration.ofMillis(200));
+
+        assertTrue(System.currentTimeMillis() - start < 1000);
+        assertTrue(beaches.get(0).isFound());
+        assertNull(beaches.get(0).weather());
+        assertEquals(0, geocodeBatches.get());
+    }
+}
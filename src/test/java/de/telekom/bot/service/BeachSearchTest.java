@@ -1,9 +1,16 @@
 package de.telekom.bot.service;
 
+import de.telekom.bot.cache.CacheSnapshots;
+import de.telekom.bot.cache.ClusterRateBudget;
+import de.telekom.bot.cache.SharedCache;
+import de.telekom.bot.cache.TieredCaches;
 import de.telekom.bot.config.ApiConfigurationProperties;
+import de.telekom.bot.config.UpstreamConfig;
 import de.telekom.bot.model.BeachLocation;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
+
 /**
  * Simple test to verify improved beach search functionality
  */
@@ -15,7 +22,10 @@ public class BeachSearchTest {
         
         // Create service
         ApiConfigurationProperties config = new ApiConfigurationProperties();
-        GeocodeService geocodeService = new GeocodeService(config, new de.telekom.bot.config.AppFeaturesConfig());
+        GeocodeService geocodeService = new GeocodeService(config, new de.telekom.bot.config.AppFeaturesConfig(),
+                new UpstreamLimiters(new UpstreamConfig()),
+                new ClusterRateBudget("nominatim", 1.0, SharedCache.NONE, Duration.ofSeconds(10), 1),
+                new TieredCaches(SharedCache.NONE, CacheSnapshots.NONE));
         
         String[] testQueries = {
             "benidorm",      // Should find Benidorm beaches
@@ -1,6 +1,11 @@
 package de.telekom.bot.service;
 
+import de.telekom.bot.cache.CacheSnapshots;
+import de.telekom.bot.cache.ClusterRateBudget;
+import de.telekom.bot.cache.SharedCache;
+import de.telekom.bot.cache.TieredCaches;
 import de.telekom.bot.config.ApiConfigurationProperties;
+import de.telekom.bot.config.UpstreamConfig;
 import de.telekom.bot.model.BeachLocation;
 import de.telekom.bot.model.NominatimResponse;
 import com.fasterxml.jackson.core.type.TypeReference;
@@ -102,7 +107,10 @@ public class BenidormBeachesTest {
         System.out.println("\n--- Testing with GeocodeService ---");
         
         ApiConfigurationProperties config = new ApiConfigurationProperties();
-        GeocodeService geocodeService = new GeocodeService(config, new de.telekom.bot.config.AppFeaturesConfig());
+        GeocodeService geocodeService = new GeocodeService(config, new de.telekom.bot.config.AppFeaturesConfig(),
+                new UpstreamLimiters(new UpstreamConfig()),
+                new ClusterRateBudget("nominatim", 1.0, SharedCache.NONE, Duration.ofSeconds(10), 1),
+                new TieredCaches(SharedCache.NONE, CacheSnapshots.NONE));
         
         String[] testQueries = {
             "benidorm",
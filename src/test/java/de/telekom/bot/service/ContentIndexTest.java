@@ -0,0 +1,85 @@
+package de.telekom.bot.service;
+
+import de.telekom.bot.config.ContentConfig;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the place content index
+ */
+public class ContentIndexTest {
+
+    private static ContentIndex bundled() {
+        ContentIndex index = new ContentIndex(new ContentConfig());
+        index.load();
+        return index;
+    }
+
+    @Test
+    public void testBlurbsAreLocalised() {
+        ContentIndex index = bundled();
+
+        assertTrue(index.findBlurb("en", "Playa de Levante", "Benidorm, Marina Baixa, Alicante, España")
+                .orElseThrow().startsWith("Benidorm is famous"));
+        assertTrue(index.findBlurb("es", "Playa de Levante", "Benidorm, Marina Baixa, Alicante, España")
+                .orElseThrow().startsWith("Benidorm es famosa"));
+        // Unknown languages fall back to English
+        assertTrue(index.findBlurb("de", "Playa de la Malagueta", "Málaga, Andalucía")
+                .orElseThrow().startsWith("Málaga beautifully"));
+    }
+
+    @Test
+    public void testNamesMatchWholeTokensIgnoringAccents() {
+        ContentIndex index = bundled();
+
+        assertTrue(index.findBlurb("en", "Playa de la Concha", "DONOSTIA / San Sebastián, Gipuzkoa")
+                .orElseThrow().startsWith("San Sebastián"));
+        assertTrue(index.findBlurb("en", "Cala Bona", "Cala Bona, Costa Brava, España")
+                .orElseThrow().startsWith("The Costa Brava"));
+        // "palmas" is not "palma"
+        assertTrue(index.findBlurb("en", "Playa", "Palmas Altas").isEmpty());
+    }
+
+    @Test
+    public void testSurfaceDefaultsByKind() {
+        ContentIndex index = bundled();
+
+        assertEquals("Sand dunes", index.findSurfaceDefaults(ContentIndex.Place.Kind.TOWN, "Dunas de Maspalomas")
+                .orElseThrow().characteristics());
+        assertEquals("Protected bay", index.findSurfaceDefaults(ContentIndex.Place.Kind.TOWN, "Platja d'Aro")
+                .orElseThrow().characteristics());
+        assertTrue(index.findSurfaceDefaults(ContentIndex.Place.Kind.TOWN, "Barcelona").isEmpty(),
+                "Places without surface columns give no defaults");
+        assertEquals("Volcanic sand beaches", index.findSurfaceDefaults(ContentIndex.Place.Kind.REGION,
+                "Fuerteventura, Canarias, España").orElseThrow().characteristics());
+    }
+
+    @Test
+    public void testDirectoryOverridesAndReloads() throws Exception {
+        Path directory = Files.createTempDirectory("content");
+        Path places = directory.resolve(ContentIndex.PLACES_FILE);
+        Files.writeString(places, "sitges|town|sitges|Sand|Natural|Town beach\n");
+        ContentConfig config = new ContentConfig();
+        config.setDirectory(directory.toString());
+        config.setReloadCheckMs(0);
+        ContentIndex index = new ContentIndex(config);
+        index.load();
+
+        assertEquals(1, index.size());
+        assertTrue(index.findBlurb("en", "Sitges").isEmpty(), "Bundled blurbs have no place to attach to");
+
+        Files.writeString(directory.resolve("blurbs_en.txt"), "sitges|Sitges blurb\n");
+        Files.writeString(places, "sitges|town|sitges|Sand|Natural|Town beach\nbenidorm|town|benidorm|||\n");
+        Files.setLastModifiedTime(places, FileTime.fromMillis(System.currentTimeMillis() + 5_000));
+        index.reloadIfChanged();
+
+        assertEquals(2, index.size());
+        assertEquals("Sitges blurb", index.findBlurb("es", "Platja de Sitges").orElseThrow());
+        assertTrue(index.findBlurb("en", "Benidorm").isEmpty(), "Bundled blurbs are replaced by the directory's");
+    }
+}
@@ -0,0 +1,163 @@
+package de.telekom.bot.service;
+
+import de.telekom.bot.cache.CacheSnapshots;
+import de.telekom.bot.cache.SharedCache;
+import de.telekom.bot.cache.TieredCaches;
+import de.telekom.bot.config.AlertsConfig;
+import de.telekom.bot.config.AppFeaturesConfig;
+import de.telekom.bot.config.UpstreamConfig;
+import de.telekom.bot.model.BeachLocation;
+import de.telekom.bot.model.JellyfishInfo;
+import de.telekom.bot.model.Subscription;
+import de.telekom.bot.model.WeatherInfo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.telegram.telegrambots.meta.api.methods.send.SendMessage;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the chunked, checkpointed daily digest
+ */
+public class DigestBroadcastServiceTest {
+
+    private static final String DAY = "2026-07-01";
+
+    private final List<SendMessage> sent = new ArrayList<>();
+    private final AtomicInteger evaluations = new AtomicInteger();
+    private volatile boolean weatherFails;
+
+    private AlertsConfig alertsConfig;
+    private SubscriptionStore store;
+    private UserLanguageService userLanguageService;
+    private DigestBroadcastService digest;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        Path directory = Files.createTempDirectory("digest");
+        alertsConfig = new AlertsConfig();
+        alertsConfig.setStorePath(directory.resolve("subscriptions.json").toString());
+        alertsConfig.getDigest().setCheckpointPath(directory.resolve("digest-checkpoint.json").toString());
+        alertsConfig.getDigest().setChunkSize(2);
+
+        store = new SubscriptionStore(alertsConfig);
+        store.load();
+        userLanguageService = new UserLanguageService();
+        digest = newDigest();
+    }
+
+    private DigestBroadcastService newDigest() {
+        AppFeaturesConfig features = new AppFeaturesConfig();
+        UpstreamLimiters upstreamLimiters = new UpstreamLimiters(new UpstreamConfig());
+        TieredCaches caches = new TieredCaches(SharedCache.NONE, CacheSnapshots.NONE);
+        WeatherService weatherService = new WeatherService(features, new JellyfishService(features, upstreamLimiters, caches),
+                upstreamLimiters, caches) {
+            @Override
+            public WeatherInfo getWeatherInfo(BeachLocation location) {
+                evaluations.incrementAndGet();
+                if (weatherFails) {
+                    throw new IllegalStateException("Open-Meteo unavailable");
+                }
+                return WeatherInfo.builder().airTemperature(27.0).waterTemperature(23.0).build();
+            }
+        };
+        OutboundMessageQueue queue = new OutboundMessageQueue(alertsConfig, null) {
+            @Override
+            public CompletableFuture<Boolean> enqueue(SendMessage message) {
+                sent.add(message);
+                return CompletableFuture.completedFuture(true);
+            }
+        };
+        return new DigestBroadcastService(alertsConfig, store, weatherService, queue, userLanguageService);
+    }
+
+    private void subscribe(long chatId, String beach, double latitude) {
+        store.subscribe(new Subscription(chatId, beach, latitude, -0.12, null, JellyfishInfo.RiskLevel.HIGH, null));
+    }
+
+    @Test
+    public void testEveryChatGetsOneDigestAndBeachesAreEvaluatedOnce() throws Exception {
+        for (long chatId = 1; chatId <= 5; chatId++) {
+            subscribe(chatId, "Benidorm", 38.53);
+        }
+        subscribe(3, "Altea", 38.59);
+        userLanguageService.setUserLanguage(4L, "es");
+
+        digest.runDigest(DAY);
+
+        assertEquals(5, sent.size());
+        assertEquals(2, evaluations.get());
+        assertSame(sent.get(0).getText(), sent.get(1).getText());
+        assertTrue(sent.get(2).getText().contains("Altea"));
+        assertTrue(sent.get(3).getText().contains("Buenos días"));
+    }
+
+    @Test
+    public void testFailedBeachIsEvaluatedOnce() throws Exception {
+        subscribe(1, "Benidorm", 38.53);
+        subscribe(2, "Playa de Levante", 38.53);
+        subscribe(3, "Levante", 38.53);
+        userLanguageService.setUserLanguage(3L, "es");
+        weatherFails = true;
+
+        digest.runDigest(DAY);
+
+        assertEquals(3, sent.size());
+        assertEquals(1, evaluations.get());
+        assertTrue(sent.get(0).getText().contains("No data right now"));
+        assertTrue(sent.get(2).getText().contains("Sin datos por ahora"));
+    }
+
+    @Test
+    public void testRestartResumesAfterCheckpoint() throws Exception {
+        for (long chatId = 1; chatId <= 3; chatId++) {
+            subscribe(chatId, "Benidorm", 38.53);
+        }
+        digest.runDigest(DAY);
+        assertEquals(3, sent.size());
+
+        // Same day: already completed, nothing is sent again
+        newDigest().runDigest(DAY);
+        assertEquals(3, sent.size());
+
+        // Next day starts over
+        newDigest().runDigest("2026-07-02");
+        assertEquals(6, sent.size());
+    }
+
+    @Test
+    public void testInterruptedRunContinuesWithRemainingChats() throws Exception {
+        for (long chatId = 1; chatId <= 5; chatId++) {
+            subscribe(chatId, "Benidorm", 38.53);
+        }
+        Files.writeString(Path.of(alertsConfig.getDigest().getCheckpointPath()),
+                "{\"day\":\"" + DAY + "\",\"lastChatId\":2,\"delivered\":2,\"completed\":false}");
+
+        digest.runDigest(DAY);
+
+        assertEquals(List.of("3", "4", "5"), sent.stream().map(SendMessage::getChatId).toList());
+    }
+
+    @Test
+    public void testDisabledDigestIsNotResumed() throws Exception {
+        subscribe(1, "Benidorm", 38.53);
+        String today = LocalDate.now(ZoneId.of("Europe/Madrid")).toString();
+        Files.writeString(Path.of(alertsConfig.getDigest().getCheckpointPath()),
+                "{\"day\":\"" + today + "\",\"lastChatId\":0,\"delivered\":0,\"completed\":false}");
+        alertsConfig.getDigest().setEnabled(false);
+
+        digest.resumeInterruptedDigest();
+        Thread.sleep(300);
+
+        assertTrue(sent.isEmpty());
+    }
+}
@@ -0,0 +1,104 @@
+package de.telekom.bot.service;
+
+import de.telekom.bot.config.ForecastConfig;
+import de.telekom.bot.model.HourlyForecast;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the hourly forecast store and Open-Meteo hourly parsing
+ */
+public class ForecastStoreTest {
+
+    private static final long MIDNIGHT = 1_782_864_000L; // 2026-07-01T00:00Z
+
+    private ForecastConfig config;
+    private ForecastStore store;
+
+    @BeforeEach
+    public void setUp() {
+        config = new ForecastConfig();
+        store = new ForecastStore(config);
+    }
+
+    private static HourlyForecast forecast(HourlyForecast.TimeAxis axis, long run, float air) {
+        float[] values = new float[axis.hours()];
+        Arrays.fill(values, air);
+        return new HourlyForecast(axis, run, new float[][]{values, null, null, null});
+    }
+
+    @Test
+    public void testBeachesInOneCellShareTheSeries() {
+        long levante = store.cellKey(38.5368, -0.1233);
+        long poniente = store.cellKey(38.5350, -0.1450);
+        long alicante = store.cellKey(38.3470, -0.4770);
+
+        assertEquals(levante, poniente);
+        assertNotEquals(levante, alicante);
+    }
+
+    @Test
+    public void testAxesAreShared() {
+        HourlyForecast.TimeAxis first = store.axis(MIDNIGHT, 48);
+        HourlyForecast.TimeAxis second = store.axis(MIDNIGHT, 48);
+
+        assertSame(first, second);
+        assertEquals(2, first.indexOf(MIDNIGHT + 2 * 3600 + 59));
+        assertEquals(-1, first.indexOf(MIDNIGHT - 1));
+        assertEquals(-1, first.indexOf(first.epochSecond(48)));
+    }
+
+    @Test
+    public void testSeriesExpireWithTheNextRun() {
+        long cell = store.cellKey(38.5, -0.1);
+        store.put(cell, forecast(store.axis(MIDNIGHT, 48), 100, 27f));
+
+        assertEquals(27f, store.get(cell, 100).get(HourlyForecast.Variable.AIR_TEMPERATURE, 5));
+        assertNull(store.get(cell, 101));
+        assertEquals(store.runAt(0), store.runAt(config.getRunIntervalHours() * 3_600_000L - 1));
+    }
+
+    @Test
+    public void testOlderRunsAreEvictedFirst() {
+        config.setMaxCells(2);
+        HourlyForecast.TimeAxis axis = store.axis(MIDNIGHT, 24);
+        store.put(1, forecast(axis, 100, 20f));
+        store.put(2, forecast(axis, 101, 21f));
+        store.put(3, forecast(axis, 101, 22f));
+
+        assertEquals(2, store.size());
+        assertNull(store.get(1, 100));
+        assertNotNull(store.get(2, 101));
+        assertNotNull(store.get(3, 101));
+    }
+
+    @Test
+    public void testReadHourlyColumns() throws Exception {
+        String json = """
+                {"latitude":38.5,"hourly_units":{"time":"unixtime"},
+                 "hourly":{"time":[1782864000,1782867600,1782871200],
+                           "sea_surface_temperature":[23.1,null,23.4],
+                           "wave_height":[0.4,0.5,0.6]}}
+                """;
+        ForecastService.HourlyColumns columns =
+                ForecastService.readHourly(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals(MIDNIGHT, columns.startEpochSecond());
+        assertEquals(3, columns.hours());
+        assertEquals(23.4f, columns.columns().get("sea_surface_temperature")[2]);
+        assertTrue(Float.isNaN(columns.columns().get("sea_surface_temperature")[1]));
+
+        // Marine series starting an hour later is shifted onto the weather axis
+        HourlyForecast.TimeAxis axis = store.axis(MIDNIGHT - 3600, 4);
+        float[] aligned = ForecastService.align(columns, "wave_height", axis);
+        assertTrue(Float.isNaN(aligned[0]));
+        assertEquals(0.4f, aligned[1]);
+        assertEquals(0.6f, aligned[3]);
+    }
+}
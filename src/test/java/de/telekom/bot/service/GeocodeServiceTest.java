@@ -1,9 +1,16 @@
 package de.telekom.bot.service;
 
+import de.telekom.bot.cache.CacheSnapshots;
+import de.telekom.bot.cache.ClusterRateBudget;
+import de.telekom.bot.cache.SharedCache;
+import de.telekom.bot.cache.TieredCaches;
+import de.telekom.bot.config.UpstreamConfig;
 import de.telekom.bot.model.BeachLocation;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 
+import java.time.Duration;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 @SpringBootTest
@@ -15,7 +22,9 @@ public class GeocodeServiceTest {
             new de.telekom.bot.config.ApiConfigurationProperties();
         de.telekom.bot.config.AppFeaturesConfig appFeaturesConfig = 
             new de.telekom.bot.config.AppFeaturesConfig();
-        GeocodeService geocodeService = new GeocodeService(config, appFeaturesConfig);
+        GeocodeService geocodeService = new GeocodeService(config, appFeaturesConfig, new UpstreamLimiters(new UpstreamConfig()),
+                new ClusterRateBudget("nominatim", 1.0, SharedCache.NONE, Duration.ofSeconds(10), 1),
+                new TieredCaches(SharedCache.NONE, CacheSnapshots.NONE));
         assertNotNull(geocodeService);
     }
     
@@ -27,7 +36,9 @@ public class GeocodeServiceTest {
         de.telekom.bot.config.AppFeaturesConfig appFeaturesConfig = 
             new de.telekom.bot.config.AppFeaturesConfig();
         
-        GeocodeService geocodeService = new GeocodeService(config, appFeaturesConfig);
+        GeocodeService geocodeService = new GeocodeService(config, appFeaturesConfig, new UpstreamLimiters(new UpstreamConfig()),
+                new ClusterRateBudget("nominatim", 1.0, SharedCache.NONE, Duration.ofSeconds(10), 1),
+                new TieredCaches(SharedCache.NONE, CacheSnapshots.NONE));
         
         // Test with a well-known beach - Benidorm
         BeachLocation location = geocodeService.findBeachCoordinates("Benidorm");
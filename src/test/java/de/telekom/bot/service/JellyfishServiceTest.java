@@ -1,6 +1,10 @@
 package de.telekom.bot.service;
 
+import de.telekom.bot.cache.CacheSnapshots;
+import de.telekom.bot.cache.SharedCache;
+import de.telekom.bot.cache.TieredCaches;
 import de.telekom.bot.config.AppFeaturesConfig;
+import de.telekom.bot.config.UpstreamConfig;
 import de.telekom.bot.model.BeachLocation;
 import de.telekom.bot.model.JellyfishInfo;
 import org.junit.jupiter.api.BeforeEach;
@@ -34,17 +38,19 @@ public class JellyfishServiceTest {
         when(appFeaturesConfig.getFeatures()).thenReturn(features);
         when(features.isWeather()).thenReturn(true);
         
-        jellyfishService = new JellyfishService(appFeaturesConfig);
+        jellyfishService = new JellyfishService(appFeaturesConfig, new UpstreamLimiters(new UpstreamConfig()),
+                new TieredCaches(SharedCache.NONE, CacheSnapshots.NONE));
     }
     
     @Test
     void testJellyfishService_ValidBeachLocation() {
         // Test with Benidorm beach coordinates
-        BeachLocation benidorm = new BeachLocation();
-        benidorm.setName("Playa de Levante, Benidorm");
-        benidorm.setLatitude(38.5384);
-        benidorm.setLongitude(-0.1293);
-        benidorm.setFound(true);
+        BeachLocation benidorm = BeachLocation.builder()
+                .name("Playa de Levante, Benidorm")
+                .latitude(38.5384)
+                .longitude(-0.1293)
+                .found(true)
+                .build();
         // Beach is determined by isBeach() method based on name
         
         logger.info("Testing jellyfish service with Benidorm coordinates");
@@ -65,9 +71,10 @@ public class JellyfishServiceTest {
     
     @Test 
     void testJellyfishService_InvalidLocation() {
-        BeachLocation invalidLocation = new BeachLocation();
-        invalidLocation.setName("Invalid Location");
-        invalidLocation.setFound(false);
+        BeachLocation invalidLocation = BeachLocation.builder()
+                .name("Invalid Location")
+                .found(false)
+                .build();
         
         logger.info("Testing jellyfish service with invalid location");
         
@@ -111,11 +118,12 @@ public class JellyfishServiceTest {
         };
         
         for (String[] location : testLocations) {
-            BeachLocation beachLocation = new BeachLocation();
-            beachLocation.setName(location[0]);
-            beachLocation.setLatitude(Double.parseDouble(location[1]));
-            beachLocation.setLongitude(Double.parseDouble(location[2]));
-            beachLocation.setFound(true);
+            BeachLocation beachLocation = BeachLocation.builder()
+                    .name(location[0])
+                    .latitude(Double.parseDouble(location[1]))
+                    .longitude(Double.parseDouble(location[2]))
+                    .found(true)
+                    .build();
             // Beach status determined by isBeach() method
             
             logger.info("Testing jellyfish service for {}", location[0]);
@@ -1,8 +1,15 @@
 package de.telekom.bot.service;
 
+import de.telekom.bot.cache.CacheSnapshots;
+import de.telekom.bot.cache.ClusterRateBudget;
+import de.telekom.bot.cache.SharedCache;
+import de.telekom.bot.cache.TieredCaches;
 import de.telekom.bot.config.ApiConfigurationProperties;
+import de.telekom.bot.config.UpstreamConfig;
 import de.telekom.bot.model.BeachLocation;
 
+import java.time.Duration;
+
 /**
  * Simple test runner to verify Nominatim API integration works correctly
  */
@@ -13,7 +20,10 @@ public class NominatimTestRunner {
         ApiConfigurationProperties config = new ApiConfigurationProperties();
         
         // Create service
-        GeocodeService geocodeService = new GeocodeService(config, new de.telekom.bot.config.AppFeaturesConfig());
+        GeocodeService geocodeService = new GeocodeService(config, new de.telekom.bot.config.AppFeaturesConfig(),
+                new UpstreamLimiters(new UpstreamConfig()),
+                new ClusterRateBudget("nominatim", 1.0, SharedCache.NONE, Duration.ofSeconds(10), 1),
+                new TieredCaches(SharedCache.NONE, CacheSnapshots.NONE));
         
         // Test beaches
         String[] testBeaches = {"Benidorm", "Playa de la Concha", "Marbella", "Barcelona", "Costa Brava"};
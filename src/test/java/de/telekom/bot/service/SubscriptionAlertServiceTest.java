@@ -0,0 +1,56 @@
+package de.telekom.bot.service;
+
+import de.telekom.bot.model.JellyfishInfo;
+import de.telekom.bot.model.Subscription;
+import de.telekom.bot.model.WeatherInfo;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for subscription threshold evaluation
+ */
+public class SubscriptionAlertServiceTest {
+
+    private static final String DAY = "2026-07-01";
+
+    private static WeatherInfo weather(double waterTemperature, JellyfishInfo.RiskLevel risk) {
+        return WeatherInfo.builder()
+                .waterTemperature(waterTemperature)
+                .jellyfishInfo(JellyfishInfo.builder().riskLevel(risk).build())
+                .build();
+    }
+
+    @Test
+    public void testNothingTriggered() {
+        Subscription subscription = new Subscription(1, "Benidorm", 38.5, -0.1, 24.0, JellyfishInfo.RiskLevel.HIGH, null);
+
+        assertNull(SubscriptionAlertService.alertKey(subscription, weather(21.0, JellyfishInfo.RiskLevel.LOW), DAY));
+    }
+
+    @Test
+    public void testJellyfishThresholdIsInclusive() {
+        Subscription subscription = new Subscription(1, "Benidorm", 38.5, -0.1, null, JellyfishInfo.RiskLevel.MODERATE, null);
+
+        assertEquals(DAY + "|jellyfish:MODERATE",
+                SubscriptionAlertService.alertKey(subscription, weather(21.0, JellyfishInfo.RiskLevel.MODERATE), DAY));
+        assertEquals(DAY + "|jellyfish:VERY_HIGH",
+                SubscriptionAlertService.alertKey(subscription, weather(21.0, JellyfishInfo.RiskLevel.VERY_HIGH), DAY));
+    }
+
+    @Test
+    public void testWaterAndJellyfish() {
+        Subscription subscription = new Subscription(1, "Benidorm", 38.5, -0.1, 22.0, JellyfishInfo.RiskLevel.HIGH, null);
+
+        assertEquals(DAY + "|jellyfish:HIGH|water",
+                SubscriptionAlertService.alertKey(subscription, weather(23.5, JellyfishInfo.RiskLevel.HIGH), DAY));
+    }
+
+    @Test
+    public void testBeachesShareEvaluationByLocation() {
+        Subscription first = new Subscription(1, "Benidorm", 38.5368, -0.1233, null, null, null);
+        Subscription second = new Subscription(2, "Playa de Levante", 38.5371, -0.1229, null, null, null);
+
+        assertEquals(first.locationKey(), second.locationKey());
+    }
+}
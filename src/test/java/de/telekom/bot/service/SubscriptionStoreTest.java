@@ -0,0 +1,108 @@
+package de.telekom.bot.service;
+
+import de.telekom.bot.config.AlertsConfig;
+import de.telekom.bot.model.JellyfishInfo;
+import de.telekom.bot.model.Subscription;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the file-backed subscription store
+ */
+public class SubscriptionStoreTest {
+
+    private AlertsConfig alertsConfig;
+    private SubscriptionStore store;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        Path directory = Files.createTempDirectory("subscriptions");
+        alertsConfig = new AlertsConfig();
+        alertsConfig.setStorePath(directory.resolve("subscriptions.json").toString());
+        alertsConfig.setMaxSubscriptionsPerChat(2);
+
+        store = new SubscriptionStore(alertsConfig);
+        store.load();
+    }
+
+    private static Subscription subscription(long chatId, String beach) {
+        return new Subscription(chatId, beach, 38.5368, -0.1233, 22.0, JellyfishInfo.RiskLevel.HIGH, null);
+    }
+
+    @Test
+    public void testSubscriptionsSurviveRestart() {
+        store.subscribe(subscription(1, "Benidorm"));
+        store.subscribe(subscription(2, "Cadaqués"));
+        store.flush();
+
+        SubscriptionStore reloaded = new SubscriptionStore(alertsConfig);
+        reloaded.load();
+
+        assertEquals(2, reloaded.findAll().size());
+        Subscription restored = reloaded.findByChat(2).get(0);
+        assertEquals("Cadaqués", restored.beach());
+        assertEquals(22.0, restored.minWaterTemperature());
+        assertEquals(JellyfishInfo.RiskLevel.HIGH, restored.jellyfishRisk());
+    }
+
+    @Test
+    public void testResubscribeReplacesAndLimitApplies() {
+        assertTrue(store.subscribe(subscription(1, "Benidorm")));
+        assertTrue(store.subscribe(subscription(1, "BENIDORM")));
+        assertTrue(store.subscribe(subscription(1, "Valencia")));
+        assertFalse(store.subscribe(subscription(1, "Alicante")));
+
+        assertEquals(2, store.findByChat(1).size());
+    }
+
+    @Test
+    public void testUnsubscribeIgnoresCaseAndAccents() {
+        store.subscribe(subscription(1, "Cadaqués"));
+
+        assertNotNull(store.unsubscribe(1, "cadaques"));
+        assertNull(store.unsubscribe(1, "cadaques"));
+        assertTrue(store.findByChat(1).isEmpty());
+    }
+
+    @Test
+    public void testUnsubscribeAll() {
+        store.subscribe(subscription(1, "Benidorm"));
+        store.subscribe(subscription(1, "Valencia"));
+        store.subscribe(subscription(2, "Benidorm"));
+
+        assertEquals(2, store.unsubscribeAll(1));
+        assertEquals(List.of(), store.findByChat(1));
+        assertEquals(1, store.findAll().size());
+    }
+
+    @Test
+    public void testRecordAlert() {
+        Subscription subscription = subscription(1, "Benidorm");
+        store.subscribe(subscription);
+
+        store.recordAlert(subscription, "2026-07-01|water");
+
+        assertEquals("2026-07-01|water", store.findByChat(1).get(0).lastAlert());
+    }
+
+    @Test
+    public void testChangesAreWrittenOnFlush() {
+        Path file = Path.of(alertsConfig.getStorePath());
+        Subscription subscription = subscription(1, "Benidorm");
+        store.subscribe(subscription);
+        store.recordAlert(subscription, "2026-07-01|water");
+        assertFalse(Files.exists(file), "Nothing is written before the flush");
+
+        store.flush();
+
+        SubscriptionStore reloaded = new SubscriptionStore(alertsConfig);
+        reloaded.load();
+        assertEquals("2026-07-01|water", reloaded.findByChat(1).get(0).lastAlert());
+    }
+}
@@ -0,0 +1,94 @@
+package de.telekom.bot.service;
+
+import de.telekom.bot.config.UpstreamConfig;
+import org.junit.jupiter.api.Test;
+
+import javax.net.ssl.SSLSession;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for running HTTP calls under the per-upstream limits
+ */
+public class UpstreamLimitersTest {
+
+    private static HttpResponse<InputStream> response(int statusCode, String body) {
+        return new HttpResponse<>() {
+            @Override
+            public int statusCode() {
+                return statusCode;
+            }
+
+            @Override
+            public HttpRequest request() {
+                return HttpRequest.newBuilder(uri()).build();
+            }
+
+            @Override
+            public Optional<HttpResponse<InputStream>> previousResponse() {
+                return Optional.empty();
+            }
+
+            @Override
+            public HttpHeaders headers() {
+                return HttpHeaders.of(Map.of(), (name, value) -> true);
+            }
+
+            @Override
+            public InputStream body() {
+                return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+            }
+
+            @Override
+            public Optional<SSLSession> sslSession() {
+                return Optional.empty();
+            }
+
+            @Override
+            public URI uri() {
+                return URI.create("http://localhost/");
+            }
+
+            @Override
+            public HttpClient.Version version() {
+                return HttpClient.Version.HTTP_1_1;
+            }
+        };
+    }
+
+    @Test
+    public void testSlotIsHeldWhileTheBodyIsRead() throws Exception {
+        UpstreamLimiters limiters = new UpstreamLimiters(new UpstreamConfig());
+
+        String body = limiters.callHttp(UpstreamLimiters.OPEN_METEO, () -> response(200, "{}"), response -> {
+            assertEquals(1, limiters.get(UpstreamLimiters.OPEN_METEO).getInFlight());
+            return new String(response.body().readAllBytes(), StandardCharsets.UTF_8);
+        });
+
+        assertEquals("{}", body);
+        assertEquals(0, limiters.get(UpstreamLimiters.OPEN_METEO).getInFlight());
+        assertEquals(4, limiters.get(UpstreamLimiters.OPEN_METEO).getLimit());
+    }
+
+    @Test
+    public void testOverloadAnswerShrinksTheLimit() throws Exception {
+        UpstreamLimiters limiters = new UpstreamLimiters(new UpstreamConfig());
+
+        Integer status = limiters.callHttp(UpstreamLimiters.NOMINATIM, () -> response(429, ""),
+                HttpResponse::statusCode);
+
+        assertEquals(429, status);
+        assertEquals(2, limiters.get(UpstreamLimiters.NOMINATIM).getLimit());
+        assertEquals(0, limiters.get(UpstreamLimiters.NOMINATIM).getInFlight());
+    }
+}
@@ -1,6 +1,10 @@
 package de.telekom.bot.service;
 
+import de.telekom.bot.cache.CacheSnapshots;
+import de.telekom.bot.cache.SharedCache;
+import de.telekom.bot.cache.TieredCaches;
 import de.telekom.bot.config.AppFeaturesConfig;
+import de.telekom.bot.config.UpstreamConfig;
 import de.telekom.bot.model.BeachLocation;
 import de.telekom.bot.model.WeatherInfo;
 
@@ -13,8 +17,10 @@ public class WaterTemperatureTest {
         System.out.println("=== Water Temperature Test ===");
         
         AppFeaturesConfig appFeaturesConfig = new AppFeaturesConfig();
-        JellyfishService jellyfishService = new JellyfishService(appFeaturesConfig);
-        WeatherService weatherService = new WeatherService(appFeaturesConfig, jellyfishService);
+        UpstreamLimiters upstreamLimiters = new UpstreamLimiters(new UpstreamConfig());
+        TieredCaches caches = new TieredCaches(SharedCache.NONE, CacheSnapshots.NONE);
+        JellyfishService jellyfishService = new JellyfishService(appFeaturesConfig, upstreamLimiters, caches);
+        WeatherService weatherService = new WeatherService(appFeaturesConfig, jellyfishService, upstreamLimiters, caches);
         
         // Test with Benidorm (Spain - Mediterranean)
         testLocation(weatherService, "Benidorm, Spain", 38.535517, -0.128690);
@@ -39,11 +45,12 @@ public class WaterTemperatureTest {
         System.out.println("Coordinates: " + latitude + ", " + longitude);
         System.out.println("=".repeat(50));
         
-        BeachLocation location = new BeachLocation();
-        location.setName(locationName);
-        location.setLatitude(latitude);
-        location.setLongitude(longitude);
-        location.setFound(true);
+        BeachLocation location = BeachLocation.builder()
+                .name(locationName)
+                .latitude(latitude)
+                .longitude(longitude)
+                .found(true)
+                .build();
         
         WeatherInfo weatherInfo = weatherService.getWeatherInfo(location);
         
@@ -1,6 +1,10 @@
 package de.telekom.bot.service;
 
+import de.telekom.bot.cache.CacheSnapshots;
+import de.telekom.bot.cache.SharedCache;
+import de.telekom.bot.cache.TieredCaches;
 import de.telekom.bot.config.AppFeaturesConfig;
+import de.telekom.bot.config.UpstreamConfig;
 import de.telekom.bot.model.BeachLocation;
 import de.telekom.bot.model.WeatherInfo;
 import org.junit.jupiter.api.Test;
@@ -24,7 +28,8 @@ public class WeatherServiceTest {
     public void setUp() {
         MockitoAnnotations.openMocks(this);
         AppFeaturesConfig appFeaturesConfig = new AppFeaturesConfig();
-        weatherService = new WeatherService(appFeaturesConfig, jellyfishService);
+        weatherService = new WeatherService(appFeaturesConfig, jellyfishService, new UpstreamLimiters(new UpstreamConfig()),
+                new TieredCaches(SharedCache.NONE, CacheSnapshots.NONE));
     }
     
     @Test
@@ -32,12 +37,13 @@ public class WeatherServiceTest {
         System.out.println("=== Testing Mock Weather Data ===");
         
         // Create a mock Benidorm location
-        BeachLocation benidorm = new BeachLocation();
-        benidorm.setName("Benidorm Beach");
-        benidorm.setDisplayName("Benidorm Beach, Costa Blanca, Spain");
-        benidorm.setLatitude(38.535517);
-        benidorm.setLongitude(-0.128690);
-        benidorm.setFound(true);
+        BeachLocation benidorm = BeachLocation.builder()
+                .name("Benidorm Beach")
+                .displayName("Benidorm Beach, Costa Blanca, Spain")
+                .latitude(38.535517)
+                .longitude(-0.128690)
+                .found(true)
+                .build();
         
         // Get mock weather data
         WeatherInfo weather = weatherService.getMockWeatherInfo(benidorm);
@@ -60,12 +66,13 @@ public class WeatherServiceTest {
         System.out.println("\n=== Testing Mock Weather Data for Valencia ===");
         
         // Create a mock Valencia location
-        BeachLocation valencia = new BeachLocation();
-        valencia.setName("Valencia Beach");
-        valencia.setDisplayName("Valencia Beach, Costa del Azahar, Spain");
-        valencia.setLatitude(39.4699);
-        valencia.setLongitude(-0.3763);
-        valencia.setFound(true);
+        BeachLocation valencia = BeachLocation.builder()
+                .name("Valencia Beach")
+                .displayName("Valencia Beach, Costa del Azahar, Spain")
+                .latitude(39.4699)
+                .longitude(-0.3763)
+                .found(true)
+                .build();
         
         // Get mock weather data
         WeatherInfo weather = weatherService.getMockWeatherInfo(valencia);
@@ -0,0 +1,156 @@
+package de.telekom.bot.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the adaptive per-upstream concurrency limit
+ */
+public class AdaptiveConcurrencyLimiterTest {
+
+    /**
+     * Run the limiter at its current limit with calls taking the given time
+     */
+    private static void fullRound(AdaptiveConcurrencyLimiter limiter, long callMillis) throws InterruptedException {
+        List<AdaptiveConcurrencyLimiter.Permit> permits = new ArrayList<>();
+        int limit = limiter.getLimit();
+        for (int i = 0; i < limit; i++) {
+            permits.add(limiter.acquire(Duration.ZERO));
+        }
+        Thread.sleep(callMillis);
+        permits.forEach(AdaptiveConcurrencyLimiter.Permit::success);
+    }
+
+    @Test
+    public void testShedsCallsBeyondTheLimit() throws InterruptedException {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test", 1, 1, 5);
+
+        AdaptiveConcurrencyLimiter.Permit permit = limiter.acquire(Duration.ZERO);
+        assertNotNull(permit);
+        assertNull(limiter.acquire(Duration.ofMillis(20)));
+        assertEquals(1, limiter.getShedCount());
+
+        permit.success();
+        assertEquals(0, limiter.getInFlight());
+        assertNotNull(limiter.acquire(Duration.ZERO));
+    }
+
+    @Test
+    public void testQueuedCallGetsReleasedSlot() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test", 1, 1, 5);
+        AdaptiveConcurrencyLimiter.Permit permit = limiter.acquire(Duration.ZERO);
+
+        Thread releaser = new Thread(() -> {
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException ignored) {
+            }
+            permit.ignore();
+        });
+        releaser.start();
+
+        assertNotNull(limiter.acquire(Duration.ofSeconds(5)), "The waiting call should take the freed slot");
+        releaser.join();
+    }
+
+    @Test
+    public void testDropsBackOffMultiplicatively() throws InterruptedException {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test", 8, 1, 20);
+
+        limiter.acquire(Duration.ZERO).dropped();
+        assertEquals(4, limiter.getLimit());
+
+        for (int i = 0; i < 5; i++) {
+            limiter.acquire(Duration.ZERO).dropped();
+        }
+        assertEquals(1, limiter.getLimit(), "The limit never falls below the minimum");
+    }
+
+    @Test
+    public void testOutcomeCountsOnlyOnce() throws InterruptedException {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test", 8, 1, 20);
+
+        AdaptiveConcurrencyLimiter.Permit permit = limiter.acquire(Duration.ZERO);
+        permit.dropped();
+        permit.dropped();
+        permit.ignore();
+
+        assertEquals(4, limiter.getLimit());
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test
+    public void testGrowsWhileLatencyIsSteady() throws InterruptedException {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test", 2, 1, 10);
+
+        for (int i = 0; i < 20; i++) {
+            fullRound(limiter, 5);
+        }
+
+        assertTrue(limiter.getLimit() > 2, "Limit should grow, was " + limiter.getLimit());
+        assertTrue(limiter.getLimit() <= 10);
+    }
+
+    @Test
+    public void testShrinksWhenUpstreamSlowsDown() throws InterruptedException {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test", 4, 1, 20);
+        for (int i = 0; i < 20; i++) {
+            fullRound(limiter, 5);
+        }
+        int healthyLimit = limiter.getLimit();
+
+        for (int i = 0; i < 5; i++) {
+            fullRound(limiter, 60);
+        }
+
+        assertTrue(limiter.getLimit() < healthyLimit,
+                "Limit should shrink from " + healthyLimit + ", was " + limiter.getLimit());
+    }
+
+    @Test
+    public void testIdleLimiterDoesNotGrow() throws InterruptedException {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test", 8, 1, 20);
+
+        for (int i = 0; i < 20; i++) {
+            limiter.acquire(Duration.ZERO).success();
+        }
+
+        assertEquals(8, limiter.getLimit());
+    }
+
+    @Test
+    public void testCallTreatsIoFailuresAsDrops() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test", 8, 1, 20);
+
+        assertThrows(HttpTimeoutException.class, () -> limiter.call(Duration.ZERO, () -> {
+            throw new HttpTimeoutException("timed out");
+        }));
+        assertEquals(4, limiter.getLimit());
+
+        assertThrows(IllegalStateException.class, () -> limiter.call(Duration.ZERO, () -> {
+            throw new IllegalStateException("bug");
+        }));
+        assertEquals(4, limiter.getLimit(), "Failures unrelated to the upstream do not count");
+
+        AdaptiveConcurrencyLimiter.Call<String, IOException> ok = () -> "ok";
+        assertEquals("ok", limiter.call(Duration.ZERO, ok));
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test
+    public void testCallTreatsOverloadAnswersAsDrops() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test", 8, 1, 20);
+        AdaptiveConcurrencyLimiter.Call<Integer, IOException> tooManyRequests = () -> 429;
+
+        assertEquals(429, limiter.call(Duration.ZERO, tooManyRequests, status -> status == 429));
+        assertEquals(4, limiter.getLimit());
+        assertEquals(0, limiter.getInFlight());
+    }
+}
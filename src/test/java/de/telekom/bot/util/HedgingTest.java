@@ -0,0 +1,103 @@
+package de.telekom.bot.util;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for hedged provider calls and latency tracking
+ */
+public class HedgingTest {
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    @AfterEach
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private static LatencyTracker trackerWithP90(long millis) {
+        LatencyTracker tracker = new LatencyTracker(20, 5000);
+        for (int i = 0; i < 10; i++) {
+            tracker.record(millis);
+        }
+        return tracker;
+    }
+
+    private static Hedging.Attempt<Double> attempt(String name, long delayMs, Double value, LatencyTracker latency) {
+        return new Hedging.Attempt<>(name, () -> {
+            Thread.sleep(delayMs);
+            return value;
+        }, latency);
+    }
+
+    @Test
+    public void testSlowPrimaryIsHedged() throws Exception {
+        LatencyTracker primaryLatency = trackerWithP90(100);
+        long start = System.currentTimeMillis();
+
+        Hedging.Result<Double> result = Hedging.firstValid(List.of(
+                attempt("primary", 3000, 21.0, primaryLatency),
+                attempt("secondary", 50, 22.0, trackerWithP90(100))), executor, Duration.ofSeconds(5));
+
+        long elapsed = System.currentTimeMillis() - start;
+        assertEquals(22.0, result.value());
+        assertEquals("secondary", result.provider());
+        assertEquals(2, result.started());
+        assertTrue(elapsed < 1000, "took " + elapsed + "ms");
+    }
+
+    @Test
+    public void testFastPrimaryIsNotHedged() throws Exception {
+        Hedging.Result<Double> result = Hedging.firstValid(List.of(
+                attempt("primary", 10, 21.0, trackerWithP90(500)),
+                attempt("secondary", 10, 22.0, trackerWithP90(500))), executor, Duration.ofSeconds(5));
+
+        assertEquals("primary", result.provider());
+        assertEquals(1, result.started());
+    }
+
+    @Test
+    public void testEmptyAnswerHandsOverImmediately() throws Exception {
+        long start = System.currentTimeMillis();
+        Hedging.Result<Double> result = Hedging.firstValid(List.of(
+                attempt("primary", 0, null, trackerWithP90(5000)),
+                new Hedging.Attempt<Double>("broken", () -> {
+                    throw new IllegalStateException("down");
+                }, trackerWithP90(5000)),
+                attempt("last", 0, 19.5, trackerWithP90(5000))), executor, Duration.ofSeconds(5));
+
+        assertEquals(19.5, result.value());
+        assertTrue(System.currentTimeMillis() - start < 1000);
+    }
+
+    @Test
+    public void testNoAnswer() throws Exception {
+        Hedging.Result<Double> result = Hedging.firstValid(List.of(
+                attempt("primary", 0, null, trackerWithP90(100)),
+                attempt("secondary", 0, null, trackerWithP90(100))), executor, Duration.ofSeconds(5));
+
+        assertNull(result.value());
+        assertEquals(2, result.started());
+    }
+
+    @Test
+    public void testLatencyPercentile() {
+        LatencyTracker tracker = new LatencyTracker(10, 1234);
+        assertEquals(1234, tracker.percentile(0.9));
+
+        for (long millis = 1; millis <= 20; millis++) {
+            tracker.record(millis * 10);
+        }
+        // Only the last 10 calls (110..200ms) are kept
+        assertEquals(10, tracker.sampleCount());
+        assertEquals(190, tracker.percentile(0.9));
+        assertEquals(110, tracker.percentile(0));
+    }
+}
@@ -0,0 +1,69 @@
+package de.telekom.bot.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for the multi-keyword matcher
+ */
+public class KeywordMatcherTest {
+
+    private final KeywordMatcher<String> regions = KeywordMatcher.<String>builder()
+            .add("costa del sol", "costa del sol", "malaga", "málaga")
+            .add("costa blanca", "costa blanca", "alicante", "benidorm")
+            .add("islands", "balear", "mallorca", "canarias")
+            .build();
+
+    @Test
+    public void testMatchesIgnoringCase() {
+        assertTrue(regions.matches("Playa de Levante, BENIDORM, Alicante"));
+        assertTrue(regions.matches("Málaga"));
+        assertTrue(regions.matches("MÁLAGA"));
+        assertFalse(regions.matches("Barcelona, Catalunya"));
+        assertFalse(regions.matches((String) null));
+    }
+
+    @Test
+    public void testReportsEveryCategoryInPriorityOrder() {
+        long mask = regions.scan("Ferry from Alicante to Palma de Mallorca via Costa del Sol");
+
+        assertEquals(List.of("costa del sol", "costa blanca", "islands"), regions.categories(mask));
+        assertTrue(regions.contains(mask, "islands"));
+        assertEquals("costa del sol", regions.first(mask));
+    }
+
+    @Test
+    public void testFirstAcrossSeveralTexts() {
+        assertEquals(Optional.of("costa blanca"), regions.first("Playa de Poniente", null, "Benidorm, Spain"));
+        assertEquals(Optional.empty(), regions.first("Playa de la Concha", "Donostia"));
+    }
+
+    @Test
+    public void testOverlappingKeywords() {
+        // Suffix of one keyword is the prefix of another: "she" and "hers" in "ushers"
+        KeywordMatcher<Integer> matcher = KeywordMatcher.<Integer>builder()
+                .add(0, "he")
+                .add(1, "she")
+                .add(2, "his")
+                .add(3, "hers")
+                .build();
+
+        assertEquals(List.of(0, 1, 3), matcher.categories(matcher.scan("ushers")));
+        assertEquals(List.of(2), matcher.categories(matcher.scan("this")));
+    }
+
+    @Test
+    public void testCategoryWithoutKeywordsKeepsOrder() {
+        KeywordMatcher<String> matcher = KeywordMatcher.<String>builder()
+                .add("first")
+                .add("second", "cala")
+                .build();
+
+        assertEquals("second", matcher.first(matcher.scan("Cala Moraig")));
+        assertEquals(0L, matcher.scan("Playa"));
+    }
+}
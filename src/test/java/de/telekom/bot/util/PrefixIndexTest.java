@@ -0,0 +1,57 @@
+package de.telekom.bot.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for accent folding and the autocomplete prefix index
+ */
+public class PrefixIndexTest {
+
+    private final PrefixIndex<String> index = PrefixIndex.build(List.of(
+            "Playa de la Malagueta (Málaga)",
+            "Playa de la Concha (San Sebastián)",
+            "Cala Macarella",
+            "Cala Comte",
+            "Platja Es Llané (Cadaqués)",
+            "Málaga Centro"), name -> name);
+
+    @Test
+    public void testFold() {
+        assertEquals("cadaques", AccentFolding.fold("CADAQUÉS"));
+        assertEquals("playa de la malagueta malaga", AccentFolding.fold("  Playa de la Malagueta (Málaga) "));
+        assertEquals("", AccentFolding.fold(null));
+    }
+
+    @Test
+    public void testWholeNameMatchesRankFirst() {
+        assertEquals(List.of("Málaga Centro", "Playa de la Malagueta (Málaga)"), index.search("mala", 10));
+    }
+
+    @Test
+    public void testAccentAndCaseInsensitive() {
+        assertEquals(List.of("Platja Es Llané (Cadaqués)"), index.search("CADAQUES", 10));
+        assertEquals(List.of("Playa de la Concha (San Sebastián)"), index.search("san sebastián", 10));
+    }
+
+    @Test
+    public void testMultiWordPrefix() {
+        assertEquals(List.of("Cala Comte"), index.search("cala co", 10));
+    }
+
+    @Test
+    public void testLimitAndDistinctItems() {
+        // "la concha" and "la malagueta" both start with "la", each item is reported once
+        assertEquals(2, index.search("la", 10).size());
+        assertEquals(1, index.search("cala", 1).size());
+    }
+
+    @Test
+    public void testNoMatch() {
+        assertTrue(index.search("zzz", 10).isEmpty());
+        assertTrue(index.search("  ", 10).isEmpty());
+    }
+}
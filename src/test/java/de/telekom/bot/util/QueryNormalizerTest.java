@@ -0,0 +1,37 @@
+package de.telekom.bot.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the shared query normalisation
+ */
+public class QueryNormalizerTest {
+
+    @Test
+    public void testSpellingsShareOneCanonicalForm() {
+        assertEquals("malaga", QueryNormalizer.normalize("Málaga"));
+        assertEquals("malaga", QueryNormalizer.normalize("MALAGA "));
+        assertEquals("malaga", QueryNormalizer.normalize("Playa de  Málaga"));
+        assertEquals("malaga", QueryNormalizer.normalize("malaga beach"));
+        assertEquals("aro", QueryNormalizer.normalize("Platja d'Aro"));
+        assertEquals("concha san sebastian", QueryNormalizer.normalize("Playa de la Concha, San Sebastián"));
+    }
+
+    @Test
+    public void testStopWordsAloneAreKept() {
+        assertEquals("playa", QueryNormalizer.normalize("Playa"));
+        assertEquals("la cala", QueryNormalizer.normalize("La Cala"));
+        assertEquals("", QueryNormalizer.normalize("  "));
+        assertEquals("", QueryNormalizer.normalize(null));
+    }
+
+    @Test
+    public void testBeachWordsAreWholeTokens() {
+        assertTrue(QueryNormalizer.hasBeachWord("Platja de Sant Sebastià"));
+        assertTrue(QueryNormalizer.hasBeachWord("Levante BEACH"));
+        assertFalse(QueryNormalizer.hasBeachWord("Calahonda"));
+        assertFalse(QueryNormalizer.hasBeachWord("Benidorm"));
+    }
+}
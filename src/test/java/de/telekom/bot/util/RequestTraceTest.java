@@ -0,0 +1,53 @@
+package de.telekom.bot.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for per-request summary lines and log sampling
+ */
+public class RequestTraceTest {
+
+    @Test
+    public void testSummaryCarriesStagesAndFields() throws InterruptedException {
+        RequestTrace trace = RequestTrace.start("beach", 42).field("query", "Playa \"Levante\"");
+        Thread.sleep(5);
+        trace.mark("geocode").mark("weather").field("water", 24.31).field("found", true);
+
+        String summary = trace.summary("found");
+
+        assertTrue(summary.startsWith("request=beach chat=42 outcome=found total_ms="), summary);
+        assertTrue(summary.matches(".* geocode_ms=([5-9]|\\d{2,}) weather_ms=\\d+ .*"), summary);
+        assertTrue(summary.endsWith(" query=\"Playa \\\"Levante\\\"\" water=24.3 found=true"), summary);
+    }
+
+    @Test
+    public void testRepeatedStageAddsUp() throws InterruptedException {
+        RequestTrace trace = RequestTrace.start("beach", 1);
+        Thread.sleep(3);
+        trace.mark("reply");
+        Thread.sleep(3);
+        trace.mark("reply");
+
+        String summary = trace.summary("found");
+        int millis = Integer.parseInt(summary.replaceAll(".* reply_ms=(\\d+).*", "$1"));
+        assertTrue(millis >= 6, summary);
+    }
+
+    @Test
+    public void testSamplerLetsThroughBudgetPerSecond() {
+        LogSampler sampler = new LogSampler(3);
+
+        int logged = 0;
+        for (int i = 0; i < 10; i++) {
+            if (sampler.sample()) {
+                logged++;
+            }
+        }
+
+        assertEquals(3, logged);
+        assertEquals(7, sampler.takeSuppressed());
+        assertEquals(0, sampler.takeSuppressed());
+    }
+}
@@ -0,0 +1,89 @@
+package de.telekom.bot.util;
+
+import com.fasterxml.jackson.core.JsonParser;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for streaming JSON extraction
+ */
+public class StreamingJsonTest {
+
+    private record Observation(String name, double latitude) {
+    }
+
+    private JsonParser parser(String json) throws IOException {
+        return StreamingJson.createParser(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    public void testMoveToNestedField() throws IOException {
+        String json = """
+                {"latitude": 38.5, "hourly": {"time": [1, 2, 3]},
+                 "current": {"time": "2025-07-01T12:00", "sea_surface_temperature": 24.7}}
+                """;
+
+        try (JsonParser parser = parser(json)) {
+            assertTrue(StreamingJson.moveTo(parser, "current", "sea_surface_temperature"));
+            assertEquals(24.7, StreamingJson.doubleOr(parser, Double.NaN));
+        }
+
+        try (JsonParser parser = parser(json)) {
+            assertFalse(StreamingJson.moveTo(parser, "current", "wave_height"));
+        }
+    }
+
+    @Test
+    public void testReadArraySkipsUnneededValues() throws IOException {
+        String json = """
+                {"total_results": 2, "results": [
+                  {"id": 1, "photos": [{"url": "a"}, {"url": "b"}], "taxon": {"name": "Pelagia noctiluca"}, "lat": 38.1},
+                  "not an object",
+                  {"id": 2, "taxon": {"name": null, "ancestors": [[1], [2]]}, "lat": "n/a"}
+                ], "page": 1}
+                """;
+
+        try (JsonParser parser = parser(json)) {
+            assertTrue(StreamingJson.moveTo(parser, "results"));
+
+            List<Observation> observations = StreamingJson.readArray(parser, p -> {
+                String[] name = new String[1];
+                double[] latitude = {Double.NaN};
+                StreamingJson.readObject(p, (field, value) -> {
+                    if ("taxon".equals(field)) {
+                        StreamingJson.readObject(value, (taxonField, taxonValue) -> {
+                            if ("name".equals(taxonField)) {
+                                name[0] = StreamingJson.textOrNull(taxonValue);
+                            }
+                        });
+                    } else if ("lat".equals(field)) {
+                        latitude[0] = StreamingJson.doubleOr(value, Double.NaN);
+                    }
+                });
+                return new Observation(name[0], latitude[0]);
+            });
+
+            assertEquals(2, observations.size());
+            assertEquals(new Observation("Pelagia noctiluca", 38.1), observations.get(0));
+            assertNull(observations.get(1).name());
+            assertTrue(Double.isNaN(observations.get(1).latitude()));
+        }
+    }
+
+    @Test
+    public void testMissingArray() throws IOException {
+        try (JsonParser parser = parser("{\"error\": {\"message\": \"rate limited\"}}")) {
+            assertFalse(StreamingJson.moveTo(parser, "results"));
+        }
+        try (JsonParser parser = parser("{\"results\": null}")) {
+            assertTrue(StreamingJson.moveTo(parser, "results"));
+            assertTrue(StreamingJson.readArray(parser, p -> "x").isEmpty());
+        }
+    }
+}